@@ -2,6 +2,7 @@ package com.team1.airline;
 
 import com.team1.airline.gui.MainApp;
 import com.team1.airline.dao.impl.DataManager;
+import com.team1.airline.dao.impl.Snapshotter;
 import javax.swing.SwingUtilities;
 
 
@@ -9,7 +10,12 @@ public class Main {
     public static void main(String[] args) {
         DataManager.getInstance().loadAllData();
 
+        // 주기적 스냅샷 + 저널 정리
+        Snapshotter snapshotter = Snapshotter.fromSystemProperties(DataManager.getInstance());
+        snapshotter.start();
+
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            snapshotter.stop();
             DataManager.getInstance().saveAllData();
         }));
 
@@ -0,0 +1,211 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.dao.*;
+import com.team1.airline.dao.impl.*;
+import com.team1.airline.entity.*;
+import com.team1.airline.gui.PaymentHistoryPanel.PaymentRow;
+import com.team1.airline.service.ReservationManageable;
+import com.team1.airline.service.impl.BookingEngine;
+import com.team1.airline.service.impl.FlightManager;
+import com.team1.airline.service.impl.ReservationManager;
+import com.team1.airline.service.impl.SeatInventory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * [예약 엔진 처리량 비교]
+ * - 같은 예약 부하를 생산자 스레드 1 / 4 / 16 / 64개로 나눠 넣고 초당 예약 수를 비교합니다.
+ *   1) synchronized: 모든 메서드를 하나의 락으로 감싼 ReservationManager
+ *   2) engine (sync): BookingEngine을 ReservationManageable로 사용 (명령마다 결과를 기다림)
+ *   3) engine (async): submitReservation으로 명령을 모두 넣은 뒤 결과를 한꺼번에 기다림
+ * - 예약마다 항공편/좌석이 모두 다릅니다. (전부 성공하는지는 BookingEngineTest에서 확인)
+ * - 실행: gradle benchmark -Pbench=BookingEngineBenchmark -PbenchArgs="<예약 수> <파티션 수>"
+ */
+public class BookingEngineBenchmark {
+
+    private static final int[] PRODUCERS = {1, 4, 16, 64};
+    private static final int SEATS_PER_FLIGHT = 188;
+    private static final int WARMUP_ROUNDS = 2;
+
+    private static FlightDAO flightDAO;
+    private static ReservationDAO reservationDAO;
+    private static SeatInventory seatInventory;
+    private static int run;
+
+    public static void main(String[] args) throws InterruptedException {
+        int bookings = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int partitions = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        flightDAO = new FlightDAOImpl();
+        RouteDAO routeDAO = new RouteDAOImpl();
+        AircraftDAO aircraftDAO = new AircraftDAOImpl();
+        reservationDAO = new ReservationDAOImpl();
+        UserDAO userDAO = new UserDAOImpl();
+        seatInventory = new SeatInventory(flightDAO, aircraftDAO, reservationDAO);
+        FlightManager flightManager = new FlightManager(flightDAO, routeDAO, aircraftDAO, reservationDAO, seatInventory);
+        ReservationManager reservationManager = new ReservationManager(reservationDAO, userDAO, flightDAO, routeDAO,
+                new AirportDAOImpl(), flightManager, seatInventory);
+
+        aircraftDAO.saveAircraft(new Aircraft("ENGINE-AC", "Engine_Test", SEATS_PER_FLIGHT, 180, 8));
+        routeDAO.saveRoute(new Route("ENGINE-R", "AAA", "BBB", 100000.0, 60));
+        for (int p = 0; p < PRODUCERS[PRODUCERS.length - 1]; p++) {
+            userDAO.addUser(new User("engine" + p, "pw", "name", "P", "010", 0));
+        }
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 서비스 로그 생략
+        ReservationManageable locked = new SynchronizedReservations(reservationManager);
+        BookingEngine engine = new BookingEngine(reservationManager, reservationDAO, partitions, 4096);
+
+        for (int warmup = 0; warmup < WARMUP_ROUNDS; warmup++) {
+            for (int producers : PRODUCERS) {
+                runSync(locked, producers, bookings / 4);
+                runSync(engine, producers, bookings / 4);
+                runAsync(engine, producers, bookings / 4);
+            }
+        }
+        System.setOut(console);
+
+        System.out.printf("%d bookings per run, %d engine partitions, %d CPUs%n", bookings, partitions,
+                Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-10s %16s %16s %16s%n", "producers", "synchronized/s", "engine sync/s", "engine async/s");
+        for (int producers : PRODUCERS) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            double lockedRate = runSync(locked, producers, bookings);
+            double engineSyncRate = runSync(engine, producers, bookings);
+            double engineAsyncRate = runAsync(engine, producers, bookings);
+            System.setOut(console);
+            System.out.printf("%-10d %16.0f %16.0f %16.0f%n", producers, lockedRate, engineSyncRate, engineAsyncRate);
+        }
+        engine.shutdown();
+    }
+
+    // 생산자마다 결과를 기다리며 하나씩 예약 (초당 예약 수)
+    private static double runSync(ReservationManageable service, int producers, int bookings) throws InterruptedException {
+        String prefix = newFlights(bookings);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = producer; i < bookings; i += producers) {
+                        service.makeReservation("engine" + producer, flightOf(prefix, i), seatOf(i));
+                    }
+                } catch (Throwable t) {
+                    errors.add(t);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread t : threads) t.join();
+        double seconds = (System.nanoTime() - began) / 1e9;
+        errors.forEach(e -> System.err.println("exception: " + e));
+        return bookings / seconds;
+    }
+
+    // 생산자마다 명령을 모두 넣은 뒤 결과를 한꺼번에 기다림
+    private static double runAsync(BookingEngine engine, int producers, int bookings) throws InterruptedException {
+        String prefix = newFlights(bookings);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    List<CompletableFuture<Reservation>> futures = new ArrayList<>();
+                    for (int i = producer; i < bookings; i += producers) {
+                        futures.add(engine.submitReservation("engine" + producer, flightOf(prefix, i), seatOf(i)));
+                    }
+                    for (CompletableFuture<Reservation> future : futures) {
+                        future.join();
+                    }
+                } catch (Throwable t) {
+                    errors.add(t);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread t : threads) t.join();
+        double seconds = (System.nanoTime() - began) / 1e9;
+        errors.forEach(e -> System.err.println("exception: " + e));
+        return bookings / seconds;
+    }
+
+    private static String newFlights(int bookings) {
+        String prefix = "ENGINE-" + (++run) + "-F";
+        for (int f = 0; f * SEATS_PER_FLIGHT < bookings; f++) {
+            flightDAO.saveFlight(new Flight(prefix + f, "ENGINE-R", "ENGINE-AC",
+                    LocalDateTime.of(2030, 1, 1, 9, 0), LocalDateTime.of(2030, 1, 1, 10, 0), FlightStatus.BOOKABLE));
+        }
+        return prefix;
+    }
+
+    // 예약 i → 항공편 i / 188, 배치도 순서의 i % 188번째 좌석 (비즈니스 2~3행 ACDF, 이코노미 6행부터 A~F)
+    private static String flightOf(String prefix, int i) {
+        return prefix + (i / SEATS_PER_FLIGHT);
+    }
+
+    private static String seatOf(int i) {
+        int slot = i % SEATS_PER_FLIGHT;
+        if (slot < 8) {
+            return (2 + slot / 4) + String.valueOf("ACDF".charAt(slot % 4));
+        }
+        int index = slot - 8;
+        return (6 + index / 6) + String.valueOf("ABCDEF".charAt(index % 6));
+    }
+
+    // 비교 기준: 서비스 전체를 하나의 락으로 직렬화
+    private static final class SynchronizedReservations implements ReservationManageable {
+        private final ReservationManageable delegate;
+
+        SynchronizedReservations(ReservationManageable delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized Reservation makeReservation(String userId, String flightId, String seatNumber) {
+            return delegate.makeReservation(userId, flightId, seatNumber);
+        }
+
+        @Override
+        public synchronized List<Reservation> makeReservations(String userId, String flightId, List<String> seatNumbers) {
+            return delegate.makeReservations(userId, flightId, seatNumbers);
+        }
+
+        @Override
+        public synchronized List<Reservation> getMyReservations(String userId) {
+            return delegate.getMyReservations(userId);
+        }
+
+        @Override
+        public synchronized List<PaymentRow> getMyReservationDetails(String userId) {
+            return delegate.getMyReservationDetails(userId);
+        }
+
+        @Override
+        public synchronized boolean cancelReservation(String reservationId, String userId) {
+            return delegate.cancelReservation(reservationId, userId);
+        }
+
+        @Override
+        public synchronized boolean changeReservationStatus(String reservationId, ReservationStatus newStatus) {
+            return delegate.changeReservationStatus(reservationId, newStatus);
+        }
+    }
+}
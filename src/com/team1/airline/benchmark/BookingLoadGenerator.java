@@ -0,0 +1,172 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.controller.ApiResponse;
+import com.team1.airline.controller.RequestDispatcher;
+import com.team1.airline.controller.SessionStore;
+import com.team1.airline.dao.*;
+import com.team1.airline.dao.impl.*;
+import com.team1.airline.entity.*;
+import com.team1.airline.gui.PaymentHistoryPanel.PaymentRow;
+import com.team1.airline.service.ReservationManageable;
+import com.team1.airline.service.impl.FlightManager;
+import com.team1.airline.service.impl.ReservationManager;
+import com.team1.airline.service.impl.SeatInventory;
+import com.team1.airline.service.impl.UserManager;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * [요청 처리기 부하 생성기]
+ * - RequestDispatcher로 수천 건의 예약 요청을 한꺼번에 넣고, 모두 처리될 때까지의 시간과
+ *   JVM 플랫폼 스레드 최대 수를 출력합니다.
+ * - 결제 대행사 응답 같은 I/O 대기를 흉내 내기 위해 예약 서비스 앞에서 요청마다 latencyMs만큼 잠듭니다.
+ *   가상 스레드는 잠든 동안 플랫폼 스레드를 점유하지 않으므로 요청 수와 관계없이 스레드 수가 일정합니다.
+ * - 좌석 중복/카운터/접수 한도의 정확성은 RequestDispatcherTest에서 확인합니다.
+ * - 실행: gradle benchmark -Pbench=BookingLoadGenerator -PbenchArgs="<요청 수> <지연 ms> <동시 처리 한도> <virtual|platform>"
+ *   (가상 스레드는 JDK 21 이상에서 실행해야 사용됨, 아니면 플랫폼 스레드 풀로 대체)
+ */
+public class BookingLoadGenerator {
+
+    private static final int USERS = 500;
+    private static final int SEATS_PER_FLIGHT = 188;
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        long latencyMs = args.length > 1 ? Long.parseLong(args[1]) : 50L;
+        int maxInFlight = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        boolean virtual = args.length <= 3 || !"platform".equals(args[3]);
+
+        FlightDAO flightDAO = new FlightDAOImpl();
+        RouteDAO routeDAO = new RouteDAOImpl();
+        AircraftDAO aircraftDAO = new AircraftDAOImpl();
+        ReservationDAO reservationDAO = new ReservationDAOImpl();
+        UserDAO userDAO = new UserDAOImpl();
+        SeatInventory seatInventory = new SeatInventory(flightDAO, aircraftDAO, reservationDAO);
+        FlightManager flightManager = new FlightManager(flightDAO, routeDAO, aircraftDAO, reservationDAO, seatInventory);
+        ReservationManager reservationManager = new ReservationManager(reservationDAO, userDAO, flightDAO, routeDAO,
+                new AirportDAOImpl(), flightManager, seatInventory);
+        ReservationManageable slowReservations = new PaymentLatency(reservationManager, latencyMs);
+
+        aircraftDAO.saveAircraft(new Aircraft("LOAD-AC", "Load_Test", SEATS_PER_FLIGHT, 180, 8));
+        routeDAO.saveRoute(new Route("LOAD-R", "AAA", "BBB", 100000.0, 60));
+        int flights = (requests + SEATS_PER_FLIGHT - 1) / SEATS_PER_FLIGHT;
+        for (int f = 0; f < flights; f++) {
+            flightDAO.saveFlight(new Flight("LOAD-F" + f, "LOAD-R", "LOAD-AC",
+                    LocalDateTime.of(2030, 1, 1, 9, 0), LocalDateTime.of(2030, 1, 1, 10, 0), FlightStatus.BOOKABLE));
+        }
+        for (int u = 0; u < USERS; u++) {
+            userDAO.addUser(new User("load" + u, "pw", "name", "P", "010", 0));
+        }
+        List<String> seats = allSeats(seatInventory, "LOAD-F0");
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 서비스 로그 생략
+        RequestDispatcher dispatcher = new RequestDispatcher(flightManager, slowReservations,
+                new UserManager(userDAO), new SessionStore(), maxInFlight, virtual);
+
+        List<String> sessions = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            sessions.add(dispatcher.login("load" + u, "pw").join().getBody());
+        }
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        threadBean.resetPeakThreadCount();
+        int threadsBefore = threadBean.getThreadCount();
+        long began = System.nanoTime();
+        List<CompletableFuture<ApiResponse<List<Reservation>>>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            String flightId = "LOAD-F" + (i / seats.size());
+            futures.add(dispatcher.book(sessions.get(i % USERS), flightId, List.of(seats.get(i % seats.size()))));
+        }
+        for (CompletableFuture<ApiResponse<List<Reservation>>> future : futures) {
+            future.join();
+        }
+        double seconds = (System.nanoTime() - began) / 1e9;
+        int peakThreads = threadBean.getPeakThreadCount();
+        System.setOut(console);
+
+        Map<ApiResponse.Status, Integer> byStatus = new HashMap<>();
+        for (CompletableFuture<ApiResponse<List<Reservation>>> future : futures) {
+            byStatus.merge(future.join().getStatus(), 1, Integer::sum);
+        }
+        System.out.printf("%s: %d bookings x %dms latency in %.2fs (%.0f req/s), peak in-flight %d, "
+                        + "platform threads %d -> peak %d, %s%n",
+                dispatcher.isUsingVirtualThreads() ? "virtual threads" : "platform pool",
+                requests, latencyMs, seconds, requests / seconds, dispatcher.getPeakInFlight(),
+                threadsBefore, peakThreads, byStatus);
+        dispatcher.close();
+    }
+
+    private static List<String> allSeats(SeatInventory inventory, String flightId) {
+        List<String> seats = new ArrayList<>();
+        for (int row = 1; row < 100; row++) {
+            for (char c = 'A'; c <= 'F'; c++) {
+                String seat = row + String.valueOf(c);
+                if (inventory.isValidSeat(flightId, seat)) seats.add(seat);
+            }
+        }
+        return seats;
+    }
+
+    // 예약/취소 전에 외부 결제 응답을 기다리는 것처럼 잠드는 예약 서비스
+    private static final class PaymentLatency implements ReservationManageable {
+        private final ReservationManageable delegate;
+        private final long latencyMs;
+
+        PaymentLatency(ReservationManageable delegate, long latencyMs) {
+            this.delegate = delegate;
+            this.latencyMs = latencyMs;
+        }
+
+        private void await() {
+            if (latencyMs <= 0) return;
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public Reservation makeReservation(String userId, String flightId, String seatNumber) {
+            await();
+            return delegate.makeReservation(userId, flightId, seatNumber);
+        }
+
+        @Override
+        public List<Reservation> makeReservations(String userId, String flightId, List<String> seatNumbers) {
+            await();
+            return delegate.makeReservations(userId, flightId, seatNumbers);
+        }
+
+        @Override
+        public List<Reservation> getMyReservations(String userId) {
+            return delegate.getMyReservations(userId);
+        }
+
+        @Override
+        public List<PaymentRow> getMyReservationDetails(String userId) {
+            return delegate.getMyReservationDetails(userId);
+        }
+
+        @Override
+        public boolean cancelReservation(String reservationId, String userId) {
+            await();
+            return delegate.cancelReservation(reservationId, userId);
+        }
+
+        @Override
+        public boolean changeReservationStatus(String reservationId, ReservationStatus newStatus) {
+            return delegate.changeReservationStatus(reservationId, newStatus);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.dao.impl.ColumnarReservationDAOImpl;
+import com.team1.airline.dao.impl.DataManager;
+import com.team1.airline.dao.impl.ReservationDAOImpl;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+import com.team1.airline.service.impl.SnowflakeIdGenerator;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * [열 저장 예약 DAO 벤치마크]
+ * - 같은 예약 N건을 기존 ReservationDAOImpl(객체 + 인덱스)과 ColumnarReservationDAOImpl에 넣고 행당 힙 사용량을 비교합니다.
+ *   열 저장소는 예약 코드(SnowflakeIdGenerator, 시간순)와 UUID 예약 번호를 따로 잽니다.
+ *   회원/항공편 식별자는 두 저장소가 함께 쓰는 식별자 사전에 미리 넣어 두고 재므로 행당 값에 포함되지 않습니다.
+ * - 항공편별 매출 집계: 객체 목록(findAll)을 도는 방식과 열 배열을 훑는 revenueByFlight를 비교합니다.
+ * - 두 DAO의 조회 결과가 같은지는 ColumnarReservationDAOTest에서 확인합니다.
+ * - 실행: gradle benchmark -Pbench=ColumnarStoreBenchmark -PbenchArgs="<예약 수> <회원 수> <항공편 수>"
+ */
+public class ColumnarStoreBenchmark {
+
+    private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+    private static final int BATCH = 10_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int flights = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+
+        for (int u = 0; u < users; u++) DataManager.identifiers().code("user" + u);
+        for (int f = 0; f < flights; f++) DataManager.identifiers().code("F" + f);
+
+        long baseline = usedHeap();
+        ColumnarReservationDAOImpl uuidColumnar = new ColumnarReservationDAOImpl();
+        fill(uuidColumnar, count, users, flights, false);
+        long uuidBytes = usedHeap() - baseline;
+        Reference.reachabilityFence(uuidColumnar); // 잴 때까지 수거되지 않도록
+        uuidColumnar = null;
+
+        baseline = usedHeap();
+        ColumnarReservationDAOImpl columnar = new ColumnarReservationDAOImpl();
+        fill(columnar, count, users, flights, true);
+        long columnarBytes = usedHeap() - baseline;
+
+        baseline = usedHeap();
+        ReservationDAO objects = new ReservationDAOImpl();
+        fill(objects, count, users, flights, true);
+        long objectBytes = usedHeap() - baseline;
+
+        // 항공편별 매출 집계
+        Set<ReservationStatus> sold = EnumSet.of(ReservationStatus.CONFIRMED, ReservationStatus.PAID);
+        double objectMillis = 0;
+        double columnarMillis = 0;
+        int revenueFlights = 0;
+        for (int round = 0; round < 3; round++) { // 첫 바퀴는 워밍업
+            long began = System.nanoTime();
+            Map<String, Double> byObjects = new HashMap<>();
+            for (Reservation r : objects.findAll()) {
+                if (sold.contains(r.getStatus())) byObjects.merge(r.getFlightId(), r.getFinalPrice(), Double::sum);
+            }
+            objectMillis = (System.nanoTime() - began) / 1e6;
+            began = System.nanoTime();
+            Map<String, Double> byColumns = columnar.revenueByFlight(sold);
+            columnarMillis = (System.nanoTime() - began) / 1e6;
+            revenueFlights = Math.max(byObjects.size(), byColumns.size());
+        }
+        System.out.printf("%,d reservations, %,d users, %,d flights%n", count, users, flights);
+        System.out.printf("%-10s %-8s %16s %12s%n", "store", "ids", "heap bytes", "bytes/row");
+        System.out.printf("%-10s %-8s %,16d %12.1f%n", "objects", "codes", objectBytes, objectBytes / (double) count);
+        System.out.printf("%-10s %-8s %,16d %12.1f%n", "columnar", "codes", columnarBytes, columnarBytes / (double) count);
+        System.out.printf("%-10s %-8s %,16d %12.1f%n", "columnar", "uuid", uuidBytes, uuidBytes / (double) count);
+        System.out.printf("revenue by flight (%,d flights): objects %.1f ms, columnar %.1f ms (%.1fx)%n",
+                revenueFlights, objectMillis, columnarMillis, objectMillis / columnarMillis);
+    }
+
+    private static void fill(ReservationDAO dao, int count, int users, int flights, boolean codes) {
+        Random random = new Random(3);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        List<Reservation> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Reservation(codes ? generator.nextId() : idOf(i), "user" + random.nextInt(users), "F" + random.nextInt(flights),
+                    (2 + random.nextInt(40)) + String.valueOf((char) ('A' + random.nextInt(6))),
+                    50_000 + 100.0 * random.nextInt(2_000), STATUSES[random.nextInt(STATUSES.length)]));
+            if (batch.size() == BATCH || i == count - 1) {
+                dao.addReservations(batch);
+                batch = new ArrayList<>(BATCH);
+            }
+        }
+    }
+
+    private static String idOf(int i) {
+        Random random = new Random(i * 0x9E3779B97F4A7C15L);
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,147 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.dao.*;
+import com.team1.airline.dao.impl.*;
+import com.team1.airline.entity.*;
+import com.team1.airline.service.ConnectionSearchOptions;
+import com.team1.airline.service.ConnectionSearchOptions.SortBy;
+import com.team1.airline.service.impl.FlightManager;
+import com.team1.airline.service.impl.SeatInventory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * [연결 항공편 검색 벤치마크]
+ * - 허브 공항 몇 곳과 지방 공항으로 이루어진 노선망에 항공편을 무작위로 만들고 무작위 구간을 검색합니다.
+ * - 큰 시각표(기본 10만 편)에서 도착 시각순/운임순 검색 지연(p50/p99/최대)을 측정합니다.
+ * - 정확성은 ConnectionSearchTest에서 확인합니다.
+ * - 실행: gradle benchmark -Pbench=ConnectionSearchBenchmark -PbenchArgs="<항공편 수> <검색 횟수>"
+ */
+public class ConnectionSearchBenchmark {
+
+    private static final int HUBS = 4;
+    private static final int SPOKES = 56;
+    private static final int DAYS = 30;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2031, 3, 1);
+
+    private static int run;
+
+    public static void main(String[] args) {
+        int flights = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 서비스 로그 생략
+
+        ConnectionSearchOptions options = ConnectionSearchOptions.defaults();
+        Schedule large = generate(HUBS + SPOKES, flights, 11);
+        long began = System.nanoTime();
+        large.manager.searchConnections(large.codes.get(0), large.codes.get(1), FIRST_DAY, options); // 시각표 생성
+        double buildMs = (System.nanoTime() - began) / 1e6;
+        Map<SortBy, long[]> latencies = new HashMap<>();
+        int nonEmpty = 0;
+        int multiLeg = 0;
+        for (SortBy sortBy : SortBy.values()) {
+            ConnectionSearchOptions o = ConnectionSearchOptions.defaults().withSortBy(sortBy);
+            long[] nanos = new long[queries];
+            Random random = new Random(13);
+            for (int q = -200; q < queries; q++) { // 앞의 200회는 워밍업
+                String[] pair = large.randomPair(random);
+                LocalDate date = FIRST_DAY.plusDays(random.nextInt(DAYS - 2));
+                long t = System.nanoTime();
+                List<Itinerary> result = large.manager.searchConnections(pair[0], pair[1], date, o);
+                if (q < 0) continue;
+                nanos[q] = System.nanoTime() - t;
+                if (!result.isEmpty()) nonEmpty++;
+                if (result.stream().anyMatch(i -> i.getLegCount() > 1)) multiLeg++;
+            }
+            Arrays.sort(nanos);
+            latencies.put(sortBy, nanos);
+        }
+        System.setOut(console);
+
+        System.out.printf("%d flights, %d airports: timetable built in %.0f ms, %d/%d queries with results (%d with connections)%n",
+                large.flightCount, HUBS + SPOKES, buildMs, nonEmpty, queries * 2, multiLeg);
+        for (SortBy sortBy : SortBy.values()) {
+            long[] nanos = latencies.get(sortBy);
+            System.out.printf("  by %-12s p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", sortBy,
+                    nanos[nanos.length / 2] / 1e6, nanos[(int) (nanos.length * 0.99)] / 1e6, nanos[nanos.length - 1] / 1e6);
+        }
+    }
+
+    private static Schedule generate(int airports, int flights, long seed) {
+        return new Schedule(airports, flights, seed);
+    }
+
+    // 허브 간은 모두 연결, 지방 공항은 허브 두 곳과 연결, 일부 지방 공항끼리 직항
+    private static final class Schedule {
+        private final String prefix = "CS" + (++run) + "-";
+        private final List<String> codes = new ArrayList<>();
+        private final FlightManager manager;
+        private final int flightCount;
+
+        Schedule(int airports, int flights, long seed) {
+            Random random = new Random(seed);
+            int hubs = Math.min(HUBS, airports);
+            for (int h = 0; h < hubs; h++) codes.add("H" + h);
+            for (int s = 0; s < airports - hubs; s++) codes.add("S" + s);
+            // 시각표는 모든 항공편을 포함하므로 실행마다 공항 코드를 구분
+            codes.replaceAll(code -> prefix + code);
+
+            RouteDAO routeDAO = new RouteDAOImpl();
+            FlightDAO flightDAO = new FlightDAOImpl();
+            List<Route> routeList = new ArrayList<>();
+            for (int a = 0; a < hubs; a++) {
+                for (int b = 0; b < hubs; b++) {
+                    if (a != b) routeList.add(route(codes.get(a), codes.get(b), random));
+                }
+            }
+            for (int s = hubs; s < airports; s++) {
+                for (int h : new int[]{s % hubs, (s + 1) % hubs}) {
+                    routeList.add(route(codes.get(s), codes.get(h), random));
+                    routeList.add(route(codes.get(h), codes.get(s), random));
+                }
+                if (s + 3 < airports && random.nextInt(3) == 0) {
+                    routeList.add(route(codes.get(s), codes.get(s + 3), random));
+                }
+            }
+            for (Route route : routeList) {
+                routeDAO.saveRoute(route);
+            }
+            for (int i = 0; i < flights; i++) {
+                Route route = routeList.get(random.nextInt(routeList.size()));
+                LocalDateTime departure = FIRST_DAY.atStartOfDay().plusDays(random.nextInt(DAYS)).plusMinutes(5L * random.nextInt(288));
+                Flight flight = new Flight(prefix + "F" + i, route.getRouteId(), "A321", departure,
+                        departure.plusMinutes(route.getDuration()), random.nextInt(20) == 0 ? FlightStatus.SOLD_OUT : FlightStatus.BOOKABLE);
+                flightDAO.saveFlight(flight);
+            }
+            this.flightCount = flights;
+            AircraftDAO aircraftDAO = new AircraftDAOImpl();
+            ReservationDAO reservationDAO = new ReservationDAOImpl();
+            this.manager = new FlightManager(flightDAO, routeDAO, aircraftDAO, reservationDAO,
+                    new SeatInventory(flightDAO, aircraftDAO, reservationDAO));
+        }
+
+        private Route route(String from, String to, Random random) {
+            return new Route(from + ">" + to, from, to, 50_000 + 10_000 * random.nextInt(40), 45 + 15 * random.nextInt(40));
+        }
+
+        String[] randomPair(Random random) {
+            String from = codes.get(random.nextInt(codes.size()));
+            String to;
+            do {
+                to = codes.get(random.nextInt(codes.size()));
+            } while (to.equals(from));
+            return new String[]{from, to};
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.dao.*;
+import com.team1.airline.dao.impl.*;
+import com.team1.airline.entity.*;
+import com.team1.airline.service.impl.FlightManager;
+import com.team1.airline.service.impl.SeatInventory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * [날짜별 최저 운임 벤치마크]
+ * - 한 공항 쌍에 운임이 다른 노선 두 개와 1년치 항공편을 만들고, 일부를 매진/만석으로 둡니다.
+ * - 기간 전체를 한 번에 훑는 getFareCalendar와 날짜마다 searchFlights를 호출하는 방식을
+ *   ±3일 / 한 달 / 1년 기간에서 비교합니다. (결과가 같은지는 FareCalendarTest에서 확인)
+ * - 실행: gradle benchmark -Pbench=FareCalendarBenchmark -PbenchArgs="<하루 항공편 수> <반복 횟수>"
+ */
+public class FareCalendarBenchmark {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2032, 1, 1);
+    private static final int DAYS = 366;
+
+    public static void main(String[] args) {
+        int perDay = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+        int repeats = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        FlightDAO flightDAO = new FlightDAOImpl();
+        RouteDAO routeDAO = new RouteDAOImpl();
+        AircraftDAO aircraftDAO = new AircraftDAOImpl();
+        ReservationDAO reservationDAO = new ReservationDAOImpl();
+        SeatInventory seatInventory = new SeatInventory(flightDAO, aircraftDAO, reservationDAO);
+        System.setProperty("airline.search.cacheSize", "0"); // 비교 기준인 날짜별 검색이 캐시되지 않도록
+        FlightManager flightManager = new FlightManager(flightDAO, routeDAO, aircraftDAO, reservationDAO, seatInventory);
+
+        aircraftDAO.saveAircraft(new Aircraft("FARE-AC", "Fare_Test", 12, 8, 4));
+        routeDAO.saveRoute(new Route("FARE-R1", "FAA", "FBB", 80_000.0, 70));
+        routeDAO.saveRoute(new Route("FARE-R2", "FAA", "FBB", 65_000.0, 75)); // 저가 노선
+        routeDAO.saveRoute(new Route("FARE-R3", "FAA", "FCC", 50_000.0, 60)); // 다른 도착지 (섞여 있어도 무시되어야 함)
+        Random random = new Random(5);
+        String[] routeIds = {"FARE-R1", "FARE-R2", "FARE-R3"};
+        int count = 0;
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < perDay; i++) {
+                LocalDateTime departure = FIRST_DAY.plusDays(day).atTime(5, 0).plusMinutes(10L * random.nextInt(100));
+                FlightStatus status = random.nextInt(10) == 0 ? FlightStatus.SOLD_OUT : FlightStatus.BOOKABLE;
+                String flightId = "FARE-F" + (count++);
+                flightDAO.saveFlight(new Flight(flightId, routeIds[random.nextInt(3)], "FARE-AC", departure, departure.plusMinutes(70), status));
+                if (random.nextInt(8) == 0) { // 만석
+                    for (int row = 2; row <= 3; row++) {
+                        for (char c : "ACDF".toCharArray()) seatInventory.claim(flightId, row + String.valueOf(c));
+                    }
+                    for (char c : "ABCD".toCharArray()) seatInventory.claim(flightId, "6" + c);
+                }
+            }
+        }
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 서비스 로그 생략
+        String[] labels = {"+-3 days", "month", "year"};
+        LocalDate[][] windows = {
+                {FIRST_DAY.plusDays(100), FIRST_DAY.plusDays(106)},
+                {FIRST_DAY.withDayOfMonth(1).plusMonths(5), FIRST_DAY.plusMonths(6).minusDays(1)},
+                {FIRST_DAY, FIRST_DAY.plusDays(DAYS - 1)}};
+        double[][] results = new double[windows.length][2];
+        for (int w = 0; w < windows.length; w++) {
+            LocalDate from = windows[w][0];
+            LocalDate to = windows[w][1];
+            for (int round = 0; round < 2; round++) { // 첫 바퀴는 워밍업
+                long began = System.nanoTime();
+                for (int r = 0; r < repeats; r++) flightManager.getFareCalendar("FAA", "FBB", from, to);
+                results[w][0] = (System.nanoTime() - began) / 1e3 / repeats;
+                began = System.nanoTime();
+                for (int r = 0; r < repeats; r++) searchEachDay(flightManager, seatInventory, from, to);
+                results[w][1] = (System.nanoTime() - began) / 1e3 / repeats;
+            }
+        }
+        System.setOut(console);
+
+        System.out.printf("%d flights (%d per day), fare calendar for FAA -> FBB%n", count, perDay);
+        for (int w = 0; w < windows.length; w++) {
+            System.out.printf("  %-9s one pass %8.1f us, per-day searchFlights %8.1f us (%.1fx)%n",
+                    labels[w], results[w][0], results[w][1], results[w][1] / results[w][0]);
+        }
+    }
+
+    // 비교 기준: 날짜마다 검색 + 잔여 좌석 확인
+    private static List<DailyFare> searchEachDay(FlightManager flightManager, SeatInventory seatInventory, LocalDate from, LocalDate to) {
+        RouteDAO routeDAO = new RouteDAOImpl();
+        List<DailyFare> calendar = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Double lowest = null;
+            String cheapest = null;
+            int flights = 0;
+            int seats = 0;
+            for (Flight flight : flightManager.searchFlights("FAA", "FBB", date)) {
+                int available = seatInventory.getAvailableSeats(flight.getFlightId());
+                if (available <= 0) continue;
+                double price = routeDAO.findByRouteId(flight.getRouteId()).getPrice();
+                flights++;
+                seats += available;
+                if (lowest == null || price < lowest) {
+                    lowest = price;
+                    cheapest = flight.getFlightId();
+                }
+            }
+            calendar.add(new DailyFare(date, lowest, cheapest, flights, seats));
+        }
+        return calendar;
+    }
+}
@@ -0,0 +1,88 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.dao.impl.DataManager;
+import com.team1.airline.dao.impl.SymbolTable;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * [식별자 사전 힙 사용량 보고]
+ * - Reservation.txt 형식의 줄을 생성해 예약 객체로 만들고, 보관한 상태의 힙 사용량을 두 방식으로 비교합니다.
+ *   before: 기존 DataManager처럼 split으로 잘린 문자열을 그대로 보관 (행마다 userId / flightId / 좌석 번호 사본)
+ *   after : userId / flightId / 좌석 번호를 식별자 사전(DataManager.identifiers())의 인스턴스로 교체 (사전 크기 포함)
+ * - 예약 번호는 행마다 달라 두 방식 모두 사본을 가집니다.
+ * - 실행: gradle benchmark -Pbench=IdentifierFootprintReport -PbenchArgs="<예약 수> <회원 수> <항공편 수>" -PbenchHeap=12g
+ *   (기본 2천만 건은 before 단계에만 약 5.5GB가 필요합니다. 힙이 작으면 예약 수를 줄이세요)
+ */
+public class IdentifierFootprintReport {
+
+    private static final String[] STATUSES = {"Confirmed", "Paid", "Cancelled"};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int flights = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+
+        long baseline = usedHeap();
+        Reservation[] rows = load(count, users, flights, false);
+        long before = usedHeap() - baseline;
+        checksum(rows);
+        rows = null;
+
+        baseline = usedHeap();
+        rows = load(count, users, flights, true);
+        long after = usedHeap() - baseline;
+        checksum(rows);
+
+        System.out.printf("%,d reservations, %,d users, %,d flights, %,d identifiers in the symbol table%n",
+                count, users, flights, DataManager.identifiers().size());
+        System.out.printf("%-8s %16s %12s%n", "ids", "heap bytes", "bytes/row");
+        System.out.printf("%-8s %,16d %12.1f%n", "before", before, before / (double) count);
+        System.out.printf("%-8s %,16d %12.1f%n", "after", after, after / (double) count);
+        System.out.printf("saved %,d bytes (%.1f%%), %.2f GB per 20M reservations%n",
+                before - after, 100.0 * (before - after) / before, (before - after) / (double) count * 20_000_000 / (1L << 30));
+    }
+
+    private static Reservation[] load(int count, int users, int flights, boolean intern) {
+        SymbolTable identifiers = DataManager.identifiers();
+        Random random = new Random(3);
+        Reservation[] rows = new Reservation[count];
+        StringBuilder line = new StringBuilder(96);
+        for (int i = 0; i < count; i++) {
+            line.setLength(0);
+            line.append(new UUID(random.nextLong(), random.nextLong()))
+                    .append(" user").append(random.nextInt(users))
+                    .append(" F").append(random.nextInt(flights))
+                    .append(' ').append(2 + random.nextInt(40)).append((char) ('A' + random.nextInt(6)))
+                    .append(' ').append(50_000 + 1_000 * random.nextInt(200)).append(".0")
+                    .append(' ').append(STATUSES[random.nextInt(STATUSES.length)]);
+            String[] parts = line.toString().split(" ");
+            String userId = parts[1], flightId = parts[2], seatNumber = parts[3];
+            if (intern) {
+                userId = identifiers.intern(userId);
+                flightId = identifiers.intern(flightId);
+                seatNumber = identifiers.intern(seatNumber);
+            }
+            rows[i] = new Reservation(parts[0], userId, flightId, seatNumber,
+                    Double.parseDouble(parts[4]), ReservationStatus.fromText(parts[5]));
+        }
+        return rows;
+    }
+
+    private static void checksum(Reservation[] rows) {
+        long sum = 0;
+        for (Reservation r : rows) sum += r.getUserId().length() + r.getFlightId().length() + r.getSeatNumber().length();
+        if (sum == 42) System.err.println(sum);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
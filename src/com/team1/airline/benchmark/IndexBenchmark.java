@@ -0,0 +1,104 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.dao.impl.ReservationDAOImpl;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * [기본키 인덱스 벤치마크]
+ * - 기존 방식(리스트 전체 스캔)과 DataManager 기본키 인덱스의 조회/수정 속도를 비교합니다.
+ * - 실행: gradle benchmark -Pbench=IndexBenchmark -PbenchArgs="10000 1000000 10000000"
+ *   (1천만 건은 -PbenchHeap=6g 정도의 힙이 필요합니다)
+ */
+public class IndexBenchmark {
+
+    private static final int INDEXED_OPS = 200_000;
+    private static final long SCAN_BUDGET = 200_000_000L; // 스캔 방식은 총 비교 횟수를 이 정도로 제한
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[] {10_000, 1_000_000, 10_000_000};
+
+        System.out.printf("%-12s %-8s %14s %14s %10s%n", "rows", "op", "scan(ns/op)", "index(ns/op)", "speedup");
+        for (int n : sizes) {
+            run(n);
+        }
+    }
+
+    private static void run(int n) {
+        ReservationDAO dao = new ReservationDAOImpl();
+        List<Reservation> legacy = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Reservation r = new Reservation("R" + i, "user" + (i % 1000), "F" + (i % 600), (i % 40 + 1) + "A", 80000.0, ReservationStatus.CONFIRMED);
+            legacy.add(r);
+            dao.addReservation(r);
+        }
+
+        Random random = new Random(42);
+        int scanOps = (int) Math.max(5, Math.min(1_000, SCAN_BUDGET / n));
+        String[] scanKeys = randomKeys(random, n, scanOps);
+        String[] indexKeys = randomKeys(random, n, INDEXED_OPS);
+
+        // --- 조회 ---
+        double scanFind = time(scanOps, () -> {
+            for (String key : scanKeys) {
+                legacy.stream().filter(r -> r.getReservationId().equals(key)).findFirst().orElse(null);
+            }
+        });
+        double indexFind = time(INDEXED_OPS, () -> {
+            for (String key : indexKeys) {
+                dao.findByReservationId(key);
+            }
+        });
+        print(n, "find", scanFind, indexFind);
+
+        // --- 수정 ---
+        double scanUpdate = time(scanOps, () -> {
+            for (String key : scanKeys) {
+                Reservation updated = new Reservation(key, "user0", "F0", "1A", 80000.0, ReservationStatus.CANCELLED);
+                for (int i = 0; i < legacy.size(); i++) {
+                    if (legacy.get(i).getReservationId().equals(updated.getReservationId())) {
+                        legacy.set(i, updated);
+                        break;
+                    }
+                }
+            }
+        });
+        double indexUpdate = time(INDEXED_OPS, () -> {
+            for (String key : indexKeys) {
+                dao.updateReservation(new Reservation(key, "user0", "F0", "1A", 80000.0, ReservationStatus.CANCELLED));
+            }
+        });
+        print(n, "update", scanUpdate, indexUpdate);
+
+        // 다음 크기 측정을 위해 정리
+        for (int i = 0; i < n; i++) {
+            dao.deleteReservation("R" + i);
+        }
+    }
+
+    private static String[] randomKeys(Random random, int n, int count) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = "R" + random.nextInt(n);
+        }
+        return keys;
+    }
+
+    private static double time(int ops, Runnable body) {
+        body.run(); // 워밍업
+        long start = System.nanoTime();
+        body.run();
+        return (System.nanoTime() - start) / (double) ops;
+    }
+
+    private static void print(int n, String op, double scanNs, double indexNs) {
+        System.out.printf("%-12d %-8s %14.1f %14.1f %9.0fx%n", n, op, scanNs, indexNs, scanNs / indexNs);
+    }
+}
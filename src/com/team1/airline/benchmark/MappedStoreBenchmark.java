@@ -0,0 +1,135 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.dao.impl.MappedReservationDAOImpl;
+import com.team1.airline.dao.impl.ReservationDAOImpl;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * [메모리 매핑 예약 저장소 벤치마크]
+ * - 예약 N건을 MappedReservationDAOImpl에 넣고, 힙 사용량과 전체 GC 시간(System.gc)을
+ *   빈 힙 / 매핑 저장소 / 기존 ReservationDAOImpl(객체 + 인덱스)에서 비교합니다.
+ * - 정상 종료 후 다시 열기(재매핑)와 비정상 종료 후 다시 열기(인덱스 재구성) 시간을 잽니다.
+ * - 조회 결과가 기준 저장소와 같은지는 MappedReservationDAOTest에서 확인합니다.
+ * - 실행: gradle benchmark -Pbench=MappedStoreBenchmark -PbenchArgs="<예약 수> <회원 수> <항공편 수>"
+ *   (임시 디렉터리에 예약 수 × 128바이트의 파일을 만듭니다)
+ */
+public class MappedStoreBenchmark {
+
+    private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+    private static final int BATCH = 10_000;
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int flights = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+
+        Path directory = Files.createTempDirectory("mapped-store");
+        try {
+            double emptyGc = gcMillis();
+            long baseline = usedHeap();
+
+            long began = System.nanoTime();
+            MappedReservationDAOImpl mapped = MappedReservationDAOImpl.open(directory);
+            fill(mapped, count, users, flights);
+            double loadSeconds = (System.nanoTime() - began) / 1e9;
+            long mappedBytes = usedHeap() - baseline;
+            double mappedGc = gcMillis();
+
+            began = System.nanoTime();
+            mapped.close();
+            double closeMillis = (System.nanoTime() - began) / 1e6;
+            began = System.nanoTime();
+            mapped = MappedReservationDAOImpl.open(directory);
+            double reopenMillis = (System.nanoTime() - began) / 1e6;
+
+            // 비정상 종료 흉내: 닫지 않은 채 같은 디렉터리를 다시 열면 인덱스를 재구성함
+            mapped.force();
+            began = System.nanoTime();
+            MappedReservationDAOImpl recovered = MappedReservationDAOImpl.open(directory);
+            double recoverMillis = (System.nanoTime() - began) / 1e6;
+            recovered.close();
+
+            // 기존 객체 저장소의 GC 시간 (비교용)
+            ReservationDAO objects = new ReservationDAOImpl();
+            fill(objects, count, users, flights);
+            double objectGc = gcMillis();
+            long objectBytes = usedHeap() - baseline;
+
+            System.out.printf("%,d reservations, %,d users, %,d flights, %,d bytes on disk%n",
+                    count, users, flights, directorySize(directory));
+            System.out.printf("  load %.2fs, close %.1f ms, clean reopen %.1f ms, recovery reopen %.1f ms%n",
+                    loadSeconds, closeMillis, reopenMillis, recoverMillis);
+            System.out.printf("%-10s %16s %12s%n", "store", "heap bytes", "full GC ms");
+            System.out.printf("%-10s %16s %12.1f%n", "empty", "-", emptyGc);
+            System.out.printf("%-10s %,16d %12.1f%n", "mapped", mappedBytes, mappedGc);
+            System.out.printf("%-10s %,16d %12.1f%n", "objects", objectBytes, objectGc);
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static void fill(ReservationDAO dao, int count, int users, int flights) {
+        Random random = new Random(3);
+        List<Reservation> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < count; i++) {
+            // 20건 중 1건은 UUID가 아닌 예약 번호
+            String id = i % 20 == 0 ? "PNR" + Integer.toString(i, 36).toUpperCase() : idOf(i);
+            batch.add(new Reservation(id, "user" + random.nextInt(users), "F" + random.nextInt(flights),
+                    (2 + random.nextInt(40)) + String.valueOf((char) ('A' + random.nextInt(6))),
+                    50_000 + 100.0 * random.nextInt(2_000), STATUSES[random.nextInt(STATUSES.length)]));
+            if (batch.size() == BATCH || i == count - 1) {
+                dao.addReservations(batch);
+                batch = new ArrayList<>(BATCH);
+            }
+        }
+    }
+
+    private static String idOf(int i) {
+        Random random = new Random(i * 0x9E3779B97F4A7C15L);
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private static double gcMillis() {
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long began = System.nanoTime();
+            System.gc();
+            best = Math.min(best, (System.nanoTime() - began) / 1e6);
+        }
+        return best;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long directorySize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
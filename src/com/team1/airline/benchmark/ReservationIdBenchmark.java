@@ -0,0 +1,60 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.service.ReservationIdGenerator;
+import com.team1.airline.service.impl.SnowflakeIdGenerator;
+
+import java.util.UUID;
+
+/**
+ * [예약 번호 생성 벤치마크]
+ * - UUID.randomUUID().toString()과 SnowflakeIdGenerator.nextId()의 단일 스레드 / 여러 스레드 생성 속도를 비교합니다.
+ * - 번호의 유일성/순서와 예약 코드 변환은 SnowflakeIdGeneratorTest, ReservationIdCodecTest에서 확인합니다.
+ * - 실행: gradle benchmark -Pbench=ReservationIdBenchmark -PbenchArgs="<스레드당 번호 수> <스레드 수>"
+ */
+public class ReservationIdBenchmark {
+
+    private static final int NODE_ID = 37;
+
+    public static void main(String[] args) throws InterruptedException {
+        int perThread = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        ReservationIdGenerator uuid = () -> UUID.randomUUID().toString();
+        SnowflakeIdGenerator snowflake = new SnowflakeIdGenerator(NODE_ID);
+        double uuidSingle = 0, snowflakeSingle = 0, uuidParallel = 0, snowflakeParallel = 0;
+        for (int round = 0; round < 3; round++) { // 첫 바퀴는 워밍업
+            uuidSingle = perSecond(uuid, perThread, 1);
+            snowflakeSingle = perSecond(snowflake, perThread, 1);
+            uuidParallel = perSecond(uuid, perThread, threads);
+            snowflakeParallel = perSecond(snowflake, perThread, threads);
+        }
+
+        String sample = snowflake.nextId();
+        System.out.printf("sample: uuid %s (%d chars), reservation code %s (%d chars)%n",
+                UUID.randomUUID(), 36, sample, sample.length());
+        System.out.printf("%-10s %18s %18s%n", "generator", "1 thread ids/s", threads + " threads ids/s");
+        System.out.printf("%-10s %,18.0f %,18.0f%n", "uuid", uuidSingle, uuidParallel);
+        System.out.printf("%-10s %,18.0f %,18.0f%n", "snowflake", snowflakeSingle, snowflakeParallel);
+    }
+
+    private static double perSecond(ReservationIdGenerator generator, int perThread, int threads) throws InterruptedException {
+        Thread[] workers = new Thread[threads];
+        int[] sink = new int[threads];
+        long began = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers[t] = new Thread(() -> {
+                int hash = 0;
+                for (int i = 0; i < perThread; i++) {
+                    hash += generator.nextId().hashCode();
+                }
+                sink[index] = hash;
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return (double) perThread * threads / ((System.nanoTime() - began) / 1e9);
+    }
+}
@@ -0,0 +1,107 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.dao.*;
+import com.team1.airline.dao.impl.*;
+import com.team1.airline.entity.*;
+import com.team1.airline.service.impl.FlightManager;
+import com.team1.airline.service.impl.SeatInventory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * [검색 결과 캐시 벤치마크]
+ * - 공항 쌍 20개(노선 2개씩) × 30일 항공편을 만들고, 소수의 쌍에 몰리는 검색 부하를 캐시 없이/캐시로 실행해 비교합니다.
+ *   (키 수가 캐시 크기보다 많으므로 교체(eviction)도 함께 일어남)
+ * - 정밀 무효화와 변경 중 일관성은 SearchCacheTest에서 확인합니다.
+ * - 실행: gradle benchmark -Pbench=SearchCacheBenchmark -PbenchArgs="<검색 수> <캐시 크기>"
+ */
+public class SearchCacheBenchmark {
+
+    private static final int PAIRS = 20;
+    private static final int DAYS = 30;
+    private static final int FLIGHTS_PER_DAY = 20;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2033, 3, 1);
+
+    public static void main(String[] args) {
+        int searches = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int cacheSize = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+
+        FlightDAO flightDAO = new FlightDAOImpl();
+        RouteDAO routeDAO = new RouteDAOImpl();
+        AircraftDAO aircraftDAO = new AircraftDAOImpl();
+        ReservationDAO reservationDAO = new ReservationDAOImpl();
+        SeatInventory seatInventory = new SeatInventory(flightDAO, aircraftDAO, reservationDAO);
+        System.setProperty("airline.search.cacheSize", "0");
+        FlightManager uncached = new FlightManager(flightDAO, routeDAO, aircraftDAO, reservationDAO, seatInventory);
+        System.setProperty("airline.search.cacheSize", String.valueOf(cacheSize));
+        FlightManager cached = new FlightManager(flightDAO, routeDAO, aircraftDAO, reservationDAO, seatInventory);
+
+        aircraftDAO.saveAircraft(new Aircraft("CACHE-AC", "Cache_Test", 188, 180, 8));
+        Random random = new Random(11);
+        int count = 0;
+        for (int p = 0; p < PAIRS; p++) {
+            for (int r = 0; r < 2; r++) {
+                String routeId = "CACHE-R" + p + "-" + r;
+                routeDAO.saveRoute(new Route(routeId, departureOf(p), arrivalOf(p), 50_000.0 + 10_000 * r, 60));
+                for (int day = 0; day < DAYS; day++) {
+                    for (int i = 0; i < FLIGHTS_PER_DAY / 2; i++) {
+                        LocalDateTime departure = FIRST_DAY.plusDays(day).atTime(6, 0).plusMinutes(10L * random.nextInt(90));
+                        flightDAO.saveFlight(new Flight("CACHE-F" + (count++), routeId, "CACHE-AC",
+                                departure, departure.plusMinutes(60), random.nextInt(10) == 0 ? FlightStatus.SOLD_OUT : FlightStatus.BOOKABLE));
+                    }
+                }
+            }
+        }
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 서비스 로그 생략
+
+        // 앞쪽 공항 쌍에 몰리는 검색 (키 600개 중 일부가 대부분)
+        int[][] queries = new int[searches][2];
+        for (int i = 0; i < searches; i++) {
+            double u = random.nextDouble();
+            queries[i][0] = (int) (PAIRS * u * u * u);
+            queries[i][1] = random.nextInt(DAYS);
+        }
+        double uncachedRate = 0;
+        double cachedRate = 0;
+        for (int round = 0; round < 2; round++) { // 첫 바퀴는 워밍업
+            uncachedRate = runSearches(uncached, queries);
+            cachedRate = runSearches(cached, queries);
+        }
+        Map<String, Long> afterLoad = cached.getSearchCacheStats();
+        uncached.close();
+        cached.close();
+        System.setOut(console);
+
+        long hits = afterLoad.get("hits");
+        long misses = afterLoad.get("misses");
+        System.out.printf("%d flights on %d airport pairs, %d searches, cache size %d%n", count, PAIRS, searches, cacheSize);
+        System.out.printf("  uncached %10.0f searches/s%n", uncachedRate);
+        System.out.printf("  cached   %10.0f searches/s (%.1fx), hit ratio %.1f%%, evictions %d%n",
+                cachedRate, cachedRate / uncachedRate, 100.0 * hits / (hits + misses), afterLoad.get("evictions"));
+    }
+
+    private static double runSearches(FlightManager manager, int[][] queries) {
+        long began = System.nanoTime();
+        long found = 0;
+        for (int[] q : queries) {
+            found += manager.searchFlights(departureOf(q[0]), arrivalOf(q[0]), FIRST_DAY.plusDays(q[1])).size();
+        }
+        if (found < 0) System.err.println(found);
+        return queries.length / ((System.nanoTime() - began) / 1e9);
+    }
+
+    private static String departureOf(int pair) {
+        return String.format("C%02d", pair);
+    }
+
+    private static String arrivalOf(int pair) {
+        return String.format("D%02d", pair);
+    }
+}
@@ -0,0 +1,68 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.controller.SessionStore;
+import com.team1.airline.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * [세션 저장소 벤치마크]
+ * - 세션을 대량으로 만든 뒤 세션당 힙 사용량과 토큰 조회 시간을 측정합니다.
+ * - 유휴 만료의 정확성은 SessionStoreTest에서 확인합니다.
+ * - 실행: gradle benchmark -Pbench=SessionStoreBenchmark -PbenchArgs="<세션 수>"
+ */
+public class SessionStoreBenchmark {
+
+    private static final int LOOKUPS = 2_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        // 사용자 객체는 세션과 별개로 이미 메모리에 있으므로 측정 전에 만들어 둠
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new User("user" + i, "pw", "name", "P", "010", 0));
+        }
+
+        long before = usedHeap();
+        SessionStore store = new SessionStore();
+        String[] tokens = new String[count];
+        long began = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            tokens[i] = store.create(users.get(i));
+        }
+        double createMs = (System.nanoTime() - began) / 1e6;
+        long perSession = (usedHeap() - before) / count;
+
+        // 무작위 순서로 모든 세션을 한 바퀴씩 조회 (조회 중 만료되는 세션이 없도록)
+        Random random = new Random(42);
+        int[] picks = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            picks[i] = i % count;
+        }
+        for (int i = LOOKUPS - 1; i > 0; i--) {
+            int j = i - random.nextInt(Math.min(i + 1, count));
+            int swap = picks[i];
+            picks[i] = picks[j];
+            picks[j] = swap;
+        }
+        int found = 0;
+        began = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (store.get(tokens[picks[i]]) != null) found++;
+        }
+        double lookupNs = (System.nanoTime() - began) / (double) LOOKUPS;
+        System.out.printf("%d sessions: create %.0f ms, ~%d bytes/session, lookup %.0f ns (%d/%d found)%n",
+                count, createMs, perSession, lookupNs, found, LOOKUPS);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
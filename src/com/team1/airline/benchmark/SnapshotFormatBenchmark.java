@@ -0,0 +1,59 @@
+package com.team1.airline.benchmark;
+
+import com.team1.airline.dao.impl.DataManager;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * [스냅샷 형식 벤치마크]
+ * - 현재 data/*.txt 로드 시간과, 같은 내용을 바이너리 스냅샷으로 저장한 뒤의 로드 시간/파일 크기를 비교합니다.
+ * - 실행: gradle benchmark -Pbench=SnapshotFormatBenchmark
+ *   (운영 데이터로 측정하려면 해당 data/ 디렉터리가 있는 위치에서 실행)
+ */
+public class SnapshotFormatBenchmark {
+
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws IOException {
+        DataManager dataManager = DataManager.getInstance();
+
+        long textBytes = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get("data"), "*.txt")) {
+            for (Path file : files) {
+                textBytes += Files.size(file);
+            }
+        }
+
+        long textNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            dataManager.loadAllData();
+            textNanos = Math.min(textNanos, System.nanoTime() - start);
+        }
+        int reservations = dataManager.getReservations().size();
+
+        Path binary = Files.createTempFile("snapshot", ".bin");
+        try {
+            long binaryBytes = dataManager.saveBinarySnapshot(binary);
+            long binaryNanos = Long.MAX_VALUE;
+            for (int i = 0; i < ROUNDS; i++) {
+                long start = System.nanoTime();
+                dataManager.loadBinarySnapshot(binary);
+                binaryNanos = Math.min(binaryNanos, System.nanoTime() - start);
+            }
+
+            System.out.printf("reservations: %,d%n", reservations);
+            System.out.printf("%-8s %14s %12s%n", "format", "bytes", "load(ms)");
+            System.out.printf("%-8s %,14d %12.1f%n", "text", textBytes, textNanos / 1e6);
+            System.out.printf("%-8s %,14d %12.1f%n", "binary", binaryBytes, binaryNanos / 1e6);
+            System.out.printf("size ratio %.1fx, load speedup %.1fx%n",
+                    textBytes / (double) binaryBytes, textNanos / (double) binaryNanos);
+        } finally {
+            Files.deleteIfExists(binary);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.team1.airline.controller;
+
+/**
+ * RequestDispatcher 요청 결과
+ * - OK: 처리 완료 (body에 결과)
+ * - FAILED: 서비스가 요청을 거절함 (좌석 선점됨, 예약 없음 등)
+ * - UNAUTHORIZED: 세션이 없음
+ * - REJECTED: 동시 처리 한도를 넘어 접수하지 않음 (잠시 후 재시도)
+ * - ERROR: 처리 중 예외
+ */
+public final class ApiResponse<T> {
+
+    public enum Status { OK, FAILED, UNAUTHORIZED, REJECTED, ERROR }
+
+    private final Status status;
+    private final T body;
+    private final String message;
+
+    private ApiResponse(Status status, T body, String message) {
+        this.status = status;
+        this.body = body;
+        this.message = message;
+    }
+
+    static <T> ApiResponse<T> ok(T body) {
+        return new ApiResponse<>(Status.OK, body, null);
+    }
+
+    static <T> ApiResponse<T> failed(String message) {
+        return new ApiResponse<>(Status.FAILED, null, message);
+    }
+
+    static <T> ApiResponse<T> unauthorized() {
+        return new ApiResponse<>(Status.UNAUTHORIZED, null, "로그인이 필요합니다.");
+    }
+
+    static <T> ApiResponse<T> rejected() {
+        return new ApiResponse<>(Status.REJECTED, null, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    static <T> ApiResponse<T> error(String message) {
+        return new ApiResponse<>(Status.ERROR, null, message);
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isOk() {
+        return status == Status.OK;
+    }
+
+    /**
+     * @return 결과 (OK가 아니면 null)
+     */
+    public T getBody() {
+        return body;
+    }
+
+    /**
+     * @return 실패 사유 (OK면 null)
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return status + (message != null ? " (" + message + ")" : "");
+    }
+}
@@ -1,9 +1,13 @@
 package com.team1.airline.controller;
 
+import com.team1.airline.entity.DailyFare;
 import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.Itinerary;
+import com.team1.airline.service.ConnectionSearchOptions;
 import com.team1.airline.service.FlightManageable;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -86,6 +90,15 @@ public class FlightController {
         return seatInfo;
     }
     
+    /**
+     * 여러 항공편의 좌석 현황을 한 번에 조회
+     * @param flightIds 항공편 ID 목록
+     * @return 항공편 ID → 좌석 정보
+     */
+    public Map<String, Map<String, Integer>> getSeatAvailability(List<String> flightIds) {
+        return flightService.getSeatAvailability(flightIds);
+    }
+
     /**
      * 항공편의 잔여 좌석 수만 반환
      * @param flightId 항공편 ID
@@ -95,4 +108,51 @@ public class FlightController {
         Map<String, Integer> seatInfo = flightService.getSeatAvailability(flightId);
         return seatInfo.getOrDefault("available", 0);
     }
+
+    /**
+     * 연결(경유) 항공편 검색
+     * @param departureCode 출발지 공항 코드
+     * @param arrivalCode 도착지 공항 코드
+     * @param date 출발 날짜
+     * @param options 검색 조건 (null이면 기본값)
+     * @return 여정 목록 (직항 포함)
+     */
+    public List<Itinerary> searchConnections(String departureCode, String arrivalCode, LocalDate date,
+                                             ConnectionSearchOptions options) {
+        System.out.println("[FlightController] 연결 항공편 검색: " + departureCode + " -> " + arrivalCode + " on " + date);
+
+        List<Itinerary> itineraries = flightService.searchConnections(departureCode, arrivalCode, date, options);
+
+        System.out.println("[FlightController] " + itineraries.size() + "개의 여정을 찾았습니다.");
+        return itineraries;
+    }
+
+    /**
+     * 선택한 날짜 전후 N일의 날짜별 최저 운임
+     * @param departureCode 출발지 공항 코드
+     * @param arrivalCode 도착지 공항 코드
+     * @param date 기준 날짜
+     * @param days 앞뒤로 포함할 일 수 (±days)
+     * @return 날짜별 최저 운임 (날짜순, 2*days+1개)
+     */
+    public List<DailyFare> getFareCalendar(String departureCode, String arrivalCode, LocalDate date, int days) {
+        return getFareCalendar(departureCode, arrivalCode, date.minusDays(days), date.plusDays(days));
+    }
+
+    /**
+     * 한 달 전체의 날짜별 최저 운임 (달력 표시용)
+     * @param departureCode 출발지 공항 코드
+     * @param arrivalCode 도착지 공항 코드
+     * @param month 조회할 달
+     * @return 날짜별 최저 운임 (1일부터 말일까지)
+     */
+    public List<DailyFare> getFareCalendar(String departureCode, String arrivalCode, YearMonth month) {
+        return getFareCalendar(departureCode, arrivalCode, month.atDay(1), month.atEndOfMonth());
+    }
+
+    private List<DailyFare> getFareCalendar(String departureCode, String arrivalCode, LocalDate fromDate, LocalDate toDate) {
+        System.out.println("[FlightController] 날짜별 최저 운임 조회: " + departureCode + " -> " + arrivalCode +
+                         " (" + fromDate + " ~ " + toDate + ")");
+        return flightService.getFareCalendar(departureCode, arrivalCode, fromDate, toDate);
+    }
 }
@@ -0,0 +1,278 @@
+package com.team1.airline.controller;
+
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.User;
+import com.team1.airline.service.FlightManageable;
+import com.team1.airline.service.ReservationManageable;
+import com.team1.airline.service.UserManageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 화면 없이 서비스 계층을 호출하는 요청/응답 처리기
+ * - 요청 하나를 스레드 하나(JDK 21 이상이면 가상 스레드)에서 처리하고 결과를 CompletableFuture로 돌려줍니다.
+ *   가상 스레드를 쓸 수 없으면 고정 크기 플랫폼 스레드 풀로 처리합니다. (airline.requests.platformThreads, 기본 64)
+ * - 세션은 UserController의 currentUser 대신 login이 SessionStore에서 발급한 토큰을 요청마다 넘깁니다.
+ *   요청마다 토큰으로 사용자를 찾으므로, 로그아웃했거나 오래 사용하지 않아 만료된 토큰은 UNAUTHORIZED로 응답합니다.
+ * - 동시에 접수하는 요청 수를 maxInFlight로 제한합니다. 한도를 넘은 요청은 대기시키지 않고 바로 REJECTED로 응답합니다.
+ * - 서비스가 이미 스레드 안전하므로(좌석 CAS, 락 스트라이핑 테이블) 처리기 쪽에는 별도의 락이 없습니다.
+ */
+public class RequestDispatcher implements AutoCloseable {
+
+    private final FlightManageable flightService;
+    private final ReservationManageable reservationService;
+    private final UserManageable userService;
+    private final SessionStore sessions;
+
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final int maxInFlight;
+    private final Semaphore admission;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    /**
+     * 생성자 (가상 스레드 사용 여부는 airline.requests.virtual, 기본 true)
+     * @param sessions 로그인 토큰을 발급/조회할 세션 저장소 (만료 처리 시작은 호출하는 쪽에서)
+     * @param maxInFlight 동시에 접수할 수 있는 최대 요청 수
+     */
+    public RequestDispatcher(FlightManageable flightService, ReservationManageable reservationService,
+                             UserManageable userService, SessionStore sessions, int maxInFlight) {
+        this(flightService, reservationService, userService, sessions, maxInFlight,
+                Boolean.parseBoolean(System.getProperty("airline.requests.virtual", "true")));
+    }
+
+    public RequestDispatcher(FlightManageable flightService, ReservationManageable reservationService,
+                             UserManageable userService, SessionStore sessions, int maxInFlight, boolean preferVirtualThreads) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.flightService = flightService;
+        this.reservationService = reservationService;
+        this.userService = userService;
+        this.sessions = sessions;
+        this.maxInFlight = maxInFlight;
+        this.admission = new Semaphore(maxInFlight);
+
+        ExecutorService virtual = preferVirtualThreads ? newVirtualThreadExecutor() : null;
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : newPlatformExecutor();
+        System.out.println("[RequestDispatcher] " + (virtualThreads ? "가상 스레드" : "플랫폼 스레드 풀")
+                + "로 요청을 처리합니다. (동시 처리 한도 " + maxInFlight + ")");
+    }
+
+    // --- 요청 ---
+
+    /**
+     * 로그인하고 세션 토큰을 발급합니다.
+     * @return OK면 body에 토큰, ID/비밀번호가 틀리면 FAILED
+     */
+    public CompletableFuture<ApiResponse<String>> login(String userId, String password) {
+        return submit(() -> {
+            User user = userService.login(userId, password);
+            return user != null ? ApiResponse.ok(sessions.create(user)) : ApiResponse.failed("아이디 또는 비밀번호가 올바르지 않습니다.");
+        });
+    }
+
+    /**
+     * 로그아웃 (토큰 세션 제거, 바로 처리)
+     */
+    public ApiResponse<Boolean> logout(String token) {
+        return sessions.remove(token) != null ? ApiResponse.ok(Boolean.TRUE) : ApiResponse.unauthorized();
+    }
+
+    /**
+     * 항공편 검색 (로그인 불필요)
+     */
+    public CompletableFuture<ApiResponse<List<Flight>>> searchFlights(String departureCode, String arrivalCode, LocalDate date) {
+        return submit(() -> ApiResponse.ok(flightService.searchFlights(departureCode, arrivalCode, date)));
+    }
+
+    /**
+     * 좌석 현황 조회 (로그인 불필요)
+     */
+    public CompletableFuture<ApiResponse<Map<String, Integer>>> getSeatAvailability(String flightId) {
+        return submit(() -> {
+            Map<String, Integer> seatInfo = flightService.getSeatAvailability(flightId);
+            return seatInfo.isEmpty() ? ApiResponse.failed("항공편 정보가 없습니다: " + flightId) : ApiResponse.ok(seatInfo);
+        });
+    }
+
+    /**
+     * 좌석 예약 (여러 좌석이면 전부 성공하거나 전부 실패)
+     * @return OK면 body에 좌석 순서대로 생성된 예약 목록
+     */
+    public CompletableFuture<ApiResponse<List<Reservation>>> book(String token, String flightId, List<String> seatNumbers) {
+        User user = sessions.get(token);
+        if (user == null) return CompletableFuture.completedFuture(ApiResponse.unauthorized());
+        return submit(() -> {
+            List<Reservation> reservations = reservationService.makeReservations(user.getUserId(), flightId, seatNumbers);
+            return reservations.isEmpty() ? ApiResponse.failed("예약할 수 없는 좌석입니다: " + seatNumbers) : ApiResponse.ok(reservations);
+        });
+    }
+
+    /**
+     * 예약 취소
+     */
+    public CompletableFuture<ApiResponse<Boolean>> cancel(String token, String reservationId) {
+        User user = sessions.get(token);
+        if (user == null) return CompletableFuture.completedFuture(ApiResponse.unauthorized());
+        return submit(() -> reservationService.cancelReservation(reservationId, user.getUserId())
+                ? ApiResponse.ok(Boolean.TRUE)
+                : ApiResponse.failed("취소할 수 없는 예약입니다: " + reservationId));
+    }
+
+    /**
+     * 내 예약 목록 조회
+     */
+    public CompletableFuture<ApiResponse<List<Reservation>>> getMyReservations(String token) {
+        User user = sessions.get(token);
+        if (user == null) return CompletableFuture.completedFuture(ApiResponse.unauthorized());
+        return submit(() -> ApiResponse.ok(reservationService.getMyReservations(user.getUserId())));
+    }
+
+    // --- 처리 ---
+
+    private <T> CompletableFuture<ApiResponse<T>> submit(Callable<ApiResponse<T>> handler) {
+        if (!admission.tryAcquire()) {
+            rejected.incrementAndGet();
+            return CompletableFuture.completedFuture(ApiResponse.rejected());
+        }
+        accepted.incrementAndGet();
+        peakInFlight.accumulateAndGet(maxInFlight - admission.availablePermits(), Math::max);
+
+        CompletableFuture<ApiResponse<T>> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                ApiResponse<T> response = null;
+                Throwable failure = null;
+                try {
+                    try {
+                        response = handler.call();
+                    } catch (Exception e) {
+                        System.out.println("[RequestDispatcher] 요청 처리 중 오류: " + e);
+                        response = ApiResponse.error(e.getMessage());
+                    }
+                    if (response == null) {
+                        throw new IllegalStateException("handler returned no response");
+                    }
+                } catch (Throwable t) {
+                    failure = t;
+                } finally {
+                    // 응답보다 먼저 반납해야, 응답을 받고 바로 다음 요청을 보내는 호출자가 한도에 걸리지 않음
+                    admission.release();
+                }
+                if (failure != null) {
+                    // Error(OutOfMemoryError 등)도 호출자가 기다리다 멈추지 않도록 예외로 완료
+                    failed.incrementAndGet();
+                    result.completeExceptionally(failure);
+                    if (failure instanceof Error) throw (Error) failure;
+                    return;
+                }
+                (response.isOk() ? completed : failed).incrementAndGet();
+                result.complete(response);
+            });
+        } catch (RejectedExecutionException e) {
+            // close() 이후 들어온 요청
+            admission.release();
+            rejected.incrementAndGet();
+            result.complete(ApiResponse.rejected());
+        }
+        return result;
+    }
+
+    /**
+     * 새 요청 접수를 멈추고 처리 중인 요청이 끝날 때까지 기다립니다. (최대 30초)
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                System.out.println("[RequestDispatcher] 종료 대기 시간 초과, 남은 요청을 중단합니다.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // JDK 21의 Executors.newVirtualThreadPerTaskExecutor (빌드 대상이 17이라 리플렉션으로 호출, 없으면 null)
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newPlatformExecutor() {
+        int threads = Integer.getInteger("airline.requests.platformThreads", 64);
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "request-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // --- 지표 ---
+
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return 지금 처리 중인 요청 수
+     */
+    public int getInFlight() {
+        return maxInFlight - admission.availablePermits();
+    }
+
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return OK로 끝난 요청 수
+     */
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * @return FAILED / ERROR로 끝난 요청 수
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+}
@@ -20,7 +20,7 @@ public class ReservationController {
     /**
      * 생성자
      * @param reservationService ReservationManageable 인터페이스를 구현한 서비스
-     * @param userController 사용자 컨트롤러 (로그인 상태 확인용)
+     * @param userController 사용자 컨트롤러 (세션 토큰 → 사용자 조회용)
      */
     public ReservationController(ReservationManageable reservationService, 
                                 UserController userController) {
@@ -29,20 +29,30 @@ public class ReservationController {
     }
     
     /**
-     * 항공편 예약
+     * 항공편 예약 (GUI 세션)
      * @param flightId 항공편 ID
      * @param seatNumber 좌석 번호 
      * @return 생성된 예약 정보 (실패 시 null)
      */
     public Reservation makeReservation(String flightId, String seatNumber) {
+        return makeReservation(userController.getCurrentToken(), flightId, seatNumber);
+    }
+    
+    /**
+     * 항공편 예약
+     * @param token 세션 토큰
+     * @param flightId 항공편 ID
+     * @param seatNumber 좌석 번호 
+     * @return 생성된 예약 정보 (실패 시 null)
+     */
+    public Reservation makeReservation(String token, String flightId, String seatNumber) {
         // 로그인 확인
-        if (!userController.isLoggedIn()) {
+        String userId = userController.getUserId(token);
+        if (userId == null) {
             System.out.println("[ReservationController] 로그인이 필요합니다.");
             return null;
         }
         
-        String userId = userController.getCurrentUserId();
-        
         System.out.println("[ReservationController] 예약 시도: " + 
                          "User=" + userId + ", Flight=" + flightId + 
                          ", Seat=" + seatNumber);
@@ -60,17 +70,65 @@ public class ReservationController {
     }
     
     /**
-     * 내 예약 목록 조회
+     * 여러 좌석 일괄 예약 (GUI 세션, 전부 성공하거나 전부 실패)
+     * @param flightId 항공편 ID
+     * @param seatNumbers 좌석 번호 목록
+     * @return 생성된 예약 목록 (실패 시 빈 리스트)
+     */
+    public List<Reservation> makeReservations(String flightId, List<String> seatNumbers) {
+        return makeReservations(userController.getCurrentToken(), flightId, seatNumbers);
+    }
+    
+    /**
+     * 여러 좌석 일괄 예약 (전부 성공하거나 전부 실패)
+     * @param token 세션 토큰
+     * @param flightId 항공편 ID
+     * @param seatNumbers 좌석 번호 목록
+     * @return 생성된 예약 목록 (실패 시 빈 리스트)
+     */
+    public List<Reservation> makeReservations(String token, String flightId, List<String> seatNumbers) {
+        // 로그인 확인
+        String userId = userController.getUserId(token);
+        if (userId == null) {
+            System.out.println("[ReservationController] 로그인이 필요합니다.");
+            return List.of();
+        }
+        
+        System.out.println("[ReservationController] 일괄 예약 시도: " + 
+                         "User=" + userId + ", Flight=" + flightId + 
+                         ", Seats=" + seatNumbers);
+        
+        List<Reservation> reservations = reservationService.makeReservations(userId, flightId, seatNumbers);
+        
+        if (!reservations.isEmpty()) {
+            System.out.println("[ReservationController] 예약 성공! " + reservations.size() + "석");
+        } else {
+            System.out.println("[ReservationController] 예약 실패");
+        }
+        
+        return reservations;
+    }
+    
+    /**
+     * 내 예약 목록 조회 (GUI 세션)
      * @return 현재 로그인한 사용자의 예약 목록
      */
     public List<Reservation> getMyReservations() {
-        if (!userController.isLoggedIn()) {
+        return getMyReservations(userController.getCurrentToken());
+    }
+    
+    /**
+     * 내 예약 목록 조회
+     * @param token 세션 토큰
+     * @return 세션 사용자의 예약 목록
+     */
+    public List<Reservation> getMyReservations(String token) {
+        String userId = userController.getUserId(token);
+        if (userId == null) {
             System.out.println("[ReservationController] 로그인이 필요합니다.");
             return List.of();
         }
         
-        String userId = userController.getCurrentUserId();
-        
         System.out.println("[ReservationController] 예약 목록 조회: " + userId);
         
         List<Reservation> reservations = reservationService.getMyReservations(userId);
@@ -81,27 +139,36 @@ public class ReservationController {
     }
 
     public List<com.team1.airline.gui.PaymentHistoryPanel.PaymentRow> getMyReservationDetails() {
-        if (!userController.isLoggedIn()) {
+        String userId = userController.getCurrentUserId();
+        if (userId == null) {
             System.out.println("[ReservationController] 로그인이 필요합니다.");
             return List.of();
         }
-        String userId = userController.getCurrentUserId();
         return reservationService.getMyReservationDetails(userId);
     }
     
     /**
-     * 예약 취소
+     * 예약 취소 (GUI 세션)
      * @param reservationId 예약 ID
      * @return 취소 성공 여부
      */
     public boolean cancelReservation(String reservationId) {
-        if (!userController.isLoggedIn()) {
+        return cancelReservation(userController.getCurrentToken(), reservationId);
+    }
+    
+    /**
+     * 예약 취소
+     * @param token 세션 토큰
+     * @param reservationId 예약 ID
+     * @return 취소 성공 여부
+     */
+    public boolean cancelReservation(String token, String reservationId) {
+        String userId = userController.getUserId(token);
+        if (userId == null) {
             System.out.println("[ReservationController] 로그인이 필요합니다.");
             return false;
         }
         
-        String userId = userController.getCurrentUserId();
-        
         System.out.println("[ReservationController] 예약 취소 시도: " + 
                          "User=" + userId + ", Reservation=" + reservationId);
         
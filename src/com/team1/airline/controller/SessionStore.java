@@ -0,0 +1,214 @@
+package com.team1.airline.controller;
+
+import com.team1.airline.entity.User;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 세션 저장소 (토큰 → 세션)
+ * - 토큰은 128비트 난수(URL-safe Base64 22자)이며, 조회는 ConcurrentHashMap 한 번으로 O(1)입니다.
+ * - 일정 시간(idleTimeout) 동안 사용하지 않은 세션은 타이머 휠로 만료시킵니다.
+ *   세션은 만료 예정 시각의 칸에 한 번만 들어가고, 조회할 때는 마지막 사용 시각만 갱신합니다.
+ *   칸을 처리할 때 그 사이 사용된 세션은 새 만료 시각의 칸으로 옮기므로 전체 세션을 훑지 않습니다.
+ * - 조회 시점에도 만료 여부를 확인하므로, 휠이 칸을 처리하기 전이라도 만료된 세션은 돌려주지 않습니다.
+ * - createWithoutExpiry로 만든 세션은 휠에 넣지 않으며 remove할 때까지 유지됩니다. (다시 로그인하라는 안내가 없는 GUI 세션용)
+ */
+public class SessionStore {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final long idleTimeoutMillis;
+    private final long tickMillis;
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final List<ConcurrentLinkedQueue<Session>> wheel;
+    private volatile long processedTick; // 이 칸까지 처리 완료 (tick = 시각 / tickMillis)
+    private final AtomicLong evicted = new AtomicLong();
+    private ScheduledExecutorService ticker;
+
+    /**
+     * 기본 설정 (airline.sessions.idleMinutes, 기본 30분 / 휠 한 칸 1초)
+     */
+    public SessionStore() {
+        this(TimeUnit.MINUTES.toMillis(Long.getLong("airline.sessions.idleMinutes", 30L)), 1000L);
+    }
+
+    /**
+     * @param idleTimeoutMillis 이 시간 동안 사용하지 않은 세션을 만료
+     * @param tickMillis 타이머 휠 한 칸의 길이 (만료 시각의 정밀도)
+     */
+    public SessionStore(long idleTimeoutMillis, long tickMillis) {
+        if (idleTimeoutMillis <= 0 || tickMillis <= 0) {
+            throw new IllegalArgumentException("idleTimeout and tick must be positive");
+        }
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.tickMillis = tickMillis;
+        int slots = (int) Math.min(1 << 16, idleTimeoutMillis / tickMillis + 2);
+        this.wheel = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+        this.processedTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    /**
+     * 세션을 새로 만들고 토큰을 발급합니다.
+     */
+    public String create(User user) {
+        return create(user, true);
+    }
+
+    /**
+     * 유휴 시간이 지나도 만료되지 않는 세션을 만들고 토큰을 발급합니다. (remove로만 제거)
+     */
+    public String createWithoutExpiry(User user) {
+        return create(user, false);
+    }
+
+    private String create(User user, boolean expires) {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        String token = TOKEN_ENCODER.encodeToString(bytes);
+        Session session = new Session(token, user, System.currentTimeMillis(), expires);
+        sessions.put(token, session);
+        if (expires) {
+            schedule(session, session.lastAccess + idleTimeoutMillis);
+        }
+        return token;
+    }
+
+    /**
+     * 토큰으로 사용자를 찾고 세션의 마지막 사용 시각을 갱신합니다.
+     * @return 사용자 (토큰이 없거나 만료되었으면 null)
+     */
+    public User get(String token) {
+        if (token == null) return null;
+        Session session = sessions.get(token);
+        if (session == null) return null;
+        if (!session.expires) return session.user;
+        long now = System.currentTimeMillis();
+        if (now - session.lastAccess >= idleTimeoutMillis) {
+            if (sessions.remove(token, session)) evicted.incrementAndGet();
+            return null;
+        }
+        // 같은 칸 안에서는 다시 쓰지 않아 조회가 몰려도 캐시 라인 경합이 적음
+        if (now - session.lastAccess >= tickMillis) {
+            session.lastAccess = now;
+        }
+        return session.user;
+    }
+
+    /**
+     * 세션을 제거합니다. (휠에 남은 항목은 해당 칸을 처리할 때 버려짐)
+     * @return 제거된 세션의 사용자 (없으면 null)
+     */
+    public User remove(String token) {
+        Session session = token == null ? null : sessions.remove(token);
+        return session == null ? null : session.user;
+    }
+
+    /**
+     * @return 현재 저장된 세션 수 (만료되었지만 아직 휠이 처리하지 않은 세션 포함)
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * @return 유휴 시간 초과로 만료된 세션 수 (누적)
+     */
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    // --- 타이머 휠 ---
+
+    /**
+     * 휠 한 칸마다 expireIdleSessions를 호출하는 데몬 스레드를 시작합니다.
+     */
+    public synchronized void start() {
+        if (ticker != null) return;
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "session-expiry");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                expireIdleSessions();
+            } catch (RuntimeException e) {
+                System.err.println("SessionStore: " + e.getMessage());
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (ticker == null) return;
+        ticker.shutdownNow();
+        ticker = null;
+    }
+
+    /**
+     * 현재 시각까지 지난 칸들을 처리합니다. (ticker 스레드 또는 테스트에서 직접 호출, 동시 호출 불가)
+     * @return 이번에 만료된 세션 수
+     */
+    public synchronized int expireIdleSessions() {
+        long now = System.currentTimeMillis();
+        long nowTick = now / tickMillis;
+        int expired = 0;
+        for (long tick = processedTick + 1; tick <= nowTick; tick++) {
+            processedTick = tick;
+            ConcurrentLinkedQueue<Session> slot = wheel.get((int) (tick % wheel.size()));
+            // 처리 중 다시 같은 칸에 들어오는 세션(휠 한 바퀴 이상 남은 경우)은 다음 바퀴에 처리
+            for (int n = slot.size(); n > 0; n--) {
+                Session session = slot.poll();
+                if (session == null) break;
+                if (sessions.get(session.token) != session) continue; // 로그아웃/조회 시 만료됨
+                long deadline = session.lastAccess + idleTimeoutMillis;
+                if (deadline <= now) {
+                    if (sessions.remove(session.token, session)) {
+                        expired++;
+                    }
+                } else {
+                    schedule(session, deadline);
+                }
+            }
+        }
+        evicted.addAndGet(expired);
+        return expired;
+    }
+
+    private void schedule(Session session, long deadline) {
+        // 이미 지난 칸이면 다음 칸, 휠 한 바퀴보다 멀면 가장 먼 칸에 넣고 그때 다시 계산
+        long tick = Math.max(deadline / tickMillis, processedTick + 1);
+        tick = Math.min(tick, processedTick + wheel.size() - 1);
+        wheel.get((int) (tick % wheel.size())).add(session);
+    }
+
+    private static final class Session {
+        private final String token;
+        private final User user;
+        private final boolean expires;
+        private volatile long lastAccess;
+
+        Session(String token, User user, long lastAccess, boolean expires) {
+            this.token = token;
+            this.user = user;
+            this.lastAccess = lastAccess;
+            this.expires = expires;
+        }
+    }
+}
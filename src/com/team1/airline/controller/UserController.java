@@ -7,20 +7,33 @@ import com.team1.airline.service.UserManageable;
  1 사용자 관련 기능을 처리하는 컨트롤러
  2 GUI 계층과 Service 계층을 연결
  3  회원가입, 로그인, 로그아웃
- 4  세션 관리 (현재 로그인한 사용자)
+ 4  세션 관리 (로그인 시 토큰 발급, 토큰 → 사용자는 SessionStore에서 조회)
+ 5  GUI는 토큰 없이 쓰는 기존 메서드(isLoggedIn, getCurrentUser 등)로 자신의 세션 하나를 사용
+    (GUI에는 다시 로그인하라는 안내가 없으므로 이 세션은 유휴 만료 없이 로그아웃할 때까지 유지)
  */
 public class UserController {
     
     private final UserManageable userService;
-    private User currentUser; // 현재 로그인한 사용자 (세션)
+    private final SessionStore sessions;
+    private volatile String currentToken; // GUI(이 화면)의 세션 토큰
     
     /**
-       생성자
-     * @param userServicer
+       생성자 (기본 설정의 세션 저장소를 만들고 만료 처리를 시작)
+     * @param userService
      */
     public UserController(UserManageable userService) {
+        this(userService, new SessionStore());
+        sessions.start();
+    }
+    
+    /**
+     * 생성자
+     * @param userService 사용자 서비스
+     * @param sessions 세션 저장소 (만료 처리 시작은 호출하는 쪽에서)
+     */
+    public UserController(UserManageable userService, SessionStore sessions) {
         this.userService = userService;
-        this.currentUser = null;
+        this.sessions = sessions;
     }
     
     /**
@@ -48,33 +61,68 @@ public class UserController {
     }
     
     /**
-     * 로그인
+     * 로그인 (GUI용, 발급된 토큰을 이 화면의 세션으로 사용)
      * @param userId 사용자 ID
      * @param password 비밀번호
      * @return 로그인 성공 여부
      */
     public boolean login(String userId, String password) {
+        User user = authenticate(userId, password);
+        if (user == null) {
+            return false;
+        }
+        String token = sessions.createWithoutExpiry(user);
+        String previous = this.currentToken;
+        this.currentToken = token;
+        if (previous != null) {
+            sessions.remove(previous);
+        }
+        return true;
+    }
+    
+    /**
+     * 로그인 후 세션 토큰 발급 (여러 사용자가 동시에 로그인하는 경우)
+     * @param userId 사용자 ID
+     * @param password 비밀번호
+     * @return 세션 토큰 (로그인 실패 시 null)
+     */
+    public String issueToken(String userId, String password) {
+        User user = authenticate(userId, password);
+        return user != null ? sessions.create(user) : null;
+    }
+    
+    private User authenticate(String userId, String password) {
         User user = userService.login(userId, password);
         
         if (user != null) {
-            this.currentUser = user;
             System.out.println("[UserController] 로그인 성공: " + userId);
             // 로그인 시 마일리지 정보 출력 (확인용)
             System.out.println("[UserController] 현재 마일리지: " + user.getMileage());
-            return true;
         } else {
             System.out.println("[UserController] 로그인 실패: " + userId);
-            return false;
         }
+        return user;
     }
     
     /**
-     * 로그아웃
+     * 로그아웃 (GUI 세션)
      */
     public void logout() {
-        if (currentUser != null) {
-            System.out.println("[UserController] 로그아웃: " + currentUser.getUserId());
-            this.currentUser = null;
+        String token = this.currentToken;
+        if (token != null) {
+            this.currentToken = null;
+            logout(token);
+        }
+    }
+    
+    /**
+     * 로그아웃 (토큰 세션 제거)
+     * @param token 세션 토큰
+     */
+    public void logout(String token) {
+        User user = sessions.remove(token);
+        if (user != null) {
+            System.out.println("[UserController] 로그아웃: " + user.getUserId());
         }
     }
     
@@ -83,7 +131,7 @@ public class UserController {
      * @return 로그인 여부
      */
     public boolean isLoggedIn() {
-        return this.currentUser != null;
+        return getCurrentUser() != null;
     }
     
     /**
@@ -91,7 +139,7 @@ public class UserController {
      * @return 현재 사용자 (null이면 로그인하지 않은 상태)
      */
     public User getCurrentUser() {
-        return this.currentUser;
+        return sessions.get(this.currentToken);
     }
     
     /**
@@ -99,6 +147,40 @@ public class UserController {
      * @return 사용자 ID (로그인하지 않았으면 null)
      */
     public String getCurrentUserId() {
-        return currentUser != null ? currentUser.getUserId() : null;
+        User user = getCurrentUser();
+        return user != null ? user.getUserId() : null;
+    }
+    
+    /**
+     * @return GUI 세션의 토큰 (로그인하지 않았으면 null)
+     */
+    public String getCurrentToken() {
+        return this.currentToken;
+    }
+    
+    /**
+     * 토큰으로 사용자 조회 (조회할 때마다 세션 만료 시각이 연장됨)
+     * @param token 세션 토큰
+     * @return 사용자 (토큰이 없거나 만료되었으면 null)
+     */
+    public User getUser(String token) {
+        return sessions.get(token);
+    }
+    
+    /**
+     * 토큰으로 사용자 ID 조회
+     * @param token 세션 토큰
+     * @return 사용자 ID (토큰이 없거나 만료되었으면 null)
+     */
+    public String getUserId(String token) {
+        User user = sessions.get(token);
+        return user != null ? user.getUserId() : null;
+    }
+    
+    /**
+     * @return 현재 세션 수
+     */
+    public int getSessionCount() {
+        return sessions.size();
     }
-}
\ No newline at end of file
+}
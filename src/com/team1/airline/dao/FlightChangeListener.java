@@ -0,0 +1,19 @@
+package com.team1.airline.dao;
+
+import java.time.LocalDate;
+
+/**
+ * 항공편 변경 알림 (FlightDAO.addChangeListener로 등록)
+ * - 항공편이 추가/수정/삭제되면 영향을 받는 (노선, 출발 날짜)마다 호출됩니다.
+ *   수정으로 노선이나 날짜가 바뀌면 이전 값과 새 값 모두 알립니다.
+ * - 변경이 메모리에 반영된 뒤, 같은 항공편의 다음 변경보다 먼저 호출됩니다. (쓰는 스레드에서 호출되므로 가볍게 처리할 것)
+ */
+public interface FlightChangeListener {
+
+    void flightChanged(String routeId, LocalDate departureDate);
+
+    /**
+     * 파일을 다시 읽는 등 항공편 전체가 바뀌었을 때
+     */
+    void allFlightsChanged();
+}
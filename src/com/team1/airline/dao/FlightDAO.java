@@ -1,6 +1,7 @@
 package com.team1.airline.dao;
 
 import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -12,4 +13,27 @@ public interface FlightDAO {
     void updateFlight(Flight flight);
     void deleteFlight(String flightId);
     List<Flight> findFlightsByRoute(String routeId);
-}
\ No newline at end of file
+    List<Flight> findFlightsByRouteAndDateRange(String routeId, LocalDate fromDate, LocalDate toDate);
+    List<Flight> findFlightsByStatus(FlightStatus status);
+
+    /**
+     * 데이터가 바뀔 때마다(추가/수정/삭제) 증가하는 버전 (조회 결과를 미리 만들어 두는 쪽의 갱신 판단용)
+     */
+    long getVersion();
+
+    /**
+     * 운항 일정 버전 - getVersion()과 같지만, 좌석 재고에 따른 상태 변경(예약 가능 ↔ 매진)만 있는 수정에는 증가하지 않습니다.
+     * (매진 여부는 조회 때 확인하고, 노선/시각이 바뀔 때만 다시 만들면 되는 쪽용. 예: 연결 항공편 시각표)
+     */
+    long getScheduleVersion();
+
+    /**
+     * 항공편이 바뀔 때 알림을 받을 리스너를 등록합니다. (검색 결과 캐시 무효화 등)
+     */
+    void addChangeListener(FlightChangeListener listener);
+
+    /**
+     * addChangeListener로 등록한 리스너를 해제합니다. (등록되어 있지 않으면 무시)
+     */
+    void removeChangeListener(FlightChangeListener listener);
+}
@@ -1,13 +1,26 @@
 package com.team1.airline.dao;
 
 import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
 import java.util.List;
+import java.util.Map;
 
 public interface ReservationDAO {
     void addReservation(Reservation reservation);
+
+    /**
+     * 여러 예약을 한 번에 저장합니다. (전부 저장되거나, 저장 실패 시 하나도 저장되지 않음)
+     */
+    void addReservations(List<Reservation> reservations);
     Reservation findByReservationId(String reservationId);
     List<Reservation> findReservationsByFlightId(String flightId);
     List<Reservation> findReservationsByUserId(String userId);
+    List<Reservation> findReservationsByStatus(ReservationStatus status);
+
+    /**
+     * @return 상태별 예약 수 (모든 상태 포함, 전체 스캔 없이 인덱스의 카운터에서 읽음)
+     */
+    Map<ReservationStatus, Integer> countReservationsByStatus();
     List<Reservation> findAll();
     void updateReservation(Reservation reservation);
     void deleteReservation(String reservationId);
@@ -7,7 +7,14 @@ public interface RouteDAO {
     void saveRoute(Route route);
     Route findByRouteId(String routeId);
     List<Route> findRoutesByAirports(String departureAirportCode, String arrivalAirportCode);
+    List<Route> findRoutesFrom(String departureAirportCode);
+    List<Route> findRoutesTo(String arrivalAirportCode);
     List<Route> findAll();
     void updateRoute(Route route);
     void deleteRoute(String routeId);
+
+    /**
+     * 데이터가 바뀔 때마다(추가/수정/삭제) 증가하는 버전 (조회 결과를 미리 만들어 두는 쪽의 갱신 판단용)
+     */
+    long getVersion();
 }
@@ -9,4 +9,10 @@ public interface UserDAO {
     List<User> findAll();
     void updateUser(User user);
     void deleteUser(String userId);
+
+    /**
+     * 마일리지를 다른 변경과 겹치지 않게 증감합니다. (결과가 0 미만이면 0)
+     * @return 변경된 사용자 (없으면 null)
+     */
+    User addMileage(String userId, int delta);
 }
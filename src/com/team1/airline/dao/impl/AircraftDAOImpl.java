@@ -20,15 +20,12 @@ public class AircraftDAOImpl implements AircraftDAO {
 
     @Override
     public void saveAircraft(Aircraft aircraft) {
-        DataManager.getInstance().getAircrafts().add(aircraft);
+        DataManager.getInstance().aircraftTable().add(aircraft);
     }
 
     @Override
     public Aircraft findByAircraftId(String aircraftId) {
-        return DataManager.getInstance().getAircrafts().stream()
-                .filter(a -> a.getAircraftId().equals(aircraftId))
-                .findFirst()
-                .orElse(null);
+        return DataManager.getInstance().aircraftTable().get(aircraftId);
     }
 
     @Override
@@ -38,18 +35,11 @@ public class AircraftDAOImpl implements AircraftDAO {
 
     @Override
     public void updateAircraft(Aircraft aircraft) {
-        List<Aircraft> aircrafts = DataManager.getInstance().getAircrafts();
-        for (int i = 0; i < aircrafts.size(); i++) {
-            if (aircrafts.get(i).getAircraftId().equals(aircraft.getAircraftId())) {
-                aircrafts.set(i, aircraft);
-                return;
-            }
-        }
+        DataManager.getInstance().aircraftTable().update(aircraft);
     }
 
     @Override
     public void deleteAircraft(String aircraftId) {
-        List<Aircraft> aircrafts = DataManager.getInstance().getAircrafts();
-        aircrafts.removeIf(a -> a.getAircraftId().equals(aircraftId));
+        DataManager.getInstance().aircraftTable().remove(aircraftId);
     }
 }
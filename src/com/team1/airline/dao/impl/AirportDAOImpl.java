@@ -19,15 +19,12 @@ public class AirportDAOImpl implements AirportDAO {
 
     @Override
     public void saveAirport(Airport airport) {
-        DataManager.getInstance().getAirports().add(airport);
+        DataManager.getInstance().airportTable().add(airport);
     }
 
     @Override
     public Airport findByAirportCode(String airportCode) {
-        return DataManager.getInstance().getAirports().stream()
-                .filter(a -> a.getAirportCode().equals(airportCode))
-                .findFirst()
-                .orElse(null);
+        return DataManager.getInstance().airportTable().get(airportCode);
     }
 
     @Override
@@ -37,18 +34,11 @@ public class AirportDAOImpl implements AirportDAO {
 
     @Override
     public void updateAirport(Airport airport) {
-        List<Airport> airports = DataManager.getInstance().getAirports();
-        for (int i = 0; i < airports.size(); i++) {
-            if (airports.get(i).getAirportCode().equals(airport.getAirportCode())) {
-                airports.set(i, airport);
-                return;
-            }
-        }
+        DataManager.getInstance().airportTable().update(airport);
     }
 
     @Override
     public void deleteAirport(String airportCode) {
-        List<Airport> airports = DataManager.getInstance().getAirports();
-        airports.removeIf(a -> a.getAirportCode().equals(airportCode));
+        DataManager.getInstance().airportTable().remove(airportCode);
     }
 }
@@ -0,0 +1,421 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.entity.*;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * [바이너리 컬럼형 스냅샷 형식]
+ * 파일 구성 (모든 정수는 별도 표기가 없으면 zigzag varint)
+ * - 헤더: magic "ARSB"(int), 스키마 버전(short), 테이블 수(short), 테이블별 행 수(int)
+ * - 문자열 사전: 개수, 각 문자열(UTF-8 길이 + 바이트)
+ * - 실수 사전: 개수, 각 값(double 8바이트)  (가격은 노선별로 반복되므로 사전 코드로 저장)
+ * - 테이블 데이터: users, aircrafts, airports, flights, reservations, routes 순서로
+ *   컬럼 단위 저장 (문자열 = 사전 코드, 시각 = UTC 기준 epoch 분)
+ *   예약 ID 컬럼은 앞에 인코딩 태그(1바이트)가 붙습니다: 0 = 사전 코드, 1 = UUID 16바이트,
+ *   2 = 예약 코드(ReservationIdCodec)의 64비트 값을 앞 행과의 차이로 저장 (스키마 버전 2부터)
+ * 문자열에 공백이 있어도 그대로 저장되므로 텍스트 형식의 언더스코어 치환이 필요 없습니다.
+ */
+final class BinarySnapshot {
+
+    static final int MAGIC = 0x41525342; // "ARSB"
+    static final short SCHEMA_VERSION = 2;
+    private static final short TABLE_COUNT = 6;
+
+    private static final byte COLUMN_DICTIONARY = 0;
+    private static final byte COLUMN_UUID = 1;
+    private static final byte COLUMN_COMPACT_ID = 2;
+
+    /**
+     * 스냅샷 한 벌의 내용 (테이블 순서 고정)
+     */
+    static final class Contents {
+        List<User> users = new ArrayList<>();
+        List<Aircraft> aircrafts = new ArrayList<>();
+        List<Airport> airports = new ArrayList<>();
+        List<Flight> flights = new ArrayList<>();
+        List<Reservation> reservations = new ArrayList<>();
+        List<Route> routes = new ArrayList<>();
+    }
+
+    private BinarySnapshot() {
+    }
+
+    // --- Write ---
+    static void write(OutputStream target, Contents c) throws IOException {
+        Dictionary dictionary = new Dictionary();
+        Map<Double, Integer> priceCodes = new HashMap<>();
+        List<Double> prices = new ArrayList<>();
+        for (Reservation r : c.reservations) priceCode(priceCodes, prices, r.getFinalPrice());
+        for (Route r : c.routes) priceCode(priceCodes, prices, r.getPrice());
+
+        // 사전을 먼저 완성하기 위해 테이블 본문은 메모리 버퍼에 먼저 기록
+        ColumnWriter body = new ColumnWriter();
+        for (User u : c.users) body.string(dictionary, u.getUserId());
+        for (User u : c.users) body.string(dictionary, u.getPassword());
+        for (User u : c.users) body.string(dictionary, u.getUserName());
+        for (User u : c.users) body.string(dictionary, u.getPassportNumber());
+        for (User u : c.users) body.string(dictionary, u.getPhone());
+        for (User u : c.users) body.varLong(u.getMileage());
+
+        for (Aircraft a : c.aircrafts) body.string(dictionary, a.getAircraftId());
+        for (Aircraft a : c.aircrafts) body.string(dictionary, a.getModelName());
+        for (Aircraft a : c.aircrafts) body.varLong(a.getTotalSeats());
+        for (Aircraft a : c.aircrafts) body.varLong(a.getEconomy());
+        for (Aircraft a : c.aircrafts) body.varLong(a.getBusiness());
+
+        for (Airport a : c.airports) body.string(dictionary, a.getAirportCode());
+        for (Airport a : c.airports) body.string(dictionary, a.getAirportName());
+        for (Airport a : c.airports) body.string(dictionary, a.getCity());
+        for (Airport a : c.airports) body.string(dictionary, a.getCountry());
+
+        for (Flight f : c.flights) body.string(dictionary, f.getFlightId());
+        for (Flight f : c.flights) body.string(dictionary, f.getRouteId());
+        for (Flight f : c.flights) body.string(dictionary, f.getAircraftId());
+        for (Flight f : c.flights) body.varLong(epochMinute(f.getDepartureTime()));
+        for (Flight f : c.flights) body.varLong(epochMinute(f.getArrivalTime()));
+        for (Flight f : c.flights) body.string(dictionary, f.getStatus().getText());
+
+        // 예약 ID는 거의 모두 고유하므로 사전 대신 이진 형태로 저장 (모든 행이 같은 형식인 경우)
+        boolean uuidIds = !c.reservations.isEmpty();
+        boolean compactIds = !c.reservations.isEmpty();
+        for (Reservation r : c.reservations) {
+            uuidIds &= isCanonicalUuid(r.getReservationId());
+            compactIds &= ReservationIdCodec.isCompact(r.getReservationId());
+            if (!uuidIds && !compactIds) {
+                break;
+            }
+        }
+        body.tag(uuidIds ? COLUMN_UUID : compactIds ? COLUMN_COMPACT_ID : COLUMN_DICTIONARY);
+        long previousId = 0;
+        for (Reservation r : c.reservations) {
+            if (compactIds) {
+                // 시간순 번호라 앞 행과의 차이가 작음
+                long id = ReservationIdCodec.decode(r.getReservationId());
+                body.varLong(id - previousId);
+                previousId = id;
+            } else if (uuidIds) {
+                UUID id = UUID.fromString(r.getReservationId());
+                body.fixedLong(id.getMostSignificantBits());
+                body.fixedLong(id.getLeastSignificantBits());
+            } else {
+                body.string(dictionary, r.getReservationId());
+            }
+        }
+        for (Reservation r : c.reservations) body.string(dictionary, r.getUserId());
+        for (Reservation r : c.reservations) body.string(dictionary, r.getFlightId());
+        for (Reservation r : c.reservations) body.string(dictionary, r.getSeatNumber());
+        for (Reservation r : c.reservations) body.varLong(priceCode(priceCodes, prices, r.getFinalPrice()));
+        for (Reservation r : c.reservations) body.string(dictionary, r.getStatus().getText());
+
+        for (Route r : c.routes) body.string(dictionary, r.getRouteId());
+        for (Route r : c.routes) body.string(dictionary, r.getDepartureAirportCode());
+        for (Route r : c.routes) body.string(dictionary, r.getArrivalAirportCode());
+        for (Route r : c.routes) body.varLong(priceCode(priceCodes, prices, r.getPrice()));
+        for (Route r : c.routes) body.varLong(r.getDuration());
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(target, 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeShort(SCHEMA_VERSION);
+        out.writeShort(TABLE_COUNT);
+        out.writeInt(c.users.size());
+        out.writeInt(c.aircrafts.size());
+        out.writeInt(c.airports.size());
+        out.writeInt(c.flights.size());
+        out.writeInt(c.reservations.size());
+        out.writeInt(c.routes.size());
+
+        ColumnWriter header = new ColumnWriter();
+        header.varLong(dictionary.values.size());
+        for (String value : dictionary.values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            header.varLong(bytes.length);
+            header.bytes(bytes);
+        }
+        header.varLong(prices.size());
+        header.writeTo(out);
+        for (double price : prices) {
+            out.writeDouble(price);
+        }
+        body.writeTo(out);
+        out.flush();
+    }
+
+    private static int priceCode(Map<Double, Integer> codes, List<Double> prices, double price) {
+        return codes.computeIfAbsent(price, p -> {
+            prices.add(p);
+            return prices.size() - 1;
+        });
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return time == null ? Long.MIN_VALUE : Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromEpochMinute(long minute) {
+        return minute == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    // --- Read ---
+    static Contents read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large to map: " + path);
+            }
+            ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.remaining() < 8 || in.getInt() != MAGIC) {
+                throw new IOException("Not a binary snapshot: " + path);
+            }
+            short version = in.getShort();
+            if (version < 1 || version > SCHEMA_VERSION) {
+                throw new IOException("Unsupported snapshot schema version " + version + " in " + path);
+            }
+            short tables = in.getShort();
+            int[] rows = new int[tables];
+            for (int i = 0; i < tables; i++) rows[i] = in.getInt();
+            if (tables < TABLE_COUNT) {
+                throw new IOException("Snapshot is missing tables: " + path);
+            }
+
+            String[] dictionary = new String[(int) readVarLong(in)];
+            byte[] scratch = new byte[64];
+            for (int i = 0; i < dictionary.length; i++) {
+                int length = (int) readVarLong(in);
+                if (scratch.length < length) scratch = new byte[length];
+                in.get(scratch, 0, length);
+                dictionary[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+            double[] prices = new double[(int) readVarLong(in)];
+            for (int i = 0; i < prices.length; i++) prices[i] = in.getDouble();
+
+            Contents c = new Contents();
+            int n = rows[0];
+            boolean[] interned = new boolean[dictionary.length];
+            String[] userId = identifiers(in, dictionary, interned, n), password = strings(in, dictionary, n),
+                    userName = strings(in, dictionary, n), passport = strings(in, dictionary, n),
+                    phone = strings(in, dictionary, n);
+            long[] mileage = longs(in, n);
+            for (int i = 0; i < n; i++) {
+                c.users.add(new User(userId[i], password[i], userName[i], passport[i], phone[i], (int) mileage[i]));
+            }
+
+            n = rows[1];
+            String[] aircraftId = identifiers(in, dictionary, interned, n), model = strings(in, dictionary, n);
+            long[] total = longs(in, n), economy = longs(in, n), business = longs(in, n);
+            for (int i = 0; i < n; i++) {
+                c.aircrafts.add(new Aircraft(aircraftId[i], model[i], (int) total[i], (int) economy[i], (int) business[i]));
+            }
+
+            n = rows[2];
+            String[] code = identifiers(in, dictionary, interned, n), name = strings(in, dictionary, n),
+                    city = strings(in, dictionary, n), country = strings(in, dictionary, n);
+            for (int i = 0; i < n; i++) {
+                c.airports.add(new Airport(code[i], name[i], city[i], country[i]));
+            }
+
+            n = rows[3];
+            String[] flightId = identifiers(in, dictionary, interned, n), routeId = identifiers(in, dictionary, interned, n),
+                    flightAircraft = identifiers(in, dictionary, interned, n);
+            long[] departure = longs(in, n), arrival = longs(in, n);
+            String[] flightStatus = strings(in, dictionary, n);
+            for (int i = 0; i < n; i++) {
+                c.flights.add(new Flight(flightId[i], routeId[i], flightAircraft[i],
+                        fromEpochMinute(departure[i]), fromEpochMinute(arrival[i]), FlightStatus.fromText(flightStatus[i])));
+            }
+
+            n = rows[4];
+            String[] reservationId = idColumn(in, dictionary, n);
+            String[] reservationUser = identifiers(in, dictionary, interned, n),
+                    reservationFlight = identifiers(in, dictionary, interned, n), seat = identifiers(in, dictionary, interned, n);
+            long[] priceCode = longs(in, n);
+            String[] reservationStatus = strings(in, dictionary, n);
+            for (int i = 0; i < n; i++) {
+                c.reservations.add(new Reservation(reservationId[i], reservationUser[i], reservationFlight[i],
+                        seat[i], prices[(int) priceCode[i]], ReservationStatus.fromText(reservationStatus[i])));
+            }
+
+            n = rows[5];
+            String[] route = identifiers(in, dictionary, interned, n), from = identifiers(in, dictionary, interned, n),
+                    to = identifiers(in, dictionary, interned, n);
+            long[] routePrice = longs(in, n), duration = longs(in, n);
+            for (int i = 0; i < n; i++) {
+                c.routes.add(new Route(route[i], from[i], to[i], prices[(int) routePrice[i]], (int) duration[i]));
+            }
+            return c;
+        } catch (RuntimeException e) {
+            // 잘린 파일 등 (BufferUnderflowException, 범위 밖 사전 코드)
+            throw new IOException("Corrupt binary snapshot " + path + ": " + e, e);
+        }
+    }
+
+    private static String[] idColumn(ByteBuffer in, String[] dictionary, int n) {
+        byte tag = in.get();
+        if (tag == COLUMN_DICTIONARY) {
+            return strings(in, dictionary, n);
+        }
+        String[] column = new String[n];
+        if (tag == COLUMN_COMPACT_ID) {
+            long id = 0;
+            for (int i = 0; i < n; i++) {
+                id += readVarLong(in);
+                column[i] = ReservationIdCodec.encode(id);
+            }
+            return column;
+        }
+        if (tag != COLUMN_UUID) {
+            throw new IllegalStateException("Unknown column encoding " + tag);
+        }
+        for (int i = 0; i < n; i++) {
+            column[i] = new UUID(in.getLong(), in.getLong()).toString();
+        }
+        return column;
+    }
+
+    /**
+     * UUID.toString() 형식(소문자 8-4-4-4-12)인지 확인합니다. 되돌렸을 때 같은 문자열이어야 하므로 대문자는 제외합니다.
+     */
+    static boolean isCanonicalUuid(String value) {
+        if (value == null || value.length() != 36) return false;
+        for (int i = 0; i < 36; i++) {
+            char ch = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (ch != '-') return false;
+            } else if (!((ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] strings(ByteBuffer in, String[] dictionary, int n) {
+        String[] column = new String[n];
+        for (int i = 0; i < n; i++) {
+            long code = readVarLong(in);
+            column[i] = code < 0 ? null : dictionary[(int) code];
+        }
+        return column;
+    }
+
+    /**
+     * 식별자 컬럼: 사전 값을 처음 쓸 때 DataManager의 식별자 사전 인스턴스로 바꿔 둡니다. (값마다 한 번만 조회)
+     */
+    private static String[] identifiers(ByteBuffer in, String[] dictionary, boolean[] interned, int n) {
+        String[] column = new String[n];
+        for (int i = 0; i < n; i++) {
+            int code = (int) readVarLong(in);
+            if (code < 0) continue;
+            if (!interned[code]) {
+                dictionary[code] = DataManager.identifiers().intern(dictionary[code]);
+                interned[code] = true;
+            }
+            column[i] = dictionary[code];
+        }
+        return column;
+    }
+
+    private static long[] longs(ByteBuffer in, int n) {
+        long[] column = new long[n];
+        for (int i = 0; i < n; i++) column[i] = readVarLong(in);
+        return column;
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long raw = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            raw |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (raw >>> 1) ^ -(raw & 1); // zigzag 복원
+    }
+
+    /**
+     * 문자열 → 사전 코드 (null은 -1)
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int code(String value) {
+            if (value == null) return -1;
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+    }
+
+    /**
+     * varint를 이어 붙이는 가변 크기 바이트 버퍼
+     */
+    private static final class ColumnWriter {
+        private byte[] buffer = new byte[1 << 12];
+        private int size;
+
+        void string(Dictionary dictionary, String value) {
+            varLong(dictionary.code(value));
+        }
+
+        void varLong(long value) {
+            long raw = (value << 1) ^ (value >> 63); // zigzag: 작은 음수도 짧게
+            ensure(10);
+            while ((raw & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((raw & 0x7F) | 0x80);
+                raw >>>= 7;
+            }
+            buffer[size++] = (byte) raw;
+        }
+
+        void tag(byte tag) {
+            ensure(1);
+            buffer[size++] = tag;
+        }
+
+        void fixedLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void bytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(buffer, 0, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                long grown = Math.max((long) buffer.length * 2, (long) size + extra);
+                if (grown > Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("Snapshot section exceeds 2GB");
+                }
+                buffer = java.util.Arrays.copyOf(buffer, (int) grown);
+            }
+        }
+    }
+}
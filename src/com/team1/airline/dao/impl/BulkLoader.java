@@ -0,0 +1,171 @@
+package com.team1.airline.dao.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * [병렬 대용량 로더]
+ * - 데이터 파일을 메모리 매핑한 뒤 줄 경계에 맞춘 청크로 나누고, 청크들을 ForkJoinPool에서 병렬로 해석합니다.
+ * - 각 줄은 LineTokenizer로 읽으므로 정규식/BufferedReader를 거치지 않습니다.
+ * - 결과는 파일에 적힌 순서 그대로 반환됩니다.
+ */
+final class BulkLoader {
+
+    /**
+     * 한 줄을 엔티티로 변환합니다. 빈 줄이나 컬럼 수가 맞지 않는 줄은 null을 반환하면 건너뜁니다.
+     */
+    interface LineParser<T> {
+        T parse(LineTokenizer tokens);
+    }
+
+    private static final long MIN_CHUNK_BYTES = 1L << 20;              // 1MB
+    private static final long MAX_CHUNK_BYTES = Integer.MAX_VALUE - 1;  // 매핑 한 번의 최대 크기
+
+    private BulkLoader() {
+    }
+
+    /**
+     * @return 파일 순서대로 변환된 엔티티 목록
+     * @throws java.nio.file.NoSuchFileException 파일이 없을 때
+     */
+    static <T> List<T> load(Path path, LineParser<T> parser, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return new ArrayList<>();
+            }
+
+            long[] bounds = chunkBounds(channel, size, pool.getParallelism());
+            List<ChunkTask<T>> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, bounds[i], bounds[i + 1] - bounds[i]);
+                tasks.add(new ChunkTask<>(region, parser));
+            }
+
+            if (ForkJoinTask.inForkJoinPool()) {
+                ForkJoinTask.invokeAll(tasks);
+            } else {
+                pool.invoke(new RecursiveTask<Void>() {
+                    @Override
+                    protected Void compute() {
+                        ForkJoinTask.invokeAll(tasks);
+                        return null;
+                    }
+                });
+            }
+
+            int total = 0;
+            int skipped = 0;
+            for (ChunkTask<T> task : tasks) {
+                total += task.join().size();
+                skipped += task.skipped;
+            }
+            List<T> result = new ArrayList<>(total);
+            for (ChunkTask<T> task : tasks) {
+                result.addAll(task.join());
+            }
+            if (skipped > 0) {
+                System.err.println("DataManager: Skipped " + skipped + " malformed lines in " + path);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 파일을 대략 같은 크기로 나누되, 각 경계를 다음 줄바꿈 바로 뒤로 옮겨 줄이 잘리지 않게 합니다.
+     * @return 청크 경계 오프셋 배열 (처음 0, 마지막 size)
+     */
+    private static long[] chunkBounds(FileChannel channel, long size, int parallelism) throws IOException {
+        long target = Math.max(MIN_CHUNK_BYTES, size / (Math.max(1, parallelism) * 4L));
+        target = Math.min(target, MAX_CHUNK_BYTES / 2);
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long position = 0;
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        while (size - position > target) {
+            long next = afterNextNewline(channel, position + target, size, probe);
+            if (next - position > MAX_CHUNK_BYTES) {
+                throw new IOException("Line too long near offset " + position);
+            }
+            bounds.add(next);
+            position = next;
+        }
+        if (position < size) {
+            bounds.add(size);
+        }
+
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    private static long afterNextNewline(FileChannel channel, long from, long size, ByteBuffer probe) throws IOException {
+        long position = from;
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static final class ChunkTask<T> extends RecursiveTask<List<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final MappedByteBuffer region;
+        private final LineParser<T> parser;
+        private int skipped;
+
+        ChunkTask(MappedByteBuffer region, LineParser<T> parser) {
+            this.region = region;
+            this.parser = parser;
+        }
+
+        @Override
+        protected List<T> compute() {
+            List<T> rows = new ArrayList<>();
+            LineTokenizer tokens = new LineTokenizer();
+            int limit = region.limit();
+            int lineStart = 0;
+            for (int i = 0; i <= limit; i++) {
+                if (i < limit && region.get(i) != '\n') continue;
+                if (i > lineStart) {
+                    tokens.reset(region, lineStart, i);
+                    if (tokens.hasNext()) {
+                        try {
+                            T row = parser.parse(tokens);
+                            if (row != null) {
+                                rows.add(row);
+                            } else {
+                                skipped++;
+                            }
+                        } catch (RuntimeException e) {
+                            // 숫자/날짜 형식 오류 또는 컬럼 부족
+                            skipped++;
+                        }
+                    }
+                }
+                lineStart = i + 1;
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.team1.airline.dao.impl;
+
+import java.util.List;
+
+/**
+ * EntityTable 변경 기록기
+ * - 메모리 반영 전에 호출됩니다(write-ahead). 예외를 던지면 변경은 적용되지 않습니다.
+ * - 파일 로드(loadAll)나 저널 재생 중에는 호출되지 않습니다.
+ */
+interface ChangeLog<T> {
+
+    void added(T row);
+
+    /**
+     * 여러 행 추가를 한 번에 기록합니다. (기록기가 지원하면 한 번의 쓰기/fsync로 처리)
+     */
+    default void addedAll(List<T> rows) {
+        for (T row : rows) {
+            added(row);
+        }
+    }
+
+    void updated(T row);
+
+    void removed(String primaryKey);
+}
@@ -0,0 +1,673 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationIdCodec;
+import com.team1.airline.entity.ReservationStatus;
+import com.team1.airline.entity.SeatCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * 열(column) 단위로 저장하는 예약 DAO (struct-of-arrays)
+ * - 예약 한 건을 객체 대신 기본형 배열들의 같은 위치(행 번호)에 나눠 저장합니다.
+ *   예약 번호: 예약 코드(ReservationIdCodec)의 64비트 값 long 하나, userId / flightId: 식별자 사전 코드(int),
+ *   좌석: SeatCode 위치 번호(행 × 32 + 열)를 담은 short, 가격: 가격 사전 코드(char, 1/100 단위 값), 상태: byte
+ * - 예약 번호 조회: 예약 코드가 앞 행들보다 큰 순서로 들어오면(SnowflakeIdGenerator) 예약 번호 열을 이진 탐색하므로 해시 칸이 없습니다.
+ *   순서를 벗어난 예약 코드와 UUID 예약 번호는 별도 구조(side)에 두고 해시로 찾으며, 그 밖의 형식은 별도 맵에 둡니다.
+ *   이런 행의 예약 번호 열에는 이진 탐색이 깨지지 않도록 앞 행까지의 최댓값을 복사해 둡니다.
+ * - Reservation 객체는 조회할 때 만들어 돌려주는 사본입니다. 바꾼 내용은 updateReservation으로 반영해야 합니다.
+ * - 항공편/회원별 조회는 코드마다 행 번호를 앞 번호와의 차이(varint)로 이어 적은 목록(run)을 따라가고,
+ *   상태별 조회와 집계(revenueByFlight)는 열 배열을 처음부터 순서대로 훑습니다.
+ * - 삭제된 행은 표시만 하고 자리는 재사용하지 않습니다. 회원/항공편이 바뀌는 수정은 기존 행을 지우고 새 행으로 추가합니다.
+ * - 가격은 소수 둘째 자리까지 저장합니다. (그 아래는 반올림) 서로 다른 가격이 65,535개를 넘으면 이후 새 가격은 행별 맵에 둡니다.
+ * - 파일 저장/저널은 DataManager의 예약 테이블에만 연결되어 있으므로, 이 DAO는 메모리 저장소로 동작합니다.
+ * - 메모리(ColumnarStoreBenchmark, 200만 건 / 회원 10만 / 항공편 1만, 공용 식별자 사전 제외):
+ *   예약 코드 33.4바이트, UUID 예약 번호 62.7바이트 (객체 저장소 543.5바이트).
+ *   목표(예약당 24바이트 미만)는 달성하지 못했습니다. 예약 코드 기준으로 열이 21바이트, 회원/항공편 목록이 약 7바이트
+ *   (차이값 약 3바이트 + 코드별 배열 머리와 여유분), 열 배열 증가 여유분이 약 3바이트(200만 건에 227만 칸)입니다.
+ */
+public class ColumnarReservationDAOImpl implements ReservationDAO {
+
+    private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+    private static final byte STATUS_MASK = 0x0F;
+    private static final byte NO_STATUS = 0x0F;
+    private static final byte TEXT_ID = 0x10; // 예약 번호가 예약 코드/UUID 형식이 아님 (textIds에 보관)
+    private static final byte DELETED = 0x20;
+    private static final byte SIDE_CODE = 0x40; // 순서를 벗어난 예약 코드 (side에 보관)
+    private static final byte SIDE_UUID = (byte) 0x80; // UUID 예약 번호 (side에 보관)
+    private static final byte ID_KIND = TEXT_ID | SIDE_CODE | SIDE_UUID; // 예약 번호 열에 값이 없는 행
+    private static final short NO_SEAT = Short.MIN_VALUE;
+    private static final char OVERFLOW_PRICE = Character.MAX_VALUE;
+    private static final int NONE = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SymbolTable identifiers = DataManager.identifiers();
+
+    private int rows; // 사용한 행 수 (삭제된 행 포함)
+    private int live;
+    private long[] id;
+    private int[] user;
+    private int[] flight;
+    private short[] seat;
+    private char[] price;
+    private byte[] status;
+    private long maxOrderedId = Long.MIN_VALUE; // 예약 번호 열의 마지막(최대) 값
+
+    // 식별자 코드 → 그 코드를 가진 행 목록 (삽입 순서)
+    private final Runs byFlight = new Runs();
+    private final Runs byUser = new Runs();
+
+    // side: 순서를 벗어난 예약 코드 / UUID → 행 (side 번호 순 = 행 번호 순)
+    private int sideCount;
+    private int[] sideRow = new int[16];
+    private long[] sideHigh = new long[16]; // UUID 상위 64비트 (예약 코드는 0)
+    private long[] sideLow = new long[16];  // UUID 하위 64비트 또는 예약 코드 값
+    // side 번호 + 1 (열린 주소법, 선형 탐사, 0은 빈 칸)
+    private int[] sideSlots = new int[16];
+    private int sideLive;
+    private final Map<String, Integer> textIds = new HashMap<>();
+    private final Map<Integer, String> textIdOfRow = new HashMap<>();
+
+    // 가격 사전 (1/100 단위 값 → char 코드), 사전이 가득 찬 뒤의 새 가격은 행 → 값
+    private long[] priceValues = new long[16];
+    private final Map<Long, Integer> priceCodes = new HashMap<>();
+    private final Map<Integer, Long> overflowPrices = new HashMap<>();
+
+    // "12A" 형식이 아닌 좌석 번호 (음수 코드로 저장)
+    private final List<String> otherSeats = new ArrayList<>();
+    private final Map<String, Integer> otherSeatCodes = new HashMap<>();
+
+    private final int[] statusCounts = new int[STATUSES.length];
+
+    public ColumnarReservationDAOImpl() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedRows 미리 잡아 둘 행 수 (넘으면 자동으로 늘어남)
+     */
+    public ColumnarReservationDAOImpl(int expectedRows) {
+        int capacity = Math.max(16, expectedRows);
+        id = new long[capacity];
+        user = new int[capacity];
+        flight = new int[capacity];
+        seat = new short[capacity];
+        price = new char[capacity];
+        status = new byte[capacity];
+    }
+
+    @Override
+    public void addReservation(Reservation reservation) {
+        addReservations(List.of(reservation));
+    }
+
+    @Override
+    public void addReservations(List<Reservation> reservations) {
+        lock.writeLock().lock();
+        try {
+            // 먼저 전부 인코딩해 보고 (실패하면 하나도 저장하지 않음) 그다음 기록
+            short[] seats = new short[reservations.size()];
+            for (int i = 0; i < seats.length; i++) {
+                Reservation reservation = reservations.get(i);
+                if (reservation.getReservationId() == null) {
+                    throw new IllegalArgumentException("Reservation ID is required");
+                }
+                seats[i] = encodeSeat(reservation.getSeatNumber());
+            }
+            for (int i = 0; i < seats.length; i++) {
+                write(reservations.get(i), seats[i], true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Reservation findByReservationId(String reservationId) {
+        lock.readLock().lock();
+        try {
+            int row = rowOf(reservationId);
+            return row == NONE ? null : materialize(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Reservation> findReservationsByFlightId(String flightId) {
+        lock.readLock().lock();
+        try {
+            return collect(byFlight, identifiers.find(flightId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Reservation> findReservationsByUserId(String userId) {
+        lock.readLock().lock();
+        try {
+            return collect(byUser, identifiers.find(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Reservation> findReservationsByStatus(ReservationStatus reservationStatus) {
+        List<Reservation> found = new ArrayList<>();
+        if (reservationStatus == null) {
+            return found;
+        }
+        byte wanted = (byte) reservationStatus.ordinal();
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < rows; row++) {
+                if ((status[row] & (STATUS_MASK | DELETED)) == wanted) {
+                    found.add(materialize(row));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<ReservationStatus, Integer> countReservationsByStatus() {
+        lock.readLock().lock();
+        try {
+            Map<ReservationStatus, Integer> counts = new EnumMap<>(ReservationStatus.class);
+            for (ReservationStatus s : STATUSES) {
+                counts.put(s, statusCounts[s.ordinal()]);
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Reservation> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Reservation> all = new ArrayList<>(live);
+            for (int row = 0; row < rows; row++) {
+                if ((status[row] & DELETED) == 0) {
+                    all.add(materialize(row));
+                }
+            }
+            return all;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateReservation(Reservation reservation) {
+        if (reservation.getReservationId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            short seatCode = encodeSeat(reservation.getSeatNumber());
+            write(reservation, seatCode, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteReservation(String reservationId) {
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(reservationId);
+            if (row != NONE) {
+                delete(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 항공편별 매출 합계를 열 배열 한 번 훑기로 계산합니다. (Reservation 객체를 만들지 않음)
+     * @param statuses 포함할 예약 상태 (예: 확정 + 결제 완료)
+     * @return flightId → 가격 합계 (항공편 코드 순)
+     */
+    public Map<String, Double> revenueByFlight(Set<ReservationStatus> statuses) {
+        boolean[] included = new boolean[STATUS_MASK + 1];
+        for (ReservationStatus s : statuses) {
+            included[s.ordinal()] = true;
+        }
+        lock.readLock().lock();
+        try {
+            long[] totals = new long[byFlight.codes()];
+            boolean[] seen = new boolean[totals.length];
+            for (int row = 0; row < rows; row++) {
+                byte value = status[row];
+                int code = flight[row];
+                if ((value & DELETED) == 0 && included[value & STATUS_MASK] && code >= 0) {
+                    totals[code] += priceMinor(row);
+                    seen[code] = true;
+                }
+            }
+            Map<String, Double> revenue = new LinkedHashMap<>();
+            for (int code = 0; code < totals.length; code++) {
+                if (seen[code]) {
+                    revenue.put(identifiers.symbol(code), totals[code] / 100.0);
+                }
+            }
+            return revenue;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 저장된 예약 수 (삭제 제외)
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- 쓰기 (쓰기 락 안에서 호출) ---
+
+    private void write(Reservation reservation, short seatCode, boolean insert) {
+        int row = rowOf(reservation.getReservationId());
+        if (row == NONE && !insert) {
+            return; // 없는 예약의 수정은 무시 (ReservationDAOImpl과 같음)
+        }
+        int userCode = codeOf(reservation.getUserId());
+        int flightCode = codeOf(reservation.getFlightId());
+        if (row != NONE && user[row] == userCode && flight[row] == flightCode) {
+            // 제자리 수정
+            countStatus(status[row], -1);
+            status[row] = (byte) ((status[row] & ID_KIND) | statusCode(reservation.getStatus()));
+            countStatus(status[row], 1);
+            seat[row] = seatCode;
+            setPrice(row, reservation.getFinalPrice());
+            return;
+        }
+        if (row != NONE) {
+            delete(row);
+        }
+        append(reservation, userCode, flightCode, seatCode);
+    }
+
+    private void append(Reservation reservation, int userCode, int flightCode, short seatCode) {
+        if (rows == status.length) {
+            grow();
+        }
+        int row = rows++;
+        String reservationId = reservation.getReservationId();
+        byte kind;
+        if (ReservationIdCodec.isCompact(reservationId) && ReservationIdCodec.decode(reservationId) > maxOrderedId) {
+            kind = 0;
+            maxOrderedId = ReservationIdCodec.decode(reservationId);
+        } else if (ReservationIdCodec.isCompact(reservationId)) {
+            kind = SIDE_CODE;
+            addSide(row, 0, ReservationIdCodec.decode(reservationId));
+        } else if (BinarySnapshot.isCanonicalUuid(reservationId)) {
+            kind = SIDE_UUID;
+            addSide(row, hexBits(reservationId, 0, 18), hexBits(reservationId, 19, 36));
+        } else {
+            kind = TEXT_ID;
+            textIds.put(reservationId, row);
+            textIdOfRow.put(row, reservationId);
+        }
+        id[row] = maxOrderedId; // side/맵에 둔 행은 앞 행까지의 최댓값 (열이 계속 정렬되어 있도록)
+        user[row] = userCode;
+        flight[row] = flightCode;
+        seat[row] = seatCode;
+        setPrice(row, reservation.getFinalPrice());
+        status[row] = (byte) (kind | statusCode(reservation.getStatus()));
+        countStatus(status[row], 1);
+        live++;
+
+        if (flightCode >= 0) {
+            byFlight.add(flightCode, row);
+        }
+        if (userCode >= 0) {
+            byUser.add(userCode, row);
+        }
+    }
+
+    private void delete(int row) {
+        countStatus(status[row], -1);
+        if ((status[row] & TEXT_ID) != 0) {
+            textIds.remove(textIdOfRow.remove(row));
+        } else if ((status[row] & (SIDE_CODE | SIDE_UUID)) != 0) {
+            removeSide(sideOf(row));
+        }
+        overflowPrices.remove(row);
+        status[row] |= DELETED;
+        live--;
+    }
+
+    private void countStatus(byte value, int delta) {
+        int code = value & STATUS_MASK;
+        if ((value & DELETED) == 0 && code != NO_STATUS) {
+            statusCounts[code] += delta;
+        }
+    }
+
+    private void grow() {
+        int capacity = status.length + (status.length >> 1);
+        id = Arrays.copyOf(id, capacity);
+        user = Arrays.copyOf(user, capacity);
+        flight = Arrays.copyOf(flight, capacity);
+        seat = Arrays.copyOf(seat, capacity);
+        price = Arrays.copyOf(price, capacity);
+        status = Arrays.copyOf(status, capacity);
+    }
+
+    private int codeOf(String identifier) {
+        return identifier == null ? NONE : identifiers.code(identifier);
+    }
+
+    private static byte statusCode(ReservationStatus reservationStatus) {
+        return reservationStatus == null ? NO_STATUS : (byte) reservationStatus.ordinal();
+    }
+
+    // --- 가격 사전 ---
+
+    private void setPrice(int row, double finalPrice) {
+        long minor = Math.round(finalPrice * 100);
+        Integer code = priceCodes.get(minor);
+        if (code == null && priceCodes.size() < OVERFLOW_PRICE) {
+            code = priceCodes.size();
+            if (code == priceValues.length) {
+                priceValues = Arrays.copyOf(priceValues, code * 2);
+            }
+            priceValues[code] = minor;
+            priceCodes.put(minor, code);
+        }
+        if (code == null) {
+            price[row] = OVERFLOW_PRICE;
+            overflowPrices.put(row, minor);
+        } else {
+            price[row] = (char) (int) code;
+            overflowPrices.remove(row);
+        }
+    }
+
+    private long priceMinor(int row) {
+        char code = price[row];
+        return code == OVERFLOW_PRICE ? overflowPrices.get(row) : priceValues[code];
+    }
+
+    // --- 예약 번호 → 행 ---
+
+    private int rowOf(String reservationId) {
+        if (reservationId == null) {
+            return NONE;
+        }
+        boolean compact = ReservationIdCodec.isCompact(reservationId);
+        if (!compact && !BinarySnapshot.isCanonicalUuid(reservationId)) {
+            Integer row = textIds.get(reservationId);
+            return row == null ? NONE : row;
+        }
+        long high = compact ? 0 : hexBits(reservationId, 0, 18);
+        long low = compact ? ReservationIdCodec.decode(reservationId) : hexBits(reservationId, 19, 36);
+        if (compact) {
+            // 열에서 처음으로 low 이상인 행: 그 값을 가진 순서대로 들어온 행이 있다면 바로 이 행
+            int row = lowerBound(low);
+            if (row < rows && id[row] == low && (status[row] & (ID_KIND | DELETED)) == 0) {
+                return row;
+            }
+        }
+        byte kind = compact ? SIDE_CODE : SIDE_UUID; // 같은 비트의 UUID와 예약 코드를 구분
+        int mask = sideSlots.length - 1;
+        for (int slot = slotOf(high, low, mask); sideSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int side = sideSlots[slot] - 1;
+            int row = sideRow[side];
+            if (sideHigh[side] == high && sideLow[side] == low && (status[row] & kind) != 0) {
+                return row;
+            }
+        }
+        return NONE;
+    }
+
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = rows;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (id[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void addSide(int row, long high, long low) {
+        if (sideCount == sideRow.length) {
+            int capacity = sideCount * 2;
+            sideRow = Arrays.copyOf(sideRow, capacity);
+            sideHigh = Arrays.copyOf(sideHigh, capacity);
+            sideLow = Arrays.copyOf(sideLow, capacity);
+        }
+        int side = sideCount++;
+        sideRow[side] = row;
+        sideHigh[side] = high;
+        sideLow[side] = low;
+        sideLive++;
+        if (sideLive * 2 > sideSlots.length) {
+            rehash(sideSlots.length * 2); // 새 항목도 함께 배치됨
+        } else {
+            place(side);
+        }
+    }
+
+    // side 번호는 행 번호 순으로 붙으므로 이진 탐색
+    private int sideOf(int row) {
+        return Arrays.binarySearch(sideRow, 0, sideCount, row);
+    }
+
+    private void place(int side) {
+        int mask = sideSlots.length - 1;
+        int slot = slotOf(sideHigh[side], sideLow[side], mask);
+        while (sideSlots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        sideSlots[slot] = side + 1;
+    }
+
+    private void rehash(int capacity) {
+        sideSlots = new int[capacity];
+        for (int side = 0; side < sideCount; side++) {
+            if ((status[sideRow[side]] & DELETED) == 0) {
+                place(side);
+            }
+        }
+    }
+
+    // 빈 칸을 만든 뒤, 뒤따르는 항목 중 원래 자리가 빈 칸 이전인 항목을 당겨 채움 (삭제 표시 없이 탐사 유지)
+    private void removeSide(int side) {
+        int mask = sideSlots.length - 1;
+        int hole = slotOf(sideHigh[side], sideLow[side], mask);
+        while (sideSlots[hole] != side + 1) {
+            hole = (hole + 1) & mask;
+        }
+        sideSlots[hole] = 0;
+        for (int i = (hole + 1) & mask; sideSlots[i] != 0; i = (i + 1) & mask) {
+            int other = sideSlots[i] - 1;
+            int home = slotOf(sideHigh[other], sideLow[other], mask);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                sideSlots[hole] = sideSlots[i];
+                sideSlots[i] = 0;
+                hole = i;
+            }
+        }
+        sideLive--;
+    }
+
+    private static int slotOf(long high, long low, int mask) {
+        long h = (high ^ Long.rotateLeft(low, 29)) * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & mask;
+    }
+
+    // UUID 문자열의 [start, end) 구간 16진수 16자리 ('-' 제외)
+    private static long hexBits(String uuid, int start, int end) {
+        long bits = 0;
+        for (int i = start; i < end; i++) {
+            char ch = uuid.charAt(i);
+            if (ch != '-') {
+                bits = (bits << 4) | Character.digit(ch, 16);
+            }
+        }
+        return bits;
+    }
+
+    // --- 읽기 (읽기 락 안에서 호출) ---
+
+    private List<Reservation> collect(Runs runs, int code) {
+        List<Reservation> found = new ArrayList<>();
+        runs.forEach(code, row -> {
+            if ((status[row] & DELETED) == 0) {
+                found.add(materialize(row));
+            }
+        });
+        return found;
+    }
+
+    private Reservation materialize(int row) {
+        byte value = status[row];
+        String reservationId;
+        if ((value & TEXT_ID) != 0) {
+            reservationId = textIdOfRow.get(row);
+        } else if ((value & SIDE_UUID) != 0) {
+            int side = sideOf(row);
+            reservationId = new UUID(sideHigh[side], sideLow[side]).toString();
+        } else {
+            reservationId = ReservationIdCodec.encode((value & SIDE_CODE) != 0 ? sideLow[sideOf(row)] : id[row]);
+        }
+        int statusValue = value & STATUS_MASK;
+        return new Reservation(reservationId,
+                user[row] < 0 ? null : identifiers.symbol(user[row]),
+                flight[row] < 0 ? null : identifiers.symbol(flight[row]),
+                decodeSeat(seat[row]),
+                priceMinor(row) / 100.0,
+                statusValue == NO_STATUS ? null : STATUSES[statusValue]);
+    }
+
+    // --- 좌석 번호 ("12A" → SeatCode 위치 번호, 행 번호 × 32 + 열) ---
+
+    private short encodeSeat(String seatNumber) {
+        if (seatNumber == null) {
+            return NO_SEAT;
+        }
+        int position = SeatCode.positionOf(seatNumber);
+        // SeatCode는 공백/소문자/앞자리 0을 받아들이므로, 원래 문자열로 되돌릴 수 있는 표준 형식만 위치 번호로 저장
+        if (position >= 0 && position <= Short.MAX_VALUE && isCanonicalSeat(seatNumber)) {
+            return (short) position;
+        }
+        Integer code = otherSeatCodes.get(seatNumber);
+        if (code == null) {
+            if (otherSeats.size() >= Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many non-standard seat numbers: " + seatNumber);
+            }
+            code = otherSeats.size();
+            otherSeats.add(seatNumber);
+            otherSeatCodes.put(seatNumber, code);
+        }
+        return (short) -(code + 1);
+    }
+
+    private String decodeSeat(short code) {
+        if (code == NO_SEAT) {
+            return null;
+        }
+        if (code < 0) {
+            return otherSeats.get(-code - 1);
+        }
+        return SeatCode.fromPosition(code).toString();
+    }
+
+    // positionOf가 성공한 문자열이 첫 글자 1~9, 끝 글자 대문자이면 SeatCode.toString과 같음
+    private static boolean isCanonicalSeat(String seatNumber) {
+        char first = seatNumber.charAt(0);
+        char last = seatNumber.charAt(seatNumber.length() - 1);
+        return first >= '1' && first <= '9' && last >= 'A' && last <= 'Z';
+    }
+
+    /**
+     * 코드별 행 번호 목록
+     * 행은 늘어나는 번호로만 붙으므로 앞 번호와의 차이를 varint(7비트씩)로 이어 적습니다. (회원/항공편당 행이 많으면 1~2바이트)
+     */
+    private static final class Runs {
+        private byte[][] runs = new byte[0][];
+        private int[] sizes = new int[0];
+        private int[] lastRows = new int[0];
+
+        int codes() {
+            return runs.length;
+        }
+
+        void add(int code, int row) {
+            if (code >= runs.length) {
+                int capacity = Math.max(code + 1, Math.max(256, runs.length * 2));
+                int length = runs.length;
+                runs = Arrays.copyOf(runs, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+                lastRows = Arrays.copyOf(lastRows, capacity);
+                Arrays.fill(lastRows, length, capacity, NONE);
+            }
+            byte[] run = runs[code];
+            int size = sizes[code];
+            if (run == null) {
+                run = runs[code] = new byte[8];
+            } else if (size + 5 > run.length) {
+                run = runs[code] = Arrays.copyOf(run, run.length + (run.length >> 1) + 5);
+            }
+            int delta = row - lastRows[code]; // 첫 행은 row + 1
+            while ((delta & ~0x7F) != 0) {
+                run[size++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            run[size++] = (byte) delta;
+            sizes[code] = size;
+            lastRows[code] = row;
+        }
+
+        void forEach(int code, IntConsumer action) {
+            if (code < 0 || code >= runs.length || runs[code] == null) {
+                return;
+            }
+            byte[] run = runs[code];
+            int size = sizes[code];
+            int row = NONE;
+            for (int i = 0; i < size; ) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = run[i++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                row += delta;
+                action.accept(row);
+            }
+        }
+    }
+}
@@ -2,45 +2,106 @@ package com.team1.airline.dao.impl;
 
 import com.team1.airline.entity.*;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 public class DataManager {
     private static DataManager instance;
 
-    private List<User> users;
-    private List<Aircraft> aircrafts;
-    private List<Airport> airports;
-    private List<Flight> flights;
-    private List<Reservation> reservations;
-    private List<Route> routes;
+    private final EntityTable<User> users;
+    private final EntityTable<Aircraft> aircrafts;
+    private final EntityTable<Airport> airports;
+    private final EntityTable<Flight> flights;
+    private final EntityTable<Reservation> reservations;
+    private final EntityTable<Route> routes;
 
-    private static final String DATA_DIR = "data/";
+    // 예약 보조 인덱스 (flightId / userId / 상태 → 예약 목록)
+    private final SecondaryIndex<Reservation> reservationsByFlight;
+    private final SecondaryIndex<Reservation> reservationsByUser;
+    private final StatusIndex<Reservation, ReservationStatus> reservationsByStatus;
+
+    // 항공편 보조 인덱스 (routeId → 출발 시각 순 항공편, 상태 → 항공편)
+    private final SortedIndex<Flight, LocalDateTime> flightsByRoute;
+    private final StatusIndex<Flight, FlightStatus> flightsByStatus;
+    private final FlightChangeNotifier flightChanges;
+
+    // 노선 보조 인덱스 (대소문자 정규화된 공항 코드 기준)
+    private final SecondaryIndex<Route> routesByAirportPair;
+    private final SecondaryIndex<Route> routesByDeparture;
+    private final SecondaryIndex<Route> routesByArrival;
+
+    // 식별자 사전 (여러 행이 같은 userId / flightId / routeId / 좌석 번호 인스턴스를 공유하도록)
+    private static final SymbolTable IDENTIFIERS = new SymbolTable();
+
+    // 예약 변경 저널 (스냅샷 파일 이후의 변경분)
+    private Journal<Reservation> reservationJournal;
+
+    // 테이블 변경은 읽기 락(공유), 스냅샷 캡처는 쓰기 락(배타)을 잡아 모든 테이블의 같은 시점을 얻습니다.
+    private final ReentrantReadWriteLock snapshotBarrier = new ReentrantReadWriteLock();
+    private final Object snapshotLock = new Object();
+
+    // 데이터 디렉터리 (airline.data.dir, 기본 data)
+    private static final String DATA_DIR = Paths.get(System.getProperty("airline.data.dir", "data")) + "/";
     private static final String USER_FILE = DATA_DIR + "User.txt";
     private static final String AIRCRAFT_FILE = DATA_DIR + "Aircraft.txt";
     private static final String AIRPORT_FILE = DATA_DIR + "Airport.txt";
     private static final String FLIGHT_FILE = DATA_DIR + "Flight.txt";
     private static final String RESERVATION_FILE = DATA_DIR + "Reservation.txt";
     private static final String ROUTE_FILE = DATA_DIR + "Route.txt";
+    private static final String RESERVATION_JOURNAL_FILE = DATA_DIR + "Reservation.journal";
+    private static final String RESERVATION_JOURNAL_ARCHIVE_FILE = RESERVATION_JOURNAL_FILE + ".1";
+    private static final String RESERVATION_JOURNAL_SEGMENT_FILE = RESERVATION_JOURNAL_FILE + ".2";
+    private static final String BINARY_SNAPSHOT_FILE = DATA_DIR + "snapshot.bin";
+
+    // 스냅샷 저장 형식 (text: data/*.txt, binary: data/snapshot.bin)
+    private static final boolean BINARY_FORMAT = "binary".equalsIgnoreCase(System.getProperty("airline.data.format", "text"));
+
+    // 저널 fsync 정책 (always | group | none) 및 그룹 커밋 대기 시간
+    private static final String JOURNAL_FSYNC = System.getProperty("airline.journal.fsync", "group");
+    private static final long JOURNAL_GROUP_COMMIT_MILLIS = Long.getLong("airline.journal.groupCommitMillis", 0L);
 
     public static final DateTimeFormatter FLIGHT_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
 
     private DataManager() {
-        users = new ArrayList<>();
-        aircrafts = new ArrayList<>();
-        airports = new ArrayList<>();
-        flights = new ArrayList<>();
-        reservations = new ArrayList<>();
-        routes = new ArrayList<>();
+        users = new EntityTable<>(User::getUserId, snapshotBarrier.readLock());
+        aircrafts = new EntityTable<>(Aircraft::getAircraftId, snapshotBarrier.readLock());
+        airports = new EntityTable<>(Airport::getAirportCode, snapshotBarrier.readLock());
+        flights = new EntityTable<>(Flight::getFlightId, snapshotBarrier.readLock());
+        reservations = new EntityTable<>(Reservation::getReservationId, snapshotBarrier.readLock());
+        routes = new EntityTable<>(Route::getRouteId, snapshotBarrier.readLock());
+
+        reservationsByFlight = reservations.addIndex(new SecondaryIndex<>(Reservation::getFlightId));
+        reservationsByUser = reservations.addIndex(new SecondaryIndex<>(Reservation::getUserId));
+        reservationsByStatus = reservations.addIndex(new StatusIndex<>(ReservationStatus.class, Reservation::getStatus));
+        flightsByRoute = flights.addIndex(new SortedIndex<>(Flight::getRouteId, Flight::getDepartureTime));
+        flightsByStatus = flights.addIndex(new StatusIndex<>(FlightStatus.class, Flight::getStatus));
+        flightChanges = flights.addIndex(new FlightChangeNotifier()); // 다른 인덱스가 갱신된 뒤에 알리도록 마지막에 등록
+        routesByAirportPair = routes.addIndex(new SecondaryIndex<>(
+                r -> airportPairKey(r.getDepartureAirportCode(), r.getArrivalAirportCode())));
+        routesByDeparture = routes.addIndex(new SecondaryIndex<>(r -> normalizeAirportCode(r.getDepartureAirportCode())));
+        routesByArrival = routes.addIndex(new SecondaryIndex<>(r -> normalizeAirportCode(r.getArrivalAirportCode())));
     }
 
     public static synchronized DataManager getInstance() {
@@ -50,176 +111,425 @@ public class DataManager {
         return instance;
     }
 
+    public static SymbolTable identifiers() {
+        return IDENTIFIERS;
+    }
+
+    /**
+     * 예약이 참조하는 식별자(userId, flightId, 좌석 번호)를 사전의 인스턴스로 바꿉니다.
+     * (예약 번호는 행마다 달라 사전에 넣지 않음)
+     */
+    static Reservation internIds(Reservation reservation) {
+        reservation.setUserId(IDENTIFIERS.intern(reservation.getUserId()));
+        reservation.setFlightId(IDENTIFIERS.intern(reservation.getFlightId()));
+        reservation.setSeatNumber(IDENTIFIERS.intern(reservation.getSeatNumber()));
+        return reservation;
+    }
+
+    /**
+     * 항공편의 식별자(flightId, routeId, aircraftId)를 사전의 인스턴스로 바꿉니다.
+     */
+    static Flight internIds(Flight flight) {
+        flight.setFlightId(IDENTIFIERS.intern(flight.getFlightId()));
+        flight.setRouteId(IDENTIFIERS.intern(flight.getRouteId()));
+        flight.setAircraftId(IDENTIFIERS.intern(flight.getAircraftId()));
+        return flight;
+    }
+
+    static String normalizeAirportCode(String airportCode) {
+        return airportCode == null ? null : airportCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    static String airportPairKey(String departureAirportCode, String arrivalAirportCode) {
+        return normalizeAirportCode(departureAirportCode) + "-" + normalizeAirportCode(arrivalAirportCode);
+    }
+
     public void loadAllData() {
         System.out.println("DataManager: Loading all data...");
-        users = loadUsers();
-        aircrafts = loadAircrafts();
-        airports = loadAirports();
-        flights = loadFlights();
-        reservations = loadReservations();
-        routes = loadRoutes();
+        if (BINARY_FORMAT && Files.exists(Paths.get(BINARY_SNAPSHOT_FILE))) {
+            try {
+                loadBinarySnapshot(Paths.get(BINARY_SNAPSHOT_FILE));
+                openReservationJournal();
+                System.out.println("DataManager: All data loaded from " + BINARY_SNAPSHOT_FILE);
+                return;
+            } catch (IOException e) {
+                System.err.println("Error reading " + BINARY_SNAPSHOT_FILE + ", falling back to text files: " + e.getMessage());
+            }
+        }
+        loadTextFiles();
+        openReservationJournal();
         System.out.println("DataManager: All data loaded.");
     }
 
-    public void saveAllData() {
-        System.out.println("DataManager: Saving all data...");
-        saveUsers();
-        saveAircrafts();
-        saveAirports();
-        saveFlights();
-        saveReservations();
-        saveRoutes();
-        System.out.println("DataManager: All data saved.");
+    private void loadTextFiles() {
+        // 여섯 파일을 동시에 읽고, 각 파일도 청크 단위로 병렬 해석
+        ForkJoinPool pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        try {
+            ForkJoinTask<List<User>> loadedUsers = pool.submit(() -> loadUsers(pool));
+            ForkJoinTask<List<Aircraft>> loadedAircrafts = pool.submit(() -> loadAircrafts(pool));
+            ForkJoinTask<List<Airport>> loadedAirports = pool.submit(() -> loadAirports(pool));
+            ForkJoinTask<List<Flight>> loadedFlights = pool.submit(() -> loadFlights(pool));
+            ForkJoinTask<List<Reservation>> loadedReservations = pool.submit(() -> loadReservations(pool));
+            ForkJoinTask<List<Route>> loadedRoutes = pool.submit(() -> loadRoutes(pool));
+
+            users.loadAll(loadedUsers.join());
+            aircrafts.loadAll(loadedAircrafts.join());
+            airports.loadAll(loadedAirports.join());
+            flights.loadAll(loadedFlights.join());
+            reservations.loadAll(loadedReservations.join());
+            routes.loadAll(loadedRoutes.join());
+        } finally {
+            pool.shutdown();
+        }
     }
 
-    // --- Load methods ---
-    private List<User> loadUsers() {
-        List<User> loadedUsers = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(USER_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                String[] values = line.split("\\s+");
-                
-                // [수정] 5개(기존) 또는 6개(마일리지 포함) 컬럼 처리
-                if (values.length >= 5) {
-                    int mileage = 0;
-                    if (values.length >= 6) {
-                        try {
-                            mileage = Integer.parseInt(values[5]);
-                        } catch (NumberFormatException e) {
-                            mileage = 0;
-                        }
-                    }
-                    loadedUsers.add(new User(values[0], values[1], values[2], values[3], values[4], mileage));
-                }
-            }
-        } catch (IOException e) {
-            if (!(e instanceof java.io.FileNotFoundException)) {
-                System.err.println("Error reading or parsing " + USER_FILE + ": " + e.getMessage());
-            } else {
-                System.err.println("DataManager: " + USER_FILE + " not found. Skipping user data loading.");
-            }
+    /**
+     * 바이너리 스냅샷으로 모든 테이블을 교체합니다. (저널은 재생하지 않음)
+     */
+    public void loadBinarySnapshot(Path path) throws IOException {
+        BinarySnapshot.Contents contents = BinarySnapshot.read(path);
+        users.loadAll(contents.users);
+        aircrafts.loadAll(contents.aircrafts);
+        airports.loadAll(contents.airports);
+        flights.loadAll(contents.flights);
+        reservations.loadAll(contents.reservations);
+        routes.loadAll(contents.routes);
+    }
+
+    /**
+     * 현재 모든 테이블을 바이너리 스냅샷 파일로 저장합니다.
+     * (형식 변환용이라 저널 교체가 없으므로, 한 시점 이미지가 되도록 배리어 안에서 행을 복사)
+     * @return 기록한 바이트 수
+     */
+    public long saveBinarySnapshot(Path path) throws IOException {
+        BinarySnapshot.Contents contents = new BinarySnapshot.Contents();
+        snapshotBarrier.writeLock().lock();
+        try {
+            contents.users = copyRows(users, DataManager::copyOf);
+            contents.aircrafts = copyRows(aircrafts, DataManager::copyOf);
+            contents.airports = copyRows(airports, DataManager::copyOf);
+            contents.flights = copyRows(flights, DataManager::copyOf);
+            contents.reservations = copyRows(reservations, DataManager::copyOf);
+            contents.routes = copyRows(routes, DataManager::copyOf);
+        } finally {
+            snapshotBarrier.writeLock().unlock();
         }
-        return loadedUsers;
-    }
-
-    private List<Aircraft> loadAircrafts() {
-        List<Aircraft> loadedAircrafts = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(AIRCRAFT_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                String[] values = line.split("\\s+");
-                if (values.length == 5) {
-                    loadedAircrafts.add(new Aircraft(values[0], values[1], Integer.parseInt(values[2]), Integer.parseInt(values[3]), Integer.parseInt(values[4])));
+        return writeAtomically(path, out -> BinarySnapshot.write(out, contents));
+    }
+
+    /**
+     * 현재 모든 테이블을 텍스트 파일(data/*.txt)로 저장합니다. (형식 변환용)
+     */
+    public void saveTextFiles() {
+        saveUsers(users.asList());
+        saveAircrafts(aircrafts.asList());
+        saveAirports(airports.asList());
+        saveFlights(flights.asList());
+        saveReservations(reservations.asList());
+        saveRoutes(routes.asList());
+    }
+
+    /**
+     * 변경된 테이블만 파일에 다시 씁니다.
+     * 예약은 변경 시마다 저널에 기록되므로 전체 파일을 다시 쓰지 않고 저널만 fsync 합니다.
+     */
+    public void saveAllData() {
+        System.out.println("DataManager: Saving all data...");
+        synchronized (snapshotLock) {
+            if (BINARY_FORMAT) {
+                // 바이너리 형식은 한 파일이므로, 예약 외 테이블이 바뀐 경우에만 스냅샷 전체를 다시 씀
+                if (users.isDirty() || aircrafts.isDirty() || airports.isDirty() || flights.isDirty()
+                        || routes.isDirty() || (reservationJournal == null && reservations.isDirty())) {
+                    writeSnapshot();
+                } else if (reservationJournal != null) {
+                    reservationJournal.sync();
                 }
+                System.out.println("DataManager: All data saved.");
+                return;
             }
-        } catch (IOException | NumberFormatException e) {
-            if (!(e instanceof java.io.FileNotFoundException)) {
-                System.err.println("Error reading or parsing " + AIRCRAFT_FILE + ": " + e.getMessage());
+            saveIfDirty(users, this::saveUsers);
+            saveIfDirty(aircrafts, this::saveAircrafts);
+            saveIfDirty(airports, this::saveAirports);
+            saveIfDirty(flights, this::saveFlights);
+            if (reservationJournal != null) {
+                reservationJournal.sync();
             } else {
-                System.err.println("DataManager: " + AIRCRAFT_FILE + " not found. Skipping aircraft data loading.");
+                saveIfDirty(reservations, this::saveReservations);
             }
+            saveIfDirty(routes, this::saveRoutes);
         }
-        return loadedAircrafts;
+        System.out.println("DataManager: All data saved.");
     }
 
-    private List<Airport> loadAirports() {
-        System.out.println("DataManager: Attempting to load " + AIRPORT_FILE);
-        List<Airport> loadedAirports = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(AIRPORT_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                String[] values = line.split("\\s+");
-                if (values.length == 4) {
-                    loadedAirports.add(new Airport(values[0], values[1], values[2], values[3]));
-                }
-            }
-            System.out.println("DataManager: Successfully loaded " + loadedAirports.size() + " airports from " + AIRPORT_FILE);
-        } catch (IOException e) {
-            if (!(e instanceof java.io.FileNotFoundException)) {
-                System.err.println("DataManager: Error reading or parsing " + AIRPORT_FILE + ": " + e.getMessage());
-            } else {
-                System.err.println("DataManager: " + AIRPORT_FILE + " not found. Skipping airport data loading.");
+    private <T> void saveIfDirty(EntityTable<T> table, Function<List<T>, Long> saver) {
+        if (table.isDirty()) {
+            long version = table.version(); // 목록보다 먼저 읽어야 저장 후 들어온 변경을 놓치지 않음
+            if (saver.apply(table.asList()) >= 0) {
+                table.markSaved(version);
             }
         }
-        return loadedAirports;
     }
 
-    private List<Flight> loadFlights() {
-        List<Flight> loadedFlights = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(FLIGHT_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                String[] values = line.split("\\s+", 6);
-                if (values.length == 6) {
-                    loadedFlights.add(new Flight(values[0], values[1], values[2],
-                            LocalDateTime.parse(values[3], FLIGHT_DATE_TIME_FORMATTER),
-                            LocalDateTime.parse(values[4], FLIGHT_DATE_TIME_FORMATTER),
-                            values[5]));
+    /**
+     * 모든 테이블을 임시 파일에 쓴 뒤 원자적으로 교체하고 예약 저널을 비웁니다.
+     * - 모든 테이블의 변경을 막는 구간은 테이블 버전 기록과 저널 교체(이름 변경)까지만이며,
+     *   넘긴 저널을 보관 저널에 합치는 일, 행 복사/정렬, 파일 쓰기는 예약 처리와 동시에 진행됩니다.
+     * - 그래서 스냅샷에 저널 교체 뒤의 변경이 일부 섞일 수 있지만, 그 변경은 모두 새 저널에 있고
+     *   재생은 키 단위로 덮어쓰므로 스냅샷 위에 새 저널을 재생한 결과는 같습니다.
+     *   예약 외 테이블은 교체 시점의 버전으로 저장 표시하므로, 섞인 변경은 다음 스냅샷에서 다시 씁니다.
+     * - 도중에 실패하면 보관 저널(.journal.1, .journal.2)이 남아 다음 시작 시 함께 재생됩니다.
+     * @return 기록한 바이트 수 (실패 시 -1)
+     */
+    public long writeSnapshot() {
+        synchronized (snapshotLock) {
+            Path archive = Paths.get(RESERVATION_JOURNAL_ARCHIVE_FILE);
+            Path segment = Paths.get(RESERVATION_JOURNAL_SEGMENT_FILE);
+            long[] versions;
+            try {
+                // 이전 스냅샷이 합치지 못한 구간 파일이 있으면 먼저 합쳐 교체할 자리를 비움
+                Journal.appendSegment(segment, archive);
+            } catch (IOException e) {
+                System.err.println("Error archiving " + RESERVATION_JOURNAL_SEGMENT_FILE + ": " + e.getMessage());
+                return -1;
+            }
+
+            snapshotBarrier.writeLock().lock();
+            try {
+                versions = new long[] {users.version(), aircrafts.version(), airports.version(),
+                        flights.version(), reservations.version(), routes.version()};
+                if (reservationJournal != null) {
+                    reservationJournal.rotate(segment);
                 }
+            } catch (IOException e) {
+                System.err.println("Error rotating " + RESERVATION_JOURNAL_FILE + ": " + e.getMessage());
+                return -1;
+            } finally {
+                snapshotBarrier.writeLock().unlock();
             }
-        } catch (IOException | java.time.format.DateTimeParseException e) {
-            if (!(e instanceof java.io.FileNotFoundException)) {
-                System.err.println("Error reading or parsing " + FLIGHT_FILE + ": " + e.getMessage());
-            } else {
-                System.err.println("DataManager: " + FLIGHT_FILE + " not found. Skipping flight data loading.");
+
+            try {
+                Journal.appendSegment(segment, archive);
+            } catch (IOException e) {
+                System.err.println("Error archiving " + RESERVATION_JOURNAL_SEGMENT_FILE + ": " + e.getMessage());
+                return -1;
             }
-        }
-        return loadedFlights;
-    }
-
-    private List<Reservation> loadReservations() {
-        List<Reservation> loadedReservations = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(RESERVATION_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                String[] values = line.split("\\s+");
-                if (values.length == 6) {
-                    loadedReservations.add(new Reservation(values[0], values[1], values[2], values[3],
-                            Double.parseDouble(values[4]), values[5]));
+            List<User> userRows = copyRows(users, DataManager::copyOf);
+            List<Aircraft> aircraftRows = copyRows(aircrafts, DataManager::copyOf);
+            List<Airport> airportRows = copyRows(airports, DataManager::copyOf);
+            List<Flight> flightRows = copyRows(flights, DataManager::copyOf);
+            List<Reservation> reservationRows = copyRows(reservations, DataManager::copyOf);
+            List<Route> routeRows = copyRows(routes, DataManager::copyOf);
+
+            long total = 0;
+            if (BINARY_FORMAT) {
+                BinarySnapshot.Contents contents = new BinarySnapshot.Contents();
+                contents.users = userRows;
+                contents.aircrafts = aircraftRows;
+                contents.airports = airportRows;
+                contents.flights = flightRows;
+                contents.reservations = reservationRows;
+                contents.routes = routeRows;
+                try {
+                    total = writeAtomically(Paths.get(BINARY_SNAPSHOT_FILE), out -> BinarySnapshot.write(out, contents));
+                } catch (IOException e) {
+                    System.err.println("Error saving " + BINARY_SNAPSHOT_FILE + ": " + e.getMessage());
+                    return -1;
                 }
-            }
-        } catch (IOException | NumberFormatException e) {
-            if (!(e instanceof java.io.FileNotFoundException)) {
-                System.err.println("Error reading or parsing " + RESERVATION_FILE + ": " + e.getMessage());
             } else {
-                System.err.println("DataManager: " + RESERVATION_FILE + " not found. Skipping reservation data loading.");
+                long[] written = {saveUsers(userRows), saveAircrafts(aircraftRows), saveAirports(airportRows),
+                        saveFlights(flightRows), saveReservations(reservationRows), saveRoutes(routeRows)};
+                for (long bytes : written) {
+                    if (bytes < 0) return -1;
+                    total += bytes;
+                }
             }
+
+            try {
+                Files.deleteIfExists(archive);
+            } catch (IOException e) {
+                System.err.println("Error deleting " + RESERVATION_JOURNAL_ARCHIVE_FILE + ": " + e.getMessage());
+            }
+            users.markSaved(versions[0]);
+            aircrafts.markSaved(versions[1]);
+            airports.markSaved(versions[2]);
+            flights.markSaved(versions[3]);
+            reservations.markSaved(versions[4]);
+            routes.markSaved(versions[5]);
+            return total;
         }
-        return loadedReservations;
-    }
-
-    private List<Route> loadRoutes() {
-        List<Route> loadedRoutes = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(ROUTE_FILE))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-                String[] values = line.split("\\s+");
-                if (values.length == 5) {
-                    loadedRoutes.add(new Route(values[0], values[1], values[2],
-                            Double.parseDouble(values[3]), Integer.parseInt(values[4])));
-                }
+    }
+
+    /**
+     * @return 마지막 저장 이후 변경된 테이블이 있는지 여부
+     */
+    public boolean hasUnsavedChanges() {
+        return users.isDirty() || aircrafts.isDirty() || airports.isDirty()
+                || flights.isDirty() || reservations.isDirty() || routes.isDirty();
+    }
+
+    /**
+     * @return 현재 예약 저널 크기 (바이트, 저널 미사용 시 0)
+     */
+    public long getJournalSize() {
+        return reservationJournal != null ? reservationJournal.size() : 0;
+    }
+
+    // --- Journal ---
+    private void openReservationJournal() {
+        if (reservationJournal != null) {
+            reservations.setChangeLog(null);
+            reservationJournal.close();
+            reservationJournal = null;
+        }
+        Path journalPath = Paths.get(RESERVATION_JOURNAL_FILE);
+        try {
+            // 완료되지 못한 스냅샷의 보관 저널이 있으면 먼저 재생 (보관 → 구간 → 현재 저널 순서)
+            int replayed = Journal.replay(Paths.get(RESERVATION_JOURNAL_ARCHIVE_FILE), DataManager::decodeReservation, reservations);
+            replayed += Journal.replay(Paths.get(RESERVATION_JOURNAL_SEGMENT_FILE), DataManager::decodeReservation, reservations);
+            replayed += Journal.replay(journalPath, DataManager::decodeReservation, reservations);
+            if (replayed > 0) {
+                System.out.println("DataManager: Replayed " + replayed + " reservation changes from " + RESERVATION_JOURNAL_FILE);
             }
-        } catch (IOException | NumberFormatException e) {
-            if (!(e instanceof java.io.FileNotFoundException)) {
-                System.err.println("Error reading or parsing " + ROUTE_FILE + ": " + e.getMessage());
-            } else {
-                System.err.println("DataManager: " + ROUTE_FILE + " not found. Skipping route data loading.");
+            Journal<Reservation> journal = new Journal<>(journalPath, DataManager::reservationToLine,
+                    Journal.parsePolicy(JOURNAL_FSYNC), JOURNAL_GROUP_COMMIT_MILLIS);
+            journal.open();
+            reservations.setChangeLog(journal);
+            reservationJournal = journal;
+        } catch (IOException e) {
+            // 저널을 열 수 없으면 기존 방식(종료 시 전체 저장)으로 동작
+            System.err.println("Error opening " + RESERVATION_JOURNAL_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private static Reservation decodeReservation(String line) {
+        try {
+            return parseReservation(new LineTokenizer().reset(line));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    // --- Load methods ---
+    // 각 줄은 LineTokenizer로 해석하며, 컬럼 수가 맞지 않으면 null을 반환해 건너뜁니다.
+    private static User parseUser(LineTokenizer t) {
+        String userId = t.next(), password = t.next(), userName = t.next(), passportNumber = t.next(), phone = t.next();
+        // [수정] 5개(기존) 또는 6개(마일리지 포함) 컬럼 처리
+        int mileage = 0;
+        if (t.hasNext()) {
+            try {
+                mileage = t.nextInt();
+            } catch (NumberFormatException e) {
+                mileage = 0;
             }
         }
-        return loadedRoutes;
+        return new User(IDENTIFIERS.intern(userId), password, userName, passportNumber, phone, mileage);
+    }
+
+    private static Aircraft parseAircraft(LineTokenizer t) {
+        Aircraft aircraft = new Aircraft(IDENTIFIERS.intern(t.next()), t.next(), t.nextInt(), t.nextInt(), t.nextInt());
+        return t.hasNext() ? null : aircraft;
+    }
+
+    private static Airport parseAirport(LineTokenizer t) {
+        Airport airport = new Airport(IDENTIFIERS.intern(t.next()), t.next(), t.next(), t.next());
+        return t.hasNext() ? null : airport;
+    }
+
+    private static Flight parseFlight(LineTokenizer t) {
+        // 마지막 컬럼(상태)은 "예약 가능"처럼 공백을 포함할 수 있음
+        return internIds(new Flight(t.next(), t.next(), t.next(), t.nextDateTime(), t.nextDateTime(), FlightStatus.fromText(t.rest())));
+    }
+
+    private static Reservation parseReservation(LineTokenizer t) {
+        Reservation reservation = new Reservation(t.next(), t.next(), t.next(), t.next(), t.nextDouble(), ReservationStatus.fromText(t.next()));
+        return t.hasNext() ? null : internIds(reservation);
+    }
+
+    private static Route parseRoute(LineTokenizer t) {
+        Route route = new Route(IDENTIFIERS.intern(t.next()), IDENTIFIERS.intern(t.next()), IDENTIFIERS.intern(t.next()),
+                t.nextDouble(), t.nextInt());
+        return t.hasNext() ? null : route;
+    }
+
+    private static <T> List<T> loadFile(String file, String what, BulkLoader.LineParser<T> parser, ForkJoinPool pool) {
+        try {
+            return BulkLoader.load(Paths.get(file), parser, pool);
+        } catch (NoSuchFileException e) {
+            System.err.println("DataManager: " + file + " not found. Skipping " + what + " data loading.");
+        } catch (IOException e) {
+            System.err.println("Error reading or parsing " + file + ": " + e.getMessage());
+        }
+        return new ArrayList<>();
+    }
+
+    private List<User> loadUsers(ForkJoinPool pool) {
+        return loadFile(USER_FILE, "user", DataManager::parseUser, pool);
+    }
+
+    private List<Aircraft> loadAircrafts(ForkJoinPool pool) {
+        return loadFile(AIRCRAFT_FILE, "aircraft", DataManager::parseAircraft, pool);
+    }
+
+    private List<Airport> loadAirports(ForkJoinPool pool) {
+        System.out.println("DataManager: Attempting to load " + AIRPORT_FILE);
+        List<Airport> loadedAirports = loadFile(AIRPORT_FILE, "airport", DataManager::parseAirport, pool);
+        System.out.println("DataManager: Successfully loaded " + loadedAirports.size() + " airports from " + AIRPORT_FILE);
+        return loadedAirports;
+    }
+
+    private List<Flight> loadFlights(ForkJoinPool pool) {
+        return loadFile(FLIGHT_FILE, "flight", DataManager::parseFlight, pool);
+    }
+
+    private List<Reservation> loadReservations(ForkJoinPool pool) {
+        return loadFile(RESERVATION_FILE, "reservation", DataManager::parseReservation, pool);
+    }
+
+    private List<Route> loadRoutes(ForkJoinPool pool) {
+        return loadFile(ROUTE_FILE, "route", DataManager::parseRoute, pool);
+    }
+
+    /**
+     * 테이블의 모든 행을 복사합니다.
+     * (setter로 저장된 객체를 직접 고치는 코드가 있으므로, 목록만 잡아 두면 파일 쓰기 도중의 변경이 섞임)
+     */
+    private static <T> List<T> copyRows(EntityTable<T> table, UnaryOperator<T> copier) {
+        List<T> rows = table.asList();
+        List<T> copies = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            copies.add(copier.apply(row));
+        }
+        return copies;
+    }
+
+    private static User copyOf(User u) {
+        return new User(u.getUserId(), u.getPassword(), u.getUserName(), u.getPassportNumber(), u.getPhone(), u.getMileage());
+    }
+
+    private static Aircraft copyOf(Aircraft a) {
+        return new Aircraft(a.getAircraftId(), a.getModelName(), a.getTotalSeats(), a.getEconomy(), a.getBusiness());
+    }
+
+    private static Airport copyOf(Airport a) {
+        return new Airport(a.getAirportCode(), a.getAirportName(), a.getCity(), a.getCountry());
+    }
+
+    private static Flight copyOf(Flight f) {
+        return new Flight(f.getFlightId(), f.getRouteId(), f.getAircraftId(), f.getDepartureTime(), f.getArrivalTime(), f.getStatus());
+    }
+
+    private static Reservation copyOf(Reservation r) {
+        return new Reservation(r.getReservationId(), r.getUserId(), r.getFlightId(), r.getSeatNumber(), r.getFinalPrice(), r.getStatus());
+    }
+
+    private static Route copyOf(Route r) {
+        return new Route(r.getRouteId(), r.getDepartureAirportCode(), r.getArrivalAirportCode(), r.getPrice(), r.getDuration());
     }
 
     // --- Save methods ---
-    private void saveUsers() {
+    private long saveUsers(List<User> rows) {
         // [수정] 마일리지 정보 포함하여 저장
-        List<String> lines = users.stream()
+        List<String> lines = rows.stream()
                 .map(user -> String.join(" ", 
                         user.getUserId(), 
                         user.getPassword(), 
@@ -229,96 +539,204 @@ public class DataManager {
                         String.valueOf(user.getMileage()))) 
                 .collect(Collectors.toList());
         try {
-            Files.write(Paths.get(USER_FILE), lines, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            return writeLines(USER_FILE, lines);
         } catch (IOException e) {
             System.err.println("Error saving users to file: " + e.getMessage());
+            return -1;
         }
     }
 
-    private void saveAircrafts() {
-        List<String> lines = aircrafts.stream()
+    private long saveAircrafts(List<Aircraft> rows) {
+        List<String> lines = rows.stream()
                 .map(aircraft -> String.join(" ", aircraft.getAircraftId(), aircraft.getModelName(),
                         String.valueOf(aircraft.getTotalSeats()), String.valueOf(aircraft.getEconomy()), String.valueOf(aircraft.getBusiness())))
                 .collect(Collectors.toList());
         try {
-            Files.write(Paths.get(AIRCRAFT_FILE), lines, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            return writeLines(AIRCRAFT_FILE, lines);
         } catch (IOException e) {
             System.err.println("Error saving aircrafts to file: " + e.getMessage());
+            return -1;
         }
     }
 
-    private void saveAirports() {
-        List<String> lines = airports.stream()
+    private long saveAirports(List<Airport> rows) {
+        List<String> lines = rows.stream()
                 .map(airport -> String.join(" ", airport.getAirportCode(), airport.getAirportName(), airport.getCity(), airport.getCountry()))
                 .collect(Collectors.toList());
         try {
-            Files.write(Paths.get(AIRPORT_FILE), lines, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            return writeLines(AIRPORT_FILE, lines);
         } catch (IOException e) {
             System.err.println("Error saving airports to file: " + e.getMessage());
+            return -1;
         }
     }
 
-    private void saveFlights() {
-        List<String> lines = flights.stream()
+    private long saveFlights(List<Flight> rows) {
+        List<String> lines = rows.stream()
                 .map(flight -> String.join(" ", flight.getFlightId(), flight.getRouteId(), flight.getAircraftId(),
                         flight.getDepartureTime().format(FLIGHT_DATE_TIME_FORMATTER),
                         flight.getArrivalTime().format(FLIGHT_DATE_TIME_FORMATTER),
-                        flight.getStatus()))
+                        flight.getStatus().getText()))
                 .collect(Collectors.toList());
         try {
-            Files.write(Paths.get(FLIGHT_FILE), lines, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            return writeLines(FLIGHT_FILE, lines);
         } catch (IOException e) {
             System.err.println("Error saving flights to file: " + e.getMessage());
+            return -1;
         }
     }
 
-    private void saveReservations() {
-        List<String> lines = reservations.stream()
-                .map(reservation -> String.join(" ", reservation.getReservationId(), reservation.getUserId(),
-                        reservation.getFlightId(), reservation.getSeatNumber(),
-                        String.valueOf(reservation.getFinalPrice()), reservation.getStatus()))
+    private long saveReservations(List<Reservation> rows) {
+        List<String> lines = rows.stream()
+                .map(DataManager::reservationToLine)
                 .collect(Collectors.toList());
         try {
-            Files.write(Paths.get(RESERVATION_FILE), lines, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            return writeLines(RESERVATION_FILE, lines);
         } catch (IOException e) {
             System.err.println("Error saving reservations to file: " + e.getMessage());
+            return -1;
         }
     }
 
-    private void saveRoutes() {
-        List<String> lines = routes.stream()
+    private static String reservationToLine(Reservation reservation) {
+        return String.join(" ", reservation.getReservationId(), reservation.getUserId(),
+                reservation.getFlightId(), reservation.getSeatNumber(),
+                String.valueOf(reservation.getFinalPrice()), reservation.getStatus().getText());
+    }
+
+    private long saveRoutes(List<Route> rows) {
+        List<String> lines = rows.stream()
                 .map(route -> String.join(" ", route.getRouteId(), route.getDepartureAirportCode(),
                         route.getArrivalAirportCode(), String.valueOf(route.getPrice()), String.valueOf(route.getDuration())))
                 .collect(Collectors.toList());
         try {
-            Files.write(Paths.get(ROUTE_FILE), lines, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            return writeLines(ROUTE_FILE, lines);
         } catch (IOException e) {
             System.err.println("Error saving routes to file: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 파일 본문을 쓰는 함수 (writeAtomically용)
+     */
+    interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static long writeLines(String file, List<String> lines) throws IOException {
+        return writeAtomically(Paths.get(file), out -> {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+            writer.flush();
+        });
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 원자적으로 이름을 바꿔, 쓰는 도중 종료되어도 기존 파일이 깨지지 않게 합니다.
+     * @return 기록한 바이트 수
+     */
+    static long writeAtomically(Path target, ContentWriter content) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long bytes;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            content.write(out);
+            out.flush();
+            channel.force(true); // 이름 교체 전에 내용이 디스크에 있어야 저널을 비울 수 있음
+            bytes = channel.size();
         }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return bytes;
     }
 
-    // --- Getter methods ---
+    // --- Getter methods (읽기 전용 뷰) ---
     public List<User> getUsers() {
-        return users;
+        return users.asList();
     }
 
     public List<Aircraft> getAircrafts() {
-        return aircrafts;
+        return aircrafts.asList();
     }
 
     public List<Airport> getAirports() {
-        return airports;
+        return airports.asList();
     }
 
     public List<Flight> getFlights() {
-        return flights;
+        return flights.asList();
     }
 
     public List<Reservation> getReservations() {
-        return reservations;
+        return reservations.asList();
     }
 
     public List<Route> getRoutes() {
+        return routes.asList();
+    }
+
+    // --- Table accessors (DAO 구현체 전용) ---
+    EntityTable<User> userTable() {
+        return users;
+    }
+
+    EntityTable<Aircraft> aircraftTable() {
+        return aircrafts;
+    }
+
+    EntityTable<Airport> airportTable() {
+        return airports;
+    }
+
+    EntityTable<Flight> flightTable() {
+        return flights;
+    }
+
+    EntityTable<Reservation> reservationTable() {
+        return reservations;
+    }
+
+    EntityTable<Route> routeTable() {
         return routes;
     }
-}
\ No newline at end of file
+
+    SecondaryIndex<Reservation> reservationsByFlight() {
+        return reservationsByFlight;
+    }
+
+    SecondaryIndex<Reservation> reservationsByUser() {
+        return reservationsByUser;
+    }
+
+    StatusIndex<Reservation, ReservationStatus> reservationsByStatus() {
+        return reservationsByStatus;
+    }
+
+    SortedIndex<Flight, LocalDateTime> flightsByRoute() {
+        return flightsByRoute;
+    }
+
+    StatusIndex<Flight, FlightStatus> flightsByStatus() {
+        return flightsByStatus;
+    }
+
+    FlightChangeNotifier flightChanges() {
+        return flightChanges;
+    }
+
+    SecondaryIndex<Route> routesByAirportPair() {
+        return routesByAirportPair;
+    }
+
+    SecondaryIndex<Route> routesByDeparture() {
+        return routesByDeparture;
+    }
+
+    SecondaryIndex<Route> routesByArrival() {
+        return routesByArrival;
+    }
+}
@@ -0,0 +1,335 @@
+package com.team1.airline.dao.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 기본키(primary key) 해시 인덱스를 가진 엔티티 저장소
+ * - 조회/수정/삭제가 리스트 전체 스캔 없이 O(1)로 처리됩니다.
+ * - 삽입 순서를 유지하므로 파일 저장 시 기존과 같은 순서로 기록됩니다.
+ * - 동시성
+ *   쓰기: 기본키 해시로 고른 스트라이프 락을 잡으므로, 서로 다른 키의 변경은 병렬로 진행되고
+ *         같은 키의 변경(저널 기록 → 행 교체 → 인덱스 갱신)은 순서대로 처리됩니다.
+ *   읽기: 락 없이 ConcurrentHashMap과 버전이 찍힌 불변 목록(스냅샷)을 읽습니다.
+ */
+class EntityTable<T> {
+
+    private static final int STRIPES = 64; // 2의 거듭제곱
+
+    private final Function<T, String> keyOf;
+    private final Lock writeGate;
+    private final ConcurrentHashMap<String, Slot<T>> rows = new ConcurrentHashMap<>();
+    private final List<TableIndex<T>> indexes = new CopyOnWriteArrayList<>();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private volatile ChangeLog<T> changeLog;
+
+    // 삽입 순번 (수정 시에는 기존 순번 유지)
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 변경 버전 (저장된 버전과 다르면 파일을 다시 써야 함). 변경이 반영된 뒤에 증가합니다.
+    private final AtomicLong version = new AtomicLong();
+    private volatile long savedVersion;
+
+    // findAll()용 읽기 전용 스냅샷 (만들 당시의 버전과 함께 보관)
+    private volatile Snapshot<T> snapshot;
+
+    /**
+     * @param writeGate 변경 시 잡는 공유 락 (스냅샷이 모든 테이블의 변경을 잠시 멈출 때 사용)
+     */
+    EntityTable(Function<T, String> keyOf, Lock writeGate) {
+        this.keyOf = keyOf;
+        this.writeGate = writeGate;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 보조 인덱스를 등록합니다. 이미 들어 있는 행도 바로 색인됩니다.
+     */
+    <I extends TableIndex<T>> I addIndex(I index) {
+        lockAllStripes();
+        try {
+            for (Slot<T> slot : orderedSlots()) {
+                index.put(keyOf.apply(slot.row), slot.row);
+            }
+            indexes.add(index);
+        } finally {
+            unlockAllStripes();
+        }
+        return index;
+    }
+
+    /**
+     * 변경 기록기(저널)를 연결합니다. null이면 해제합니다.
+     */
+    void setChangeLog(ChangeLog<T> changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * 파일에서 읽은 데이터로 테이블 전체를 교체합니다.
+     */
+    void loadAll(Collection<T> loaded) {
+        lockAllStripes();
+        try {
+            rows.clear();
+            for (TableIndex<T> index : indexes) {
+                index.clear();
+            }
+            for (T row : loaded) {
+                String key = keyOf.apply(row);
+                Slot<T> previous = rows.get(key);
+                rows.put(key, new Slot<>(previous != null ? previous.seq : sequence.incrementAndGet(), row));
+                for (TableIndex<T> index : indexes) {
+                    index.put(key, row);
+                }
+            }
+            savedVersion = version.incrementAndGet();
+        } finally {
+            unlockAllStripes();
+        }
+    }
+
+    void add(T row) {
+        String key = keyOf.apply(row);
+        writeGate.lock();
+        ReentrantLock stripe = stripeOf(key);
+        stripe.lock();
+        try {
+            ChangeLog<T> log = changeLog;
+            if (log != null) {
+                log.added(row);
+            }
+            Slot<T> previous = rows.get(key);
+            rows.put(key, new Slot<>(previous != null ? previous.seq : sequence.incrementAndGet(), row));
+            for (TableIndex<T> index : indexes) {
+                index.put(key, row);
+            }
+            version.incrementAndGet();
+        } finally {
+            stripe.unlock();
+            writeGate.unlock();
+        }
+    }
+
+    /**
+     * 여러 행을 추가합니다. 관련된 스트라이프 락을 모두 잡은 뒤 변경 기록을 한 번에 남기고 반영하므로,
+     * 기록 실패 시에는 하나도 반영되지 않습니다.
+     */
+    void addAll(List<T> added) {
+        if (added.isEmpty()) return;
+        List<String> keys = new ArrayList<>(added.size());
+        boolean[] needed = new boolean[STRIPES];
+        for (T row : added) {
+            String key = keyOf.apply(row);
+            keys.add(key);
+            needed[stripeIndex(key)] = true;
+        }
+        writeGate.lock();
+        // 항상 번호 순서로 잡아 교착 방지
+        for (int i = 0; i < STRIPES; i++) {
+            if (needed[i]) stripes[i].lock();
+        }
+        try {
+            ChangeLog<T> log = changeLog;
+            if (log != null) {
+                log.addedAll(added);
+            }
+            for (int i = 0; i < added.size(); i++) {
+                String key = keys.get(i);
+                T row = added.get(i);
+                Slot<T> previous = rows.get(key);
+                rows.put(key, new Slot<>(previous != null ? previous.seq : sequence.incrementAndGet(), row));
+                for (TableIndex<T> index : indexes) {
+                    index.put(key, row);
+                }
+            }
+            version.incrementAndGet();
+        } finally {
+            for (int i = STRIPES - 1; i >= 0; i--) {
+                if (needed[i]) stripes[i].unlock();
+            }
+            writeGate.unlock();
+        }
+    }
+
+    T get(String key) {
+        if (key == null) {
+            return null;
+        }
+        Slot<T> slot = rows.get(key);
+        return slot == null ? null : slot.row;
+    }
+
+    /**
+     * 같은 키의 행이 있을 때만 교체합니다. (삽입 순서 유지)
+     * @return 교체 여부
+     */
+    boolean update(T row) {
+        return modify(keyOf.apply(row), current -> row) != null;
+    }
+
+    /**
+     * 같은 키의 다른 변경과 겹치지 않게 행을 읽고-수정하고-씁니다. (예: 마일리지 증감)
+     * @param change 현재 행을 받아 새 행(같은 객체여도 됨)을 반환. null을 반환하면 변경하지 않음
+     * @return 변경 후 행 (행이 없거나 변경하지 않았으면 null)
+     */
+    T modify(String key, UnaryOperator<T> change) {
+        if (key == null) {
+            return null;
+        }
+        writeGate.lock();
+        ReentrantLock stripe = stripeOf(key);
+        stripe.lock();
+        try {
+            Slot<T> current = rows.get(key);
+            if (current == null) {
+                return null;
+            }
+            T row = change.apply(current.row);
+            if (row == null) {
+                return null;
+            }
+            ChangeLog<T> log = changeLog;
+            if (log != null) {
+                log.updated(row);
+            }
+            rows.put(key, new Slot<>(current.seq, row));
+            for (TableIndex<T> index : indexes) {
+                index.put(key, row);
+            }
+            version.incrementAndGet();
+            return row;
+        } finally {
+            stripe.unlock();
+            writeGate.unlock();
+        }
+    }
+
+    T remove(String key) {
+        if (key == null) {
+            return null;
+        }
+        writeGate.lock();
+        ReentrantLock stripe = stripeOf(key);
+        stripe.lock();
+        try {
+            if (!rows.containsKey(key)) {
+                return null;
+            }
+            ChangeLog<T> log = changeLog;
+            if (log != null) {
+                log.removed(key);
+            }
+            Slot<T> removed = rows.remove(key);
+            for (TableIndex<T> index : indexes) {
+                index.remove(key);
+            }
+            version.incrementAndGet();
+            return removed.row;
+        } finally {
+            stripe.unlock();
+            writeGate.unlock();
+        }
+    }
+
+    boolean isDirty() {
+        return version.get() != savedVersion;
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    /**
+     * 주어진 버전까지의 내용이 파일에 저장되었음을 기록합니다.
+     */
+    synchronized void markSaved(long savedVersion) {
+        this.savedVersion = Math.max(this.savedVersion, savedVersion);
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * @return 삽입 순서의 읽기 전용 목록. 변경이 없으면 같은 스냅샷을 재사용합니다.
+     *         (변경 중에 만들어진 목록은 버전이 맞지 않아 다음 호출에서 다시 만들어집니다)
+     */
+    List<T> asList() {
+        long current = version.get();
+        Snapshot<T> cached = snapshot;
+        if (cached != null && cached.version == current) {
+            return cached.rows;
+        }
+        List<Slot<T>> ordered = orderedSlots();
+        List<T> list = new ArrayList<>(ordered.size());
+        for (Slot<T> slot : ordered) {
+            list.add(slot.row);
+        }
+        List<T> view = Collections.unmodifiableList(list);
+        snapshot = new Snapshot<>(current, view);
+        return view;
+    }
+
+    private List<Slot<T>> orderedSlots() {
+        List<Slot<T>> ordered = new ArrayList<>(rows.values());
+        ordered.sort(Comparator.comparingLong(slot -> slot.seq));
+        return ordered;
+    }
+
+    private ReentrantLock stripeOf(String key) {
+        return stripes[stripeIndex(key)];
+    }
+
+    private static int stripeIndex(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    // 전체 교체/인덱스 등록용 (항상 같은 순서로 잡아 교착 방지)
+    private void lockAllStripes() {
+        writeGate.lock();
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    private void unlockAllStripes() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+        writeGate.unlock();
+    }
+
+    private static final class Slot<T> {
+        final long seq;
+        final T row;
+
+        Slot(long seq, T row) {
+            this.seq = seq;
+            this.row = row;
+        }
+    }
+
+    private static final class Snapshot<T> {
+        final long version;
+        final List<T> rows;
+
+        Snapshot(long version, List<T> rows) {
+            this.version = version;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.dao.FlightChangeListener;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 항공편 테이블에 인덱스로 부착되어 변경을 (노선, 출발 날짜) 단위로 리스너에 알립니다.
+ * - 항공편별 마지막 노선/시각/상태를 기억하므로, 같은 Flight 객체를 고친 뒤 update해도 이전 위치를 알릴 수 있습니다.
+ * - 테이블의 스트라이프 락 안에서 호출되므로 같은 항공편의 알림은 변경 순서대로 전달됩니다.
+ * - 운항 일정 버전: 좌석 재고에 따른 상태 변경(예약 가능 ↔ 매진)만 있는 수정은 세지 않습니다.
+ */
+class FlightChangeNotifier implements TableIndex<Flight> {
+
+    private final ConcurrentHashMap<String, Schedule> scheduleByFlightId = new ConcurrentHashMap<>();
+    private final List<FlightChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong scheduleVersion = new AtomicLong();
+
+    void addListener(FlightChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    void removeListener(FlightChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    long scheduleVersion() {
+        return scheduleVersion.get();
+    }
+
+    @Override
+    public void put(String primaryKey, Flight row) {
+        Schedule schedule = new Schedule(row);
+        Schedule previous = scheduleByFlightId.put(primaryKey, schedule);
+        if (previous == null || !previous.sameTimetable(schedule)) {
+            scheduleVersion.incrementAndGet();
+        }
+        if (previous != null && !previous.samePlacement(schedule)) {
+            notify(previous);
+        }
+        notify(schedule);
+    }
+
+    @Override
+    public void remove(String primaryKey) {
+        Schedule previous = scheduleByFlightId.remove(primaryKey);
+        if (previous != null) {
+            scheduleVersion.incrementAndGet();
+            notify(previous);
+        }
+    }
+
+    @Override
+    public void clear() {
+        scheduleByFlightId.clear();
+        scheduleVersion.incrementAndGet();
+        for (FlightChangeListener listener : listeners) {
+            listener.allFlightsChanged();
+        }
+    }
+
+    private void notify(Schedule schedule) {
+        LocalDate date = schedule.departureTime == null ? null : schedule.departureTime.toLocalDate();
+        for (FlightChangeListener listener : listeners) {
+            listener.flightChanged(schedule.routeId, date);
+        }
+    }
+
+    private static final class Schedule {
+        private final String routeId;
+        private final LocalDateTime departureTime;
+        private final LocalDateTime arrivalTime;
+        private final FlightStatus status;
+
+        Schedule(Flight flight) {
+            this.routeId = flight.getRouteId();
+            this.departureTime = flight.getDepartureTime();
+            this.arrivalTime = flight.getArrivalTime();
+            this.status = flight.getStatus();
+        }
+
+        // 같은 (노선, 출발 날짜)인지
+        boolean samePlacement(Schedule other) {
+            return Objects.equals(routeId, other.routeId) && Objects.equals(
+                    departureTime == null ? null : departureTime.toLocalDate(),
+                    other.departureTime == null ? null : other.departureTime.toLocalDate());
+        }
+
+        // 노선/시각이 같고, 상태 변경이 없거나 좌석 재고에 따른 변경뿐인지
+        boolean sameTimetable(Schedule other) {
+            return Objects.equals(routeId, other.routeId)
+                    && Objects.equals(departureTime, other.departureTime)
+                    && Objects.equals(arrivalTime, other.arrivalTime)
+                    && (status == other.status || status != null && other.status != null
+                        && status.isSeatDriven() && other.status.isSeatDriven());
+        }
+    }
+}
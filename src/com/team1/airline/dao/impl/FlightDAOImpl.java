@@ -1,7 +1,9 @@
 package com.team1.airline.dao.impl;
 
+import com.team1.airline.dao.FlightChangeListener;
 import com.team1.airline.dao.FlightDAO;
 import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
 import com.team1.airline.dao.impl.DataManager;
 
 import java.time.LocalDate;
@@ -17,27 +19,22 @@ public class FlightDAOImpl implements FlightDAO {
                 flight.getAircraftId(),
                 flight.getDepartureTime().format(DataManager.FLIGHT_DATE_TIME_FORMATTER),
                 flight.getArrivalTime().format(DataManager.FLIGHT_DATE_TIME_FORMATTER),
-                flight.getStatus());
+                flight.getStatus().getText());
     }
 
     @Override
     public void saveFlight(Flight flight) {
-        DataManager.getInstance().getFlights().add(flight);
+        DataManager.getInstance().flightTable().add(DataManager.internIds(flight));
     }
 
     @Override
     public Flight findByFlightId(String flightId) {
-        return DataManager.getInstance().getFlights().stream()
-                .filter(f -> f.getFlightId().equals(flightId))
-                .findFirst()
-                .orElse(null);
+        return DataManager.getInstance().flightTable().get(flightId);
     }
 
     @Override
     public List<Flight> findFlightsByRouteAndDate(String routeId, LocalDate date) {
-        return DataManager.getInstance().getFlights().stream()
-                .filter(f -> f.getRouteId().equals(routeId) && f.getDepartureTime().toLocalDate().equals(date))
-                .collect(Collectors.toList());
+        return findFlightsByRouteAndDateRange(routeId, date, date);
     }
 
     @Override
@@ -47,25 +44,48 @@ public class FlightDAOImpl implements FlightDAO {
 
     @Override
     public void updateFlight(Flight flight) {
-        List<Flight> flights = DataManager.getInstance().getFlights();
-        for (int i = 0; i < flights.size(); i++) {
-            if (flights.get(i).getFlightId().equals(flight.getFlightId())) {
-                flights.set(i, flight);
-                return;
-            }
-        }
+        DataManager.getInstance().flightTable().update(DataManager.internIds(flight));
     }
 
     @Override
     public void deleteFlight(String flightId) {
-        List<Flight> flights = DataManager.getInstance().getFlights();
-        flights.removeIf(f -> f.getFlightId().equals(flightId));
+        DataManager.getInstance().flightTable().remove(flightId);
     }
 
     @Override
     public List<Flight> findFlightsByRoute(String routeId) {
-        return DataManager.getInstance().getFlights().stream()
-                .filter(f -> f.getRouteId().equals(routeId))
-                .collect(Collectors.toList());
+        return DataManager.getInstance().flightsByRoute().get(routeId);
+    }
+
+    @Override
+    public List<Flight> findFlightsByRouteAndDateRange(String routeId, LocalDate fromDate, LocalDate toDate) {
+        // [fromDate 00:00, toDate+1 00:00) 구간을 출발 시각 인덱스에서 이진 탐색
+        return DataManager.getInstance().flightsByRoute()
+                .range(routeId, fromDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    public List<Flight> findFlightsByStatus(FlightStatus status) {
+        return DataManager.getInstance().flightsByStatus().get(status);
+    }
+
+    @Override
+    public long getVersion() {
+        return DataManager.getInstance().flightTable().version();
+    }
+
+    @Override
+    public long getScheduleVersion() {
+        return DataManager.getInstance().flightChanges().scheduleVersion();
+    }
+
+    @Override
+    public void addChangeListener(FlightChangeListener listener) {
+        DataManager.getInstance().flightChanges().addListener(listener);
+    }
+
+    @Override
+    public void removeChangeListener(FlightChangeListener listener) {
+        DataManager.getInstance().flightChanges().removeListener(listener);
     }
 }
@@ -0,0 +1,400 @@
+package com.team1.airline.dao.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * 추가 전용(append-only) 변경 저널 (write-ahead log)
+ * - 한 줄에 한 변경: "<A|U|D> <crc32> <payload>"
+ *   A/U의 payload는 스냅샷 파일과 같은 한 줄 형식, D의 payload는 기본키입니다.
+ * - 깨진 줄(쓰기 도중 종료 등)은 형식/CRC 검사로 걸러내 경고를 남기고 건너뜁니다. 뒤따르는 정상 기록은 그대로 재생합니다.
+ *   다시 열 때 파일이 줄바꿈으로 끝나지 않으면 줄바꿈을 붙여, 새 기록이 깨진 줄에 이어 붙지 않게 합니다.
+ * - 기록에 실패하면 파일을 기록 전 위치로 되돌립니다. (호출자는 예외를 받고 테이블은 바뀌지 않으므로, 재생되는 기록도 남지 않아야 함)
+ *   fsync에 실패하면 마지막으로 fsync가 끝난 위치로 되돌리고, 그 사이에 기록된 모든 호출에 예외를 돌려줍니다.
+ * - fsync 정책
+ *   ALWAYS: 기록마다 fsync
+ *   GROUP : 그룹 커밋 - 먼저 도착한 스레드가 대기 중인 기록을 모아 한 번에 fsync
+ *   NONE  : fsync 하지 않음 (OS에 맡김)
+ */
+class Journal<T> implements ChangeLog<T> {
+
+    enum FsyncPolicy { ALWAYS, GROUP, NONE }
+
+    private final Path path;
+    private final Function<T, String> encoder;
+    private final FsyncPolicy fsyncPolicy;
+    private final long groupCommitDelayMillis;
+
+    private FileChannel channel;
+    private long writtenSeq;             // 채널에 기록된 마지막 순번
+    private volatile long durableSeq;    // fsync가 끝난 마지막 순번
+    private long durableSize;            // durableSeq까지 기록된 파일 길이 (this 락)
+    private final List<long[]> discarded = new ArrayList<>(); // fsync 실패로 잘라낸 순번 구간 [from, to] (this 락)
+    private volatile boolean anyDiscarded;
+    private final Object forceLock = new Object();
+
+    Journal(Path path, Function<T, String> encoder, FsyncPolicy fsyncPolicy, long groupCommitDelayMillis) {
+        this.path = path;
+        this.encoder = encoder;
+        this.fsyncPolicy = fsyncPolicy;
+        this.groupCommitDelayMillis = groupCommitDelayMillis;
+    }
+
+    static FsyncPolicy parsePolicy(String value) {
+        try {
+            return FsyncPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return FsyncPolicy.GROUP;
+        }
+    }
+
+    /**
+     * 저널 파일의 변경 내역을 테이블에 순서대로 다시 적용합니다.
+     * (테이블에 저널이 연결되기 전에 호출해야 합니다)
+     * @return 적용된 기록 수
+     */
+    static <T> int replay(Path path, Function<String, T> decoder, EntityTable<T> table) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        int applied = 0;
+        int lineNumber = 0;
+        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty()) continue;
+                int first = line.indexOf(' ');
+                int second = first < 0 ? -1 : line.indexOf(' ', first + 1);
+                if (first != 1 || second < 0 || "AUD".indexOf(line.charAt(0)) < 0) {
+                    System.err.println("DataManager: Malformed record at " + path + ":" + lineNumber + ", skipping it.");
+                    continue;
+                }
+
+                char op = line.charAt(0);
+                String payload = line.substring(second + 1);
+                if (!line.substring(first + 1, second).equals(checksum(payload))) {
+                    System.err.println("DataManager: Torn record (CRC mismatch) at " + path + ":" + lineNumber + ", skipping it.");
+                    continue;
+                }
+
+                if (op == 'D') {
+                    table.remove(payload);
+                } else {
+                    T row = decoder.apply(payload);
+                    if (row == null) continue;
+                    if (op != 'U' || !table.update(row)) {
+                        table.add(row);
+                    }
+                }
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    synchronized void open() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            long size = channel.size();
+            if (size > 0) {
+                ByteBuffer last = ByteBuffer.allocate(1);
+                try (FileChannel reader = FileChannel.open(path, StandardOpenOption.READ)) {
+                    reader.read(last, size - 1);
+                }
+                if (last.get(0) != '\n') {
+                    // 깨진 마지막 줄 뒤에 새 기록이 이어 붙지 않도록 줄을 끝냄 (재생 시 깨진 줄만 건너뜀)
+                    channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+                    channel.force(false);
+                    size++;
+                }
+            }
+            durableSize = size;
+        }
+    }
+
+    @Override
+    public void added(T row) {
+        append('A', encoder.apply(row));
+    }
+
+    /**
+     * 여러 행을 한 번의 쓰기와 한 번의 fsync로 기록합니다.
+     */
+    @Override
+    public void addedAll(List<T> rows) {
+        StringBuilder records = new StringBuilder();
+        for (T row : rows) {
+            records.append(record('A', encoder.apply(row)));
+        }
+        write(records.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void updated(T row) {
+        append('U', encoder.apply(row));
+    }
+
+    @Override
+    public void removed(String primaryKey) {
+        append('D', primaryKey);
+    }
+
+    private void append(char op, String payload) {
+        write(record(op, payload).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String record(char op, String payload) {
+        return op + " " + checksum(payload) + " " + payload + "\n";
+    }
+
+    private void write(byte[] records) {
+        long seq;
+        try {
+            synchronized (this) {
+                if (channel == null) {
+                    throw new IOException("journal is closed: " + path);
+                }
+                long start = channel.size();
+                try {
+                    ByteBuffer buffer = ByteBuffer.wrap(records);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                } catch (IOException e) {
+                    truncate(start, e); // 일부만 기록된 줄을 남기지 않음
+                    throw e;
+                }
+                seq = ++writtenSeq;
+            }
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                force(seq, 0);
+            } else if (fsyncPolicy == FsyncPolicy.GROUP) {
+                force(seq, groupCommitDelayMillis);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error appending to journal " + path, e);
+        }
+    }
+
+    /**
+     * seq까지의 기록이 디스크에 반영될 때까지 기다립니다.
+     * 락을 먼저 잡은 스레드가 그 시점까지 기록된 모든 내용을 한 번에 fsync 하므로,
+     * 뒤따르는 스레드는 대부분 추가 fsync 없이 바로 반환됩니다.
+     */
+    private void force(long seq, long delayMillis) throws IOException {
+        checkNotDiscarded(seq);
+        if (durableSeq >= seq) return;
+        synchronized (forceLock) {
+            checkNotDiscarded(seq);
+            if (durableSeq >= seq) return;
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis); // 더 많은 기록을 모으기 위한 대기
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            checkNotDiscarded(seq);
+            long target;
+            long targetSize;
+            FileChannel current;
+            synchronized (this) {
+                target = writtenSeq;
+                current = channel;
+                targetSize = current != null ? current.size() : durableSize;
+            }
+            if (current != null) {
+                try {
+                    current.force(false);
+                } catch (IOException e) {
+                    discardUndurable(e);
+                    throw e;
+                }
+            }
+            synchronized (this) {
+                durableSize = Math.max(durableSize, targetSize);
+            }
+            durableSeq = target;
+        }
+    }
+
+    /**
+     * fsync 실패: 마지막으로 fsync가 끝난 위치 뒤의 기록을 모두 잘라내고, 그 순번들을 실패로 표시합니다.
+     * (NONE 정책은 fsync를 기다린 호출자가 없으므로 잘라내지 않음)
+     */
+    private synchronized void discardUndurable(IOException cause) {
+        if (fsyncPolicy == FsyncPolicy.NONE || writtenSeq <= durableSeq) {
+            return;
+        }
+        discarded.add(new long[]{durableSeq + 1, writtenSeq});
+        anyDiscarded = true;
+        truncate(durableSize, cause);
+    }
+
+    private void checkNotDiscarded(long seq) throws IOException {
+        if (!anyDiscarded) return;
+        synchronized (this) {
+            for (long[] range : discarded) {
+                if (seq >= range[0] && seq <= range[1]) {
+                    throw new IOException("journal record was discarded after a failed fsync: " + path);
+                }
+            }
+        }
+    }
+
+    // 파일을 size로 되돌림. 되돌리지도 못하면 이후 기록을 받지 않도록 저널을 닫음 (this 락 안에서 호출)
+    private void truncate(long size, IOException cause) {
+        try {
+            channel.truncate(size);
+            channel.force(false);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            System.err.println("Error truncating journal " + path + ", closing it: " + e.getMessage());
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 이미 실패한 채널
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * 지금까지의 기록을 모두 fsync 합니다.
+     */
+    void sync() {
+        long target;
+        synchronized (this) {
+            target = writtenSeq;
+        }
+        try {
+            force(target, 0);
+        } catch (IOException e) {
+            System.err.println("Error syncing journal " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 남은 기록을 fsync 하고 파일을 닫습니다.
+     */
+    void close() {
+        synchronized (forceLock) {
+            synchronized (this) {
+                if (channel == null) return;
+                try {
+                    channel.force(false);
+                    durableSeq = writtenSeq;
+                    channel.close();
+                } catch (IOException e) {
+                    System.err.println("Error closing journal " + path + ": " + e.getMessage());
+                }
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * 현재까지의 기록을 구간 파일(segmentPath)로 넘기고 빈 저널로 새로 시작합니다.
+     * - 파일 이름만 바꾸므로(O(1)) 스냅샷 배리어 안에서 호출해도 변경이 오래 멈추지 않습니다.
+     *   보관 파일에 합치는 일은 배리어 밖에서 appendSegment로 합니다.
+     * - segmentPath는 없는 파일이어야 합니다. 이름을 바꾸지 못하면 기존 파일을 다시 열고 예외를 던집니다.
+     * - 이 호출 이후의 변경은 모두 새 저널에 기록됩니다.
+     */
+    void rotate(Path segmentPath) throws IOException {
+        synchronized (forceLock) {
+            synchronized (this) {
+                if (channel == null) return;
+                if (fsyncPolicy != FsyncPolicy.NONE && durableSeq < writtenSeq) {
+                    channel.force(false); // 배리어 밖에서 호출된 경우 fsync를 기다리는 기록이 남아 있을 수 있음
+                }
+                durableSeq = writtenSeq;
+                channel.close();
+                channel = null;
+                try {
+                    Files.move(path, segmentPath, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    // 이름을 못 바꿨으면 기존 파일을 다시 열어 이후 기록을 계속 받음
+                    reopenAfter(e);
+                    throw e;
+                }
+                open();
+            }
+        }
+    }
+
+    /**
+     * rotate로 넘긴 구간 파일을 보관 파일(archivePath) 뒤에 이어 붙이고 구간 파일을 지웁니다.
+     * - 보관 파일이 없으면 이름만 바꿉니다. 구간 파일이 없으면 아무것도 하지 않습니다.
+     * - 이어 붙이다 실패하면 보관 파일을 원래 길이로 되돌리므로, 두 파일을 보관 → 구간 순서로 재생하면 됩니다.
+     */
+    static void appendSegment(Path segmentPath, Path archivePath) throws IOException {
+        if (!Files.exists(segmentPath)) return;
+        if (!Files.exists(archivePath)) {
+            Files.move(segmentPath, archivePath, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        }
+        try (FileChannel source = FileChannel.open(segmentPath, StandardOpenOption.READ);
+             FileChannel archive = FileChannel.open(archivePath, StandardOpenOption.WRITE)) {
+            long start = archive.size();
+            try {
+                long size = source.size();
+                long position = 0;
+                archive.position(start);
+                while (position < size) {
+                    position += source.transferTo(position, size - position, archive);
+                }
+                archive.force(false);
+            } catch (IOException e) {
+                try {
+                    archive.truncate(start); // 반쯤 붙은 기록 뒤에 다음 기록이 이어 붙지 않도록
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+        Files.delete(segmentPath);
+    }
+
+    // 교체 실패 후 저널 파일을 다시 엶. 다시 열지도 못하면 닫힌 채로 두고 원래 예외에 덧붙임 (this 락 안에서 호출)
+    private void reopenAfter(IOException cause) {
+        try {
+            open();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            System.err.println("Error reopening journal " + path + ": " + e.getMessage());
+        }
+    }
+
+    synchronized long size() {
+        try {
+            return channel != null ? channel.size() : (Files.exists(path) ? Files.size(path) : 0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    private static String checksum(String payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+}
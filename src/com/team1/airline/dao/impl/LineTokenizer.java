@@ -0,0 +1,194 @@
+package com.team1.airline.dao.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+/**
+ * 바이트 버퍼 위의 한 줄을 공백 기준으로 잘라 읽는 토크나이저 (정규식 미사용)
+ * - 공백 문자는 정규식 \s 와 같은 범위(스페이스, \t, \n, \u000B, \f, \r)입니다.
+ * - 숫자와 "yyyy-MM-dd'T'HH:mm" 날짜는 String을 만들지 않고 바이트에서 직접 해석합니다.
+ * - 한 스레드에서 재사용하도록 만들어졌습니다. (스레드 간 공유 금지)
+ */
+final class LineTokenizer {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private ByteBuffer buffer;
+    private int pos;
+    private int end;
+    private byte[] scratch = new byte[64];
+
+    /**
+     * 버퍼의 [start, end) 구간을 한 줄로 보고 읽기를 시작합니다.
+     */
+    LineTokenizer reset(ByteBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.pos = start;
+        this.end = end;
+        return this;
+    }
+
+    /**
+     * 문자열 한 줄을 읽습니다. (저널 재생 등 파일 밖의 입력용)
+     */
+    LineTokenizer reset(String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        return reset(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    boolean hasNext() {
+        skipSpaces();
+        return pos < end;
+    }
+
+    String next() {
+        int start = tokenStart();
+        while (pos < end && !isSpace(buffer.get(pos))) pos++;
+        return decode(start, pos);
+    }
+
+    /**
+     * 남은 내용 전체를 앞뒤 공백을 제거해 반환합니다. (공백이 들어간 마지막 컬럼용, 예: "예약 가능")
+     */
+    String rest() {
+        int start = tokenStart();
+        int last = end;
+        while (last > start && isSpace(buffer.get(last - 1))) last--;
+        pos = end;
+        return decode(start, last);
+    }
+
+    int nextInt() {
+        int start = tokenStart();
+        boolean negative = false;
+        if (buffer.get(pos) == '-' || buffer.get(pos) == '+') {
+            negative = buffer.get(pos) == '-';
+            pos++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (pos < end && !isSpace(buffer.get(pos))) {
+            int d = buffer.get(pos) - '0';
+            if (d < 0 || d > 9 || ++digits > 10) throw numberFormat(start);
+            value = value * 10 + d;
+            pos++;
+        }
+        if (digits == 0) throw numberFormat(start);
+        value = negative ? -value : value;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) throw numberFormat(start);
+        return (int) value;
+    }
+
+    /**
+     * "80000.0" 같은 십진수를 읽습니다.
+     * 유효 숫자 15자리 이하이면 정수 / 10^k 한 번으로 계산하며, 이는 Double.parseDouble과 같은 값입니다.
+     * 그 밖의 형식(지수 표기 등)은 Double.parseDouble로 넘깁니다.
+     */
+    double nextDouble() {
+        int start = tokenStart();
+        int p = pos;
+        boolean negative = false;
+        if (buffer.get(p) == '-' || buffer.get(p) == '+') {
+            negative = buffer.get(p) == '-';
+            p++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        boolean simple = true;
+        for (; p < end && !isSpace(buffer.get(p)); p++) {
+            byte b = buffer.get(p);
+            if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (b >= '0' && b <= '9' && digits < 15) {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fractionDigits >= 0) fractionDigits++;
+            } else {
+                simple = false;
+            }
+        }
+        if (!simple || digits == 0) {
+            String token = next();
+            try {
+                return Double.parseDouble(token);
+            } catch (NumberFormatException e) {
+                throw numberFormat(start);
+            }
+        }
+        pos = p;
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * 고정 형식 "yyyy-MM-dd'T'HH:mm" (16바이트) 날짜를 읽습니다.
+     */
+    LocalDateTime nextDateTime() {
+        int start = tokenStart();
+        int tokenEnd = start;
+        while (tokenEnd < end && !isSpace(buffer.get(tokenEnd))) tokenEnd++;
+        if (tokenEnd - start != 16
+                || buffer.get(start + 4) != '-' || buffer.get(start + 7) != '-'
+                || buffer.get(start + 10) != 'T' || buffer.get(start + 13) != ':') {
+            throw new IllegalArgumentException("Invalid date-time: " + decode(start, tokenEnd));
+        }
+        int year = digits(start, 4);
+        int month = digits(start + 5, 2);
+        int day = digits(start + 8, 2);
+        int hour = digits(start + 11, 2);
+        int minute = digits(start + 14, 2);
+        pos = tokenEnd;
+        return LocalDateTime.of(year, month, day, hour, minute); // 범위 오류 시 DateTimeException
+    }
+
+    private int digits(int at, int count) {
+        int value = 0;
+        for (int i = at; i < at + count; i++) {
+            int d = buffer.get(i) - '0';
+            if (d < 0 || d > 9) {
+                throw new IllegalArgumentException("Invalid date-time digit at " + i);
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private int tokenStart() {
+        skipSpaces();
+        if (pos >= end) {
+            throw new NoSuchElementException("Missing column");
+        }
+        return pos;
+    }
+
+    private void skipSpaces() {
+        while (pos < end && isSpace(buffer.get(pos))) pos++;
+    }
+
+    private String decode(int start, int stop) {
+        int length = stop - start;
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private NumberFormatException numberFormat(int start) {
+        int stop = start;
+        while (stop < end && !isSpace(buffer.get(stop))) stop++;
+        return new NumberFormatException("Invalid number: " + decode(start, stop));
+    }
+
+    static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+    }
+}
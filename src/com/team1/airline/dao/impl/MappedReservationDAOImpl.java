@@ -0,0 +1,687 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 매핑 파일에 예약을 저장하는 DAO (GC 힙 밖 저장소)
+ * - 예약 한 건 = 128바이트 고정 길이 레코드. 64MB 세그먼트 파일(reservations-NNNN.seg)을 필요할 때마다 이어 붙입니다.
+ * - 예약 번호 → 레코드, 항공편/회원 → 가장 최근 레코드는 매핑 파일 위의 해시 테이블(MappedSlotIndex)에 두고,
+ *   같은 항공편/회원의 레코드끼리는 레코드 안의 next 필드로 이어 둡니다. (힙에는 레코드 수와 무관한 객체만 남음)
+ * - 쓰기는 매핑된 메모리에 바로 반영되므로 별도의 직렬화 저장 단계가 없습니다. force()로 디스크에 내려 씁니다.
+ * - close()로 정상 종료하면 다음 open은 파일을 다시 매핑하기만 합니다.
+ *   정상 종료 표시가 없으면 레코드를 한 번 훑어 인덱스와 상태별 개수를 다시 만듭니다. (레코드 수 갱신 전의 마지막 쓰기는 유실)
+ * - 삭제된 레코드는 표시만 하고 재사용하지 않습니다. 회원/항공편이 바뀌는 수정은 기존 레코드를 지우고 새로 추가합니다.
+ * - 문자열 필드는 UTF-8 기준 최대 길이가 있습니다. (예약 번호 40, 회원 32, 항공편 24, 좌석 8바이트. 넘으면 IllegalArgumentException)
+ *   UUID 형식 예약 번호는 16바이트로 저장합니다. 가격은 소수 둘째 자리까지 저장합니다.
+ */
+public class MappedReservationDAOImpl implements ReservationDAO, AutoCloseable {
+
+    private static final int MAGIC = 0x41524D52; // "ARMR"
+    private static final short FORMAT_VERSION = 1;
+
+    // 메타 파일: magic, 버전, 레코드 크기, 레코드 수, 유효 레코드 수, 정상 종료 표시, 상태별 개수
+    private static final int META_SIZE = 4096;
+    private static final int META_RECORDS = 8;
+    private static final int META_LIVE = 12;
+    private static final int META_CLEAN = 16;
+    private static final int META_STATUS_COUNTS = 20;
+
+    private static final int RECORD_SIZE = 128;
+    private static final int SEGMENT_SHIFT = 19; // 세그먼트당 레코드 2^19개 (64MB)
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    // 레코드 필드 위치
+    private static final int F_FLAGS = 0;
+    private static final int F_STATUS = 1;
+    private static final int F_ID_LENGTH = 2;
+    private static final int F_USER_LENGTH = 3;
+    private static final int F_FLIGHT_LENGTH = 4;
+    private static final int F_SEAT_LENGTH = 5;
+    private static final int F_PRICE = 8;
+    private static final int F_NEXT_BY_FLIGHT = 16;
+    private static final int F_NEXT_BY_USER = 20;
+    private static final int F_ID = 24;
+    private static final int F_USER = 64;
+    private static final int F_FLIGHT = 96;
+    private static final int F_SEAT = 120;
+
+    private static final int MAX_ID = 40;
+    private static final int MAX_USER = 32;
+    private static final int MAX_FLIGHT = 24;
+    private static final int MAX_SEAT = 8;
+
+    private static final byte USED = 1;
+    private static final byte DELETED = 2;
+    private static final byte NO_STATUS = (byte) 0xFF;
+    private static final byte NULL_LENGTH = (byte) 0xFF;
+    private static final byte UUID_ID = (byte) 0x80; // 예약 번호 길이 필드: UUID 16바이트
+    private static final int NONE = -1;
+
+    private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+
+    private final Path directory;
+    private final MappedByteBuffer meta;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final MappedSlotIndex ids;
+    private final MappedSlotIndex flights;
+    private final MappedSlotIndex users;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int records;
+    private boolean closed;
+
+    private MappedReservationDAOImpl(Path directory, MappedByteBuffer meta, MappedSlotIndex ids,
+                                     MappedSlotIndex flights, MappedSlotIndex users) {
+        this.directory = directory;
+        this.meta = meta;
+        this.ids = ids;
+        this.flights = flights;
+        this.users = users;
+    }
+
+    /**
+     * 디렉터리의 저장소를 엽니다. (없으면 새로 만듦)
+     */
+    public static MappedReservationDAOImpl open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        MappedByteBuffer meta = map(directory.resolve("reservations.meta"), META_SIZE);
+        boolean created = meta.getInt(0) == 0;
+        if (created) {
+            meta.putInt(0, MAGIC);
+            meta.putShort(4, FORMAT_VERSION);
+            meta.putShort(6, (short) RECORD_SIZE);
+            meta.put(META_CLEAN, (byte) 1);
+        } else if (meta.getInt(0) != MAGIC || meta.getShort(4) != FORMAT_VERSION || meta.getShort(6) != RECORD_SIZE) {
+            throw new IOException("Not a reservation store (or unsupported format): " + directory);
+        }
+        int records = meta.getInt(META_RECORDS);
+        MappedReservationDAOImpl dao = new MappedReservationDAOImpl(directory, meta,
+                MappedSlotIndex.open(directory.resolve("ids.idx"), records * 2),
+                MappedSlotIndex.open(directory.resolve("flights.idx"), 0),
+                MappedSlotIndex.open(directory.resolve("users.idx"), 0));
+        dao.records = records;
+        for (int s = 0; s < (records + SEGMENT_MASK) >>> SEGMENT_SHIFT; s++) {
+            dao.mapSegment(s);
+        }
+        boolean indexesMissing = meta.getInt(META_LIVE) > 0 && (dao.flights.size() == 0 || dao.users.size() == 0);
+        if (meta.get(META_CLEAN) != 1 || dao.ids.size() != meta.getInt(META_LIVE) || indexesMissing) {
+            System.out.println("MappedReservationDAO: " + directory + " was not closed cleanly (or indexes are missing), rebuilding indexes...");
+            dao.rebuild();
+        }
+        meta.put(META_CLEAN, (byte) 0);
+        meta.force();
+        return dao;
+    }
+
+    private static MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private void mapSegment(int index) throws IOException {
+        Path file = directory.resolve(String.format("reservations-%04d.seg", index));
+        segments.add(map(file, (long) RECORD_SIZE << SEGMENT_SHIFT));
+    }
+
+    // --- ReservationDAO ---
+
+    @Override
+    public void addReservation(Reservation reservation) {
+        addReservations(List.of(reservation));
+    }
+
+    @Override
+    public void addReservations(List<Reservation> reservations) {
+        // 먼저 전부 인코딩해 보고 (길이 초과 등으로 실패하면 하나도 저장하지 않음) 그다음 기록
+        List<Encoded> encoded = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            encoded.add(new Encoded(reservation));
+        }
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            for (Encoded e : encoded) {
+                write(e, true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing reservation store " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Reservation findByReservationId(String reservationId) {
+        Key key = Key.lookup(reservationId);
+        if (key == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            int slot = findId(key);
+            return slot == NONE ? null : materialize(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Reservation> findReservationsByFlightId(String flightId) {
+        return chain(flightId, flights, F_FLIGHT, F_FLIGHT_LENGTH, F_NEXT_BY_FLIGHT);
+    }
+
+    @Override
+    public List<Reservation> findReservationsByUserId(String userId) {
+        return chain(userId, users, F_USER, F_USER_LENGTH, F_NEXT_BY_USER);
+    }
+
+    @Override
+    public List<Reservation> findReservationsByStatus(ReservationStatus status) {
+        List<Reservation> found = new ArrayList<>();
+        if (status == null) {
+            return found;
+        }
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            for (int slot = 0; slot < records; slot++) {
+                ByteBuffer segment = segment(slot);
+                int at = offset(slot);
+                if (segment.get(at + F_FLAGS) == USED && segment.get(at + F_STATUS) == status.ordinal()) {
+                    found.add(materialize(slot));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<ReservationStatus, Integer> countReservationsByStatus() {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            Map<ReservationStatus, Integer> counts = new EnumMap<>(ReservationStatus.class);
+            for (ReservationStatus status : STATUSES) {
+                counts.put(status, meta.getInt(META_STATUS_COUNTS + 4 * status.ordinal()));
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Reservation> findAll() {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            List<Reservation> all = new ArrayList<>(meta.getInt(META_LIVE));
+            for (int slot = 0; slot < records; slot++) {
+                if (segment(slot).get(offset(slot) + F_FLAGS) == USED) {
+                    all.add(materialize(slot));
+                }
+            }
+            return all;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateReservation(Reservation reservation) {
+        if (reservation.getReservationId() == null) {
+            return;
+        }
+        Encoded encoded = new Encoded(reservation);
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            write(encoded, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing reservation store " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteReservation(String reservationId) {
+        Key key = Key.lookup(reservationId);
+        if (key == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            int slot = findId(key);
+            if (slot != NONE) {
+                delete(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 지금까지의 변경을 디스크에 내려 씁니다.
+     */
+    public void force() {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            forceAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 내려 쓰고 정상 종료 표시를 남깁니다. (다음 open은 인덱스를 다시 만들지 않음)
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            forceAll();
+            meta.put(META_CLEAN, (byte) 1);
+            meta.force();
+            closed = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 저장된 예약 수 (삭제 제외)
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return meta.getInt(META_LIVE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- 쓰기 (쓰기 락 안에서 호출) ---
+
+    private void write(Encoded e, boolean insert) throws IOException {
+        int slot = findId(e.id);
+        if (slot == NONE && !insert) {
+            return; // 없는 예약의 수정은 무시 (ReservationDAOImpl과 같음)
+        }
+        if (slot != NONE && fieldEquals(slot, F_USER, F_USER_LENGTH, e.user)
+                && fieldEquals(slot, F_FLIGHT, F_FLIGHT_LENGTH, e.flight)) {
+            // 제자리 수정
+            ByteBuffer segment = segment(slot);
+            int at = offset(slot);
+            countStatus(segment.get(at + F_STATUS), -1);
+            segment.put(at + F_STATUS, e.status);
+            segment.putLong(at + F_PRICE, e.priceMinor);
+            putText(segment, at + F_SEAT, at + F_SEAT_LENGTH, e.seat);
+            countStatus(e.status, 1);
+            return;
+        }
+        if (slot != NONE) {
+            delete(slot);
+        }
+        append(e);
+    }
+
+    private void append(Encoded e) throws IOException {
+        int slot = records;
+        if ((slot >>> SEGMENT_SHIFT) == segments.size()) {
+            mapSegment(segments.size());
+        }
+        ByteBuffer segment = segment(slot);
+        int at = offset(slot);
+        segment.put(at + F_STATUS, e.status);
+        segment.putLong(at + F_PRICE, e.priceMinor);
+        if (e.id.length == UUID_ID) {
+            segment.put(at + F_ID_LENGTH, UUID_ID);
+            segment.put(at + F_ID, e.id.bytes);
+        } else {
+            putText(segment, at + F_ID, at + F_ID_LENGTH, e.id.bytes);
+        }
+        putText(segment, at + F_USER, at + F_USER_LENGTH, e.user);
+        putText(segment, at + F_FLIGHT, at + F_FLIGHT_LENGTH, e.flight);
+        putText(segment, at + F_SEAT, at + F_SEAT_LENGTH, e.seat);
+        segment.putInt(at + F_NEXT_BY_FLIGHT, link(slot, e.flight, flights, F_FLIGHT, F_FLIGHT_LENGTH));
+        segment.putInt(at + F_NEXT_BY_USER, link(slot, e.user, users, F_USER, F_USER_LENGTH));
+        segment.put(at + F_FLAGS, USED);
+
+        ids.put(e.id.hash, slot, s -> idEquals(s, e.id), this::idHash);
+        // 레코드와 인덱스를 다 쓴 뒤 레코드 수를 늘림 (비정상 종료 시 재구성은 이 수까지만 읽음)
+        records = slot + 1;
+        meta.putInt(META_RECORDS, records);
+        meta.putInt(META_LIVE, meta.getInt(META_LIVE) + 1);
+        countStatus(e.status, 1);
+    }
+
+    /**
+     * 새 레코드를 같은 키(항공편/회원) 목록의 맨 앞에 둡니다.
+     * @return 이전 맨 앞 레코드 (새 레코드의 next)
+     */
+    private int link(int slot, byte[] value, MappedSlotIndex heads, int field, int lengthField) throws IOException {
+        if (value == null) {
+            return NONE;
+        }
+        int hash = hash(value, value.length);
+        int previous = heads.find(hash, s -> fieldEquals(s, field, lengthField, value));
+        heads.put(hash, slot, s -> fieldEquals(s, field, lengthField, value), s -> fieldHash(s, field, lengthField));
+        return previous;
+    }
+
+    private void delete(int slot) {
+        ByteBuffer segment = segment(slot);
+        int at = offset(slot);
+        ids.remove(idHash(slot), slot, this::idHash);
+        segment.put(at + F_FLAGS, DELETED);
+        meta.putInt(META_LIVE, meta.getInt(META_LIVE) - 1);
+        countStatus(segment.get(at + F_STATUS), -1);
+    }
+
+    private void countStatus(byte status, int delta) {
+        if (status != NO_STATUS) {
+            int at = META_STATUS_COUNTS + 4 * status;
+            meta.putInt(at, meta.getInt(at) + delta);
+        }
+    }
+
+    // 정상 종료 표시가 없을 때: 레코드 순서대로 다시 넣어 인덱스/개수 재구성
+    private void rebuild() throws IOException {
+        ids.clear();
+        flights.clear();
+        users.clear();
+        int live = 0;
+        int[] counts = new int[STATUSES.length];
+        for (int slot = 0; slot < records; slot++) {
+            ByteBuffer segment = segment(slot);
+            int at = offset(slot);
+            byte flags = segment.get(at + F_FLAGS);
+            if (flags == USED) {
+                int s = slot;
+                ids.put(idHash(slot), slot, other -> sameId(other, s), this::idHash);
+                live++;
+                byte status = segment.get(at + F_STATUS);
+                if (status != NO_STATUS) counts[status]++;
+            }
+            if (flags == USED || flags == DELETED) {
+                // 지워진 레코드도 목록 중간에 이어져 있으므로 맨 앞 후보로 포함
+                relink(slot, flights, F_FLIGHT, F_FLIGHT_LENGTH);
+                relink(slot, users, F_USER, F_USER_LENGTH);
+            }
+        }
+        meta.putInt(META_LIVE, live);
+        for (int i = 0; i < counts.length; i++) {
+            meta.putInt(META_STATUS_COUNTS + 4 * i, counts[i]);
+        }
+    }
+
+    private void relink(int slot, MappedSlotIndex heads, int field, int lengthField) throws IOException {
+        if (segment(slot).get(offset(slot) + lengthField) == NULL_LENGTH) {
+            return;
+        }
+        heads.put(fieldHash(slot, field, lengthField), slot,
+                other -> sameField(other, slot, field, lengthField), s -> fieldHash(s, field, lengthField));
+    }
+
+    private void forceAll() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        ids.force();
+        flights.force();
+        users.force();
+        meta.force();
+    }
+
+    // --- 읽기 ---
+
+    private List<Reservation> chain(String value, MappedSlotIndex heads, int field, int lengthField, int nextField) {
+        List<Reservation> found = new ArrayList<>();
+        if (value == null) {
+            return found;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            int slot = heads.find(hash(bytes, bytes.length), s -> fieldEquals(s, field, lengthField, bytes));
+            for (; slot != NONE; slot = segment(slot).getInt(offset(slot) + nextField)) {
+                if (segment(slot).get(offset(slot) + F_FLAGS) == USED) {
+                    found.add(materialize(slot));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Collections.reverse(found); // 목록은 최신순으로 이어져 있으므로 저장 순서로 뒤집음
+        return found;
+    }
+
+    private int findId(Key key) {
+        return ids.find(key.hash, s -> idEquals(s, key));
+    }
+
+    private Reservation materialize(int slot) {
+        ByteBuffer segment = segment(slot);
+        int at = offset(slot);
+        String reservationId = segment.get(at + F_ID_LENGTH) == UUID_ID
+                ? new UUID(segment.getLong(at + F_ID), segment.getLong(at + F_ID + 8)).toString()
+                : text(segment, at + F_ID, at + F_ID_LENGTH);
+        byte status = segment.get(at + F_STATUS);
+        return new Reservation(reservationId,
+                text(segment, at + F_USER, at + F_USER_LENGTH),
+                text(segment, at + F_FLIGHT, at + F_FLIGHT_LENGTH),
+                text(segment, at + F_SEAT, at + F_SEAT_LENGTH),
+                segment.getLong(at + F_PRICE) / 100.0,
+                status == NO_STATUS ? null : STATUSES[status]);
+    }
+
+    private ByteBuffer segment(int slot) {
+        return segments.get(slot >>> SEGMENT_SHIFT);
+    }
+
+    private static int offset(int slot) {
+        return (slot & SEGMENT_MASK) * RECORD_SIZE;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Reservation store is closed: " + directory);
+        }
+    }
+
+    // --- 필드 비교 / 해시 ---
+
+    private boolean idEquals(int slot, Key key) {
+        ByteBuffer segment = segment(slot);
+        int at = offset(slot);
+        byte length = segment.get(at + F_ID_LENGTH);
+        return length == key.length && bytesEqual(segment, at + F_ID, key.bytes);
+    }
+
+    private boolean sameId(int slot, int other) {
+        return segment(slot).get(offset(slot) + F_ID_LENGTH) == segment(other).get(offset(other) + F_ID_LENGTH)
+                && bytesEqual(segment(slot), offset(slot) + F_ID, readBytes(other, F_ID, idBytes(other)));
+    }
+
+    private boolean sameField(int slot, int other, int field, int lengthField) {
+        byte length = segment(other).get(offset(other) + lengthField);
+        return segment(slot).get(offset(slot) + lengthField) == length
+                && bytesEqual(segment(slot), offset(slot) + field, readBytes(other, field, length & 0xFF));
+    }
+
+    private boolean fieldEquals(int slot, int field, int lengthField, byte[] value) {
+        ByteBuffer segment = segment(slot);
+        int at = offset(slot);
+        byte length = segment.get(at + lengthField);
+        if (value == null) {
+            return length == NULL_LENGTH;
+        }
+        return length == value.length && bytesEqual(segment, at + field, value);
+    }
+
+    private int idHash(int slot) {
+        int length = idBytes(slot);
+        return hash(readBytes(slot, F_ID, length), length);
+    }
+
+    private int idBytes(int slot) {
+        byte length = segment(slot).get(offset(slot) + F_ID_LENGTH);
+        return length == UUID_ID ? 16 : length;
+    }
+
+    private int fieldHash(int slot, int field, int lengthField) {
+        int length = segment(slot).get(offset(slot) + lengthField) & 0xFF;
+        return hash(readBytes(slot, field, length), length);
+    }
+
+    private byte[] readBytes(int slot, int field, int length) {
+        byte[] bytes = new byte[length];
+        segment(slot).get(offset(slot) + field, bytes);
+        return bytes;
+    }
+
+    private static boolean bytesEqual(ByteBuffer segment, int at, byte[] value) {
+        for (int i = 0; i < value.length; i++) {
+            if (segment.get(at + i) != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void putText(ByteBuffer segment, int at, int lengthAt, byte[] value) {
+        if (value == null) {
+            segment.put(lengthAt, NULL_LENGTH);
+            return;
+        }
+        segment.put(lengthAt, (byte) value.length);
+        segment.put(at, value);
+    }
+
+    private static String text(ByteBuffer segment, int at, int lengthAt) {
+        byte length = segment.get(lengthAt);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        segment.get(at, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // FNV-1a + 비트 섞기 (하위 비트로 탐사 시작 위치를 정하므로)
+    static int hash(byte[] bytes, int length) {
+        int h = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            h = (h ^ (bytes[i] & 0xFF)) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+
+    private static byte[] encode(String value, int max, String what) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > max) {
+            throw new IllegalArgumentException(what + " is longer than " + max + " bytes: " + value);
+        }
+        return bytes;
+    }
+
+    /**
+     * 예약 번호 키 (UUID 형식이면 16바이트, 아니면 UTF-8)
+     */
+    private static final class Key {
+        final byte[] bytes;
+        final byte length; // 레코드의 길이 필드 값
+        final int hash;
+
+        private Key(byte[] bytes, byte length) {
+            this.bytes = bytes;
+            this.length = length;
+            this.hash = hash(bytes, bytes.length);
+        }
+
+        static Key ofId(String reservationId) {
+            if (BinarySnapshot.isCanonicalUuid(reservationId)) {
+                UUID uuid = UUID.fromString(reservationId);
+                byte[] bytes = ByteBuffer.allocate(16)
+                        .putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+                return new Key(bytes, UUID_ID);
+            }
+            byte[] bytes = encode(reservationId, MAX_ID, "Reservation ID");
+            return new Key(bytes, (byte) bytes.length);
+        }
+
+        /**
+         * @return 조회용 키 (null이거나 저장할 수 없는 길이라 저장소에 있을 수 없으면 null)
+         */
+        static Key lookup(String reservationId) {
+            if (reservationId == null || reservationId.length() > MAX_ID) {
+                return null;
+            }
+            try {
+                return ofId(reservationId);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 레코드로 쓸 값 (락 밖에서 미리 인코딩)
+     */
+    private static final class Encoded {
+        final Key id;
+        final byte[] user;
+        final byte[] flight;
+        final byte[] seat;
+        final long priceMinor;
+        final byte status;
+
+        Encoded(Reservation reservation) {
+            if (reservation.getReservationId() == null) {
+                throw new IllegalArgumentException("Reservation ID is required");
+            }
+            id = Key.ofId(reservation.getReservationId());
+            user = encode(reservation.getUserId(), MAX_USER, "User ID");
+            flight = encode(reservation.getFlightId(), MAX_FLIGHT, "Flight ID");
+            seat = encode(reservation.getSeatNumber(), MAX_SEAT, "Seat number");
+            priceMinor = Math.round(reservation.getFinalPrice() * 100);
+            status = reservation.getStatus() == null ? NO_STATUS : (byte) reservation.getStatus().ordinal();
+        }
+    }
+}
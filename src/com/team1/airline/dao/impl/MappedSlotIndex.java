@@ -0,0 +1,181 @@
+package com.team1.airline.dao.impl;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 메모리 매핑 파일 위의 열린 주소법 해시 테이블 (키 → 레코드 슬롯 번호)
+ * - 키 자체는 저장하지 않고 슬롯 번호(+1)만 int로 저장합니다. 같은 키인지는 호출자가 슬롯의 레코드를 읽어 판단합니다.
+ * - 선형 탐사, 삭제는 뒤따르는 항목을 당겨 채우는 방식이라 삭제 표시가 남지 않습니다.
+ * - 항목 수가 용량의 절반을 넘으면 두 배 크기의 새 파일에 다시 넣은 뒤 원래 파일과 바꿉니다.
+ * - 동기화하지 않습니다. (MappedReservationDAOImpl의 락 안에서 사용)
+ */
+final class MappedSlotIndex {
+
+    private static final int MAGIC = 0x41524958; // "ARIX"
+    private static final int HEADER = 16; // magic, capacity, count, 예약
+    private static final int MIN_CAPACITY = 1 << 10;
+
+    private final Path file;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+
+    private MappedSlotIndex(Path file, MappedByteBuffer buffer, int capacity, int count) {
+        this.file = file;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.count = count;
+    }
+
+    /**
+     * 파일이 있으면 그대로 매핑하고, 없거나 형식이 다르면 빈 테이블로 만듭니다.
+     */
+    static MappedSlotIndex open(Path file, int minCapacity) throws IOException {
+        if (Files.exists(file) && Files.size(file) >= HEADER) {
+            MappedByteBuffer existing = map(file, Files.size(file));
+            int capacity = existing.getInt(4);
+            if (existing.getInt(0) == MAGIC && Integer.bitCount(capacity) == 1
+                    && Files.size(file) == HEADER + 4L * capacity) {
+                return new MappedSlotIndex(file, existing, capacity, existing.getInt(8));
+            }
+        }
+        return create(file, Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, minCapacity - 1)) << 1));
+    }
+
+    private static MappedSlotIndex create(Path file, int capacity) throws IOException {
+        Files.deleteIfExists(file);
+        MappedByteBuffer buffer = map(file, HEADER + 4L * capacity);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, capacity);
+        buffer.putInt(8, 0);
+        return new MappedSlotIndex(file, buffer, capacity, 0);
+    }
+
+    private static MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size); // 매핑은 채널을 닫아도 유지됨
+        }
+    }
+
+    /**
+     * @param matches 슬롯의 레코드가 찾는 키인지
+     * @return 슬롯 번호, 없으면 -1
+     */
+    int find(int hash, IntPredicate matches) {
+        int mask = capacity - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            int entry = entry(i);
+            if (entry == 0) {
+                return -1;
+            }
+            if (matches.test(entry - 1)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * 같은 키(sameKey)의 항목이 있으면 새 슬롯으로 바꾸고, 없으면 추가합니다.
+     * @param hashOf 슬롯 → 그 레코드 키의 해시 (테이블을 키울 때 사용)
+     */
+    void put(int hash, int slot, IntPredicate sameKey, IntUnaryOperator hashOf) throws IOException {
+        int mask = capacity - 1;
+        int i = hash & mask;
+        for (int entry = entry(i); entry != 0; i = (i + 1) & mask, entry = entry(i)) {
+            if (sameKey.test(entry - 1)) {
+                setEntry(i, slot + 1);
+                return;
+            }
+        }
+        setEntry(i, slot + 1);
+        setCount(count + 1);
+        if (count * 2 > capacity) {
+            grow(hashOf);
+        }
+    }
+
+    /**
+     * 슬롯 번호가 slot인 항목을 지웁니다.
+     * @return 지웠는지
+     */
+    boolean remove(int hash, int slot, IntUnaryOperator hashOf) {
+        int mask = capacity - 1;
+        int hole = hash & mask;
+        while (entry(hole) != slot + 1) {
+            if (entry(hole) == 0) {
+                return false;
+            }
+            hole = (hole + 1) & mask;
+        }
+        setEntry(hole, 0);
+        for (int i = (hole + 1) & mask; entry(i) != 0; i = (i + 1) & mask) {
+            int home = hashOf.applyAsInt(entry(i) - 1) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                setEntry(hole, entry(i));
+                setEntry(i, 0);
+                hole = i;
+            }
+        }
+        setCount(count - 1);
+        return true;
+    }
+
+    void clear() {
+        for (int i = 0; i < capacity; i++) {
+            setEntry(i, 0);
+        }
+        setCount(0);
+    }
+
+    int size() {
+        return count;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    private void grow(IntUnaryOperator hashOf) throws IOException {
+        Path temp = Paths.get(file + ".tmp");
+        MappedSlotIndex bigger = create(temp, capacity * 2);
+        int mask = bigger.capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            int entry = entry(i);
+            if (entry != 0) {
+                int j = hashOf.applyAsInt(entry - 1) & mask;
+                while (bigger.entry(j) != 0) {
+                    j = (j + 1) & mask;
+                }
+                bigger.setEntry(j, entry);
+            }
+        }
+        bigger.setCount(count);
+        bigger.force();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        buffer = bigger.buffer;
+        capacity = bigger.capacity;
+    }
+
+    private int entry(int i) {
+        return buffer.getInt(HEADER + 4 * i);
+    }
+
+    private void setEntry(int i, int value) {
+        buffer.putInt(HEADER + 4 * i, value);
+    }
+
+    private void setCount(int value) {
+        count = value;
+        buffer.putInt(8, value);
+    }
+}
@@ -2,9 +2,11 @@ package com.team1.airline.dao.impl;
 
 import com.team1.airline.dao.ReservationDAO;
 import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
 import com.team1.airline.dao.impl.DataManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class ReservationDAOImpl implements ReservationDAO {
@@ -16,34 +18,43 @@ public class ReservationDAOImpl implements ReservationDAO {
                 reservation.getFlightId(),
                 reservation.getSeatNumber(),
                 String.valueOf(reservation.getFinalPrice()),
-                reservation.getStatus());
+                reservation.getStatus().getText());
     }
 
     @Override
     public void addReservation(Reservation reservation) {
-        DataManager.getInstance().getReservations().add(reservation);
+        DataManager.getInstance().reservationTable().add(DataManager.internIds(reservation));
+    }
+
+    @Override
+    public void addReservations(List<Reservation> reservations) {
+        reservations.forEach(DataManager::internIds);
+        DataManager.getInstance().reservationTable().addAll(reservations);
     }
 
     @Override
     public Reservation findByReservationId(String reservationId) {
-        return DataManager.getInstance().getReservations().stream()
-                .filter(r -> r.getReservationId().equals(reservationId))
-                .findFirst()
-                .orElse(null);
+        return DataManager.getInstance().reservationTable().get(reservationId);
     }
 
     @Override
     public List<Reservation> findReservationsByFlightId(String flightId) {
-        return DataManager.getInstance().getReservations().stream()
-                .filter(r -> r.getFlightId().equals(flightId))
-                .collect(Collectors.toList());
+        return DataManager.getInstance().reservationsByFlight().get(flightId);
     }
 
     @Override
     public List<Reservation> findReservationsByUserId(String userId) {
-        return DataManager.getInstance().getReservations().stream()
-                .filter(r -> r.getUserId().equals(userId))
-                .collect(Collectors.toList());
+        return DataManager.getInstance().reservationsByUser().get(userId);
+    }
+
+    @Override
+    public List<Reservation> findReservationsByStatus(ReservationStatus status) {
+        return DataManager.getInstance().reservationsByStatus().get(status);
+    }
+
+    @Override
+    public Map<ReservationStatus, Integer> countReservationsByStatus() {
+        return DataManager.getInstance().reservationsByStatus().counts();
     }
 
     @Override
@@ -53,18 +64,11 @@ public class ReservationDAOImpl implements ReservationDAO {
 
     @Override
     public void updateReservation(Reservation reservation) {
-        List<Reservation> reservations = DataManager.getInstance().getReservations();
-        for (int i = 0; i < reservations.size(); i++) {
-            if (reservations.get(i).getReservationId().equals(reservation.getReservationId())) {
-                reservations.set(i, reservation);
-                return;
-            }
-        }
+        DataManager.getInstance().reservationTable().update(DataManager.internIds(reservation));
     }
 
     @Override
     public void deleteReservation(String reservationId) {
-        List<Reservation> reservations = DataManager.getInstance().getReservations();
-        reservations.removeIf(r -> r.getReservationId().equals(reservationId));
+        DataManager.getInstance().reservationTable().remove(reservationId);
     }
 }
@@ -20,23 +20,28 @@ public class RouteDAOImpl implements RouteDAO {
 
     @Override
     public void saveRoute(Route route) {
-        DataManager.getInstance().getRoutes().add(route);
+        DataManager.getInstance().routeTable().add(route);
     }
 
     @Override
     public Route findByRouteId(String routeId) {
-        return DataManager.getInstance().getRoutes().stream()
-                .filter(r -> r.getRouteId().equals(routeId))
-                .findFirst()
-                .orElse(null);
+        return DataManager.getInstance().routeTable().get(routeId);
     }
 
     @Override
     public List<Route> findRoutesByAirports(String departureAirportCode, String arrivalAirportCode) {
-        return DataManager.getInstance().getRoutes().stream()
-                .filter(r -> r.getDepartureAirportCode().equalsIgnoreCase(departureAirportCode)
-                        && r.getArrivalAirportCode().equalsIgnoreCase(arrivalAirportCode))
-                .collect(Collectors.toList());
+        return DataManager.getInstance().routesByAirportPair()
+                .get(DataManager.airportPairKey(departureAirportCode, arrivalAirportCode));
+    }
+
+    @Override
+    public List<Route> findRoutesFrom(String departureAirportCode) {
+        return DataManager.getInstance().routesByDeparture().get(DataManager.normalizeAirportCode(departureAirportCode));
+    }
+
+    @Override
+    public List<Route> findRoutesTo(String arrivalAirportCode) {
+        return DataManager.getInstance().routesByArrival().get(DataManager.normalizeAirportCode(arrivalAirportCode));
     }
 
     @Override
@@ -46,18 +51,16 @@ public class RouteDAOImpl implements RouteDAO {
 
     @Override
     public void updateRoute(Route route) {
-        List<Route> routes = DataManager.getInstance().getRoutes();
-        for (int i = 0; i < routes.size(); i++) {
-            if (routes.get(i).getRouteId().equals(route.getRouteId())) {
-                routes.set(i, route);
-                return;
-            }
-        }
+        DataManager.getInstance().routeTable().update(route);
     }
 
     @Override
     public void deleteRoute(String routeId) {
-        List<Route> routes = DataManager.getInstance().getRoutes();
-        routes.removeIf(r -> r.getRouteId().equals(routeId));
+        DataManager.getInstance().routeTable().remove(routeId);
+    }
+
+    @Override
+    public long getVersion() {
+        return DataManager.getInstance().routeTable().version();
     }
 }
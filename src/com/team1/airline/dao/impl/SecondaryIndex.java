@@ -0,0 +1,93 @@
+package com.team1.airline.dao.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 보조키 → 행 목록 멀티맵 인덱스 (예: flightId → 예약 목록)
+ * - 행마다 색인된 보조키를 기억해 두므로, 객체를 직접 수정한 뒤 update를 호출해도
+ *   이전 버킷에서 정확히 빠져나옵니다.
+ * - 조회 비용은 테이블 크기가 아니라 결과 크기에 비례합니다.
+ * - 버킷은 처음 색인된 순번으로 정렬된 ConcurrentSkipListMap이므로 조회는 락 없이 진행되고,
+ *   결과는 기존과 같이 삽입 순서입니다. (같은 기본키의 변경은 EntityTable이 순서대로 호출)
+ */
+class SecondaryIndex<T> implements TableIndex<T> {
+
+    private final Function<T, String> keyOf;
+    private final ConcurrentHashMap<String, NavigableMap<Long, T>> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Placement> placementByPrimaryKey = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    SecondaryIndex(Function<T, String> keyOf) {
+        this.keyOf = keyOf;
+    }
+
+    @Override
+    public void put(String primaryKey, T row) {
+        String key = keyOf.apply(row);
+        Placement previous = placementByPrimaryKey.get(primaryKey);
+        long seq = previous != null ? previous.seq : sequence.incrementAndGet();
+        if (previous != null && !previous.key.equals(key)) {
+            removeFromBucket(previous.key, seq);
+        }
+        placementByPrimaryKey.put(primaryKey, new Placement(key, seq));
+        // 빈 버킷 제거와 겹치지 않도록 버킷 맵의 compute 안에서 넣음
+        buckets.compute(key, (k, bucket) -> {
+            NavigableMap<Long, T> target = bucket == null ? new ConcurrentSkipListMap<>() : bucket;
+            target.put(seq, row);
+            return target;
+        });
+    }
+
+    @Override
+    public void remove(String primaryKey) {
+        Placement placement = placementByPrimaryKey.remove(primaryKey);
+        if (placement != null) {
+            removeFromBucket(placement.key, placement.seq);
+        }
+    }
+
+    @Override
+    public void clear() {
+        buckets.clear();
+        placementByPrimaryKey.clear();
+    }
+
+    /**
+     * @return 보조키에 해당하는 행 목록 (복사본, 없으면 빈 리스트)
+     */
+    List<T> get(String key) {
+        NavigableMap<Long, T> bucket = key == null ? null : buckets.get(key);
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket.values());
+    }
+
+    /**
+     * @return 보조키에 해당하는 행 수 (목록 생성 없이)
+     */
+    int count(String key) {
+        NavigableMap<Long, T> bucket = key == null ? null : buckets.get(key);
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    private void removeFromBucket(String key, long seq) {
+        buckets.computeIfPresent(key, (k, bucket) -> {
+            bucket.remove(seq);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+
+    private static final class Placement {
+        private final String key;
+        private final long seq;
+
+        Placement(String key, long seq) {
+            this.key = key;
+            this.seq = seq;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.team1.airline.dao.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * [스냅샷 형식 변환기]
+ * - to-binary [출력 파일]: data/*.txt (+ 예약 저널)를 읽어 바이너리 스냅샷으로 저장 (기본 data/snapshot.bin)
+ * - to-text [입력 파일]: 바이너리 스냅샷을 읽어 data/*.txt 로 저장
+ */
+public class SnapshotConverter {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: SnapshotConverter to-binary|to-text [snapshot file]");
+            return;
+        }
+        Path snapshot = Paths.get(args.length > 1 ? args[1] : "data/snapshot.bin");
+        DataManager dataManager = DataManager.getInstance();
+
+        switch (args[0]) {
+            case "to-binary":
+                dataManager.loadAllData();
+                long bytes = dataManager.saveBinarySnapshot(snapshot);
+                System.out.println("SnapshotConverter: Wrote " + bytes + " bytes to " + snapshot);
+                break;
+            case "to-text":
+                dataManager.loadBinarySnapshot(snapshot);
+                dataManager.saveTextFiles();
+                System.out.println("SnapshotConverter: Wrote data/*.txt from " + snapshot);
+                break;
+            default:
+                System.out.println("SnapshotConverter: Unknown command " + args[0]);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.team1.airline.dao.impl;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [백그라운드 스냅샷 스레드]
+ * - 주기(interval) 또는 예약 저널 크기(threshold)를 기준으로 DataManager.writeSnapshot()을 실행합니다.
+ * - 스냅샷이 끝나면 저널이 비워지므로, 실행 시간이 길어져도 시작 시 재생할 저널 크기가 제한됩니다.
+ * - 스냅샷 소요 시간과 기록 바이트 수를 조회할 수 있습니다.
+ */
+public class Snapshotter {
+
+    private static final long CHECK_PERIOD_MILLIS = 1000;
+
+    private final DataManager dataManager;
+    private final long intervalMillis;
+    private final long journalThresholdBytes;
+    private ScheduledExecutorService scheduler;
+
+    private volatile long lastSnapshotAt = System.currentTimeMillis();
+    private volatile long lastDurationMillis;
+    private volatile long lastBytesWritten;
+    private volatile long totalBytesWritten;
+    private volatile long snapshotCount;
+    private volatile long failureCount;
+
+    /**
+     * @param intervalMillis 변경이 있을 때 스냅샷을 찍는 최대 간격
+     * @param journalThresholdBytes 저널이 이 크기를 넘으면 간격과 관계없이 스냅샷
+     */
+    public Snapshotter(DataManager dataManager, long intervalMillis, long journalThresholdBytes) {
+        this.dataManager = dataManager;
+        this.intervalMillis = intervalMillis;
+        this.journalThresholdBytes = journalThresholdBytes;
+    }
+
+    /**
+     * 시스템 속성으로 설정한 Snapshotter 생성
+     * (airline.snapshot.intervalSeconds 기본 300초, airline.snapshot.journalBytes 기본 8MB)
+     */
+    public static Snapshotter fromSystemProperties(DataManager dataManager) {
+        long intervalSeconds = Long.getLong("airline.snapshot.intervalSeconds", 300L);
+        long journalBytes = Long.getLong("airline.snapshot.journalBytes", 8L * 1024 * 1024);
+        return new Snapshotter(dataManager, TimeUnit.SECONDS.toMillis(intervalSeconds), journalBytes);
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "snapshotter");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.min(CHECK_PERIOD_MILLIS, intervalMillis);
+        scheduler.scheduleWithFixedDelay(this::checkAndSnapshot, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 스케줄러를 멈추고 진행 중인 스냅샷이 끝날 때까지 기다립니다.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) return;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+    }
+
+    private void checkAndSnapshot() {
+        try {
+            long journalSize = dataManager.getJournalSize();
+            boolean overThreshold = journalSize >= journalThresholdBytes;
+            boolean intervalElapsed = System.currentTimeMillis() - lastSnapshotAt >= intervalMillis;
+            if (overThreshold || (intervalElapsed && (journalSize > 0 || dataManager.hasUnsavedChanges()))) {
+                snapshotNow();
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나도 다음 주기에 다시 시도하도록 스케줄러 스레드를 살려 둠
+            System.err.println("Snapshotter: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 즉시 스냅샷을 찍습니다.
+     * @return 성공 여부
+     */
+    public boolean snapshotNow() {
+        long start = System.nanoTime();
+        long bytes = dataManager.writeSnapshot();
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastSnapshotAt = System.currentTimeMillis();
+        if (bytes < 0) {
+            failureCount++;
+            return false;
+        }
+        lastDurationMillis = duration;
+        lastBytesWritten = bytes;
+        totalBytesWritten += bytes;
+        snapshotCount++;
+        System.out.println("Snapshotter: Snapshot written (" + bytes + " bytes, " + duration + " ms)");
+        return true;
+    }
+
+    // --- Metrics ---
+    public long getLastDurationMillis() {
+        return lastDurationMillis;
+    }
+
+    public long getLastBytesWritten() {
+        return lastBytesWritten;
+    }
+
+    public long getTotalBytesWritten() {
+        return totalBytesWritten;
+    }
+
+    public long getSnapshotCount() {
+        return snapshotCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public long getLastSnapshotAt() {
+        return lastSnapshotAt;
+    }
+}
@@ -0,0 +1,115 @@
+package com.team1.airline.dao.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * 그룹키별로 정렬키 순서를 유지하는 인덱스 (예: routeId별 출발 시각 순 항공편)
+ * - 그룹 안에서 정렬키 범위 조회를 이진 탐색(O(log n + 결과 수))으로 처리합니다.
+ * - 정렬키가 같은 행은 기본키 순서로 구분됩니다.
+ * - 정렬키가 null인 행은 색인하지 않습니다.
+ * - 그룹은 ConcurrentSkipListMap이므로 조회는 락 없이 진행됩니다.
+ */
+class SortedIndex<T, K extends Comparable<? super K>> implements TableIndex<T> {
+
+    private final Function<T, String> groupOf;
+    private final Function<T, K> sortKeyOf;
+    private final ConcurrentHashMap<String, NavigableMap<Position<K>, T>> groups = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Placement<K>> placementByPrimaryKey = new ConcurrentHashMap<>();
+
+    SortedIndex(Function<T, String> groupOf, Function<T, K> sortKeyOf) {
+        this.groupOf = groupOf;
+        this.sortKeyOf = sortKeyOf;
+    }
+
+    @Override
+    public void put(String primaryKey, T row) {
+        remove(primaryKey);
+        String group = groupOf.apply(row);
+        K sortKey = sortKeyOf.apply(row);
+        if (group == null || sortKey == null) {
+            return;
+        }
+        Position<K> position = new Position<>(sortKey, primaryKey);
+        // 빈 그룹 제거와 겹치지 않도록 그룹 맵의 compute 안에서 넣음
+        groups.compute(group, (g, rows) -> {
+            NavigableMap<Position<K>, T> target = rows == null ? new ConcurrentSkipListMap<>() : rows;
+            target.put(position, row);
+            return target;
+        });
+        placementByPrimaryKey.put(primaryKey, new Placement<>(group, position));
+    }
+
+    @Override
+    public void remove(String primaryKey) {
+        Placement<K> placement = placementByPrimaryKey.remove(primaryKey);
+        if (placement == null) {
+            return;
+        }
+        groups.computeIfPresent(placement.group, (g, rows) -> {
+            rows.remove(placement.position);
+            return rows.isEmpty() ? null : rows;
+        });
+    }
+
+    @Override
+    public void clear() {
+        groups.clear();
+        placementByPrimaryKey.clear();
+    }
+
+    /**
+     * @return 그룹 전체 행 (정렬키 순)
+     */
+    List<T> get(String group) {
+        NavigableMap<Position<K>, T> rows = group == null ? null : groups.get(group);
+        return rows == null ? new ArrayList<>() : new ArrayList<>(rows.values());
+    }
+
+    /**
+     * @param from 시작 정렬키 (포함)
+     * @param to 끝 정렬키 (미포함)
+     * @return 그룹 안에서 [from, to) 범위의 행 (정렬키 순)
+     */
+    List<T> range(String group, K from, K to) {
+        NavigableMap<Position<K>, T> rows = group == null ? null : groups.get(group);
+        if (rows == null || from.compareTo(to) >= 0) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(rows.subMap(new Position<>(from, null), true, new Position<>(to, null), false).values());
+    }
+
+    // 정렬키 + 기본키 (기본키 null은 같은 정렬키 중 가장 앞 = 범위 경계용)
+    private static final class Position<K extends Comparable<? super K>> implements Comparable<Position<K>> {
+        private final K sortKey;
+        private final String primaryKey;
+
+        Position(K sortKey, String primaryKey) {
+            this.sortKey = sortKey;
+            this.primaryKey = primaryKey;
+        }
+
+        @Override
+        public int compareTo(Position<K> other) {
+            int c = sortKey.compareTo(other.sortKey);
+            if (c != 0) return c;
+            if (primaryKey == null) return other.primaryKey == null ? 0 : -1;
+            if (other.primaryKey == null) return 1;
+            return primaryKey.compareTo(other.primaryKey);
+        }
+    }
+
+    private static final class Placement<K extends Comparable<? super K>> {
+        private final String group;
+        private final Position<K> position;
+
+        Placement(String group, Position<K> position) {
+            this.group = group;
+            this.position = position;
+        }
+    }
+}
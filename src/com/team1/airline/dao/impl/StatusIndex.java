@@ -0,0 +1,100 @@
+package com.team1.airline.dao.impl;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 상태(enum)별 행 인덱스 (예: 항공편 상태 → 항공편 목록)
+ * - 상태 값마다 버킷을 EnumMap에 미리 만들어 두므로 버킷 찾기는 배열 접근이고, 맵 구조는 바뀌지 않습니다.
+ * - 상태별 행 수를 따로 세므로 개수 조회는 O(1)입니다.
+ * - 행마다 색인된 상태를 기억하므로, 객체를 직접 수정한 뒤 update를 호출해도 이전 버킷에서 빠져나옵니다.
+ * - 버킷 안은 처음 색인된 순번(삽입 순서)으로 정렬됩니다. 상태가 null인 행은 색인하지 않습니다.
+ */
+class StatusIndex<T, S extends Enum<S>> implements TableIndex<T> {
+
+    private final Class<S> statusType;
+    private final Function<T, S> statusOf;
+    private final EnumMap<S, NavigableMap<Long, T>> buckets;
+    private final EnumMap<S, AtomicInteger> counts;
+    private final ConcurrentHashMap<String, Placement<S>> placementByPrimaryKey = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    StatusIndex(Class<S> statusType, Function<T, S> statusOf) {
+        this.statusType = statusType;
+        this.statusOf = statusOf;
+        this.buckets = new EnumMap<>(statusType);
+        this.counts = new EnumMap<>(statusType);
+        for (S status : statusType.getEnumConstants()) {
+            buckets.put(status, new ConcurrentSkipListMap<>());
+            counts.put(status, new AtomicInteger());
+        }
+    }
+
+    @Override
+    public void put(String primaryKey, T row) {
+        S status = statusOf.apply(row);
+        if (status == null) {
+            remove(primaryKey);
+            return;
+        }
+        Placement<S> previous = placementByPrimaryKey.get(primaryKey);
+        long seq = previous != null ? previous.seq : sequence.incrementAndGet();
+        if (previous != null) {
+            buckets.get(previous.status).remove(seq);
+            counts.get(previous.status).decrementAndGet();
+        }
+        buckets.get(status).put(seq, row);
+        counts.get(status).incrementAndGet();
+        placementByPrimaryKey.put(primaryKey, new Placement<>(status, seq));
+    }
+
+    @Override
+    public void remove(String primaryKey) {
+        Placement<S> placement = placementByPrimaryKey.remove(primaryKey);
+        if (placement != null) {
+            buckets.get(placement.status).remove(placement.seq);
+            counts.get(placement.status).decrementAndGet();
+        }
+    }
+
+    @Override
+    public void clear() {
+        placementByPrimaryKey.clear();
+        buckets.values().forEach(Map::clear);
+        counts.values().forEach(count -> count.set(0));
+    }
+
+    /**
+     * @return 해당 상태의 행 (삽입 순서)
+     */
+    List<T> get(S status) {
+        return status == null ? new ArrayList<>() : new ArrayList<>(buckets.get(status).values());
+    }
+
+    /**
+     * @return 상태별 행 수 (모든 상태 포함, 없으면 0)
+     */
+    Map<S, Integer> counts() {
+        Map<S, Integer> result = new EnumMap<>(statusType);
+        counts.forEach((status, count) -> result.put(status, count.get()));
+        return result;
+    }
+
+    private static final class Placement<S> {
+        private final S status;
+        private final long seq;
+
+        Placement(S status, long seq) {
+            this.status = status;
+            this.seq = seq;
+        }
+    }
+}
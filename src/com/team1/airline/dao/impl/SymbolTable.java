@@ -0,0 +1,73 @@
+package com.team1.airline.dao.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 식별자 사전 (문자열 ↔ 정수 코드)
+ * - 같은 값의 문자열은 처음 등록된 인스턴스 하나만 쓰도록 정규화(intern)합니다.
+ *   (예약 수천만 건이 같은 userId / flightId / 좌석 번호 문자열을 각자 들고 있지 않도록)
+ * - 값마다 0부터 증가하는 정수 코드를 붙여 두므로, 문자열 대신 코드로 저장하는 곳에서도 쓸 수 있습니다.
+ * - 조회는 락 없이, 새 값 등록만 동기화합니다. 등록된 값은 지워지지 않습니다.
+ *   (고유한 값이 적은 컬럼만 넣고, 예약 번호처럼 행마다 다른 값은 넣지 마세요)
+ */
+public final class SymbolTable {
+
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] symbols = new String[256];
+    private int size; // this로 보호
+
+    /**
+     * @return 같은 값의 정규 인스턴스 (null이면 null)
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int code = code(value); // 등록하며 배열이 커질 수 있으므로 코드를 먼저 얻은 뒤 배열을 읽음
+        return symbols[code];
+    }
+
+    /**
+     * @return 값의 코드 (처음 보는 값이면 새로 등록)
+     */
+    public int code(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        synchronized (this) {
+            code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            if (size == symbols.length) {
+                symbols = Arrays.copyOf(symbols, size * 2);
+            }
+            symbols[size] = value;
+            codes.put(value, size); // 배열에 쓴 뒤 공개 (코드를 읽은 스레드는 값도 보임)
+            return size++;
+        }
+    }
+
+    /**
+     * 등록하지 않고 코드만 찾습니다. (조회 조건처럼 사전에 남길 필요가 없는 값용)
+     * @return 값의 코드, 없으면 -1
+     */
+    public int find(String value) {
+        Integer code = value == null ? null : codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * @return 등록된 코드면 그 값, 아니면 null
+     */
+    public String symbol(int code) {
+        String[] current = symbols;
+        return code >= 0 && code < current.length ? current[code] : null;
+    }
+
+    public int size() {
+        return codes.size();
+    }
+}
@@ -0,0 +1,15 @@
+package com.team1.airline.dao.impl;
+
+/**
+ * EntityTable에 부착되는 보조 인덱스
+ * - 테이블의 추가/수정/삭제 시 함께 갱신됩니다.
+ */
+interface TableIndex<T> {
+
+    /** 행 추가 또는 교체 (같은 기본키의 이전 항목은 인덱스가 직접 정리) */
+    void put(String primaryKey, T row);
+
+    void remove(String primaryKey);
+
+    void clear();
+}
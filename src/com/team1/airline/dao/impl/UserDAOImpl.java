@@ -20,15 +20,12 @@ public class UserDAOImpl implements UserDAO {
 
     @Override
     public void addUser(User user) {
-        DataManager.getInstance().getUsers().add(user);
+        DataManager.getInstance().userTable().add(user);
     }
 
     @Override
     public User findByUserId(String userId) {
-        return DataManager.getInstance().getUsers().stream()
-                .filter(u -> u.getUserId().equals(userId))
-                .findFirst()
-                .orElse(null);
+        return DataManager.getInstance().userTable().get(userId);
     }
 
     @Override
@@ -38,18 +35,19 @@ public class UserDAOImpl implements UserDAO {
 
     @Override
     public void updateUser(User user) {
-        List<User> users = DataManager.getInstance().getUsers();
-        for (int i = 0; i < users.size(); i++) {
-            if (users.get(i).getUserId().equals(user.getUserId())) {
-                users.set(i, user);
-                return;
-            }
-        }
+        DataManager.getInstance().userTable().update(user);
     }
 
     @Override
     public void deleteUser(String userId) {
-        List<User> users = DataManager.getInstance().getUsers();
-        users.removeIf(u -> u.getUserId().equals(userId));
+        DataManager.getInstance().userTable().remove(userId);
+    }
+
+    @Override
+    public User addMileage(String userId, int delta) {
+        return DataManager.getInstance().userTable().modify(userId, user -> {
+            user.setMileage(Math.max(0, user.getMileage() + delta));
+            return user;
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.team1.airline.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 최저 운임 (유연한 날짜 검색 / 달력 표시용)
+ */
+@Getter
+@AllArgsConstructor
+public class DailyFare {
+
+    private final LocalDate date;
+    private final Double lowestPrice;       // 예약 가능한 항공편의 최저 운임 (없으면 null)
+    private final String cheapestFlightId;  // 최저 운임 항공편 중 가장 먼저 출발하는 항공편 (없으면 null)
+    private final int flightCount;          // 예약 가능한 항공편 수
+    private final int availableSeats;       // 예약 가능한 항공편의 잔여 좌석 합계
+
+    public boolean isAvailable() {
+        return lowestPrice != null;
+    }
+}
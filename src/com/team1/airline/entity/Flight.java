@@ -16,6 +16,6 @@ public class Flight {
     private String aircraftId;    
     private LocalDateTime departureTime;
     private LocalDateTime arrivalTime;
-    private String status;   
+    private FlightStatus status;
          
 }
\ No newline at end of file
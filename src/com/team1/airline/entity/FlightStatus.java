@@ -0,0 +1,59 @@
+package com.team1.airline.entity;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 항공편 상태
+ * - 파일에는 기존과 같은 표시 문자열(getText)로 저장됩니다. (예: "예약 가능", "매진")
+ * - toString()도 표시 문자열을 돌려주므로 화면/로그 출력은 예전과 같습니다.
+ */
+public enum FlightStatus {
+
+    BOOKABLE("예약 가능"),
+    SOLD_OUT("매진"),
+    SCHEDULED("Scheduled"); // 예전 데이터의 예약 가능 상태
+
+    private static final Map<String, FlightStatus> BY_TEXT = new HashMap<>();
+
+    static {
+        for (FlightStatus status : values()) {
+            BY_TEXT.put(status.text.toUpperCase(Locale.ROOT), status);
+        }
+    }
+
+    private final String text;
+
+    FlightStatus(String text) {
+        this.text = text;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return 좌석 재고에 따라 자동으로 바뀌는 상태인지 (예약 가능 ↔ 매진)
+     */
+    public boolean isSeatDriven() {
+        return this == BOOKABLE || this == SOLD_OUT;
+    }
+
+    /**
+     * 파일/화면의 상태 문자열을 변환합니다. (앞뒤 공백, 영문 대소문자 무시)
+     * @throws IllegalArgumentException 알 수 없는 상태
+     */
+    public static FlightStatus fromText(String text) {
+        FlightStatus status = text == null ? null : BY_TEXT.get(text.trim().toUpperCase(Locale.ROOT));
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown flight status: " + text);
+        }
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,50 @@
+package com.team1.airline.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여정 (직항 또는 경유 항공편 묶음, 연결 항공편 검색 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class Itinerary {
+
+    private final List<Flight> legs;       // 탑승 순서대로
+    private final double totalPrice;       // 구간 운임 합계
+
+    public int getLegCount() {
+        return legs.size();
+    }
+
+    public LocalDateTime getDepartureTime() {
+        return legs.get(0).getDepartureTime();
+    }
+
+    public LocalDateTime getArrivalTime() {
+        return legs.get(legs.size() - 1).getArrivalTime();
+    }
+
+    /**
+     * @return 첫 출발부터 마지막 도착까지 걸리는 시간 (분)
+     */
+    public long getTotalMinutes() {
+        return Duration.between(getDepartureTime(), getArrivalTime()).toMinutes();
+    }
+
+    /**
+     * @return 경유지마다 대기 시간 (분), 직항이면 빈 리스트
+     */
+    public List<Long> getLayoverMinutes() {
+        List<Long> layovers = new ArrayList<>();
+        for (int i = 1; i < legs.size(); i++) {
+            layovers.add(Duration.between(legs.get(i - 1).getArrivalTime(), legs.get(i).getDepartureTime()).toMinutes());
+        }
+        return layovers;
+    }
+}
@@ -15,6 +15,6 @@ public class Reservation {
     private String flightId;  
     private String seatNumber; 
     private double finalPrice;
-    private String status;    
+    private ReservationStatus status;
     
 }
\ No newline at end of file
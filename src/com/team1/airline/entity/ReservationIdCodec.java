@@ -0,0 +1,67 @@
+package com.team1.airline.entity;
+
+import java.util.Arrays;
+
+/**
+ * 64비트 예약 번호 ↔ 예약 코드(PNR 형식 문자열) 변환
+ * - Crockford base-32 (0-9, A-Z 중 I, L, O, U 제외) 13자리 고정 폭, 대문자
+ * - 값이 음수가 아니면 문자열 순서와 숫자 순서가 같습니다. (시간순 번호는 코드도 시간순으로 정렬됨)
+ * - 예약 코드는 예약 번호 자체이므로 파일/DAO에는 이 문자열이 그대로 저장됩니다.
+ */
+public final class ReservationIdCodec {
+
+    /** 코드 길이 (64비트 = 첫 자리 4비트 + 나머지 12자리 × 5비트) */
+    public static final int LENGTH = 13;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private ReservationIdCodec() {
+    }
+
+    public static String encode(long value) {
+        char[] code = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(code);
+    }
+
+    /**
+     * @throws IllegalArgumentException 예약 코드 형식이 아님 (isCompact가 false)
+     */
+    public static long decode(String code) {
+        if (!isCompact(code)) {
+            throw new IllegalArgumentException("Not a reservation code: " + code);
+        }
+        long value = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            value = (value << 5) | VALUES[code.charAt(i)];
+        }
+        return value;
+    }
+
+    /**
+     * @return encode로 만들 수 있는 문자열인지 (decode 후 다시 encode하면 같은 문자열)
+     */
+    public static boolean isCompact(String code) {
+        if (code == null || code.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char ch = code.charAt(i);
+            if (ch >= 128 || VALUES[ch] < 0) {
+                return false;
+            }
+        }
+        return VALUES[code.charAt(0)] < 16; // 첫 자리는 상위 4비트만 담음
+    }
+}
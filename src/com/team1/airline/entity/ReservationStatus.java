@@ -0,0 +1,58 @@
+package com.team1.airline.entity;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 예약 상태
+ * - 파일에는 기존과 같은 문자열(getText)로 저장됩니다. (예: "Confirmed")
+ */
+public enum ReservationStatus {
+
+    CONFIRMED("Confirmed"), // 예약 확정 (초기 상태)
+    PAID("Paid"),
+    CANCELLED("Cancelled");
+
+    private static final Map<String, ReservationStatus> BY_TEXT = new HashMap<>();
+
+    static {
+        for (ReservationStatus status : values()) {
+            BY_TEXT.put(status.text.toUpperCase(Locale.ROOT), status);
+        }
+    }
+
+    private final String text;
+
+    ReservationStatus(String text) {
+        this.text = text;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return 좌석을 점유하는 상태인지 (확정/결제 완료)
+     */
+    public boolean holdsSeat() {
+        return this == CONFIRMED || this == PAID;
+    }
+
+    /**
+     * 파일/요청의 상태 문자열을 변환합니다. (앞뒤 공백, 대소문자 무시)
+     * @throws IllegalArgumentException 알 수 없는 상태
+     */
+    public static ReservationStatus fromText(String text) {
+        ReservationStatus status = text == null ? null : BY_TEXT.get(text.trim().toUpperCase(Locale.ROOT));
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown reservation status: " + text);
+        }
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,204 @@
+package com.team1.airline.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 좌석 번호 (예: "12C")를 int 하나로 묶은 값 객체
+ * - 비트 구성: 행 번호 | 열 문자(A=0 ~ Z=25, 5비트) | 클래스(2비트)
+ *   position() = 행 번호 × 32 + 열 번호 이므로 좌석 집합을 BitSet으로 다룰 수 있습니다.
+ * - 문자열 형식은 Reservation.seatNumber와 같습니다. (행 번호 + 대문자 열 문자)
+ *   문자열에는 클래스 정보가 없으므로 parse로 만든 좌석의 클래스는 UNSPECIFIED입니다.
+ * - 같음/순서는 좌석 위치(행, 열)로만 판단합니다. (클래스는 배치도에서 정해지는 부가 정보)
+ *   순서: 행 번호 → 열 문자 (문자열 비교와 달리 "2A" < "10A")
+ * - packed / positionOf / rowOf / columnOf는 객체를 만들지 않으므로 좌석 확인처럼 자주 호출되는 곳에서 사용합니다.
+ */
+public final class SeatCode implements Comparable<SeatCode> {
+
+    /** 좌석 클래스 */
+    public enum Cabin { UNSPECIFIED, BUSINESS, ECONOMY }
+
+    /** 좌석 목록 문자열의 구분자 (예: "2A, 2C") */
+    public static final String LIST_SEPARATOR = ", ";
+
+    public static final int MAX_ROW = (1 << 24) - 1;
+
+    private static final int CABIN_BITS = 2;
+    private static final int COLUMN_BITS = 5;
+    private static final Cabin[] CABINS = Cabin.values();
+
+    private final int packed;
+
+    private SeatCode(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * @param row 행 번호 (1 ~ MAX_ROW)
+     * @param column 열 문자 (A ~ Z, 소문자 허용)
+     * @throws IllegalArgumentException 범위 밖
+     */
+    public static SeatCode of(int row, char column, Cabin cabin) {
+        int columnIndex = Character.toUpperCase(column) - 'A';
+        if (row < 1 || row > MAX_ROW || columnIndex < 0 || columnIndex > 25 || cabin == null) {
+            throw new IllegalArgumentException("Invalid seat: row " + row + ", column " + column);
+        }
+        return new SeatCode(pack(row, columnIndex, cabin.ordinal()));
+    }
+
+    /**
+     * @throws IllegalArgumentException 좌석 번호 형식이 아님
+     */
+    public static SeatCode parse(String seatNumber) {
+        int packed = packed(seatNumber);
+        if (packed < 0) {
+            throw new IllegalArgumentException("Invalid seat number: " + seatNumber);
+        }
+        return new SeatCode(packed);
+    }
+
+    /**
+     * 좌석 번호 문자열을 객체 없이 바로 묶습니다. (앞뒤 공백, 열 문자의 대소문자 무시)
+     * @return 묶은 값 (클래스 UNSPECIFIED), 형식이 아니면 -1
+     */
+    public static int packed(String seatNumber) {
+        if (seatNumber == null) return -1;
+        int start = 0;
+        int end = seatNumber.length();
+        while (start < end && seatNumber.charAt(start) <= ' ') start++;
+        while (end > start && seatNumber.charAt(end - 1) <= ' ') end--;
+        if (end - start < 2) return -1;
+        int column = Character.toUpperCase(seatNumber.charAt(end - 1)) - 'A';
+        if (column < 0 || column > 25) return -1;
+        int row = 0;
+        for (int i = start; i < end - 1; i++) {
+            char ch = seatNumber.charAt(i);
+            if (ch < '0' || ch > '9') return -1;
+            row = row * 10 + (ch - '0');
+            if (row > MAX_ROW) return -1;
+        }
+        return row < 1 ? -1 : pack(row, column, Cabin.UNSPECIFIED.ordinal());
+    }
+
+    /**
+     * @return 좌석 위치 번호 (행 × 32 + 열), 형식이 아니면 -1 (BitSet 색인용)
+     */
+    public static int positionOf(String seatNumber) {
+        int packed = packed(seatNumber);
+        return packed < 0 ? -1 : packed >>> CABIN_BITS;
+    }
+
+    /**
+     * @return 묶은 값의 행 번호
+     */
+    public static int rowOf(int packed) {
+        return packed >>> (CABIN_BITS + COLUMN_BITS);
+    }
+
+    /**
+     * @return 묶은 값의 열 문자
+     */
+    public static char columnOf(int packed) {
+        return (char) ('A' + columnIndexOf(packed));
+    }
+
+    public static SeatCode fromPacked(int packed) {
+        if (packed < 0 || rowOf(packed) < 1 || columnIndexOf(packed) > 25 || (packed & ((1 << CABIN_BITS) - 1)) >= CABINS.length) {
+            throw new IllegalArgumentException("Invalid packed seat: " + packed);
+        }
+        return new SeatCode(packed);
+    }
+
+    /**
+     * @return position()의 역변환 (클래스 UNSPECIFIED)
+     */
+    public static SeatCode fromPosition(int position) {
+        return fromPacked(position << CABIN_BITS);
+    }
+
+    /**
+     * "2A, 2C" 형식의 좌석 목록을 읽습니다. (빈 문자열이면 빈 목록)
+     * @throws IllegalArgumentException 형식이 아닌 좌석이 있음
+     */
+    public static List<SeatCode> parseList(String seatNumbers) {
+        List<SeatCode> seats = new ArrayList<>();
+        if (seatNumbers == null || seatNumbers.isBlank()) {
+            return seats;
+        }
+        for (String seatNumber : seatNumbers.split(",")) {
+            seats.add(parse(seatNumber));
+        }
+        return seats;
+    }
+
+    /**
+     * @return 좌석 목록 문자열 (주어진 순서대로 LIST_SEPARATOR로 연결)
+     */
+    public static String formatList(Collection<SeatCode> seats) {
+        StringJoiner joiner = new StringJoiner(LIST_SEPARATOR);
+        for (SeatCode seat : seats) {
+            joiner.add(seat.toString());
+        }
+        return joiner.toString();
+    }
+
+    public int row() {
+        return rowOf(packed);
+    }
+
+    public char column() {
+        return columnOf(packed);
+    }
+
+    public Cabin cabin() {
+        return CABINS[packed & ((1 << CABIN_BITS) - 1)];
+    }
+
+    public SeatCode withCabin(Cabin cabin) {
+        return of(row(), column(), cabin);
+    }
+
+    public int packed() {
+        return packed;
+    }
+
+    /**
+     * @return 좌석 위치 번호 (행 × 32 + 열, 클래스 제외)
+     */
+    public int position() {
+        return packed >>> CABIN_BITS;
+    }
+
+    /**
+     * @return Reservation.seatNumber 형식의 문자열
+     */
+    @Override
+    public String toString() {
+        return Integer.toString(row()) + column();
+    }
+
+    @Override
+    public int compareTo(SeatCode other) {
+        return Integer.compare(position(), other.position());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SeatCode && ((SeatCode) o).position() == position();
+    }
+
+    @Override
+    public int hashCode() {
+        return position();
+    }
+
+    private static int pack(int row, int column, int cabin) {
+        return (((row << COLUMN_BITS) | column) << CABIN_BITS) | cabin;
+    }
+
+    private static int columnIndexOf(int packed) {
+        return (packed >>> CABIN_BITS) & ((1 << COLUMN_BITS) - 1);
+    }
+}
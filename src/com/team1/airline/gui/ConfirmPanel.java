@@ -3,8 +3,11 @@ package com.team1.airline.gui;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.SeatCode;
 import com.team1.airline.entity.User;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * [예약 확인 및 결제 패널]
@@ -211,16 +214,22 @@ public class ConfirmPanel extends JPanel {
             JOptionPane.showMessageDialog(this, "좌석 정보가 누락되었습니다.");
             return;
         }
-        String[] seats = currentSeatNumber.split(",\\s*");
-        int successCount = 0;
+        List<String> seats = new ArrayList<>();
+        try {
+            for (SeatCode seat : SeatCode.parseList(currentSeatNumber)) {
+                seats.add(seat.toString());
+            }
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, "좌석 정보가 올바르지 않습니다.");
+            return;
+        }
         StringBuilder sb = new StringBuilder();
 
-        for (String seat : seats) {
-            Reservation reservation = mainApp.getReservationController().makeReservation(currentFlightId, seat);
-            if (reservation != null) {
-                successCount++;
-                sb.append(reservation.getReservationId()).append(", ");
-            }
+        // 모든 좌석을 한 번에 예약 (일부만 예약되는 일 없음)
+        List<Reservation> reservations = mainApp.getReservationController().makeReservations(currentFlightId, seats);
+        int successCount = reservations.size();
+        for (Reservation reservation : reservations) {
+            sb.append(reservation.getReservationId()).append(", ");
         }
 
         if (successCount > 0) {
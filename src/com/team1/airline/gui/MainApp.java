@@ -5,11 +5,13 @@ import com.team1.airline.dao.*;
 import com.team1.airline.dao.impl.*;
 import com.team1.airline.entity.*;
 import com.team1.airline.service.FlightManageable;
+import com.team1.airline.service.ReservationManageable;
 import com.team1.airline.service.impl.*;
 
 import javax.swing.*;
 import java.awt.*;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
@@ -47,6 +49,7 @@ public class MainApp extends JFrame {
     private ReservationDAO reservationDAO;
     private AirportDAO airportDAO;
     private FlightManageable flightService;
+    private SeatInventory seatInventory;
     private FlightController flightController;
     private ReservationController reservationController;
 
@@ -93,12 +96,21 @@ public class MainApp extends JFrame {
         reservationDAO = new ReservationDAOImpl();
         airportDAO = new AirportDAOImpl();
 
-        flightService = new FlightManager(flightDAO, routeDAO, aircraftDAO, reservationDAO);
+        seatInventory = new SeatInventory(flightDAO, aircraftDAO, reservationDAO);
+        seatInventory.startReconciliation(); // 좌석 카운터와 예약 기록의 주기적 정합성 점검
+        seatInventory.refreshFlightStatuses(); // 항공편 상태(예약 가능/매진)를 실제 잔여석에 맞춤
+        flightService = new FlightManager(flightDAO, routeDAO, aircraftDAO, reservationDAO, seatInventory);
         flightController = new FlightController(flightService);
         
         // Reservation 관련 컴포넌트 초기화
-        ReservationManager reservationManager = new ReservationManager(reservationDAO, userDAO, flightDAO, routeDAO, flightService);
-        reservationController = new ReservationController(reservationManager, userController);
+        ReservationManager reservationManager = new ReservationManager(reservationDAO, userDAO, flightDAO, routeDAO, airportDAO, flightService, seatInventory);
+        ReservationManageable reservationService = reservationManager;
+        int bookingPartitions = Integer.getInteger("airline.booking.partitions", 0);
+        if (bookingPartitions > 0) {
+            // (선택) 항공편 파티션별 단일 스레드 예약 엔진
+            reservationService = new BookingEngine(reservationManager, reservationDAO, bookingPartitions, 1024);
+        }
+        reservationController = new ReservationController(reservationService, userController);
     }
 
     // 각 패널에서 백엔드 기능에 접근할 수 있도록 Getter 제공
@@ -185,7 +197,7 @@ public class MainApp extends JFrame {
         java.util.List<PaymentHistoryPanel.PaymentRow> rows = new java.util.ArrayList<>();
 
         for (Reservation r : myReservations) {
-            if ("Cancelled".equalsIgnoreCase(r.getStatus())) {
+            if (r.getStatus() == ReservationStatus.CANCELLED) {
                 continue; // 취소된 예약은 제외
             }
 
@@ -224,6 +236,19 @@ public class MainApp extends JFrame {
         return airport.map(Airport::getAirportCode).orElse(null);
     }
 
+    /**
+     * [SearchPanel 달력] 출발지/도착지의 한 달 날짜별 최저 운임
+     * 공항을 아직 고르지 않았으면 빈 리스트
+     */
+    public List<DailyFare> getFareCalendar(String departureName, String arrivalName, YearMonth month) {
+        String departureCode = getAirportCode(departureName);
+        String arrivalCode = getAirportCode(arrivalName);
+        if (departureCode == null || arrivalCode == null) {
+            return List.of();
+        }
+        return flightController.getFareCalendar(departureCode, arrivalCode, month);
+    }
+
     public List<String> getAllAirportNames() {
         return airportDAO.findAll().stream()
                 .map(Airport::getAirportName)
@@ -307,14 +332,8 @@ public class MainApp extends JFrame {
             return;
         }
         
-        // 이미 예약된 좌석 정보를 조회하여 비활성화 목록 생성
-        List<Reservation> reservations = reservationDAO.findReservationsByFlightId(flightId);
-        java.util.List<String> occupiedSeats = new java.util.ArrayList<>();
-        for(Reservation r : reservations) {
-            if("Confirmed".equals(r.getStatus()) || "Paid".equals(r.getStatus())) {
-                occupiedSeats.add(r.getSeatNumber());
-            }
-        }
+        // 이미 예약된 좌석 정보를 좌석 재고에서 조회하여 비활성화 목록 생성
+        java.util.List<String> occupiedSeats = seatInventory.getOccupiedSeats(flightId);
 
         // 모달 다이얼로그 생성 및 표시
         SeatSelectionDialog dialog = new SeatSelectionDialog(
@@ -343,9 +362,10 @@ public class MainApp extends JFrame {
     public void addMileage(int amount) {
         User currentUser = userController.getCurrentUser();
         if (currentUser != null) {
-            int currentMileage = currentUser.getMileage();
-            currentUser.setMileage(currentMileage + amount);
-            userDAO.updateUser(currentUser);
+            User updated = userDAO.addMileage(currentUser.getUserId(), amount);
+            if (updated != null && updated != currentUser) {
+                currentUser.setMileage(updated.getMileage());
+            }
             System.out.println("[MainApp] 마일리지 업데이트: " + amount + " (총: " + currentUser.getMileage() + ")");
         }
     }
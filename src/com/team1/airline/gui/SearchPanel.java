@@ -1,5 +1,6 @@
 package com.team1.airline.gui;
 
+import com.team1.airline.entity.DailyFare;
 import com.team1.airline.entity.User;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -8,6 +9,9 @@ import java.awt.event.MouseAdapter;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
 
 /**
  * [항공권 검색 화면]
@@ -349,7 +353,10 @@ public class SearchPanel extends JPanel {
             String txt = targetField.getText();
             if (!txt.contains("날짜") && !txt.isBlank()) initDate = LocalDate.parse(txt, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
         } catch (Exception ignored) {}
-        DatePickerDialog dialog = new DatePickerDialog(window, initDate);
+        // 달력에 날짜별 최저 운임 표시 (가는 날은 출발지 -> 도착지, 오는 날은 반대 방향)
+        String from = targetField == returnDateField ? arrivalField.getText() : departureField.getText();
+        String to = targetField == returnDateField ? departureField.getText() : arrivalField.getText();
+        DatePickerDialog dialog = new DatePickerDialog(window, initDate, month -> mainApp.getFareCalendar(from, to, month));
         dialog.setLocationRelativeTo(this);
         dialog.setVisible(true);
         if (dialog.isDateCleared()) targetField.setText("날짜를 선택하세요");
@@ -361,8 +368,10 @@ public class SearchPanel extends JPanel {
     private static class DatePickerDialog extends JDialog {
         private LocalDate selectedDate; private boolean dateCleared = false; private YearMonth currentYearMonth;
         private JPanel calendarPanel; private JComboBox<Integer> yearCombo; private JComboBox<Integer> monthCombo;
-        DatePickerDialog(Window owner, LocalDate initialDate) {
+        private final Function<YearMonth, List<DailyFare>> fareLookup; // 달 → 날짜별 최저 운임
+        DatePickerDialog(Window owner, LocalDate initialDate, Function<YearMonth, List<DailyFare>> fareLookup) {
             super(owner, "날짜 선택", Dialog.ModalityType.APPLICATION_MODAL);
+            this.fareLookup = fareLookup;
             if (initialDate == null) initialDate = LocalDate.now();
             this.currentYearMonth = YearMonth.from(initialDate);
             setLayout(new BorderLayout(10, 10));
@@ -389,9 +398,13 @@ public class SearchPanel extends JPanel {
             int firstDow = firstDay.getDayOfWeek().getValue();
             for (int i = 1; i < firstDow; i++) calendarPanel.add(new JLabel(" "));
             int length = currentYearMonth.lengthOfMonth();
+            List<DailyFare> fares = fareLookup != null ? fareLookup.apply(currentYearMonth) : List.of();
             for (int d = 1; d <= length; d++) {
                 final int day = d;
-                JButton btn = new JButton(String.valueOf(day));
+                DailyFare fare = d <= fares.size() ? fares.get(d - 1) : null;
+                JButton btn = new JButton(fare != null && fare.isAvailable()
+                        ? String.format(Locale.KOREA, "<html><center>%d<br><font size='2' color='#1565C0'>%,.0f</font></center></html>", day, fare.getLowestPrice())
+                        : String.valueOf(day));
                 btn.setMargin(new Insets(2, 2, 2, 2));
                 btn.addActionListener(e -> { selectedDate = currentYearMonth.atDay(day); dispose(); });
                 calendarPanel.add(btn);
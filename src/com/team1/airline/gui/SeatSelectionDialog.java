@@ -1,25 +1,26 @@
 package com.team1.airline.gui;
 
 import com.team1.airline.entity.Aircraft;
+import com.team1.airline.entity.SeatCode;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * [좌석 선택 다이얼로그]
  * - 비즈니스석과 이코노미석을 시각적으로 배치하여 제공합니다.
  * - 이미 예약된 좌석은 비활성화 처리합니다.
  * - GridBagLayout을 사용하여 통로(Aisle)와 좌석 배치를 구현합니다.
+ * - 예약된 좌석 / 선택한 좌석은 SeatCode 위치 번호의 BitSet으로 관리합니다.
  */
 public class SeatSelectionDialog extends JDialog {
 
-    private Set<String> selectedSeats = new HashSet<>();
-    private final Set<String> occupiedSeats; // 예약 완료된 좌석 목록
+    private final BitSet selectedSeats = new BitSet();
+    private final BitSet occupiedSeats = new BitSet(); // 예약 완료된 좌석 목록
     
     private final int neededBiz; // 선택해야 할 비즈니스석 수
     private final int neededEco; // 선택해야 할 이코노미석 수
@@ -37,7 +38,10 @@ public class SeatSelectionDialog extends JDialog {
 
     public SeatSelectionDialog(Frame owner, Aircraft aircraft, List<String> reservedSeatList, int neededBiz, int neededEco) {
         super(owner, "좌석 선택", true);
-        this.occupiedSeats = new HashSet<>(reservedSeatList);
+        for (String seatNumber : reservedSeatList) {
+            int position = SeatCode.positionOf(seatNumber);
+            if (position >= 0) occupiedSeats.set(position);
+        }
         this.neededBiz = neededBiz;
         this.neededEco = neededEco;
 
@@ -163,10 +167,11 @@ public class SeatSelectionDialog extends JDialog {
         for (int r = 0; r < bizRows; r++) {
             currentRow++;
             for (int c = 0; c < 4; c++) {
-                String seatNum = currentRow + String.valueOf(bizCols[c]);
+                if (r * 4 + c >= aircraft.getBusiness()) break; // 좌석 수를 넘는 마지막 줄의 남는 자리는 만들지 않음
+                SeatCode seat = SeatCode.of(currentRow, bizCols[c], SeatCode.Cabin.BUSINESS);
                 gbc.gridx = bizGridX[c]; 
                 gbc.gridy = currentRow;
-                addSeatButton(seatNum, true, gbc);
+                addSeatButton(seat, gbc);
             }
         }
 
@@ -183,10 +188,11 @@ public class SeatSelectionDialog extends JDialog {
         for (int r = 0; r < ecoRows; r++) {
             currentRow++;
             for (int c = 0; c < 6; c++) {
-                String seatNum = currentRow + String.valueOf(ecoCols[c]);
+                if (r * 6 + c >= aircraft.getEconomy()) break;
+                SeatCode seat = SeatCode.of(currentRow, ecoCols[c], SeatCode.Cabin.ECONOMY);
                 gbc.gridx = ecoGridX[c];
                 gbc.gridy = currentRow;
-                addSeatButton(seatNum, false, gbc);
+                addSeatButton(seat, gbc);
             }
         }
     }
@@ -206,8 +212,9 @@ public class SeatSelectionDialog extends JDialog {
         gbc.gridwidth = 1;
     }
 
-    private void addSeatButton(String seatNum, boolean isBusiness, GridBagConstraints gbc) {
-        JToggleButton btn = new JToggleButton(seatNum) {
+    private void addSeatButton(SeatCode seat, GridBagConstraints gbc) {
+        boolean isBusiness = seat.cabin() == SeatCode.Cabin.BUSINESS;
+        JToggleButton btn = new JToggleButton(seat.toString()) {
             @Override
             protected void paintComponent(Graphics g) {
                 Graphics2D g2 = (Graphics2D) g.create();
@@ -232,7 +239,7 @@ public class SeatSelectionDialog extends JDialog {
         btn.setContentAreaFilled(false);
         btn.setFont(new Font("Arial", Font.PLAIN, 12));
         
-        if (occupiedSeats.contains(seatNum)) {
+        if (occupiedSeats.get(seat.position())) {
             btn.setEnabled(false); // 예약된 좌석 비활성화
             btn.setForeground(Color.GRAY);
         } else {
@@ -245,7 +252,7 @@ public class SeatSelectionDialog extends JDialog {
                     if (isBusiness) {
                         if (currentBizCount < neededBiz) {
                             currentBizCount++;
-                            selectedSeats.add(seatNum);
+                            selectedSeats.set(seat.position());
                         } else {
                             btn.setSelected(false);
                             JOptionPane.showMessageDialog(this, "비즈니스석은 " + neededBiz + "명만 선택 가능합니다.");
@@ -253,7 +260,7 @@ public class SeatSelectionDialog extends JDialog {
                     } else {
                         if (currentEcoCount < neededEco) {
                             currentEcoCount++;
-                            selectedSeats.add(seatNum);
+                            selectedSeats.set(seat.position());
                         } else {
                             btn.setSelected(false);
                             JOptionPane.showMessageDialog(this, "이코노미석은 " + neededEco + "명만 선택 가능합니다.");
@@ -261,7 +268,7 @@ public class SeatSelectionDialog extends JDialog {
                     }
                 } else {
                     if (isBusiness) currentBizCount--; else currentEcoCount--;
-                    selectedSeats.remove(seatNum);
+                    selectedSeats.clear(seat.position());
                 }
                 statusLabel.setText(getStatusText());
             });
@@ -271,7 +278,12 @@ public class SeatSelectionDialog extends JDialog {
 
     public String getSelectedSeats() {
         if (currentBizCount == neededBiz && currentEcoCount == neededEco) {
-            return selectedSeats.stream().sorted().collect(Collectors.joining(", "));
+            // 위치 번호 순서 = 행 → 열 순서
+            List<SeatCode> seats = new ArrayList<>(selectedSeats.cardinality());
+            for (int position = selectedSeats.nextSetBit(0); position >= 0; position = selectedSeats.nextSetBit(position + 1)) {
+                seats.add(SeatCode.fromPosition(position));
+            }
+            return SeatCode.formatList(seats);
         }
         return null; 
     }
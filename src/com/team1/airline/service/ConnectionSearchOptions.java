@@ -0,0 +1,78 @@
+package com.team1.airline.service;
+
+/**
+ * 연결 항공편 검색 조건
+ * - 기본값: 최소 환승 시간 60분, 최대 3구간, 최대 대기 12시간, 도착 시각 순 10개
+ * - with* 메서드는 조건을 바꾼 새 객체를 돌려줍니다. (예: ConnectionSearchOptions.defaults().withMaxLegs(2))
+ */
+public final class ConnectionSearchOptions {
+
+    /** 결과 정렬 기준 */
+    public enum SortBy { ARRIVAL_TIME, PRICE }
+
+    private final int minConnectionMinutes;
+    private final int maxLegs;
+    private final int maxLayoverMinutes;
+    private final SortBy sortBy;
+    private final int limit;
+
+    private ConnectionSearchOptions(int minConnectionMinutes, int maxLegs, int maxLayoverMinutes, SortBy sortBy, int limit) {
+        if (minConnectionMinutes < 0 || maxLegs < 1 || maxLayoverMinutes < minConnectionMinutes || limit < 1 || sortBy == null) {
+            throw new IllegalArgumentException("invalid connection search options");
+        }
+        this.minConnectionMinutes = minConnectionMinutes;
+        this.maxLegs = maxLegs;
+        this.maxLayoverMinutes = maxLayoverMinutes;
+        this.sortBy = sortBy;
+        this.limit = limit;
+    }
+
+    public static ConnectionSearchOptions defaults() {
+        return new ConnectionSearchOptions(60, 3, 12 * 60, SortBy.ARRIVAL_TIME, 10);
+    }
+
+    public ConnectionSearchOptions withMinConnectionMinutes(int minutes) {
+        return new ConnectionSearchOptions(minutes, maxLegs, maxLayoverMinutes, sortBy, limit);
+    }
+
+    public ConnectionSearchOptions withMaxLegs(int legs) {
+        return new ConnectionSearchOptions(minConnectionMinutes, legs, maxLayoverMinutes, sortBy, limit);
+    }
+
+    public ConnectionSearchOptions withMaxLayoverMinutes(int minutes) {
+        return new ConnectionSearchOptions(minConnectionMinutes, maxLegs, minutes, sortBy, limit);
+    }
+
+    public ConnectionSearchOptions withSortBy(SortBy sortBy) {
+        return new ConnectionSearchOptions(minConnectionMinutes, maxLegs, maxLayoverMinutes, sortBy, limit);
+    }
+
+    public ConnectionSearchOptions withLimit(int limit) {
+        return new ConnectionSearchOptions(minConnectionMinutes, maxLegs, maxLayoverMinutes, sortBy, limit);
+    }
+
+    public int getMinConnectionMinutes() {
+        return minConnectionMinutes;
+    }
+
+    public int getMaxLegs() {
+        return maxLegs;
+    }
+
+    public int getMaxLayoverMinutes() {
+        return maxLayoverMinutes;
+    }
+
+    public SortBy getSortBy() {
+        return sortBy;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "MCT " + minConnectionMinutes + "m, legs<=" + maxLegs + ", layover<=" + maxLayoverMinutes + "m, by " + sortBy + ", top " + limit;
+    }
+}
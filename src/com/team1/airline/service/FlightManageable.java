@@ -2,6 +2,8 @@ package com.team1.airline.service;
 
 import com.team1.airline.entity.Flight;
 import com.team1.airline.entity.Airport;
+import com.team1.airline.entity.DailyFare;
+import com.team1.airline.entity.Itinerary;
 import com.team1.airline.entity.Route;
 
 import java.time.LocalDate;
@@ -19,6 +21,12 @@ public interface FlightManageable {
      */
     List<Flight> searchFlights(String departureCode, String arrivalCode, LocalDate date);
 
+    /**
+     * R (Read) - 항공편 검색 결과 캐시 통계 (searchFlights용)
+     * @return "hits", "misses", "evictions", "expirations", "invalidations", "size"
+     */
+    Map<String, Long> getSearchCacheStats();
+
     /**
      * R (Read) - 항공편 상세 조회
      * @param flightId 조회할 항공편 ID
@@ -30,10 +38,40 @@ public interface FlightManageable {
      * R (Read) - 특정 항공편의 좌석 점유 현황 조회
      * (예약된 좌석 수, 총 좌석 수, 잔여 좌석 수 등)
      * @param flightId 항공편 ID
-     * @return 좌석 정보 (예: Map<String, Integer> - "total", "reserved", "available")
+     * @return 좌석 정보 (예: Map<String, Integer> - "total", "reserved", "available",
+     *         클래스별 "businessTotal" / "businessReserved" / "businessAvailable", "economy..." 동일)
      */
     Map<String, Integer> getSeatAvailability(String flightId);
 
+    /**
+     * R (Read) - 여러 항공편의 좌석 현황을 한 번에 조회 (검색 결과 목록 표시용)
+     * @param flightIds 항공편 ID 목록
+     * @return 항공편 ID → 좌석 정보 (입력 순서 유지, 없는 항공편은 빈 맵)
+     */
+    Map<String, Map<String, Integer>> getSeatAvailability(List<String> flightIds);
+
+    /**
+     * R (Read) - 연결(경유) 항공편 검색
+     * 직항이 없는 구간(예: PUS -> JFK)도 환승 여정을 찾아 줍니다. (직항도 1구간 여정으로 포함)
+     * @param departureCode 출발 공항 코드
+     * @param arrivalCode 도착 공항 코드
+     * @param date 첫 구간 출발 날짜
+     * @param options 최소 환승 시간, 최대 구간 수, 최대 대기 시간, 정렬 기준(도착 시각 / 운임 합계), 결과 수
+     * @return 정렬 기준 순 여정 목록 (없으면 빈 리스트)
+     */
+    List<Itinerary> searchConnections(String departureCode, String arrivalCode, LocalDate date, ConnectionSearchOptions options);
+
+    /**
+     * R (Read) - 날짜별 최저 운임 조회 (유연한 날짜 검색, 달력 표시용)
+     * 날짜마다 따로 검색하지 않고, 노선별 출발 시각 인덱스를 기간 전체에 대해 한 번만 훑습니다.
+     * @param departureCode 출발 공항 코드
+     * @param arrivalCode 도착 공항 코드
+     * @param fromDate 시작 날짜 (포함)
+     * @param toDate 끝 날짜 (포함)
+     * @return 기간의 모든 날짜에 대한 최저 운임/잔여 좌석 (날짜순, 예약 가능한 항공편이 없는 날은 lowestPrice가 null)
+     */
+    List<DailyFare> getFareCalendar(String departureCode, String arrivalCode, LocalDate fromDate, LocalDate toDate);
+
     // --- (관리자용) ---
     // C (Create) - 신규 노선 및 항공편 추가 로직
     // U (Update) - 항공편 상태 변경 로직
@@ -0,0 +1,15 @@
+package com.team1.airline.service;
+
+/**
+ * 예약 번호 생성기
+ * - 기본 구현은 SnowflakeIdGenerator (시간순 64비트 번호를 13자리 예약 코드로 변환)
+ * - 여러 스레드에서 동시에 호출해도 같은 번호를 돌려주지 않아야 합니다.
+ */
+@FunctionalInterface
+public interface ReservationIdGenerator {
+
+    /**
+     * @return 새 예약 번호
+     */
+    String nextId();
+}
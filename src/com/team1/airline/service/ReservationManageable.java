@@ -1,6 +1,7 @@
 package com.team1.airline.service;
 
 import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
 import com.team1.airline.gui.PaymentHistoryPanel.PaymentRow;
 import java.util.List;
 
@@ -15,6 +16,16 @@ public interface ReservationManageable {
      */
     Reservation makeReservation(String userId, String flightId, String seatNumber);
 
+    /**
+     * C (Create) - 여러 좌석 일괄 예약 (단체 예약)
+     * 모든 좌석을 한꺼번에 확보하며, 하나라도 확보하지 못하면 아무것도 예약하지 않습니다.
+     * @param userId 예약하는 사용자 ID
+     * @param flightId 예약할 항공편 ID
+     * @param seatNumbers 지정 좌석 번호 목록
+     * @return 좌석 순서대로 생성된 예약 목록, 실패 시 빈 리스트
+     */
+    List<Reservation> makeReservations(String userId, String flightId, List<String> seatNumbers);
+
     /**
      * R (Read) - 내 예약 조회
      * @param userId 조회할 사용자 ID
@@ -37,4 +48,13 @@ public interface ReservationManageable {
      */
     boolean cancelReservation(String reservationId, String userId);
 
+    /**
+     * U (Update) - 예약 상태 변경 (예: Confirmed -> Paid). 좌석 점유 여부가 바뀌면 좌석 재고도 함께 갱신
+     * (사용자 취소는 마일리지 회수가 필요하므로 cancelReservation 사용)
+     * @param reservationId 예약 ID
+     * @param newStatus 새 상태
+     * @return 변경 성공 시 true (예약이 없거나, 다시 점유해야 할 좌석을 이미 다른 예약이 잡았으면 false)
+     */
+    boolean changeReservationStatus(String reservationId, ReservationStatus newStatus);
+
 }
\ No newline at end of file
@@ -0,0 +1,258 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+import com.team1.airline.gui.PaymentHistoryPanel.PaymentRow;
+import com.team1.airline.service.ReservationManageable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 항공편 파티션별 단일 스레드 예약 엔진 (선택 사항, airline.booking.partitions > 0 일 때 MainApp이 사용)
+ * - 항공편 ID의 해시로 N개의 파티션 중 하나를 정하고, 그 항공편의 예약/취소/상태 변경은
+ *   모두 해당 파티션의 스레드 하나가 명령 큐(CommandRing) 순서대로 처리합니다. (LMAX식 이벤트 루프)
+ *   같은 항공편의 좌석을 두 스레드가 동시에 다루는 일이 없으므로 좌석 CAS가 경합하지 않습니다.
+ * - submit* 메서드는 명령을 큐에 넣고 바로 CompletableFuture를 돌려줍니다.
+ *   (future에 붙인 후속 작업은 파티션 스레드에서 실행될 수 있으므로 무거운 작업은 *Async로 붙일 것)
+ * - ReservationManageable도 구현하므로 기존 서비스 자리에 그대로 넣을 수 있습니다. (쓰기는 결과를 기다림, 조회는 바로 위임)
+ * - 큐가 가득 차면 생산자는 빈 칸이 생길 때까지 양보하며 기다립니다.
+ */
+public class BookingEngine implements ReservationManageable {
+
+    private static final int SPINS_BEFORE_PARK = 100;
+    private static final long PARK_NANOS = 1_000_000L; // 깨우기 신호를 놓쳐도 1ms 안에 다시 확인
+
+    private final ReservationManageable delegate;
+    private final ReservationDAO reservationDAO;
+    private final Partition[] partitions;
+
+    /**
+     * @param delegate 실제 예약 처리 서비스 (예: ReservationManager)
+     * @param reservationDAO 취소/상태 변경 명령을 항공편 파티션으로 보내기 위한 예약 조회용
+     * @param partitionCount 파티션(스레드) 수
+     * @param queueCapacity 파티션별 명령 큐 크기
+     */
+    public BookingEngine(ReservationManageable delegate, ReservationDAO reservationDAO, int partitionCount, int queueCapacity) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("partitionCount must be positive: " + partitionCount);
+        }
+        this.delegate = delegate;
+        this.reservationDAO = reservationDAO;
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(i, queueCapacity);
+        }
+        for (Partition partition : partitions) {
+            partition.thread.start();
+        }
+        System.out.println("BookingEngine: 예약 파티션 " + partitionCount + "개로 시작합니다.");
+    }
+
+    // --- 비동기 명령 ---
+
+    public CompletableFuture<Reservation> submitReservation(String userId, String flightId, String seatNumber) {
+        return partitionOf(flightId).submit(() -> delegate.makeReservation(userId, flightId, seatNumber));
+    }
+
+    public CompletableFuture<List<Reservation>> submitReservations(String userId, String flightId, List<String> seatNumbers) {
+        return partitionOf(flightId).submit(() -> delegate.makeReservations(userId, flightId, seatNumbers));
+    }
+
+    public CompletableFuture<Boolean> submitCancellation(String reservationId, String userId) {
+        Reservation reservation = reservationDAO.findByReservationId(reservationId);
+        if (reservation == null) {
+            // 없는 예약은 오류 로그만 남기므로 파티션을 거칠 필요 없음
+            return CompletableFuture.completedFuture(delegate.cancelReservation(reservationId, userId));
+        }
+        return partitionOf(reservation.getFlightId()).submit(() -> delegate.cancelReservation(reservationId, userId));
+    }
+
+    public CompletableFuture<Boolean> submitStatusChange(String reservationId, ReservationStatus newStatus) {
+        Reservation reservation = reservationDAO.findByReservationId(reservationId);
+        if (reservation == null) {
+            return CompletableFuture.completedFuture(delegate.changeReservationStatus(reservationId, newStatus));
+        }
+        return partitionOf(reservation.getFlightId()).submit(() -> delegate.changeReservationStatus(reservationId, newStatus));
+    }
+
+    // --- ReservationManageable (동기) ---
+
+    @Override
+    public Reservation makeReservation(String userId, String flightId, String seatNumber) {
+        return await(submitReservation(userId, flightId, seatNumber));
+    }
+
+    @Override
+    public List<Reservation> makeReservations(String userId, String flightId, List<String> seatNumbers) {
+        return await(submitReservations(userId, flightId, seatNumbers));
+    }
+
+    @Override
+    public List<Reservation> getMyReservations(String userId) {
+        return delegate.getMyReservations(userId);
+    }
+
+    @Override
+    public List<PaymentRow> getMyReservationDetails(String userId) {
+        return delegate.getMyReservationDetails(userId);
+    }
+
+    @Override
+    public boolean cancelReservation(String reservationId, String userId) {
+        return await(submitCancellation(reservationId, userId));
+    }
+
+    @Override
+    public boolean changeReservationStatus(String reservationId, ReservationStatus newStatus) {
+        return await(submitStatusChange(reservationId, newStatus));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 새 명령 접수를 멈추고, 이미 큐에 들어간 명령을 모두 처리한 뒤 파티션 스레드를 종료합니다.
+     */
+    public void shutdown() {
+        for (Partition partition : partitions) {
+            partition.running = false;
+            LockSupport.unpark(partition.thread);
+        }
+        for (Partition partition : partitions) {
+            try {
+                partition.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * @return 파티션별 처리한 명령 수 (부하 분산 확인용)
+     */
+    public long[] getProcessedCounts() {
+        long[] counts = new long[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            counts[i] = partitions[i].processed;
+        }
+        return counts;
+    }
+
+    private Partition partitionOf(String flightId) {
+        int hash = flightId == null ? 0 : flightId.hashCode();
+        hash ^= hash >>> 16;
+        return partitions[(hash & 0x7fffffff) % partitions.length];
+    }
+
+    private static final class Command<T> implements Runnable {
+        private final Supplier<T> work;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        Command(Supplier<T> work) {
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            try {
+                future.complete(work.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+
+    private static final class Partition implements Runnable {
+        private final CommandRing<Runnable> ring;
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile boolean sleeping;
+        private volatile long processed;
+
+        Partition(int index, int queueCapacity) {
+            this.ring = new CommandRing<>(queueCapacity);
+            this.thread = new Thread(this, "booking-partition-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<T> work) {
+            Command<T> command = new Command<>(work);
+            if (Thread.currentThread() == thread) {
+                // 파티션 안에서 같은 파티션으로 보낸 명령은 큐를 거치지 않고 바로 실행 (자기 큐를 기다리는 교착 방지)
+                command.run();
+                return command.future;
+            }
+            if (!running) {
+                command.future.completeExceptionally(new RejectedExecutionException("BookingEngine is shut down"));
+                return command.future;
+            }
+            while (!ring.offer(command)) {
+                if (!running && !thread.isAlive()) break; // 종료되어 큐가 더 비지 않음
+                LockSupport.unpark(thread);
+                Thread.yield();
+            }
+            if (!running) {
+                // 넣는 사이에 종료가 시작됨: 파티션 스레드가 남은 명령을 비우고 끝날 때까지 기다린 뒤,
+                // 그래도 처리되지 않았으면 거절
+                awaitExit();
+                command.future.completeExceptionally(new RejectedExecutionException("BookingEngine is shut down"));
+                return command.future;
+            }
+            if (sleeping) {
+                LockSupport.unpark(thread);
+            }
+            return command.future;
+        }
+
+        private void awaitExit() {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (running || !ring.isEmpty()) {
+                Runnable command = ring.poll();
+                if (command != null) {
+                    command.run();
+                    processed++;
+                    idle = 0;
+                    continue;
+                }
+                if (++idle < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                sleeping = true;
+                if (running && ring.isEmpty()) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                sleeping = false;
+            }
+        }
+    }
+}
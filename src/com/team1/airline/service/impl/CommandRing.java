@@ -0,0 +1,76 @@
+package com.team1.airline.service.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 생산자 / 단일 소비자 고정 크기 링 버퍼 (BookingEngine 파티션의 명령 큐)
+ * - 칸마다 순번을 두어(LMAX Disruptor / Vyukov 큐 방식) 생산자는 tail CAS 한 번으로 칸을 얻고,
+ *   소비자는 락이나 CAS 없이 head만 전진시킵니다.
+ * - 가득 차면 offer가 false를 돌려주므로, 기다릴지 포기할지는 호출하는 쪽이 정합니다.
+ */
+final class CommandRing<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> cells;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // 소비자 스레드만 사용
+
+    /**
+     * @param capacity 칸 수 (2의 거듭제곱으로 올림)
+     */
+    CommandRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.cells = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return 넣었으면 true, 가득 찼으면 false
+     */
+    boolean offer(E element) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    cells.lazySet(index, element);
+                    sequences.set(index, pos + 1); // 소비자에게 공개
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 소비자 스레드 전용
+     * @return 꺼낸 원소, 비어 있으면 null
+     */
+    E poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = cells.get(index);
+        cells.lazySet(index, null);
+        sequences.set(index, head + mask + 1); // 생산자가 다음 바퀴에 다시 쓸 수 있음
+        head++;
+        return element;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+}
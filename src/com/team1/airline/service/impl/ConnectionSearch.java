@@ -0,0 +1,295 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.dao.FlightDAO;
+import com.team1.airline.dao.RouteDAO;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
+import com.team1.airline.entity.Itinerary;
+import com.team1.airline.entity.Route;
+import com.team1.airline.service.ConnectionSearchOptions;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 연결(경유) 항공편 검색 - 시간 전개 그래프(time-expanded graph) 위의 최선 우선 탐색
+ * - 공항이 노드, 예약 가능한 항공편이 (출발 시각 → 도착 시각) 간선입니다.
+ *   매진 항공편도 시각표에는 넣어 두고 탐색할 때 건너뛰므로, 좌석이 차거나 비어 상태만 바뀔 때는 시각표를 다시 만들지 않습니다.
+ *   항공편 하나에서 이어 탈 수 있는 항공편은 도착 공항에서
+ *   [도착 + 최소 환승 시간, 도착 + 최대 대기 시간] 사이에 출발하는 항공편입니다.
+ * - 시각표는 공항별로 출발 시각순 배열(CSR)로 만들어 두고, 이어 탈 항공편의 시작 위치는 이진 탐색으로 찾습니다.
+ *   항공편 운항 일정/노선 데이터 버전이 바뀌면 다음 검색 때 다시 만듭니다.
+ * - 정렬 기준(도착 시각 또는 운임 합계)은 구간을 더할수록 줄지 않으므로, 우선순위 큐에서 목적지에 먼저 도달한
+ *   여정이 곧 상위 결과입니다. 간선마다(구간 수별) 최대 limit번만 꺼내므로 탐색량이 제한됩니다.
+ * - 남은 구간 수로 목적지에 갈 수 없는 공항(공항 그래프의 역방향 BFS 거리)으로는 넘어가지 않습니다.
+ */
+final class ConnectionSearch {
+
+    private final FlightDAO flightDAO;
+    private final RouteDAO routeDAO;
+    private volatile Timetable timetable;
+
+    ConnectionSearch(FlightDAO flightDAO, RouteDAO routeDAO) {
+        this.flightDAO = flightDAO;
+        this.routeDAO = routeDAO;
+    }
+
+    /**
+     * @param date 첫 구간 출발 날짜
+     * @return 조건을 만족하는 여정 (정렬 기준 순, 최대 options.getLimit()개)
+     */
+    List<Itinerary> search(String departureCode, String arrivalCode, LocalDate date, ConnectionSearchOptions options) {
+        Timetable table = timetable();
+        Integer origin = table.airportIndex.get(normalize(departureCode));
+        Integer target = table.airportIndex.get(normalize(arrivalCode));
+        List<Itinerary> results = new ArrayList<>();
+        if (origin == null || target == null || date == null || origin.equals(target)) {
+            return results;
+        }
+
+        int maxLegs = options.getMaxLegs();
+        int[] hopsToTarget = table.hopsTo(target, maxLegs);
+        if (hopsToTarget[origin] > maxLegs) {
+            return results;
+        }
+
+        Comparator<Label> order = options.getSortBy() == ConnectionSearchOptions.SortBy.PRICE
+                ? Comparator.<Label>comparingDouble(l -> l.price).thenComparingLong(l -> l.arrival).thenComparingInt(l -> l.legs)
+                : Comparator.<Label>comparingLong(l -> l.arrival).thenComparingDouble(l -> l.price).thenComparingInt(l -> l.legs);
+        PriorityQueue<Label> queue = new PriorityQueue<>(order);
+
+        long dayStart = minutes(date.atStartOfDay());
+        long dayEnd = minutes(date.plusDays(1).atStartOfDay());
+        for (int e = table.firstDepartureAtOrAfter(origin, dayStart); e < table.end(origin) && table.departure[e] < dayEnd; e++) {
+            if (table.isBookable(e) && hopsToTarget[table.destination[e]] <= maxLegs - 1) {
+                queue.add(new Label(table, e, null));
+            }
+        }
+
+        int limit = options.getLimit();
+        Map<Integer, Integer> pops = new HashMap<>();
+        while (!queue.isEmpty() && results.size() < limit) {
+            Label label = queue.poll();
+            int airport = table.destination[label.edge];
+            if (airport == target) {
+                results.add(label.toItinerary(table));
+                continue;
+            }
+            if (label.legs >= maxLegs || pops.merge(label.edge * maxLegs + label.legs - 1, 1, Integer::sum) > limit) {
+                continue;
+            }
+
+            long earliest = label.arrival + options.getMinConnectionMinutes();
+            long latest = label.arrival + options.getMaxLayoverMinutes();
+            int remainingAfterNext = maxLegs - label.legs - 1;
+            for (int e = table.firstDepartureAtOrAfter(airport, earliest); e < table.end(airport) && table.departure[e] <= latest; e++) {
+                int next = table.destination[e];
+                if (!table.isBookable(e) || hopsToTarget[next] > remainingAfterNext || label.visits(table, origin, next)) {
+                    continue;
+                }
+                queue.add(new Label(table, e, label));
+            }
+        }
+        return results;
+    }
+
+    private Timetable timetable() {
+        long flightVersion = flightDAO.getScheduleVersion();
+        long routeVersion = routeDAO.getVersion();
+        Timetable current = timetable;
+        if (current != null && current.flightVersion == flightVersion && current.routeVersion == routeVersion) {
+            return current;
+        }
+        synchronized (this) {
+            current = timetable;
+            if (current == null || current.flightVersion != flightVersion || current.routeVersion != routeVersion) {
+                long began = System.nanoTime();
+                List<Flight> flights = flightDAO.findFlightsByStatus(FlightStatus.BOOKABLE);
+                flights.addAll(flightDAO.findFlightsByStatus(FlightStatus.SOLD_OUT));
+                current = new Timetable(flights, routeDAO.findAll(), flightVersion, routeVersion);
+                timetable = current;
+                System.out.println("ConnectionSearch: 시각표 생성 (" + current.flights.length + "편, "
+                        + (System.nanoTime() - began) / 1_000_000 + "ms)");
+            }
+            return current;
+        }
+    }
+
+    static long minutes(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static String normalize(String airportCode) {
+        return airportCode == null ? null : airportCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    // 탐색 중인 부분 여정 (마지막 구간 + 이전 부분 여정)
+    private static final class Label {
+        private final int edge;
+        private final Label previous;
+        private final int legs;
+        private final double price;
+        private final long arrival;
+
+        Label(Timetable table, int edge, Label previous) {
+            this.edge = edge;
+            this.previous = previous;
+            this.legs = previous == null ? 1 : previous.legs + 1;
+            this.price = (previous == null ? 0 : previous.price) + table.price[edge];
+            this.arrival = table.arrival[edge];
+        }
+
+        // 출발 공항 또는 이미 거친 공항인지 (같은 공항을 다시 지나는 여정 제외)
+        boolean visits(Timetable table, int origin, int airport) {
+            if (airport == origin) return true;
+            for (Label l = this; l != null; l = l.previous) {
+                if (table.destination[l.edge] == airport) return true;
+            }
+            return false;
+        }
+
+        Itinerary toItinerary(Timetable table) {
+            Flight[] legs = new Flight[this.legs];
+            int i = legs.length;
+            for (Label l = this; l != null; l = l.previous) {
+                legs[--i] = table.flights[l.edge];
+            }
+            return new Itinerary(List.of(legs), price);
+        }
+    }
+
+    /**
+     * 예약 가능/매진 항공편의 불변 시각표 (매진 여부는 isBookable로 조회 때 확인)
+     * - 간선 e는 출발 공항순, 같은 공항 안에서는 출발 시각순으로 정렬되어 있고
+     *   공항 a의 간선은 [offsets[a], offsets[a + 1]) 구간입니다.
+     */
+    private static final class Timetable {
+        private final long flightVersion;
+        private final long routeVersion;
+        private final Map<String, Integer> airportIndex = new HashMap<>();
+        private final int[] offsets;
+        private final long[] departure;
+        private final long[] arrival;
+        private final int[] destination;
+        private final double[] price;
+        private final Flight[] flights;
+        private final int[][] inbound; // 공항별로 직항이 들어오는 출발 공항 (역방향 BFS용)
+
+        Timetable(List<Flight> sellableFlights, List<Route> allRoutes, long flightVersion, long routeVersion) {
+            this.flightVersion = flightVersion;
+            this.routeVersion = routeVersion;
+            Map<String, Route> routes = new HashMap<>();
+            for (Route route : allRoutes) {
+                routes.put(route.getRouteId(), route);
+            }
+
+            List<Flight> usable = new ArrayList<>();
+            List<int[]> ends = new ArrayList<>(); // {출발 공항, 도착 공항}
+            for (Flight flight : sellableFlights) {
+                Route route = routes.get(flight.getRouteId());
+                if (route == null || flight.getStatus() == null || !flight.getStatus().isSeatDriven()
+                        || flight.getDepartureTime() == null || flight.getArrivalTime() == null) {
+                    continue;
+                }
+                usable.add(flight);
+                ends.add(new int[]{indexOf(route.getDepartureAirportCode()), indexOf(route.getArrivalAirportCode())});
+            }
+
+            int n = usable.size();
+            Integer[] order = new Integer[n];
+            long[] departureOf = new long[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+                departureOf[i] = minutes(usable.get(i).getDepartureTime());
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingInt(i -> ends.get(i)[0]).thenComparingLong(i -> departureOf[i]));
+
+            int airports = airportIndex.size();
+            this.offsets = new int[airports + 1];
+            this.departure = new long[n];
+            this.arrival = new long[n];
+            this.destination = new int[n];
+            this.price = new double[n];
+            this.flights = new Flight[n];
+            List<Set<Integer>> inboundSets = new ArrayList<>();
+            for (int a = 0; a < airports; a++) {
+                inboundSets.add(new HashSet<>());
+            }
+            for (int e = 0; e < n; e++) {
+                int i = order[e];
+                Flight flight = usable.get(i);
+                int from = ends.get(i)[0];
+                offsets[from + 1]++;
+                departure[e] = departureOf[i];
+                arrival[e] = minutes(flight.getArrivalTime());
+                destination[e] = ends.get(i)[1];
+                price[e] = routes.get(flight.getRouteId()).getPrice();
+                flights[e] = flight;
+                inboundSets.get(destination[e]).add(from);
+            }
+            for (int a = 0; a < airports; a++) {
+                offsets[a + 1] += offsets[a];
+            }
+            this.inbound = new int[airports][];
+            for (int a = 0; a < airports; a++) {
+                inbound[a] = inboundSets.get(a).stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+
+        private int indexOf(String airportCode) {
+            return airportIndex.computeIfAbsent(normalize(airportCode), code -> airportIndex.size());
+        }
+
+        boolean isBookable(int edge) {
+            return flights[edge].getStatus() == FlightStatus.BOOKABLE;
+        }
+
+        int end(int airport) {
+            return offsets[airport + 1];
+        }
+
+        // 공항의 간선 중 출발 시각이 time 이상인 첫 위치 (없으면 end)
+        int firstDepartureAtOrAfter(int airport, long time) {
+            int low = offsets[airport];
+            int high = offsets[airport + 1];
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (departure[mid] < time) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+
+        // 공항별 목적지까지 최소 구간 수 (maxLegs를 넘으면 maxLegs + 1)
+        int[] hopsTo(int target, int maxLegs) {
+            int[] hops = new int[offsets.length - 1];
+            Arrays.fill(hops, maxLegs + 1);
+            hops[target] = 0;
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.add(target);
+            while (!queue.isEmpty()) {
+                int airport = queue.poll();
+                if (hops[airport] >= maxLegs) continue;
+                for (int from : inbound[airport]) {
+                    if (hops[from] > hops[airport] + 1) {
+                        hops[from] = hops[airport] + 1;
+                        queue.add(from);
+                    }
+                }
+            }
+            return hops;
+        }
+    }
+}
@@ -3,16 +3,21 @@ package com.team1.airline.service.impl;
 // 필요한 DAO와 Entity, Service 인터페이스들을 임포트
 import com.team1.airline.dao.*;
 import com.team1.airline.entity.*;
+import com.team1.airline.service.ConnectionSearchOptions;
 import com.team1.airline.service.FlightManageable;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-public class FlightManager implements FlightManageable {
+public class FlightManager implements FlightManageable, AutoCloseable {
 
     // 이 매니저는 항공편 검색을 위해 여러 DAO 부품이 필요합니다.
     private FlightDAO flightDAO;
@@ -21,14 +26,38 @@ public class FlightManager implements FlightManageable {
     private ReservationDAO reservationDAO;
     // (공항 이름 표시 등을 위해 AirportDAO도 주입받을 수 있습니다)
 
+    // 항공편별 좌석 재고 (ReservationManager와 공유)
+    private SeatInventory seatInventory;
+
+    // 연결 항공편 검색용 시각표 (항공편/노선이 바뀌면 다음 검색 때 다시 만듦)
+    private ConnectionSearch connectionSearch;
+
+    // 항공편 검색 결과 캐시 (항공편이 바뀌면 해당 노선/날짜 항목만 무효화)
+    private SearchResultCache searchCache;
+
     /**
      * 생성자 (Constructor) - 부품들을 주입받습니다.
      */
-    public FlightManager(FlightDAO flightDAO, RouteDAO routeDAO, AircraftDAO aircraftDAO, ReservationDAO reservationDAO) {
+    public FlightManager(FlightDAO flightDAO, RouteDAO routeDAO, AircraftDAO aircraftDAO, ReservationDAO reservationDAO, SeatInventory seatInventory) {
         this.flightDAO = flightDAO;
         this.routeDAO = routeDAO;
         this.aircraftDAO = aircraftDAO;
         this.reservationDAO = reservationDAO;
+        this.seatInventory = seatInventory;
+        this.connectionSearch = new ConnectionSearch(flightDAO, routeDAO);
+        this.searchCache = new SearchResultCache(routeDAO,
+                Integer.getInteger("airline.search.cacheSize", 1024),
+                TimeUnit.SECONDS.toMillis(Long.getLong("airline.search.cacheTtlSeconds", 60L)));
+        flightDAO.addChangeListener(searchCache);
+    }
+
+    /**
+     * 검색 결과 캐시의 항공편 변경 리스너를 해제합니다.
+     * (리스너는 DataManager에 등록되므로, 다 쓴 매니저를 닫지 않으면 캐시가 계속 남아 알림을 받음)
+     */
+    @Override
+    public void close() {
+        flightDAO.removeChangeListener(searchCache);
     }
 
     /**
@@ -38,6 +67,12 @@ public class FlightManager implements FlightManageable {
     public List<Flight> searchFlights(String departureCode, String arrivalCode, LocalDate date) {
         System.out.println("FlightManager: searchFlights called with: departureCode=" + departureCode + ", arrivalCode=" + arrivalCode + ", date=" + date);
 
+        // 같은 (출발, 도착, 날짜) 검색은 캐시에서 (호출자가 목록을 고쳐도 캐시에는 영향 없도록 복사)
+        return new ArrayList<>(searchCache.getOrCompute(departureCode, arrivalCode, date,
+                () -> findBookableFlights(departureCode, arrivalCode, date)));
+    }
+
+    private List<Flight> findBookableFlights(String departureCode, String arrivalCode, LocalDate date) {
         // ★★★ 항공편 검색 '비즈니스 로직' ★★★
 
         // 1. DAO를 통해 '노선'을 먼저 찾습니다. (예: 인천 -> 뉴욕)
@@ -67,14 +102,22 @@ public class FlightManager implements FlightManageable {
         }
         System.out.println("FlightManager: Total available flights before filtering status: " + availableFlights.size());
 
-        // 4. 비즈니스 규칙: "Scheduled" (예약 가능) 상태인 항공편만 필터링
+        // 4. 비즈니스 규칙: '예약 가능' 상태인 항공편만 필터링 (enum 참조 비교)
         List<Flight> finalFlights = availableFlights.stream()
-                .filter(flight -> "예약 가능".equals(flight.getStatus())) // Changed from "Scheduled" to "예약 가능"
+                .filter(flight -> flight.getStatus() == FlightStatus.BOOKABLE)
                 .collect(Collectors.toList());
         System.out.println("FlightManager: Final flights after status filtering: " + finalFlights.size());
         return finalFlights;
     }
 
+    /**
+     * R (Read) - 검색 결과 캐시 통계
+     */
+    @Override
+    public Map<String, Long> getSearchCacheStats() {
+        return searchCache.getStats();
+    }
+
     @Override
     public Flight getFlightById(String flightId) {
         // DAO에게 단순 전달
@@ -86,33 +129,74 @@ public class FlightManager implements FlightManageable {
      */
     @Override
     public Map<String, Integer> getSeatAvailability(String flightId) {
-        Map<String, Integer> seatInfo = new HashMap<>();
+        // ★★★ 좌석 '비즈니스 로직' ★★★
+        // 좌석 재고의 항공편별/클래스별 카운터에서 바로 읽습니다. (예약 목록 스캔 없음, O(1))
+        // 항공편이나 항공기 정보가 없으면 빈 맵
+        return seatInventory.getAvailability(flightId);
+    }
 
-        // 1. 항공편 정보를 가져옵니다.
-        Flight flight = flightDAO.findByFlightId(flightId);
-        if (flight == null) return seatInfo; // 빈 맵
+    /**
+     * R (Read) - 여러 항공편의 좌석 현황 일괄 조회
+     */
+    @Override
+    public Map<String, Map<String, Integer>> getSeatAvailability(List<String> flightIds) {
+        Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+        for (String flightId : flightIds) {
+            result.put(flightId, seatInventory.getAvailability(flightId));
+        }
+        return result;
+    }
 
-        // 2. 항공편에 연결된 '항공기' 정보를 가져옵니다. (총 좌석 수 확인)
-        Aircraft aircraft = aircraftDAO.findByAircraftId(flight.getAircraftId());
-        if (aircraft == null) return seatInfo;
+    /**
+     * R (Read) - 연결 항공편 검색 로직 구현
+     */
+    @Override
+    public List<Itinerary> searchConnections(String departureCode, String arrivalCode, LocalDate date, ConnectionSearchOptions options) {
+        return connectionSearch.search(departureCode, arrivalCode, date, options != null ? options : ConnectionSearchOptions.defaults());
+    }
 
-        // ★★★ 좌석 '비즈니스 로직' ★★★
-        int totalSeats = aircraft.getTotalSeats();
-        
-        // 3. 이 항공편에 '예약된' 내역을 모두 가져옵니다.
-        List<Reservation> reservations = reservationDAO.findReservationsByFlightId(flightId);
-        
-        // 4. '확정' 또는 '결제완료' 상태인 예약만 카운트합니다.
-        int reservedSeats = (int) reservations.stream()
-                .filter(r -> "Confirmed".equals(r.getStatus()) || "Paid".equals(r.getStatus()))
-                .count();
-
-        int availableSeats = totalSeats - reservedSeats;
-
-        seatInfo.put("total", totalSeats);
-        seatInfo.put("reserved", reservedSeats);
-        seatInfo.put("available", availableSeats);
-
-        return seatInfo;
+    /**
+     * R (Read) - 날짜별 최저 운임 로직 구현
+     */
+    @Override
+    public List<DailyFare> getFareCalendar(String departureCode, String arrivalCode, LocalDate fromDate, LocalDate toDate) {
+        List<DailyFare> calendar = new ArrayList<>();
+        if (fromDate == null || toDate == null || toDate.isBefore(fromDate)) {
+            return calendar;
+        }
+        int days = (int) ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+        double[] lowest = new double[days];
+        String[] cheapest = new String[days];
+        LocalDateTime[] cheapestDeparture = new LocalDateTime[days];
+        int[] flights = new int[days];
+        int[] seats = new int[days];
+        Arrays.fill(lowest, Double.NaN);
+
+        List<Route> routes = routeDAO.findRoutesByAirports(departureCode, arrivalCode);
+        for (Route route : routes != null ? routes : List.<Route>of()) {
+            // 노선의 출발 시각 인덱스에서 기간 전체를 한 번에 (출발 시각순)
+            for (Flight flight : flightDAO.findFlightsByRouteAndDateRange(route.getRouteId(), fromDate, toDate)) {
+                if (flight.getStatus() != FlightStatus.BOOKABLE) continue;
+                int available = seatInventory.getAvailableSeats(flight.getFlightId());
+                if (available <= 0) continue;
+
+                int day = (int) ChronoUnit.DAYS.between(fromDate, flight.getDepartureTime().toLocalDate());
+                flights[day]++;
+                seats[day] += available;
+                double price = route.getPrice();
+                if (Double.isNaN(lowest[day]) || price < lowest[day]
+                        || price == lowest[day] && flight.getDepartureTime().isBefore(cheapestDeparture[day])) {
+                    lowest[day] = price;
+                    cheapest[day] = flight.getFlightId();
+                    cheapestDeparture[day] = flight.getDepartureTime();
+                }
+            }
+        }
+
+        for (int day = 0; day < days; day++) {
+            calendar.add(new DailyFare(fromDate.plusDays(day), Double.isNaN(lowest[day]) ? null : lowest[day],
+                    cheapest[day], flights[day], seats[day]));
+        }
+        return calendar;
     }
-}
\ No newline at end of file
+}
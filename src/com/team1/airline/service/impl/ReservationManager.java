@@ -5,10 +5,14 @@ import com.team1.airline.dao.*;
 import com.team1.airline.entity.*;
 import com.team1.airline.service.ReservationManageable;
 import com.team1.airline.service.FlightManageable; // 좌석 확인을 위해
+import com.team1.airline.service.ReservationIdGenerator;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID; // 예약 ID 생성을 위해
+import java.util.Set;
+import java.util.UUID;
 
 public class ReservationManager implements ReservationManageable {
 
@@ -22,86 +26,152 @@ public class ReservationManager implements ReservationManageable {
     // FlightManager의 '좌석 확인' 로직을 재사용하기 위해 주입받음
     private FlightManageable flightManager; 
 
+    // 좌석 확보/반납용 재고 (FlightManager와 같은 인스턴스)
+    private SeatInventory seatInventory;
+
+    // 예약 번호 생성기
+    private ReservationIdGenerator idGenerator;
+
     /**
      * 생성자 (Constructor) - 부품들을 주입받습니다.
+     * 예약 번호는 시스템 속성으로 고른 기본 생성기로 만듭니다. (defaultIdGenerator 참고)
+     */
+    public ReservationManager(ReservationDAO reservationDAO, UserDAO userDAO, FlightDAO flightDAO, RouteDAO routeDAO, AirportDAO airportDAO, FlightManageable flightManager, SeatInventory seatInventory) {
+        this(reservationDAO, userDAO, flightDAO, routeDAO, airportDAO, flightManager, seatInventory, defaultIdGenerator());
+    }
+
+    /**
+     * 생성자 (Constructor) - 예약 번호 생성기까지 주입받습니다.
      */
-    public ReservationManager(ReservationDAO reservationDAO, UserDAO userDAO, FlightDAO flightDAO, RouteDAO routeDAO, AirportDAO airportDAO, FlightManageable flightManager) {
+    public ReservationManager(ReservationDAO reservationDAO, UserDAO userDAO, FlightDAO flightDAO, RouteDAO routeDAO, AirportDAO airportDAO, FlightManageable flightManager, SeatInventory seatInventory, ReservationIdGenerator idGenerator) {
         this.reservationDAO = reservationDAO;
         this.userDAO = userDAO;
         this.flightDAO = flightDAO;
         this.routeDAO = routeDAO;
         this.airportDAO = airportDAO;
         this.flightManager = flightManager;
+        this.seatInventory = seatInventory;
+        this.idGenerator = idGenerator;
+    }
+
+    /**
+     * 기본 예약 번호 생성기
+     * - airline.reservation.idFormat=snowflake (기본): 시간순 13자리 예약 코드, 노드 번호는 airline.node.id (기본 0)
+     * - airline.reservation.idFormat=uuid: 기존 방식 (UUID.randomUUID, 36자리)
+     */
+    public static ReservationIdGenerator defaultIdGenerator() {
+        String format = System.getProperty("airline.reservation.idFormat", "snowflake");
+        if ("uuid".equalsIgnoreCase(format)) {
+            return () -> UUID.randomUUID().toString();
+        }
+        if (!"snowflake".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("Unknown reservation id format: " + format);
+        }
+        return new SnowflakeIdGenerator(Integer.getInteger("airline.node.id", 0));
     }
 
     /**
-     * C (Create) - 예약하기 로직 구현
+     * C (Create) - 예약하기 로직 구현 (좌석 하나짜리 일괄 예약)
      */
     @Override
     public Reservation makeReservation(String userId, String flightId, String seatNumber) {
+        List<Reservation> reservations = makeReservations(userId, flightId, List.of(seatNumber));
+        return reservations.isEmpty() ? null : reservations.get(0);
+    }
+
+    /**
+     * C (Create) - 여러 좌석 일괄 예약 로직 구현
+     * 사용자/항공편 확인, 가격 계산, 저장, 마일리지 적립을 좌석 수와 관계없이 한 번씩만 수행합니다.
+     */
+    @Override
+    public List<Reservation> makeReservations(String userId, String flightId, List<String> seatNumbers) {
         
         // ★★★ 예약 '비즈니스 로직' (가장 중요) ★★★
 
+        if (seatNumbers == null || seatNumbers.isEmpty()) {
+            System.out.println("ReservationManager Error: 선택된 좌석이 없습니다.");
+            return new ArrayList<>();
+        }
+        if (hasDuplicateSeat(seatNumbers)) {
+            System.out.println("ReservationManager Error: 같은 좌석이 중복 선택되었습니다.");
+            return new ArrayList<>();
+        }
+
         // 1. 비즈니스 규칙: 사용자가 실존하는가?
         User user = userDAO.findByUserId(userId);
         if (user == null) {
             System.out.println("ReservationManager Error: 존재하지 않는 사용자입니다.");
-            return null;
+            return new ArrayList<>();
         }
 
         // 2. 비즈니스 규칙: 항공편이 실존하며 '예약 가능' 상태인가?
         Flight flight = flightDAO.findByFlightId(flightId);
-        if (flight == null || !"Scheduled".equals(flight.getStatus()) && !"예약 가능".equals(flight.getStatus())) {
+        if (flight == null || flight.getStatus() != FlightStatus.SCHEDULED && flight.getStatus() != FlightStatus.BOOKABLE) {
             // Note: FlightManager에서 '예약 가능'으로 필터링하므로 여기서도 체크
              System.out.println("ReservationManager Error: 항공편이 존재하지 않거나 예약 가능한 상태가 아닙니다.");
-            return null;
+            return new ArrayList<>();
         }
 
-        // 3. 비즈니스 규칙: 좌석이 남아있는가? (FlightManager 로직 재사용)
-        Map<String, Integer> seatInfo = flightManager.getSeatAvailability(flightId);
-        if (seatInfo.getOrDefault("available", 0) <= 0) {
-            System.out.println("ReservationManager Error: 만석입니다.");
-            return null;
-        }
-
-        // 4. 비즈니스 규칙: 해당 좌석이 이미 점유되었는가?
-        List<Reservation> reservations = reservationDAO.findReservationsByFlightId(flightId);
-        boolean seatTaken = reservations.stream()
-                .filter(r -> "Confirmed".equals(r.getStatus()))
-                .anyMatch(r -> seatNumber.equals(r.getSeatNumber()));
-        
-        if (seatTaken) {
-            System.out.println("ReservationManager Error: 해당 좌석은 이미 예약되었습니다.");
-            return null;
+        // 3~4. 비즈니스 규칙: 모든 좌석을 원자적으로 확보 (하나라도 실패하면 앞서 잡은 좌석을 반납 - 전부 아니면 전무)
+        List<String> claimed = new ArrayList<>(seatNumbers.size());
+        for (String seatNumber : seatNumbers) {
+            if (!seatInventory.claim(flightId, seatNumber)) {
+                // 반납하기 전에 확인 (앞서 잡은 좌석은 이미 빠져 있으므로 남은 요청 수와 비교)
+                boolean notEnoughSeats = seatInventory.getAvailableSeats(flightId) < seatNumbers.size() - claimed.size();
+                for (String seat : claimed) {
+                    seatInventory.release(flightId, seat);
+                }
+                if (notEnoughSeats) {
+                    System.out.println("ReservationManager Error: 잔여 좌석이 부족합니다.");
+                } else if (!seatInventory.isValidSeat(flightId, seatNumber)) {
+                    System.out.println("ReservationManager Error: 존재하지 않는 좌석입니다. (" + seatNumber + ")");
+                } else {
+                    System.out.println("ReservationManager Error: 해당 좌석은 이미 예약되었습니다. (" + seatNumber + ")");
+                }
+                return new ArrayList<>();
+            }
+            claimed.add(seatNumber);
         }
 
-        // 5. 가격 계산 (Route 정보에서 가져오기)
+        // 5. 가격 계산 (Route 정보에서 가져오기, 좌석마다 같은 운임)
         Route route = routeDAO.findByRouteId(flight.getRouteId());
         double price = (route != null) ? route.getPrice() : 0.0;
 
         // 6. 모든 규칙 통과 -> 예약 객체 생성
-        String reservationId = UUID.randomUUID().toString(); // 고유 예약 ID 생성
-        Reservation newReservation = new Reservation(
-            reservationId,
-            userId,
-            flightId,
-            seatNumber,
-            price, // 최종 가격 (할인 등 추가 로직 가능)
-            "Confirmed" // 초기 상태 '확정'
-        );
-
-        // 7. DAO를 통해 저장
-        reservationDAO.addReservation(newReservation);
+        List<Reservation> newReservations = new ArrayList<>(seatNumbers.size());
+        for (String seatNumber : seatNumbers) {
+            String reservationId = idGenerator.nextId(); // 고유 예약 ID 생성
+            newReservations.add(new Reservation(
+                reservationId,
+                userId,
+                flightId,
+                seatNumber,
+                price, // 최종 가격 (할인 등 추가 로직 가능)
+                ReservationStatus.CONFIRMED // 초기 상태 '확정'
+            ));
+        }
+
+        // 7. DAO를 통해 한 번에 저장 (좌석을 확보한 뒤에만 기록, 저장 실패 시 아무것도 저장되지 않으므로 좌석만 반납)
+        try {
+            reservationDAO.addReservations(newReservations);
+        } catch (RuntimeException e) {
+            for (String seat : claimed) {
+                seatInventory.release(flightId, seat);
+            }
+            throw e;
+        }
         
-        // [추가] 8. 마일리지 적립 로직 (결제 금액의 5%)
-        int mileageEarned = (int) (price * 0.05);
-        user.setMileage(user.getMileage() + mileageEarned);
-        userDAO.updateUser(user);
+        // [추가] 8. 마일리지 적립 로직 (결제 금액의 5%, 취소 시 좌석별로 회수되므로 좌석 단위로 계산해 한 번에 적립)
+        int mileageEarned = (int) (price * 0.05) * newReservations.size();
+        User updated = userDAO.addMileage(userId, mileageEarned);
+        if (updated != null) {
+            user = updated;
+        }
         
-        System.out.println("ReservationManager: 예약 성공! (마일리지 " + mileageEarned + "점 적립됨)");
+        System.out.println("ReservationManager: 예약 성공! " + newReservations.size() + "석 (마일리지 " + mileageEarned + "점 적립됨)");
         System.out.println("ReservationManager: 현재 총 마일리지: " + user.getMileage());
 
-        return newReservation; // 성공
+        return newReservations; // 성공
     }
 
     /**
@@ -120,7 +190,7 @@ public class ReservationManager implements ReservationManageable {
 
         for (Reservation r : reservations) {
             // "Confirmed" 상태인 예약만 목록에 포함
-            if (!"Confirmed".equals(r.getStatus())) {
+            if (r.getStatus() != ReservationStatus.CONFIRMED) {
                 continue;
             }
             
@@ -170,33 +240,93 @@ public class ReservationManager implements ReservationManageable {
         }
         
         // 4. 비즈니스 규칙: 이미 취소된 예약인가?
-        if ("Cancelled".equals(reservation.getStatus())) {
+        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
             System.out.println("ReservationManager Error: 이미 취소된 예약입니다.");
             return false;
         }
         
         // (추가 로직: 출발 24시간 전인지 등... )
 
-        // 5. 모든 규칙 통과 -> 상태 변경
-        reservation.setStatus("Cancelled");
+        // 5. DAO를 통해 '수정' (저장된 객체는 그대로 두고 사본을 저장)
+        //    저널 기록이 실패하면 예외가 그대로 전달되고, 좌석과 마일리지는 바뀌지 않습니다.
+        reservationDAO.updateReservation(withStatus(reservation, ReservationStatus.CANCELLED));
+
+        // 6. 좌석 반납 (동시에 들어온 같은 예약의 취소 요청 중 하나만 통과)
+        //    배치도에 없는 좌석(항공편/항공기 정보 없음)은 반납할 좌석이 없으므로 그대로 진행
+        if (!seatInventory.release(reservation.getFlightId(), reservation.getSeatNumber())
+                && seatInventory.isValidSeat(reservation.getFlightId(), reservation.getSeatNumber())) {
+            System.out.println("ReservationManager Error: 이미 취소된 예약입니다.");
+            return false;
+        }
         
-        // [추가] 6. 마일리지 회수 로직
-        User user = userDAO.findByUserId(userId);
+        // [추가] 7. 마일리지 회수 로직
+        int mileageToDeduct = (int) (reservation.getFinalPrice() * 0.05); // 적립했던 5% 계산
+        // 마일리지가 음수가 되지 않도록 처리 (DAO가 0에서 멈춤)
+        User user = userDAO.addMileage(userId, -mileageToDeduct);
         if (user != null) {
-            int mileageToDeduct = (int) (reservation.getFinalPrice() * 0.05); // 적립했던 5% 계산
-            int currentMileage = user.getMileage();
-            
-            // 마일리지가 음수가 되지 않도록 처리
-            user.setMileage(Math.max(0, currentMileage - mileageToDeduct));
-            userDAO.updateUser(user);
             System.out.println("ReservationManager: 예약 취소로 마일리지 " + mileageToDeduct + "점이 차감되었습니다.");
             System.out.println("ReservationManager: 현재 총 마일리지: " + user.getMileage());
         }
         
-        // 7. DAO를 통해 '수정'
-        reservationDAO.updateReservation(reservation);
-        
         System.out.println("ReservationManager: 예약이 성공적으로 취소되었습니다.");
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * U (Update) - 예약 상태 변경 로직 구현
+     */
+    @Override
+    public boolean changeReservationStatus(String reservationId, ReservationStatus newStatus) {
+        Reservation reservation = reservationDAO.findByReservationId(reservationId);
+        if (reservation == null || newStatus == null) {
+            System.out.println("ReservationManager Error: 존재하지 않는 예약입니다.");
+            return false;
+        }
+        ReservationStatus oldStatus = reservation.getStatus();
+        if (newStatus == oldStatus) {
+            return true;
+        }
+
+        // 좌석을 다시 점유해야 하면 저장 전에 먼저 확보 (이미 팔렸으면 실패)
+        boolean claiming = !SeatInventory.holdsSeat(oldStatus) && SeatInventory.holdsSeat(newStatus);
+        if (claiming && !seatInventory.changeStatus(reservation, oldStatus, newStatus)) {
+            System.out.println("ReservationManager Error: 해당 좌석은 이미 다른 예약에 배정되었습니다.");
+            return false;
+        }
+        try {
+            reservationDAO.updateReservation(withStatus(reservation, newStatus));
+        } catch (RuntimeException e) {
+            if (claiming) {
+                seatInventory.changeStatus(reservation, newStatus, oldStatus); // 확보한 좌석 반납
+            }
+            throw e;
+        }
+        // 좌석을 내놓는 변경은 저장이 성공한 뒤에 반영
+        if (!claiming) {
+            seatInventory.changeStatus(reservation, oldStatus, newStatus);
+        }
+        return true;
+    }
+
+    // 저장된 객체를 바꾸지 않도록 상태만 다른 사본을 만듦 (저장 실패 시 메모리 상태가 그대로 남음)
+    private static Reservation withStatus(Reservation reservation, ReservationStatus status) {
+        return new Reservation(reservation.getReservationId(), reservation.getUserId(), reservation.getFlightId(),
+                reservation.getSeatNumber(), reservation.getFinalPrice(), status);
+    }
+
+    /**
+     * 같은 좌석이 두 번 들어 있는지 묶은 좌석 값(SeatCode.packed)으로 확인합니다. ("2a"와 "2A"도 같은 좌석)
+     * 좌석 번호 형식이 아닌 값은 여기서 보지 않습니다. (좌석 확보 단계에서 '존재하지 않는 좌석'으로 거절됨)
+     * 행 번호가 매우 큰 입력("16777215Z")에도 메모리가 선택한 좌석 수만큼만 들도록 집합을 씁니다.
+     */
+    private static boolean hasDuplicateSeat(List<String> seatNumbers) {
+        Set<Integer> seen = new HashSet<>(seatNumbers.size() * 2);
+        for (String seatNumber : seatNumbers) {
+            int packed = SeatCode.packed(seatNumber);
+            if (packed >= 0 && !seen.add(packed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,209 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.dao.FlightChangeListener;
+import com.team1.airline.dao.RouteDAO;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.Route;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 항공편 검색 결과 캐시 - (출발 공항, 도착 공항, 날짜) → 예약 가능한 항공편 목록
+ * - 크기 제한: CLOCK(second chance) 방식. 조회된 항목은 참조 표시만 하고(락 없음),
+ *   가득 차면 오래된 순으로 돌면서 참조 표시가 없는 항목을 내보냅니다. (LRU 근사)
+ * - 유효 시간(TTL)이 지난 항목은 다시 검색합니다.
+ * - 항공편이 추가/수정/삭제되면 그 노선의 공항 쌍 + 출발 날짜 항목(및 날짜 없는 항목)만 지웁니다.
+ *   노선 데이터가 바뀌면 전체를 비웁니다.
+ * - 검색하는 사이에 무효화가 일어나면 그 결과는 저장하지 않습니다. (지워진 뒤에 옛 결과가 들어가는 것 방지)
+ */
+final class SearchResultCache implements FlightChangeListener {
+
+    private final RouteDAO routeDAO;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> clock = new ConcurrentLinkedQueue<>(); // 넣은 순서 (무효화된 항목은 꺼낼 때 건너뜀)
+    private final AtomicInteger clockSize = new AtomicInteger();
+    private final Object evictionLock = new Object();
+
+    // 무효화가 일어날 때마다 증가 (검색 전후 값이 다르면 결과를 저장하지 않음)
+    private final AtomicLong invalidationStamp = new AtomicLong();
+    private volatile long routeVersion;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param maxSize 최대 항목 수 (0이면 캐시하지 않음)
+     * @param ttlMillis 항목 유효 시간
+     */
+    SearchResultCache(RouteDAO routeDAO, int maxSize, long ttlMillis) {
+        this.routeDAO = routeDAO;
+        this.maxSize = Math.max(0, maxSize);
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.routeVersion = routeDAO.getVersion();
+    }
+
+    /**
+     * 캐시된 결과를 돌려주고, 없으면 loader로 검색해 저장합니다.
+     * @return 읽기 전용 목록
+     */
+    List<Flight> getOrCompute(String departureCode, String arrivalCode, LocalDate date, Supplier<List<Flight>> loader) {
+        if (maxSize == 0) {
+            misses.increment();
+            return List.copyOf(loader.get());
+        }
+        checkRouteVersion();
+        String key = keyOf(departureCode, arrivalCode, date);
+        long now = System.nanoTime();
+        Entry cached = entries.get(key);
+        if (cached != null) {
+            if (now - cached.expiresAt < 0) {
+                cached.referenced = true;
+                hits.increment();
+                return cached.flights;
+            }
+            if (entries.remove(key, cached)) {
+                expirations.increment();
+            }
+        }
+        misses.increment();
+
+        long stamp = invalidationStamp.get();
+        List<Flight> flights = List.copyOf(loader.get());
+        if (stamp == invalidationStamp.get()) {
+            Entry fresh = new Entry(key, flights, now + ttlNanos);
+            entries.put(key, fresh);
+            clock.add(fresh);
+            clockSize.incrementAndGet();
+            if (stamp != invalidationStamp.get()) {
+                // 저장하는 사이에 무효화됨
+                entries.remove(key, fresh);
+            }
+            evictIfNeeded();
+        }
+        return flights;
+    }
+
+    @Override
+    public void flightChanged(String routeId, LocalDate departureDate) {
+        Route route = routeId == null ? null : routeDAO.findByRouteId(routeId);
+        if (route == null) {
+            invalidateAll();
+            return;
+        }
+        String dateless = keyOf(route.getDepartureAirportCode(), route.getArrivalAirportCode(), null);
+        invalidationStamp.incrementAndGet();
+        remove(dateless);
+        if (departureDate != null) {
+            remove(keyOf(route.getDepartureAirportCode(), route.getArrivalAirportCode(), departureDate));
+        }
+    }
+
+    @Override
+    public void allFlightsChanged() {
+        invalidateAll();
+    }
+
+    void invalidateAll() {
+        invalidationStamp.incrementAndGet();
+        int size = entries.size();
+        entries.clear();
+        invalidations.add(size);
+    }
+
+    private void remove(String key) {
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    private void checkRouteVersion() {
+        long current = routeDAO.getVersion();
+        if (current != routeVersion) {
+            routeVersion = current;
+            invalidateAll();
+        }
+    }
+
+    // 항목 수가 maxSize를 넘거나, 무효화로 버려진 항목이 순서 큐에 많이 쌓였으면 정리
+    private void evictIfNeeded() {
+        if (entries.size() <= maxSize && clockSize.get() <= maxSize * 2) {
+            return;
+        }
+        synchronized (evictionLock) {
+            long now = System.nanoTime();
+            int budget = clockSize.get() * 2 + 1; // 참조 표시를 지우며 한 바퀴, 내보내며 한 바퀴
+            while (budget-- > 0 && (entries.size() > maxSize || clockSize.get() > maxSize * 2)) {
+                Entry entry = clock.poll();
+                if (entry == null) {
+                    break;
+                }
+                clockSize.decrementAndGet();
+                if (entries.get(entry.key) != entry) {
+                    continue; // 이미 무효화/교체된 항목
+                }
+                if (now - entry.expiresAt >= 0) {
+                    if (entries.remove(entry.key, entry)) expirations.increment();
+                    continue;
+                }
+                if (entries.size() > maxSize && !entry.referenced) {
+                    if (entries.remove(entry.key, entry)) evictions.increment();
+                    continue;
+                }
+                entry.referenced = false;
+                clock.add(entry);
+                clockSize.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * @return hits / misses / evictions / expirations / invalidations / size
+     */
+    Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("size", (long) entries.size());
+        return stats;
+    }
+
+    private static String keyOf(String departureCode, String arrivalCode, LocalDate date) {
+        return normalize(departureCode) + "-" + normalize(arrivalCode) + "/" + (date == null ? "*" : date.toString());
+    }
+
+    private static String normalize(String airportCode) {
+        return airportCode == null ? null : airportCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final List<Flight> flights;
+        private final long expiresAt;
+        private volatile boolean referenced;
+
+        Entry(String key, List<Flight> flights, long expiresAt) {
+            this.key = key;
+            this.flights = flights;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
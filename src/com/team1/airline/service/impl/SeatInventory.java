@@ -0,0 +1,323 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.dao.AircraftDAO;
+import com.team1.airline.dao.FlightDAO;
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.entity.Aircraft;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 항공편별 좌석 재고 (FlightManager / ReservationManager가 같은 인스턴스를 공유)
+ * - 항공편마다 SeatMap(좌석 비트맵)을 처음 조회될 때 만들고,
+ *   그 시점의 유효 예약(Confirmed / Paid) 좌석을 채워 둡니다.
+ * - 이후 예약/취소/상태 변경은 반드시 claim/release를 거치므로 예약 목록을 다시 스캔하지 않습니다.
+ * - 좌석 수는 항공편별/클래스별 원자 카운터로 유지되어 조회가 O(1)입니다.
+ * - 항공편 상태(예약 가능 ↔ 매진)는 점유 카운터로 정합니다. 만석이 되거나 만석에서 자리가 나면
+ *   그 자리에서 항공편 상태를 바꿔 저장하므로(FlightDAO.updateFlight), 검색은 상태만 보고 매진 항공편을 건너뜁니다.
+ *   비트맵을 처음 만들 때도 채운 좌석 수에 맞춰 상태를 바로잡습니다. (다른 상태, 예: "Scheduled"는 건드리지 않음)
+ * - 주기적 정합성 점검(reconcile)이 예약 저장소와 비트맵을 비교해, 두 번 연속 어긋난 좌석만 바로잡습니다.
+ *   (예약 기록 직전의 좌석처럼 잠깐 어긋나는 경우는 건드리지 않음)
+ */
+public class SeatInventory {
+
+    private final FlightDAO flightDAO;
+    private final AircraftDAO aircraftDAO;
+    private final ReservationDAO reservationDAO;
+    private final ConcurrentHashMap<String, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    // 정합성 점검: 직전 점검에서 어긋났던 좌석 (항공편 → 비트)
+    private final Map<String, BitSet> pendingMismatches = new ConcurrentHashMap<>();
+    private ScheduledExecutorService reconciler;
+    private volatile long lastReconcileAt;
+    private volatile int lastMismatchCount;
+    private volatile long totalCorrections;
+    private final AtomicLong statusChanges = new AtomicLong();
+
+    public SeatInventory(FlightDAO flightDAO, AircraftDAO aircraftDAO, ReservationDAO reservationDAO) {
+        this.flightDAO = flightDAO;
+        this.aircraftDAO = aircraftDAO;
+        this.reservationDAO = reservationDAO;
+    }
+
+    /**
+     * 좌석을 확보합니다. 확보에 성공한 경우에만 예약을 기록해야 합니다.
+     * @return 빈 좌석을 이번 호출이 확보했으면 true (이미 점유, 배치도에 없는 좌석, 항공편 없음은 false)
+     */
+    public boolean claim(String flightId, String seatNumber) {
+        SeatMap map = seatMap(flightId);
+        return map != null && map.claim(map.slotOf(seatNumber));
+    }
+
+    /**
+     * 좌석을 반납합니다.
+     * @return 점유 중이던 좌석을 이번 호출이 반납했으면 true.
+     *         배치도 밖의 좌석(예전 데이터)은 재고에서 관리하지 않으므로 true
+     */
+    public boolean release(String flightId, String seatNumber) {
+        SeatMap map = seatMap(flightId);
+        if (map == null) return true;
+        int slot = map.slotOf(seatNumber);
+        return slot < 0 || map.release(slot);
+    }
+
+    /**
+     * @return 배치도에 있는 좌석 번호인지 여부
+     */
+    public boolean isValidSeat(String flightId, String seatNumber) {
+        SeatMap map = seatMap(flightId);
+        return map != null && map.slotOf(seatNumber) >= 0;
+    }
+
+    /**
+     * @return 잔여 좌석 수 (항공편/항공기 정보가 없으면 0)
+     */
+    public int getAvailableSeats(String flightId) {
+        SeatMap map = seatMap(flightId);
+        return map == null ? 0 : map.available();
+    }
+
+    /**
+     * @return 총 좌석 수 (항공편/항공기 정보가 없으면 0)
+     */
+    public int getCapacity(String flightId) {
+        SeatMap map = seatMap(flightId);
+        return map == null ? 0 : map.capacity();
+    }
+
+    /**
+     * @return 점유된 좌석 수
+     */
+    public int getReservedSeats(String flightId) {
+        SeatMap map = seatMap(flightId);
+        return map == null ? 0 : map.claimed();
+    }
+
+    /**
+     * @return 좌석 현황 ("total", "reserved", "available" 및 "businessTotal", "businessReserved", "businessAvailable",
+     *         "economyTotal", "economyReserved", "economyAvailable"). 항공편/항공기 정보가 없으면 빈 맵
+     */
+    public Map<String, Integer> getAvailability(String flightId) {
+        Map<String, Integer> seatInfo = new LinkedHashMap<>();
+        SeatMap map = seatMap(flightId);
+        if (map == null) return seatInfo;
+
+        int business = map.businessClaimed();
+        int economy = map.economyClaimed();
+        seatInfo.put("total", map.capacity());
+        seatInfo.put("reserved", business + economy);
+        seatInfo.put("available", map.capacity() - business - economy);
+        seatInfo.put("businessTotal", map.businessCapacity());
+        seatInfo.put("businessReserved", business);
+        seatInfo.put("businessAvailable", map.businessCapacity() - business);
+        seatInfo.put("economyTotal", map.economyCapacity());
+        seatInfo.put("economyReserved", economy);
+        seatInfo.put("economyAvailable", map.economyCapacity() - economy);
+        return seatInfo;
+    }
+
+    /**
+     * 예약 상태 변경에 맞춰 좌석을 확보/반납합니다. (Confirmed / Paid 상태만 좌석을 점유)
+     * @return 변경 가능하면 true. 좌석을 다시 점유해야 하는데 이미 다른 예약이 잡은 경우 false
+     */
+    public boolean changeStatus(Reservation reservation, ReservationStatus oldStatus, ReservationStatus newStatus) {
+        boolean heldBefore = holdsSeat(oldStatus);
+        boolean heldAfter = holdsSeat(newStatus);
+        if (heldBefore == heldAfter) return true;
+        if (heldAfter) {
+            return claim(reservation.getFlightId(), reservation.getSeatNumber())
+                    || !isValidSeat(reservation.getFlightId(), reservation.getSeatNumber());
+        }
+        release(reservation.getFlightId(), reservation.getSeatNumber());
+        return true;
+    }
+
+    static boolean holdsSeat(ReservationStatus status) {
+        return status != null && status.holdsSeat();
+    }
+
+    /**
+     * @return 점유된 좌석 번호 목록 (좌석 선택 화면의 비활성화 목록용)
+     */
+    public List<String> getOccupiedSeats(String flightId) {
+        SeatMap map = seatMap(flightId);
+        return map == null ? new ArrayList<>() : map.claimedSeats();
+    }
+
+    private SeatMap seatMap(String flightId) {
+        if (flightId == null) return null;
+        SeatMap map = seatMaps.get(flightId);
+        if (map != null) return map;
+        // 같은 항공편을 동시에 처음 조회해도 한 번만 만들어짐 (만드는 동안 같은 항공편의 claim은 대기)
+        map = seatMaps.computeIfAbsent(flightId, this::build);
+        if (map != null) {
+            // 채운 좌석 수에 맞춰 상태를 바로잡음. 항공편 저장(인덱스/알림 갱신)이 computeIfAbsent 안에서 돌지 않도록 밖에서 호출
+            syncFlightStatus(flightId, map);
+        }
+        return map;
+    }
+
+    private SeatMap build(String flightId) {
+        Flight flight = flightDAO.findByFlightId(flightId);
+        if (flight == null) return null;
+        Aircraft aircraft = aircraftDAO.findByAircraftId(flight.getAircraftId());
+        if (aircraft == null) return null;
+
+        // 만드는 도중(맵에 등록되기 전)에 만석이 되어도 상태는 건드리지 않음 (등록 후 seatMap에서 한 번 맞춤)
+        SeatMap map = new SeatMap(aircraft, filled -> {
+            if (seatMaps.get(flightId) == filled) syncFlightStatus(flightId, filled);
+        });
+        int conflicts = 0;
+        for (Reservation r : reservationDAO.findReservationsByFlightId(flightId)) {
+            if (!holdsSeat(r.getStatus())) continue;
+            int slot = map.slotOf(r.getSeatNumber());
+            if (slot >= 0 && !map.claim(slot)) {
+                conflicts++;
+            }
+        }
+        if (conflicts > 0) {
+            System.out.println("SeatInventory: " + flightId + " 항공편에 중복 예약된 좌석이 " + conflicts + "건 있습니다.");
+        }
+        return map;
+    }
+
+    // 항공편 상태를 현재 잔여석에 맞춥니다. 같은 항공편의 갱신은 비트맵 단위로 순서대로 처리되고,
+    // 매번 그 시점의 카운터를 다시 읽으므로 만석/해제가 겹쳐도 마지막 갱신이 최신 상태를 반영합니다.
+    private void syncFlightStatus(String flightId, SeatMap map) {
+        synchronized (map) {
+            Flight flight = flightDAO.findByFlightId(flightId);
+            if (flight == null || flight.getStatus() == null || !flight.getStatus().isSeatDriven()) return;
+            FlightStatus expected = map.available() == 0 ? FlightStatus.SOLD_OUT : FlightStatus.BOOKABLE;
+            if (flight.getStatus() == expected) return;
+            flightDAO.updateFlight(withStatus(flight, expected));
+            statusChanges.incrementAndGet();
+            System.out.println("SeatInventory: " + flightId + " 항공편 상태를 '" + expected + "'(으)로 변경했습니다.");
+        }
+    }
+
+    // 저장된 객체를 바꾸지 않도록 상태만 다른 사본을 만듦 (검색 중인 스레드가 인덱스와 다른 상태를 보지 않도록)
+    private static Flight withStatus(Flight flight, FlightStatus status) {
+        return new Flight(flight.getFlightId(), flight.getRouteId(), flight.getAircraftId(),
+                flight.getDepartureTime(), flight.getArrivalTime(), status);
+    }
+
+    /**
+     * 예약 가능/매진 항공편 전체의 좌석 비트맵을 만들어 상태를 잔여석에 맞춥니다. (시작 시 한 번, 파일에 고정된 "매진" 정리용)
+     * @return 상태를 바꾼 항공편 수
+     */
+    public int refreshFlightStatuses() {
+        long before = statusChanges.get();
+        List<Flight> flights = flightDAO.findFlightsByStatus(FlightStatus.BOOKABLE);
+        flights.addAll(flightDAO.findFlightsByStatus(FlightStatus.SOLD_OUT));
+        for (Flight flight : flights) {
+            SeatMap map = seatMap(flight.getFlightId());
+            if (map != null) {
+                syncFlightStatus(flight.getFlightId(), map);
+            }
+        }
+        return (int) (statusChanges.get() - before);
+    }
+
+    /**
+     * @return 좌석 재고에 따라 항공편 상태를 바꾼 누적 횟수
+     */
+    public long getStatusChangeCount() {
+        return statusChanges.get();
+    }
+
+    // --- 정합성 점검 ---
+
+    /**
+     * 주기적 정합성 점검을 시작합니다. (airline.seats.reconcileSeconds, 기본 60초, 0 이하면 사용 안 함)
+     */
+    public synchronized void startReconciliation() {
+        long periodSeconds = Long.getLong("airline.seats.reconcileSeconds", 60L);
+        if (reconciler != null || periodSeconds <= 0) return;
+        reconciler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "seat-reconciler");
+            t.setDaemon(true);
+            return t;
+        });
+        reconciler.scheduleWithFixedDelay(() -> {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 점검하도록 스레드를 살려 둠
+                System.err.println("SeatInventory: " + e.getMessage());
+            }
+        }, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stopReconciliation() {
+        if (reconciler == null) return;
+        reconciler.shutdownNow();
+        reconciler = null;
+    }
+
+    /**
+     * 이미 만들어진 좌석 비트맵을 예약 저장소와 비교합니다.
+     * 이번과 직전 점검에서 모두 어긋난 좌석은 저장소 기준으로 바로잡습니다.
+     * @return 이번 점검에서 어긋난 좌석 수
+     */
+    public int reconcile() {
+        int mismatches = 0;
+        for (Map.Entry<String, SeatMap> entry : seatMaps.entrySet()) {
+            String flightId = entry.getKey();
+            SeatMap map = entry.getValue();
+
+            BitSet expected = new BitSet(map.capacity());
+            for (Reservation r : reservationDAO.findReservationsByFlightId(flightId)) {
+                int slot = holdsSeat(r.getStatus()) ? map.slotOf(r.getSeatNumber()) : -1;
+                if (slot >= 0) expected.set(slot);
+            }
+            BitSet diff = map.claimedSlots();
+            diff.xor(expected);
+            mismatches += diff.cardinality();
+
+            BitSet previous = pendingMismatches.remove(flightId);
+            if (previous != null) {
+                BitSet confirmed = (BitSet) previous.clone();
+                confirmed.and(diff);
+                for (int slot = confirmed.nextSetBit(0); slot >= 0; slot = confirmed.nextSetBit(slot + 1)) {
+                    boolean changed = expected.get(slot) ? map.claim(slot) : map.release(slot);
+                    if (changed) {
+                        totalCorrections++;
+                        System.out.println("SeatInventory: " + flightId + " " + map.seatOf(slot) + " 좌석 상태를 예약 기록에 맞게 수정했습니다.");
+                    }
+                    diff.clear(slot);
+                }
+            }
+            if (!diff.isEmpty()) {
+                pendingMismatches.put(flightId, diff);
+            }
+        }
+        lastMismatchCount = mismatches;
+        lastReconcileAt = System.currentTimeMillis();
+        return mismatches;
+    }
+
+    public int getLastMismatchCount() {
+        return lastMismatchCount;
+    }
+
+    public long getTotalCorrections() {
+        return totalCorrections;
+    }
+
+    public long getLastReconcileAt() {
+        return lastReconcileAt;
+    }
+}
@@ -0,0 +1,206 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.entity.Aircraft;
+import com.team1.airline.entity.SeatCode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 항공편 한 편의 좌석 점유 비트맵 (좌석 하나 = 비트 하나)
+ * - 좌석 배치는 SeatSelectionDialog와 같습니다.
+ *   비즈니스: 2행부터 A C D F (4열), 이코노미: 비즈니스 마지막 행 + 3행부터 A~F (6열)
+ *   각 클래스는 항공기 좌석 수만큼만 앞에서부터 채웁니다.
+ * - 좌석 확보/반납은 CAS로 처리하므로 락 없이 O(1)이며, 같은 좌석을 두 번 확보할 수 없습니다.
+ * - 전체/클래스별 점유 수를 원자 카운터로 함께 관리하므로 클래스별 잔여석 조회도 O(1)입니다.
+ *   (카운터는 비트 변경 직후에 갱신되므로 아주 짧은 순간 비트맵보다 늦을 수 있음)
+ * - 만석이 되거나 만석에서 한 자리가 빌 때 onFullChange를 호출합니다. (점유 카운터의 전이로 판단하므로 O(1))
+ */
+final class SeatMap {
+
+    private static final String BUSINESS_COLUMNS = "ACDF";
+    private static final String ECONOMY_COLUMNS = "ABCDEF";
+    private static final int FIRST_BUSINESS_ROW = 2;
+
+    private final int business;
+    private final int economy;
+    private final int firstEconomyRow;
+    private final AtomicLongArray bits;
+    private final AtomicInteger claimed = new AtomicInteger();
+    private final AtomicInteger businessClaimed = new AtomicInteger();
+    private final AtomicInteger economyClaimed = new AtomicInteger();
+    private final Consumer<SeatMap> onFullChange;
+
+    /**
+     * @param onFullChange 만석 여부가 바뀔 때 호출 (좌석을 바꾼 스레드에서 호출, null이면 없음)
+     */
+    SeatMap(Aircraft aircraft, Consumer<SeatMap> onFullChange) {
+        this.onFullChange = onFullChange;
+        this.business = Math.max(0, aircraft.getBusiness());
+        this.economy = Math.max(0, aircraft.getEconomy());
+        int businessRows = (business + BUSINESS_COLUMNS.length() - 1) / BUSINESS_COLUMNS.length();
+        this.firstEconomyRow = businessRows + 4; // 헤더/빈 줄 포함 (SeatSelectionDialog.generateSeats 참고)
+        this.bits = new AtomicLongArray(Math.max(1, (business + economy + 63) >>> 6));
+    }
+
+    int capacity() {
+        return business + economy;
+    }
+
+    int claimed() {
+        return claimed.get();
+    }
+
+    int available() {
+        return capacity() - claimed.get();
+    }
+
+    int businessCapacity() {
+        return business;
+    }
+
+    int businessClaimed() {
+        return businessClaimed.get();
+    }
+
+    int economyCapacity() {
+        return economy;
+    }
+
+    int economyClaimed() {
+        return economyClaimed.get();
+    }
+
+    /**
+     * 좌석 번호(예: "2A", "15F")를 비트 위치로 바꿉니다. (SeatCode.packed로 읽으므로 객체를 만들지 않음)
+     * @return 0 ~ capacity()-1, 배치도에 없는 좌석이면 -1
+     */
+    int slotOf(String seatNumber) {
+        int packed = SeatCode.packed(seatNumber);
+        return packed < 0 ? -1 : slotOfPacked(packed);
+    }
+
+    /**
+     * @return 0 ~ capacity()-1, 배치도에 없는 좌석이면 -1 (클래스는 보지 않음)
+     */
+    int slotOf(SeatCode seat) {
+        return seat == null ? -1 : slotOfPacked(seat.packed());
+    }
+
+    private int slotOfPacked(int packed) {
+        int row = SeatCode.rowOf(packed);
+        char letter = SeatCode.columnOf(packed);
+        if (row >= firstEconomyRow) {
+            int column = ECONOMY_COLUMNS.indexOf(letter);
+            int index = (row - firstEconomyRow) * ECONOMY_COLUMNS.length() + column;
+            return column >= 0 && index < economy ? business + index : -1;
+        }
+        if (row >= FIRST_BUSINESS_ROW) {
+            int column = BUSINESS_COLUMNS.indexOf(letter);
+            int index = (row - FIRST_BUSINESS_ROW) * BUSINESS_COLUMNS.length() + column;
+            return column >= 0 && index < business ? index : -1;
+        }
+        return -1;
+    }
+
+    /**
+     * 비트 위치를 좌석 번호로 되돌립니다.
+     */
+    String seatOf(int slot) {
+        return codeOf(slot).toString();
+    }
+
+    /**
+     * 비트 위치를 좌석(클래스 포함)으로 되돌립니다.
+     */
+    SeatCode codeOf(int slot) {
+        if (slot < business) {
+            return SeatCode.of(FIRST_BUSINESS_ROW + slot / BUSINESS_COLUMNS.length(),
+                    BUSINESS_COLUMNS.charAt(slot % BUSINESS_COLUMNS.length()), SeatCode.Cabin.BUSINESS);
+        }
+        int index = slot - business;
+        return SeatCode.of(firstEconomyRow + index / ECONOMY_COLUMNS.length(),
+                ECONOMY_COLUMNS.charAt(index % ECONOMY_COLUMNS.length()), SeatCode.Cabin.ECONOMY);
+    }
+
+    /**
+     * @return 비어 있던 좌석을 이번 호출이 확보했으면 true
+     */
+    boolean claim(int slot) {
+        if (slot < 0 || slot >= capacity()) return false;
+        int word = slot >>> 6;
+        long mask = 1L << slot;
+        while (true) {
+            long current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (bits.compareAndSet(word, current, current | mask)) {
+                int now = claimed.incrementAndGet();
+                (slot < business ? businessClaimed : economyClaimed).incrementAndGet();
+                if (now == capacity() && onFullChange != null) {
+                    onFullChange.accept(this);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return 점유 중이던 좌석을 이번 호출이 반납했으면 true
+     */
+    boolean release(int slot) {
+        if (slot < 0 || slot >= capacity()) return false;
+        int word = slot >>> 6;
+        long mask = 1L << slot;
+        while (true) {
+            long current = bits.get(word);
+            if ((current & mask) == 0) {
+                return false;
+            }
+            if (bits.compareAndSet(word, current, current & ~mask)) {
+                int now = claimed.decrementAndGet();
+                (slot < business ? businessClaimed : economyClaimed).decrementAndGet();
+                if (now == capacity() - 1 && onFullChange != null) {
+                    onFullChange.accept(this);
+                }
+                return true;
+            }
+        }
+    }
+
+    boolean isClaimed(int slot) {
+        return slot >= 0 && slot < capacity() && (bits.get(slot >>> 6) & (1L << slot)) != 0;
+    }
+
+    /**
+     * @return 현재 점유 비트의 복사본 (정합성 점검용)
+     */
+    BitSet claimedSlots() {
+        long[] words = new long[bits.length()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = bits.get(i);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return 점유된 좌석 번호 목록 (배치 순서)
+     */
+    List<String> claimedSeats() {
+        List<String> seats = new ArrayList<>();
+        for (int word = 0; word < bits.length(); word++) {
+            long value = bits.get(word);
+            while (value != 0) {
+                int slot = (word << 6) + Long.numberOfTrailingZeros(value);
+                seats.add(seatOf(slot));
+                value &= value - 1;
+            }
+        }
+        return seats;
+    }
+}
@@ -0,0 +1,79 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.entity.ReservationIdCodec;
+import com.team1.airline.service.ReservationIdGenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순 64비트 예약 번호 생성기 (Snowflake 방식)
+ * - 비트 구성: 부호 0 | 기준 시각(2024-01-01 UTC) 이후 밀리초 41비트 | 노드 번호 10비트 | 순번 12비트
+ * - 노드마다 번호가 달라 여러 서버가 따로 만들어도 겹치지 않고, 한 노드 안에서는 항상 증가합니다.
+ * - 같은 밀리초 안에서는 순번을 올리고, 순번이 다 차거나 시계가 뒤로 가면 기다리지 않고 다음 밀리초를 미리 씁니다.
+ *   (시계가 따라잡으면 다시 실제 시각을 씀)
+ * - 난수를 쓰지 않으므로 UUID.randomUUID처럼 SecureRandom을 기다리지 않습니다.
+ * - 재시작 직후 시계가 이전 실행의 마지막 번호보다 뒤에 있으면 번호가 겹칠 수 있으므로, 시계를 되돌린 채 재시작하지 않아야 합니다.
+ */
+public final class SnowflakeIdGenerator implements ReservationIdGenerator {
+
+    /** 기준 시각 2024-01-01T00:00:00Z (epoch 밀리초) */
+    public static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int TIME_SHIFT = SEQUENCE_BITS + 10;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeBits;
+    private final AtomicLong last = new AtomicLong();
+
+    /**
+     * @param nodeId 노드 번호 (0 ~ MAX_NODE_ID, 서버마다 다르게)
+     */
+    public SnowflakeIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id out of range: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    @Override
+    public String nextId() {
+        return ReservationIdCodec.encode(nextValue());
+    }
+
+    /**
+     * @return 이 생성기가 이전에 돌려준 어떤 값보다도 큰 새 번호
+     */
+    public long nextValue() {
+        long now = ((System.currentTimeMillis() - EPOCH_MILLIS) << TIME_SHIFT) | nodeBits;
+        while (true) {
+            long previous = last.get();
+            long next;
+            if (now > previous) {
+                next = now;
+            } else if ((previous & SEQUENCE_MASK) != SEQUENCE_MASK) {
+                next = previous + 1;
+            } else {
+                next = (((previous >>> TIME_SHIFT) + 1) << TIME_SHIFT) | nodeBits;
+            }
+            if (last.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * @return 번호에 담긴 생성 시각 (epoch 밀리초)
+     */
+    public static long timestampOf(long value) {
+        return (value >>> TIME_SHIFT) + EPOCH_MILLIS;
+    }
+
+    /**
+     * @return 번호에 담긴 노드 번호
+     */
+    public static int nodeOf(long value) {
+        return (int) ((value >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
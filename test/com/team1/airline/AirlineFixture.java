@@ -0,0 +1,97 @@
+package com.team1.airline;
+
+import com.team1.airline.dao.*;
+import com.team1.airline.dao.impl.*;
+import com.team1.airline.entity.*;
+import com.team1.airline.service.impl.FlightManager;
+import com.team1.airline.service.impl.ReservationManager;
+import com.team1.airline.service.impl.SeatInventory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트 공용 구성 (MainApp.initBackend와 같은 방식으로 DAO → 좌석 재고 → 서비스를 조립)
+ * - DAO는 DataManager 싱글턴의 테이블을 공유하므로, 테스트마다 다른 접두사의 ID를 씁니다.
+ * - loadAllData를 호출하지 않으므로 파일/저널에는 아무것도 쓰지 않습니다.
+ */
+public final class AirlineFixture implements AutoCloseable {
+
+    public static final LocalDateTime DEPARTURE = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    public final FlightDAO flightDAO = new FlightDAOImpl();
+    public final RouteDAO routeDAO = new RouteDAOImpl();
+    public final AircraftDAO aircraftDAO = new AircraftDAOImpl();
+    public final AirportDAO airportDAO = new AirportDAOImpl();
+    public final ReservationDAO reservationDAO;
+    public final UserDAO userDAO = new UserDAOImpl();
+    public final SeatInventory seatInventory;
+    public final FlightManager flightManager;
+    public final ReservationManager reservationManager;
+
+    public AirlineFixture() {
+        this(new ReservationDAOImpl());
+    }
+
+    /**
+     * @param reservationDAO 예약 DAO (실패를 흉내 내는 DAO 등으로 바꿔 끼울 때)
+     */
+    public AirlineFixture(ReservationDAO reservationDAO) {
+        this.reservationDAO = reservationDAO;
+        this.seatInventory = new SeatInventory(flightDAO, aircraftDAO, reservationDAO);
+        this.flightManager = new FlightManager(flightDAO, routeDAO, aircraftDAO, reservationDAO, seatInventory);
+        this.reservationManager = new ReservationManager(reservationDAO, userDAO, flightDAO, routeDAO, airportDAO,
+                flightManager, seatInventory);
+    }
+
+    public Aircraft aircraft(String aircraftId, int business, int economy) {
+        Aircraft aircraft = new Aircraft(aircraftId, "Test_" + aircraftId, business + economy, economy, business);
+        aircraftDAO.saveAircraft(aircraft);
+        return aircraft;
+    }
+
+    public Route route(String routeId, String from, String to, double price) {
+        Route route = new Route(routeId, from, to, price, 60);
+        routeDAO.saveRoute(route);
+        return route;
+    }
+
+    /**
+     * 예약 가능한 1시간짜리 항공편
+     */
+    public Flight flight(String flightId, String routeId, String aircraftId, LocalDateTime departure) {
+        Flight flight = new Flight(flightId, routeId, aircraftId, departure, departure.plusHours(1), FlightStatus.BOOKABLE);
+        flightDAO.saveFlight(flight);
+        return flight;
+    }
+
+    public Flight flight(String flightId, String routeId, String aircraftId) {
+        return flight(flightId, routeId, aircraftId, DEPARTURE);
+    }
+
+    public User user(String userId) {
+        User user = new User(userId, "pw", "name", "P-" + userId, "010", 0);
+        userDAO.addUser(user);
+        return user;
+    }
+
+    /**
+     * @return 항공편의 모든 유효 좌석 (행 → 열 순서)
+     */
+    public List<String> allSeats(String flightId) {
+        List<String> seats = new ArrayList<>();
+        for (int row = 1; row < 200; row++) {
+            for (char c = 'A'; c <= 'F'; c++) {
+                String seat = row + String.valueOf(c);
+                if (seatInventory.isValidSeat(flightId, seat)) seats.add(seat);
+            }
+        }
+        return seats;
+    }
+
+    @Override
+    public void close() {
+        flightManager.close();
+    }
+}
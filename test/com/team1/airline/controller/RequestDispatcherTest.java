@@ -0,0 +1,186 @@
+package com.team1.airline.controller;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+import com.team1.airline.gui.PaymentHistoryPanel.PaymentRow;
+import com.team1.airline.service.ReservationManageable;
+import com.team1.airline.service.impl.UserManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 요청 처리기(RequestDispatcher) 검사
+ * - 동시에 들어온 예약 요청이 모두 처리되고 좌석이 중복되지 않는지, 좌석 재고 카운터가 맞는지 확인합니다.
+ * - 동시 처리 한도를 넘은 요청은 처리되지 않고 바로 REJECTED로 돌아와야 합니다.
+ * - 처리 중 Error가 나도 호출자의 future가 끝나고 접수 한도가 반납되어야 합니다.
+ */
+class RequestDispatcherTest {
+
+    private static final int USERS = 50;
+
+    @Test
+    void concurrentBookingsAllSucceedWithoutDoubleBooking() {
+        AirlineFixture fixture = setUp();
+        List<String> seats = fixture.allSeats("LOAD-F0");
+        try (RequestDispatcher dispatcher = dispatcher(fixture, fixture.reservationManager, 10_000)) {
+            List<String> tokens = new ArrayList<>();
+            for (int u = 0; u < USERS; u++) {
+                tokens.add(dispatcher.login("load" + u, "pw").join().getBody());
+            }
+            List<CompletableFuture<ApiResponse<List<Reservation>>>> futures = new ArrayList<>();
+            for (int i = 0; i < seats.size(); i++) {
+                futures.add(dispatcher.book(tokens.get(i % USERS), "LOAD-F0", List.of(seats.get(i))));
+            }
+            for (CompletableFuture<ApiResponse<List<Reservation>>> future : futures) {
+                assertEquals(ApiResponse.Status.OK, future.join().getStatus());
+            }
+            assertEquals(seats.size(), dispatcher.getCompletedCount() - USERS);
+        }
+
+        Map<String, Integer> perSeat = new HashMap<>();
+        for (Reservation r : fixture.reservationDAO.findReservationsByFlightId("LOAD-F0")) {
+            perSeat.merge(r.getSeatNumber(), 1, Integer::sum);
+        }
+        perSeat.forEach((seat, count) -> assertEquals(1, count, "bookings of seat " + seat));
+        assertEquals(seats.size(), perSeat.size());
+        assertEquals(seats.size(), fixture.seatInventory.getReservedSeats("LOAD-F0"));
+    }
+
+    @Test
+    void requestsOverTheLimitAreRejectedImmediately() {
+        AirlineFixture fixture = setUp();
+        CountDownLatch gate = new CountDownLatch(1);
+        int limit = 10;
+        Map<ApiResponse.Status, Integer> byStatus = new HashMap<>();
+        try (RequestDispatcher dispatcher = dispatcher(fixture, new GatedReservations(fixture.reservationManager, gate), limit)) {
+            String token = dispatcher.login("load0", "pw").join().getBody();
+            List<CompletableFuture<ApiResponse<Boolean>>> futures = new ArrayList<>();
+            // 없는 예약 취소: gate가 열릴 때까지 처리 중으로 남음
+            for (int i = 0; i < limit * 3; i++) {
+                futures.add(dispatcher.cancel(token, "NO-SUCH-" + i));
+            }
+            assertEquals(limit, dispatcher.getInFlight());
+            gate.countDown();
+            futures.forEach(f -> byStatus.merge(f.join().getStatus(), 1, Integer::sum));
+        }
+        assertEquals(limit, byStatus.get(ApiResponse.Status.FAILED));
+        assertEquals(limit * 2, byStatus.get(ApiResponse.Status.REJECTED));
+    }
+
+    @Test
+    void errorsCompleteTheFutureAndReleaseTheSlot() throws InterruptedException {
+        AirlineFixture fixture = setUp();
+        ReservationManageable failing = new GatedReservations(fixture.reservationManager, new CountDownLatch(0)) {
+            @Override
+            public List<Reservation> makeReservations(String userId, String flightId, List<String> seatNumbers) {
+                throw new StackOverflowError("simulated");
+            }
+        };
+        try (RequestDispatcher dispatcher = dispatcher(fixture, failing, 1)) {
+            String token = dispatcher.login("load0", "pw").join().getBody();
+            CompletableFuture<ApiResponse<List<Reservation>>> future = dispatcher.book(token, "LOAD-F0", List.of("2A"));
+            CompletionException thrown = assertThrows(CompletionException.class, future::join);
+            assertTrue(thrown.getCause() instanceof StackOverflowError);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (dispatcher.getInFlight() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, dispatcher.getInFlight(), "admission slot released");
+            assertEquals(ApiResponse.Status.OK, dispatcher.getMyReservations(token).join().getStatus());
+        }
+    }
+
+    @Test
+    void unknownOrLoggedOutTokensAreUnauthorized() {
+        AirlineFixture fixture = setUp();
+        try (RequestDispatcher dispatcher = dispatcher(fixture, fixture.reservationManager, 10)) {
+            assertEquals(ApiResponse.Status.UNAUTHORIZED, dispatcher.getMyReservations("no-such-token").join().getStatus());
+            String token = dispatcher.login("load0", "pw").join().getBody();
+            assertEquals(ApiResponse.Status.OK, dispatcher.getMyReservations(token).join().getStatus());
+            assertEquals(ApiResponse.Status.OK, dispatcher.logout(token).getStatus());
+            assertEquals(ApiResponse.Status.UNAUTHORIZED, dispatcher.book(token, "LOAD-F0", List.of("2A")).join().getStatus());
+        }
+    }
+
+    private static AirlineFixture setUp() {
+        AirlineFixture fixture = new AirlineFixture();
+        fixture.aircraft("LOAD-AC", 8, 180);
+        fixture.route("LOAD-R", "AAA", "BBB", 100000.0);
+        fixture.flight("LOAD-F0", "LOAD-R", "LOAD-AC");
+        for (int u = 0; u < USERS; u++) {
+            fixture.user("load" + u);
+        }
+        return fixture;
+    }
+
+    private static RequestDispatcher dispatcher(AirlineFixture fixture, ReservationManageable reservations, int maxInFlight) {
+        return new RequestDispatcher(fixture.flightManager, reservations, new UserManager(fixture.userDAO),
+                new SessionStore(), maxInFlight, false);
+    }
+
+    // 예약/취소가 gate가 열릴 때까지 기다리는 예약 서비스
+    private static class GatedReservations implements ReservationManageable {
+        private final ReservationManageable delegate;
+        private final CountDownLatch gate;
+
+        GatedReservations(ReservationManageable delegate, CountDownLatch gate) {
+            this.delegate = delegate;
+            this.gate = gate;
+        }
+
+        private void await() {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public Reservation makeReservation(String userId, String flightId, String seatNumber) {
+            await();
+            return delegate.makeReservation(userId, flightId, seatNumber);
+        }
+
+        @Override
+        public List<Reservation> makeReservations(String userId, String flightId, List<String> seatNumbers) {
+            await();
+            return delegate.makeReservations(userId, flightId, seatNumbers);
+        }
+
+        @Override
+        public List<Reservation> getMyReservations(String userId) {
+            return delegate.getMyReservations(userId);
+        }
+
+        @Override
+        public List<PaymentRow> getMyReservationDetails(String userId) {
+            return delegate.getMyReservationDetails(userId);
+        }
+
+        @Override
+        public boolean cancelReservation(String reservationId, String userId) {
+            await();
+            return delegate.cancelReservation(reservationId, userId);
+        }
+
+        @Override
+        public boolean changeReservationStatus(String reservationId, ReservationStatus newStatus) {
+            return delegate.changeReservationStatus(reservationId, newStatus);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.team1.airline.controller;
+
+import com.team1.airline.entity.User;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 세션 저장소(SessionStore) 검사
+ * - 절반의 세션만 계속 사용하면 타이머 휠이 나머지 절반만 만료시켜야 합니다.
+ * - 유휴 만료 없는 세션(GUI용)은 remove할 때까지 남아야 합니다.
+ * (시각에 의존하므로 유휴 시간의 절반 이상 여유를 두고 확인)
+ */
+class SessionStoreTest {
+
+    private static final long IDLE_MILLIS = 1_000L;
+    private static final int COUNT = 1_000;
+
+    @Test
+    void timerWheelExpiresOnlyIdleSessions() throws InterruptedException {
+        SessionStore store = new SessionStore(IDLE_MILLIS, 10L);
+        String[] tokens = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            tokens[i] = store.create(user(i));
+        }
+
+        Thread.sleep(IDLE_MILLIS * 6 / 10);
+        for (int i = 0; i < COUNT; i += 2) {
+            assertNotNull(store.get(tokens[i])); // 짝수 번째만 사용
+        }
+        Thread.sleep(IDLE_MILLIS * 6 / 10);
+        int expired = store.expireIdleSessions();
+
+        assertEquals(COUNT / 2, expired);
+        assertEquals(COUNT / 2, store.size());
+        assertEquals(COUNT / 2, store.getEvictedCount());
+        for (int i = 0; i < COUNT; i++) {
+            if (i % 2 == 0) {
+                assertEquals("user" + i, store.get(tokens[i]).getUserId());
+            } else {
+                assertNull(store.get(tokens[i]), "idle session " + i);
+            }
+        }
+    }
+
+    @Test
+    void sessionsWithoutExpirySurviveUntilRemoved() throws InterruptedException {
+        SessionStore store = new SessionStore(50L, 10L);
+        User user = user(0);
+        String token = store.createWithoutExpiry(user);
+        String idle = store.create(user(1));
+
+        Thread.sleep(150L);
+        store.expireIdleSessions();
+        assertSame(user, store.get(token));
+        assertNull(store.get(idle));
+
+        assertSame(user, store.remove(token));
+        assertNull(store.get(token));
+        assertEquals(0, store.size());
+    }
+
+    private static User user(int i) {
+        return new User("user" + i, "pw", "name", "P", "010", 0);
+    }
+}
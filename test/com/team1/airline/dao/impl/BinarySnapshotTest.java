@@ -0,0 +1,128 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.entity.Aircraft;
+import com.team1.airline.entity.Airport;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationIdCodec;
+import com.team1.airline.entity.ReservationStatus;
+import com.team1.airline.entity.Route;
+import com.team1.airline.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 바이너리 스냅샷(BinarySnapshot) 왕복 검사
+ * - 기록한 내용을 다시 읽으면 모든 테이블의 모든 필드가 같아야 합니다.
+ * - 예약 번호 인코딩 세 가지(사전 코드 / UUID / 예약 코드 차이값)와 형식이 섞인 예약 번호,
+ *   가격 사전(예약과 노선이 같은 가격을 공유), epoch 분 시각(1970년 이전, 빈 시각), 공백이 든 문자열,
+ *   빈 테이블을 모두 다룹니다.
+ */
+class BinarySnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void everyTableRoundTrips() throws IOException {
+        BinarySnapshot.Contents contents = new BinarySnapshot.Contents();
+        contents.users = List.of(
+                new User("u1", "pw 1", "Kim Min Su", "M1234 5678", "010-1234-5678", 12_500),
+                new User("u2", "pw", "홍 길동", null, null, 0));
+        contents.aircrafts = List.of(
+                new Aircraft("AC1", "Boeing 737 MAX 8", 180, 168, 12),
+                new Aircraft("AC2", "Airbus A380", 400, 380, 20));
+        contents.airports = List.of(
+                new Airport("ICN", "Incheon International Airport", "Seoul", "South Korea"),
+                new Airport("NRT", "Narita International", "Tokyo", "Japan"));
+        contents.flights = List.of(
+                new Flight("F1", "R1", "AC1", LocalDateTime.of(2030, 1, 1, 9, 0), LocalDateTime.of(2030, 1, 1, 11, 35), FlightStatus.BOOKABLE),
+                new Flight("F2", "R1", "AC2", LocalDateTime.of(1969, 12, 31, 23, 59), LocalDateTime.of(1970, 1, 1, 0, 1), FlightStatus.SOLD_OUT),
+                new Flight("F3", "R2", "AC1", null, null, FlightStatus.SCHEDULED));
+        contents.routes = List.of(
+                new Route("R1", "ICN", "NRT", 250_000.0, 155),
+                new Route("R2", "NRT", "ICN", 1234.5, 150));
+        contents.reservations = reservations(List.of("R-0001", UUID.randomUUID().toString(), ReservationIdCodec.encode(42)));
+
+        assertEquals(fields(contents), fields(roundTrip(contents)));
+    }
+
+    @Test
+    void eachReservationIdEncodingRoundTrips() throws IOException {
+        List<String> compact = new ArrayList<>();
+        List<String> uuids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            // 차이값이 음수인 행도 섞이도록 순서를 흔듦
+            compact.add(ReservationIdCodec.encode(1_000_000L * (i % 7) + i));
+            uuids.add(new UUID(i * 31L, -i).toString());
+        }
+        List<String> mixed = new ArrayList<>(compact);
+        mixed.set(100, uuids.get(100));
+        List<String> upperCaseUuid = new ArrayList<>(uuids);
+        upperCaseUuid.set(0, uuids.get(0).toUpperCase()); // 되돌리면 소문자가 되므로 사전 코드로 저장해야 함
+
+        for (List<String> ids : List.of(compact, uuids, mixed, upperCaseUuid)) {
+            BinarySnapshot.Contents contents = new BinarySnapshot.Contents();
+            contents.reservations = reservations(ids);
+            assertEquals(contents.reservations, roundTrip(contents).reservations, ids.get(0));
+        }
+
+        // 인코딩이 실제로 달라졌는지: 예약 코드 차이값이 사전 코드보다 작음
+        assertTrue(size(compact) < size(mixed), "compact ids " + size(compact) + " bytes, mixed " + size(mixed) + " bytes");
+    }
+
+    @Test
+    void emptyTablesRoundTrip() throws IOException {
+        BinarySnapshot.Contents empty = roundTrip(new BinarySnapshot.Contents());
+        assertEquals(fields(new BinarySnapshot.Contents()), fields(empty));
+
+        BinarySnapshot.Contents routesOnly = new BinarySnapshot.Contents();
+        routesOnly.routes = List.of(new Route("R1", "ICN", "NRT", 99_000.0, 120));
+        assertEquals(fields(routesOnly), fields(roundTrip(routesOnly)));
+    }
+
+    // 가격은 노선과 같은 값, 예약마다 다른 값이 섞이도록 (가격 사전)
+    private static List<Reservation> reservations(List<String> ids) {
+        ReservationStatus[] statuses = ReservationStatus.values();
+        List<Reservation> rows = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            double price = i % 3 == 0 ? 250_000.0 : i % 3 == 1 ? 1234.5 : 100.25 * i;
+            rows.add(new Reservation(ids.get(i), "u" + (i % 2 + 1), "F" + (i % 3 + 1), (i % 40 + 2) + "A",
+                    price, statuses[i % statuses.length]));
+        }
+        return rows;
+    }
+
+    private BinarySnapshot.Contents roundTrip(BinarySnapshot.Contents contents) throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            BinarySnapshot.write(out, contents);
+        }
+        return BinarySnapshot.read(path);
+    }
+
+    private long size(List<String> ids) throws IOException {
+        BinarySnapshot.Contents contents = new BinarySnapshot.Contents();
+        contents.reservations = reservations(ids);
+        roundTrip(contents);
+        return Files.size(directory.resolve("snapshot.bin"));
+    }
+
+    // 엔티티 equals는 모든 필드를 비교 (@Data)
+    private static List<List<?>> fields(BinarySnapshot.Contents c) {
+        return List.of(c.users, c.aircrafts, c.airports, c.flights, c.reservations, c.routes);
+    }
+}
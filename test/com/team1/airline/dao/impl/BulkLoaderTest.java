@@ -0,0 +1,163 @@
+package com.team1.airline.dao.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 병렬 로더(BulkLoader) + 토크나이저(LineTokenizer) 검사
+ * - 여러 청크로 나뉘는 파일을 읽은 결과가 예전 방식(BufferedReader + split("\\s+"))과 같아야 합니다.
+ * - 청크 경계를 찾는 위치가 멀티바이트 UTF-8 문자 한가운데, CRLF의 \r, 빈 줄에 걸리도록 파일을 만듭니다.
+ * - 탭/여러 칸 공백, 빈 줄(공백만 있는 줄 포함), 컬럼이 모자란 줄, 줄바꿈 없이 끝나는 마지막 줄을 섞습니다.
+ * (행은 "이름 좌석수 가격 출발시각 상태(공백 포함 가능)" 형식)
+ */
+class BulkLoaderTest {
+
+    private static final int CHUNK = 1 << 20; // 파일이 4MB 미만이면 청크 목표 크기는 BulkLoader.MIN_CHUNK_BYTES
+
+    private static final String[] NAMES = {"Kim", "홍길동", "山田太郎", "Ünsal", "이서연", "O'Brien"};
+    private static final String[] STATUSES = {"예약 가능", "CONFIRMED", "매진", "운항 취소"};
+    private static final String[] SEPARATORS = {" ", "\t", "  ", " \t "};
+
+    @TempDir
+    Path directory;
+
+    private ForkJoinPool pool;
+    private Path path;
+
+    @BeforeEach
+    void writeFile() throws IOException {
+        pool = new ForkJoinPool(4);
+        path = directory.resolve("rows.txt");
+        Files.write(path, content(new Random(11)));
+        assertTrue(Files.size(path) > 3L * CHUNK, "file too small to be split into four chunks");
+    }
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void tokensMatchSplit() throws IOException {
+        List<List<String>> expected = new ArrayList<>();
+        for (String line : oldLines()) {
+            if (line.trim().isEmpty()) continue;
+            expected.add(Arrays.asList(line.trim().split("\\s+")));
+        }
+
+        List<List<String>> actual = BulkLoader.load(path, t -> {
+            List<String> tokens = new ArrayList<>();
+            while (t.hasNext()) tokens.add(t.next());
+            return tokens;
+        }, pool);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void typedColumnsMatchOldParse() throws IOException {
+        List<List<Object>> expected = new ArrayList<>();
+        for (String line : oldLines()) {
+            if (line.trim().isEmpty()) continue;
+            String[] values = line.split("\\s+", 5);
+            if (values.length != 5) continue;
+            expected.add(List.of(values[0], Integer.parseInt(values[1]), Double.parseDouble(values[2]),
+                    LocalDateTime.parse(values[3]), values[4]));
+        }
+
+        List<List<Object>> actual = BulkLoader.load(path,
+                t -> List.of(t.next(), t.nextInt(), t.nextDouble(), t.nextDateTime(), t.rest()), pool);
+        assertEquals(expected, actual);
+        assertTrue(actual.size() > 10_000, "rows: " + actual.size());
+    }
+
+    private List<String> oldLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * 청크 경계는 "이전 경계 + CHUNK" 위치에서 다음 \n 바로 뒤로 옮겨지므로, 그 위치에 놓일 바이트를 골라 씁니다.
+     */
+    private static byte[] content(Random random) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // 1. 한글 이름 첫 글자(3바이트)의 두 번째 바이트
+        fillTo(out, random, CHUNK - 1);
+        write(out, "김민수 180 80000.0 2030-01-01T09:00 예약 가능\n");
+
+        // 2. CRLF의 \r
+        String crlf = "Lee 12 1234.56 2030-12-31T23:59 CONFIRMED";
+        fillTo(out, random, out.size() + CHUNK - crlf.length());
+        write(out, crlf + "\r\n");
+
+        // 3. 빈 줄의 \n
+        fillTo(out, random, out.size() + CHUNK);
+        write(out, "\n");
+
+        // 4. 줄바꿈 없이 끝나는 마지막 줄
+        for (int i = 0; i < 1_000; i++) {
+            write(out, line(random));
+        }
+        write(out, "박지훈\t7 99.5 2031-06-15T00:05 매진");
+        return out.toByteArray();
+    }
+
+    // 임의의 줄을 쓰다가, 정확히 offset에서 끝나도록 채움 줄을 씀
+    private static void fillTo(ByteArrayOutputStream out, Random random, int offset) {
+        while (out.size() + 200 < offset) {
+            write(out, line(random));
+        }
+        int remaining = offset - out.size();
+        if (remaining > 0) {
+            write(out, "#".repeat(remaining - 1) + "\n"); // 컬럼이 모자란 줄 (1바이트면 빈 줄)
+        }
+        assertEquals(offset, out.size());
+    }
+
+    private static String line(Random random) {
+        switch (random.nextInt(20)) {
+            case 0:
+                return "\n";
+            case 1:
+                return " \t \r\n";
+            case 2:
+                return "컬럼 부족\n";
+            default:
+                String sep = SEPARATORS[random.nextInt(SEPARATORS.length)];
+                String row = NAMES[random.nextInt(NAMES.length)] + random.nextInt(1000)
+                        + sep + random.nextInt(500)
+                        + sep + random.nextInt(1_000_000) + "." + random.nextInt(100)
+                        + sep + LocalDateTime.of(2030, 1, 1, 0, 0).plusMinutes(random.nextInt(1_000_000))
+                        + sep + STATUSES[random.nextInt(STATUSES.length)];
+                return row + (random.nextBoolean() ? "\r\n" : "\n");
+        }
+    }
+
+    private static void write(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
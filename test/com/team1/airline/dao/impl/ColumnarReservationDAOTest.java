@@ -0,0 +1,240 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationIdCodec;
+import com.team1.airline.entity.ReservationStatus;
+import com.team1.airline.service.impl.SnowflakeIdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 열 저장 예약 DAO(ColumnarReservationDAOImpl) 검사
+ * - 같은 예약을 기존 ReservationDAOImpl과 함께 넣고, 조회 결과(예약 번호 / 항공편 / 회원 / 상태별)와
+ *   항공편별 매출 집계가 같은지, 수정/삭제 후에도 같은지 확인합니다.
+ * - UUID가 아닌 예약 번호, 표준 형식이 아닌 좌석 번호, 빈 값도 그대로 돌려주어야 합니다.
+ * - 예약 코드와 같은 비트의 UUID 예약 번호는 서로 다른 예약으로 구분되어야 합니다.
+ * - 시간순 예약 코드(이진 탐색)에 순서를 벗어난 코드, 항공편 이동, 삭제 후 같은 번호 재추가, 가격 사전이 가득 찬 뒤의 가격이
+ *   섞여도 기존 저장소와 같아야 합니다.
+ */
+class ColumnarReservationDAOTest {
+
+    private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+    private static final int COUNT = 50_000;
+    private static final int USERS = 2_000;
+    private static final int FLIGHTS = 500;
+    private static final String PREFIX = "COL-";
+
+    @Test
+    void matchesObjectStoreAfterLoadAndUpdates() {
+        ColumnarReservationDAOImpl columnar = new ColumnarReservationDAOImpl();
+        ReservationDAO objects = new ReservationDAOImpl();
+        Random random = new Random(3);
+        List<Reservation> rows = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            rows.add(new Reservation(idOf(i), PREFIX + "user" + random.nextInt(USERS), PREFIX + "F" + random.nextInt(FLIGHTS),
+                    (2 + random.nextInt(40)) + String.valueOf((char) ('A' + random.nextInt(6))),
+                    50_000 + 100.0 * random.nextInt(2_000), STATUSES[random.nextInt(STATUSES.length)]));
+        }
+        objects.addReservations(rows);
+        columnar.addReservations(rows);
+        compare(objects, columnar, "after load");
+
+        // 수정 / 삭제 (상태, 좌석, 가격, 항공편 변경)
+        for (int i = 0; i < 5_000; i++) {
+            Reservation r = objects.findByReservationId(idOf(random.nextInt(COUNT)));
+            if (r == null) continue;
+            switch (random.nextInt(4)) {
+                case 0 -> r.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+                case 1 -> r.setSeatNumber((2 + random.nextInt(40)) + "F");
+                case 2 -> r.setFlightId(PREFIX + "F" + random.nextInt(FLIGHTS));
+                default -> {
+                    objects.deleteReservation(r.getReservationId());
+                    columnar.deleteReservation(r.getReservationId());
+                    continue;
+                }
+            }
+            r.setFinalPrice(r.getFinalPrice() + 100);
+            objects.updateReservation(r);
+            columnar.updateReservation(copyOf(r));
+        }
+        compare(objects, columnar, "after updates");
+
+        Set<ReservationStatus> sold = EnumSet.of(ReservationStatus.CONFIRMED, ReservationStatus.PAID);
+        Map<String, Double> expected = new HashMap<>();
+        for (Reservation r : objects.findAll()) {
+            if (sold.contains(r.getStatus())) {
+                expected.merge(r.getFlightId(), r.getFinalPrice(), Double::sum);
+            }
+        }
+        assertEquals(expected, columnar.revenueByFlight(sold));
+    }
+
+    @Test
+    void unusualValuesRoundTrip() {
+        ColumnarReservationDAOImpl columnar = new ColumnarReservationDAOImpl(16);
+        String compact = ReservationIdCodec.encode(123_456_789L);
+        List<Reservation> rows = List.of(
+                new Reservation(compact, PREFIX + "u1", PREFIX + "X1", "12A", 1234.567, ReservationStatus.CONFIRMED),
+                new Reservation("R-0001", PREFIX + "u1", PREFIX + "X1", "01A", 1.0, ReservationStatus.PAID),
+                new Reservation("R-0002", PREFIX + "u2", PREFIX + "X1", "12a", 2.0, ReservationStatus.CANCELLED),
+                new Reservation("R-0003", PREFIX + "u2", PREFIX + "X2", "VIP", 3.0, null),
+                new Reservation("R-0004", null, null, null, 0.0, ReservationStatus.CONFIRMED));
+        columnar.addReservations(rows);
+
+        assertEquals(1234.57, columnar.findByReservationId(compact).getFinalPrice(), "price is stored to 1/100");
+        for (int i = 1; i < rows.size(); i++) {
+            assertEquals(rows.get(i), columnar.findByReservationId(rows.get(i).getReservationId()));
+        }
+        assertEquals(List.of(compact, "R-0001", "R-0002"),
+                columnar.findReservationsByFlightId(PREFIX + "X1").stream().map(Reservation::getReservationId).toList());
+        assertEquals(2, columnar.findReservationsByUserId(PREFIX + "u2").size());
+
+        columnar.deleteReservation("R-0001");
+        assertNull(columnar.findByReservationId("R-0001"));
+        assertEquals(rows.size() - 1, columnar.size());
+        assertEquals(rows.size() - 1, columnar.findAll().size());
+    }
+
+    @Test
+    void reservationCodesAndUuidsWithTheSameBitsStayDistinct() {
+        ColumnarReservationDAOImpl store = new ColumnarReservationDAOImpl();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(37);
+        List<Reservation> added = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            // 예약 코드와 같은 비트의 UUID도 함께 넣어 서로 구분되는지 확인
+            long value = generator.nextValue();
+            String id = i % 10 == 0 ? new UUID(0, value).toString() : ReservationIdCodec.encode(value);
+            added.add(new Reservation(id, PREFIX + "user" + (i % 500), PREFIX + "F" + (i % 50), (2 + i % 40) + "A",
+                    100_000, ReservationStatus.CONFIRMED));
+            if (i % 10 == 0) {
+                added.add(new Reservation(ReservationIdCodec.encode(value), PREFIX + "user" + (i % 500), PREFIX + "F" + (i % 50),
+                        (2 + i % 40) + "B", 100_000, ReservationStatus.PAID));
+            }
+        }
+        store.addReservations(added);
+        assertEquals(added.size(), store.size());
+        for (Reservation r : added) {
+            assertEquals(r, store.findByReservationId(r.getReservationId()));
+        }
+
+        store.deleteReservation(added.get(1).getReservationId());
+        assertNull(store.findByReservationId(added.get(1).getReservationId()));
+        assertEquals(added.get(0), store.findByReservationId(added.get(0).getReservationId()));
+    }
+
+    @Test
+    void orderedCodesWithMovesAndReAddsMatchObjectStore() {
+        String prefix = PREFIX + "ORD-"; // 객체 저장소(DataManager 테이블)는 다른 테스트와 공유
+        ColumnarReservationDAOImpl columnar = new ColumnarReservationDAOImpl();
+        ReservationDAO objects = new ReservationDAOImpl();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(38);
+        Random random = new Random(4);
+        List<String> ids = new ArrayList<>();
+        List<Reservation> rows = new ArrayList<>();
+        for (int i = 0; i < 70_000; i++) {
+            // 서로 다른 가격이 65,535개를 넘도록
+            String id = ReservationIdCodec.encode(generator.nextValue());
+            ids.add(id);
+            rows.add(new Reservation(id, prefix + "user" + random.nextInt(USERS), prefix + "F" + random.nextInt(FLIGHTS),
+                    (2 + random.nextInt(40)) + "C", 10_000 + i * 0.01, STATUSES[random.nextInt(STATUSES.length)]));
+        }
+        // 순서를 벗어난 예약 코드 (다른 노드가 먼저 만든 번호)
+        for (int i = 0; i < 1_000; i++) {
+            String id = ReservationIdCodec.encode(i * 7L + 1);
+            ids.add(id);
+            rows.add(new Reservation(id, prefix + "user" + random.nextInt(USERS), prefix + "F" + random.nextInt(FLIGHTS),
+                    "3D", 5_000, ReservationStatus.PAID));
+        }
+        objects.addReservations(rows);
+        columnar.addReservations(rows.stream().map(ColumnarReservationDAOTest::copyOf).toList());
+
+        for (int i = 0; i < 10_000; i++) {
+            String id = ids.get(random.nextInt(ids.size()));
+            Reservation r = objects.findByReservationId(id);
+            if (r == null) {
+                // 삭제했던 번호를 다시 추가
+                Reservation added = new Reservation(id, prefix + "user" + random.nextInt(USERS), prefix + "F" + random.nextInt(FLIGHTS),
+                        "4E", 123.45, ReservationStatus.CONFIRMED);
+                objects.addReservation(added);
+                columnar.addReservation(copyOf(added));
+                continue;
+            }
+            switch (random.nextInt(3)) {
+                case 0 -> r.setFlightId(prefix + "F" + random.nextInt(FLIGHTS)); // 항공편 이동 (새 행)
+                case 1 -> r.setFinalPrice(r.getFinalPrice() + 0.5);
+                default -> {
+                    objects.deleteReservation(id);
+                    columnar.deleteReservation(id);
+                    continue;
+                }
+            }
+            objects.updateReservation(r);
+            columnar.updateReservation(copyOf(r));
+        }
+
+        int present = 0;
+        for (String id : ids) {
+            Reservation expected = objects.findByReservationId(id);
+            assertEquals(expected, columnar.findByReservationId(id), id);
+            if (expected != null) present++;
+        }
+        assertEquals(present, columnar.size());
+        for (int f = 0; f < FLIGHTS; f++) {
+            String flightId = prefix + "F" + f;
+            assertSameRows(objects.findReservationsByFlightId(flightId), columnar.findReservationsByFlightId(flightId), flightId);
+        }
+        for (int u = 0; u < USERS; u++) {
+            String userId = prefix + "user" + u;
+            assertSameRows(objects.findReservationsByUserId(userId), columnar.findReservationsByUserId(userId), userId);
+        }
+    }
+
+    private static void compare(ReservationDAO objects, ReservationDAO columnar, String label) {
+        Random random = new Random(label.hashCode());
+        for (int i = 0; i < 2_000; i++) {
+            String id = idOf(random.nextInt(COUNT));
+            assertEquals(objects.findByReservationId(id), columnar.findByReservationId(id), label + ": reservation " + id);
+        }
+        for (int f = 0; f < FLIGHTS; f++) {
+            String flightId = PREFIX + "F" + f;
+            assertSameRows(objects.findReservationsByFlightId(flightId), columnar.findReservationsByFlightId(flightId), label + ": flight " + flightId);
+        }
+        for (int u = 0; u < USERS; u++) {
+            String userId = PREFIX + "user" + u;
+            assertSameRows(objects.findReservationsByUserId(userId), columnar.findReservationsByUserId(userId), label + ": user " + userId);
+        }
+        assertEquals(objects.countReservationsByStatus(), columnar.countReservationsByStatus(), label + ": status counts");
+    }
+
+    // 항공편이 바뀐 예약은 열 저장소에서 목록 끝으로 옮겨지므로 순서는 보지 않음
+    private static void assertSameRows(List<Reservation> expected, List<Reservation> actual, String label) {
+        Map<String, Reservation> byId = new HashMap<>();
+        for (Reservation r : expected) byId.put(r.getReservationId(), r);
+        assertEquals(byId.size(), actual.size(), label);
+        for (Reservation r : actual) {
+            assertEquals(byId.get(r.getReservationId()), r, label);
+        }
+    }
+
+    private static Reservation copyOf(Reservation r) {
+        return new Reservation(r.getReservationId(), r.getUserId(), r.getFlightId(), r.getSeatNumber(),
+                r.getFinalPrice(), r.getStatus());
+    }
+
+    private static String idOf(int i) {
+        Random random = new Random(i * 0x9E3779B97F4A7C15L);
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
@@ -0,0 +1,140 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.dao.UserDAO;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DataManager 테이블(EntityTable) 동시성 검사
+ * - 여러 스레드가 동시에 예약 추가/상태 변경/삭제와 마일리지 증감을 하는 동안
+ *   다른 스레드들은 findAll/보조 인덱스 조회를 반복합니다.
+ * - 끝난 뒤 예약 수, 항공편/사용자별 인덱스, 마일리지 합계가 기대값과 정확히 같아야 합니다.
+ */
+class EntityTableConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int PER_WRITER = 5_000;
+    private static final int FLIGHTS = 50;
+    private static final int USERS = 20;
+    private static final int READERS = 2;
+    private static final String PREFIX = "CC-";
+
+    @Test
+    void concurrentWritesKeepIndexesAndMileageConsistent() throws InterruptedException {
+        AirlineFixture fixture = new AirlineFixture();
+        ReservationDAO reservationDAO = fixture.reservationDAO;
+        UserDAO userDAO = fixture.userDAO;
+        for (int u = 0; u < USERS; u++) {
+            fixture.user(PREFIX + "user" + u);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        List<Thread> writerThreads = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            writerThreads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < PER_WRITER; i++) {
+                        String id = PREFIX + writer + "-" + i;
+                        String userId = PREFIX + "user" + (i % USERS);
+                        Reservation r = new Reservation(id, userId, PREFIX + "F" + (i % FLIGHTS), (i % 40 + 1) + "A", 1000.0, ReservationStatus.CONFIRMED);
+                        reservationDAO.addReservation(r);
+                        userDAO.addMileage(userId, 10);
+                        if (i % 3 == 0) {
+                            // 새 객체로 교체 (다른 스레드가 같은 항공편 버킷을 동시에 바꾸는 중)
+                            reservationDAO.updateReservation(new Reservation(id, userId, r.getFlightId(), r.getSeatNumber(), 1000.0, ReservationStatus.CANCELLED));
+                            userDAO.addMileage(userId, -5);
+                        }
+                        if (i % 10 == 9) {
+                            reservationDAO.deleteReservation(id);
+                        }
+                    }
+                } catch (Throwable t) {
+                    errors.add(t);
+                }
+            }, "writer-" + w));
+        }
+        List<Thread> readerThreads = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            readerThreads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    int i = 0;
+                    while (writing.get()) {
+                        // 반환된 목록을 순회하는 동안 ConcurrentModificationException이 나면 안 됨
+                        for (Reservation reservation : reservationDAO.findReservationsByFlightId(PREFIX + "F" + (i % FLIGHTS))) {
+                            reservation.getSeatNumber();
+                        }
+                        reservationDAO.findReservationsByUserId(PREFIX + "user" + (i % USERS)).size();
+                        if (i % 200 == 0) {
+                            for (Reservation reservation : reservationDAO.findAll()) {
+                                reservation.getStatus();
+                            }
+                        }
+                        i++;
+                    }
+                } catch (Throwable t) {
+                    errors.add(t);
+                }
+            }, "reader-" + r));
+        }
+
+        writerThreads.forEach(Thread::start);
+        readerThreads.forEach(Thread::start);
+        start.countDown();
+        for (Thread t : writerThreads) t.join();
+        writing.set(false);
+        for (Thread t : readerThreads) t.join();
+        assertTrue(errors.isEmpty(), () -> "exceptions: " + errors);
+
+        // --- 기대값 ---
+        int[] expectedByFlight = new int[FLIGHTS];
+        int[] expectedByUser = new int[USERS];
+        long[] expectedMileage = new long[USERS];
+        int expectedCancelled = 0;
+        for (int w = 0; w < WRITERS; w++) {
+            for (int i = 0; i < PER_WRITER; i++) {
+                expectedMileage[i % USERS] += 10;
+                if (i % 3 == 0) expectedMileage[i % USERS] -= 5;
+                if (i % 10 == 9) continue;
+                expectedByFlight[i % FLIGHTS]++;
+                expectedByUser[i % USERS]++;
+                if (i % 3 == 0) expectedCancelled++;
+            }
+        }
+
+        int total = 0;
+        int cancelled = 0;
+        for (int f = 0; f < FLIGHTS; f++) {
+            List<Reservation> rows = reservationDAO.findReservationsByFlightId(PREFIX + "F" + f);
+            assertEquals(expectedByFlight[f], rows.size(), "flight F" + f);
+            total += rows.size();
+            for (Reservation r : rows) {
+                if (r.getStatus() == ReservationStatus.CANCELLED) cancelled++;
+            }
+        }
+        for (int u = 0; u < USERS; u++) {
+            String userId = PREFIX + "user" + u;
+            assertEquals(expectedByUser[u], reservationDAO.findReservationsByUserId(userId).size(), "reservations of " + userId);
+            assertEquals(expectedMileage[u], userDAO.findByUserId(userId).getMileage(), "mileage of " + userId);
+        }
+        assertEquals(total, reservationDAO.findAll().stream().filter(r -> r.getReservationId().startsWith(PREFIX)).count());
+        assertEquals(expectedCancelled, cancelled);
+    }
+}
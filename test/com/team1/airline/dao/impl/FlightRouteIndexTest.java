@@ -0,0 +1,116 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.dao.FlightDAO;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 노선별 출발 시각 인덱스(SortedIndex, FlightDAOImpl.findFlightsByRoute*) 검사
+ * - 항공편을 추가한 뒤 노선/출발 시각을 바꾸는 수정(새 객체로 교체, 저장된 객체를 setter로 고친 뒤 update)과
+ *   삭제를 섞어 반복하면서, 조회 결과가 findAll 전체 스캔 결과(출발 시각 → 항공편 ID 순)와 항상 같은지 확인합니다.
+ * - 날짜 하나, 날짜 범위(자정 경계 포함), 노선 전체 조회를 모두 비교합니다.
+ */
+class FlightRouteIndexTest {
+
+    private static final String PREFIX = "IDX-";
+    private static final int ROUTES = 5;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 3, 1, 0, 0);
+    private static final int DAYS = 6;
+
+    private final FlightDAO flightDAO = new FlightDAOImpl();
+
+    @Test
+    void routeAndDateQueriesMatchFullScanAfterMixedChanges() {
+        Random random = new Random(17);
+        List<String> ids = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 50; i++) {
+                String id = PREFIX + "F" + ids.size();
+                ids.add(id);
+                flightDAO.saveFlight(flight(id, route(random), departure(random)));
+            }
+            for (int i = 0; i < 60; i++) {
+                Flight current = flightDAO.findByFlightId(ids.get(random.nextInt(ids.size())));
+                if (current == null) continue;
+                switch (random.nextInt(5)) {
+                    case 0:
+                        flightDAO.deleteFlight(current.getFlightId());
+                        break;
+                    case 1:
+                        // 저장된 객체를 직접 고친 뒤 update (인덱스는 이전 위치를 기억하고 있어야 함)
+                        current.setRouteId(route(random));
+                        current.setDepartureTime(departure(random));
+                        current.setArrivalTime(current.getDepartureTime().plusHours(1));
+                        flightDAO.updateFlight(current);
+                        break;
+                    case 2:
+                        flightDAO.updateFlight(flight(current.getFlightId(), route(random), current.getDepartureTime()));
+                        break;
+                    default:
+                        flightDAO.updateFlight(flight(current.getFlightId(), current.getRouteId(), departure(random)));
+                        break;
+                }
+            }
+            assertMatchesScan(round);
+        }
+    }
+
+    private void assertMatchesScan(int round) {
+        List<Flight> all = flightDAO.findAll().stream()
+                .filter(f -> f.getFlightId().startsWith(PREFIX))
+                .sorted(Comparator.comparing(Flight::getDepartureTime).thenComparing(Flight::getFlightId))
+                .collect(Collectors.toList());
+        for (int r = 0; r < ROUTES; r++) {
+            String routeId = PREFIX + "R" + r;
+            assertEquals(ids(scan(all, routeId, BASE, BASE.plusDays(DAYS + 1))), ids(flightDAO.findFlightsByRoute(routeId)),
+                    "route " + routeId + " round " + round);
+            for (int d = -1; d <= DAYS; d++) {
+                LocalDate date = BASE.toLocalDate().plusDays(d);
+                assertEquals(ids(scan(all, routeId, date.atStartOfDay(), date.plusDays(1).atStartOfDay())),
+                        ids(flightDAO.findFlightsByRouteAndDate(routeId, date)),
+                        routeId + " on " + date + " round " + round);
+            }
+            LocalDate from = BASE.toLocalDate().plusDays(1);
+            LocalDate to = from.plusDays(2);
+            assertEquals(ids(scan(all, routeId, from.atStartOfDay(), to.plusDays(1).atStartOfDay())),
+                    ids(flightDAO.findFlightsByRouteAndDateRange(routeId, from, to)),
+                    routeId + " from " + from + " to " + to + " round " + round);
+        }
+    }
+
+    // [from, to) 구간의 노선 항공편 (all은 이미 정렬됨)
+    private static List<Flight> scan(List<Flight> all, String routeId, LocalDateTime from, LocalDateTime to) {
+        return all.stream()
+                .filter(f -> f.getRouteId().equals(routeId))
+                .filter(f -> !f.getDepartureTime().isBefore(from) && f.getDepartureTime().isBefore(to))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> ids(List<Flight> flights) {
+        return flights.stream().map(Flight::getFlightId).collect(Collectors.toList());
+    }
+
+    private static Flight flight(String flightId, String routeId, LocalDateTime departure) {
+        return new Flight(flightId, routeId, PREFIX + "AC", departure, departure.plusHours(1), FlightStatus.BOOKABLE);
+    }
+
+    private static String route(Random random) {
+        return PREFIX + "R" + random.nextInt(ROUTES);
+    }
+
+    // 같은 시각끼리 겹치고 자정 경계에도 걸리도록 30분 단위
+    private static LocalDateTime departure(Random random) {
+        return BASE.plusMinutes(30L * random.nextInt(DAYS * 48));
+    }
+}
@@ -0,0 +1,168 @@
+package com.team1.airline.dao.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 변경 저널(Journal) 검사
+ * - 기록한 추가/수정/삭제가 재생(replay)으로 그대로 복원되어야 합니다.
+ * - 깨진 줄(형식 오류, CRC 불일치, 줄바꿈 없이 끝난 마지막 줄)은 건너뛰고, 뒤따르는 정상 기록은 재생해야 합니다.
+ * - 그룹 커밋으로 여러 스레드가 동시에 기록해도 모든 기록이 남아야 합니다.
+ * - 교체(rotate)로 넘긴 구간 파일은 보관 파일 뒤에 이어 붙고, 보관 → 현재 저널 순서로 재생하면 모든 기록이 복원되어야 합니다.
+ * - 구간 파일로 넘기지 못한 교체는 기존 파일을 다시 열어, 이후 기록도 같은 파일에 이어져야 합니다.
+ * (행은 "키,값" 문자열)
+ */
+class JournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayRestoresAddsUpdatesAndDeletes() throws IOException {
+        Path path = directory.resolve("rows.journal");
+        Journal<String> journal = open(path, Journal.FsyncPolicy.ALWAYS);
+        journal.added("a,1");
+        journal.addedAll(List.of("b,1", "c,1"));
+        journal.updated("a,2");
+        journal.removed("b");
+        journal.close();
+
+        EntityTable<String> table = table();
+        assertEquals(5, Journal.replay(path, Function.identity(), table));
+        assertEquals("a,2", table.get("a"));
+        assertNull(table.get("b"));
+        assertEquals("c,1", table.get("c"));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void brokenLinesAreSkippedAndLaterRecordsReplayed() throws IOException {
+        Path path = directory.resolve("rows.journal");
+        Journal<String> journal = open(path, Journal.FsyncPolicy.ALWAYS);
+        journal.added("a,1");
+        journal.close();
+        String valid = Files.readString(path, StandardCharsets.UTF_8);
+        String torn = valid.replace("a,1", "a,9"); // CRC가 맞지 않는 기록
+        Files.writeString(path, torn + "garbage\nX 0 a,1\n" + valid.substring(0, valid.length() - 3),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND); // 마지막 줄은 쓰다 만 상태
+
+        // 다시 열면 깨진 마지막 줄을 끝내고 새 기록을 이어 씀
+        journal = open(path, Journal.FsyncPolicy.ALWAYS);
+        journal.added("b,1");
+        journal.updated("a,2");
+        journal.close();
+
+        EntityTable<String> table = table();
+        assertEquals(3, Journal.replay(path, Function.identity(), table));
+        assertEquals("a,2", table.get("a"));
+        assertEquals("b,1", table.get("b"));
+    }
+
+    @Test
+    void groupCommitKeepsEveryConcurrentRecord() throws IOException, InterruptedException {
+        Path path = directory.resolve("rows.journal");
+        Journal<String> journal = open(path, Journal.FsyncPolicy.GROUP);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int writer = t;
+            writers.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < 200; i++) {
+                        journal.added(writer + "-" + i + ",v");
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            }));
+        }
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) writer.join();
+        journal.close();
+        assertTrue(errors.isEmpty(), () -> "exceptions: " + errors);
+
+        EntityTable<String> table = table();
+        assertEquals(8 * 200, Journal.replay(path, Function.identity(), table));
+        assertEquals(8 * 200, table.size());
+    }
+
+    @Test
+    void writesAfterCloseFailWithoutTouchingTheFile() throws IOException {
+        Path path = directory.resolve("rows.journal");
+        Journal<String> journal = open(path, Journal.FsyncPolicy.NONE);
+        journal.added("a,1");
+        journal.close();
+        long size = Files.size(path);
+
+        assertThrows(UncheckedIOException.class, () -> journal.added("b,1"));
+        assertEquals(size, Files.size(path));
+    }
+
+    @Test
+    void rotatedSegmentsAppendToTheArchive() throws IOException {
+        Path path = directory.resolve("rows.journal");
+        Path archive = directory.resolve("rows.journal.1");
+        Path segment = directory.resolve("rows.journal.2");
+        Journal<String> journal = open(path, Journal.FsyncPolicy.GROUP);
+        journal.added("a,1");
+        journal.rotate(segment);
+        Journal.appendSegment(segment, archive); // 보관 파일이 없으면 이름만 바꿈
+        journal.added("b,1");
+        journal.updated("a,2");
+        journal.rotate(segment);
+        Journal.appendSegment(segment, archive); // 있으면 뒤에 이어 붙임
+        journal.removed("b");
+        journal.close();
+        assertTrue(Files.notExists(segment));
+
+        EntityTable<String> table = table();
+        assertEquals(3, Journal.replay(archive, Function.identity(), table));
+        assertEquals(1, Journal.replay(path, Function.identity(), table));
+        assertEquals("a,2", table.get("a"));
+        assertNull(table.get("b"));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void failedRotateReopensTheJournal() throws IOException {
+        Path path = directory.resolve("rows.journal");
+        Journal<String> journal = open(path, Journal.FsyncPolicy.ALWAYS);
+        journal.added("a,1");
+
+        // 없는 디렉터리로는 이름을 바꿀 수 없음
+        assertThrows(IOException.class, () -> journal.rotate(directory.resolve("missing").resolve("rows.journal.2")));
+        journal.added("b,1");
+        journal.close();
+
+        EntityTable<String> table = table();
+        assertEquals(2, Journal.replay(path, Function.identity(), table));
+        assertEquals("b,1", table.get("b"));
+    }
+
+    private static Journal<String> open(Path path, Journal.FsyncPolicy policy) throws IOException {
+        Journal<String> journal = new Journal<>(path, Function.identity(), policy, 1L);
+        journal.open();
+        return journal;
+    }
+
+    private static EntityTable<String> table() {
+        return new EntityTable<>(row -> row.substring(0, row.indexOf(',')), new ReentrantReadWriteLock().readLock());
+    }
+}
@@ -0,0 +1,133 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 메모리 매핑 예약 저장소(MappedReservationDAOImpl) 검사
+ * - 같은 예약과 같은 변경을 ColumnarReservationDAOImpl(기준)에 적용하고 조회 결과가 같은지 확인합니다.
+ * - 정상 종료 후 다시 열었을 때(재매핑)와 닫지 않고 다시 열었을 때(인덱스 재구성)도 같아야 합니다.
+ */
+class MappedReservationDAOTest {
+
+    private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+    private static final int COUNT = 20_000;
+    private static final int USERS = 1_000;
+    private static final int FLIGHTS = 200;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void matchesReferenceAfterUpdatesAndCleanReopen() throws IOException {
+        ColumnarReservationDAOImpl reference = new ColumnarReservationDAOImpl(COUNT);
+        MappedReservationDAOImpl mapped = MappedReservationDAOImpl.open(directory);
+        fill(mapped);
+        fill(reference);
+        mutate(mapped, reference);
+        compare(mapped, reference, "after updates");
+
+        mapped.close();
+        mapped = MappedReservationDAOImpl.open(directory);
+        compare(mapped, reference, "after clean reopen");
+        mapped.close();
+    }
+
+    @Test
+    void rebuildsIndexWhenReopenedWithoutClose() throws IOException {
+        ColumnarReservationDAOImpl reference = new ColumnarReservationDAOImpl(COUNT);
+        MappedReservationDAOImpl mapped = MappedReservationDAOImpl.open(directory);
+        fill(mapped);
+        fill(reference);
+        mutate(mapped, reference);
+
+        // 비정상 종료 흉내: 닫지 않은 채 같은 디렉터리를 다시 열면 인덱스를 재구성함
+        mapped.force();
+        MappedReservationDAOImpl recovered = MappedReservationDAOImpl.open(directory);
+        compare(recovered, reference, "after recovery");
+        recovered.close();
+    }
+
+    private static void fill(ReservationDAO dao) {
+        Random random = new Random(3);
+        List<Reservation> rows = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            rows.add(new Reservation(idOf(i), "user" + random.nextInt(USERS), "F" + random.nextInt(FLIGHTS),
+                    (2 + random.nextInt(40)) + String.valueOf((char) ('A' + random.nextInt(6))),
+                    50_000 + 100.0 * random.nextInt(2_000), STATUSES[random.nextInt(STATUSES.length)]));
+        }
+        dao.addReservations(rows);
+    }
+
+    // 상태 / 좌석 / 가격 / 항공편 변경과 삭제를 두 저장소에 똑같이 적용
+    private static void mutate(ReservationDAO mapped, ReservationDAO reference) {
+        Random random = new Random(9);
+        for (int i = 0; i < 2_000; i++) {
+            Reservation r = reference.findByReservationId(idOf(random.nextInt(COUNT)));
+            if (r == null) continue;
+            switch (random.nextInt(4)) {
+                case 0 -> r.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+                case 1 -> r.setSeatNumber((2 + random.nextInt(40)) + "F");
+                case 2 -> r.setFlightId("F" + random.nextInt(FLIGHTS));
+                default -> {
+                    mapped.deleteReservation(r.getReservationId());
+                    reference.deleteReservation(r.getReservationId());
+                    continue;
+                }
+            }
+            r.setFinalPrice(r.getFinalPrice() + 100);
+            mapped.updateReservation(r);
+            reference.updateReservation(r);
+        }
+    }
+
+    private static void compare(ReservationDAO actual, ReservationDAO expected, String label) {
+        for (int i = 0; i < COUNT; i++) {
+            String id = idOf(i);
+            assertEquals(expected.findByReservationId(id), actual.findByReservationId(id), label + ": reservation " + id);
+        }
+        for (int f = 0; f < FLIGHTS; f++) {
+            String flightId = "F" + f;
+            assertSameRows(expected.findReservationsByFlightId(flightId), actual.findReservationsByFlightId(flightId), label + ": flight " + flightId);
+        }
+        for (int u = 0; u < USERS; u++) {
+            String userId = "user" + u;
+            assertSameRows(expected.findReservationsByUserId(userId), actual.findReservationsByUserId(userId), label + ": user " + userId);
+        }
+        assertEquals(expected.countReservationsByStatus(), actual.countReservationsByStatus(), label + ": status counts");
+        assertSameRows(expected.findReservationsByStatus(ReservationStatus.PAID), actual.findReservationsByStatus(ReservationStatus.PAID),
+                label + ": PAID scan");
+    }
+
+    private static void assertSameRows(List<Reservation> expected, List<Reservation> actual, String label) {
+        Map<String, Reservation> byId = new HashMap<>();
+        for (Reservation r : expected) byId.put(r.getReservationId(), r);
+        assertEquals(byId.size(), actual.size(), label);
+        for (Reservation r : actual) {
+            assertEquals(byId.get(r.getReservationId()), r, label);
+        }
+    }
+
+    // 20건 중 1건은 UUID가 아닌 예약 번호
+    private static String idOf(int i) {
+        if (i % 20 == 0) {
+            return "PNR" + Integer.toString(i, 36).toUpperCase();
+        }
+        Random random = new Random(i * 0x9E3779B97F4A7C15L);
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
@@ -0,0 +1,122 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 예약의 항공편별/사용자별 보조 인덱스(SecondaryIndex) 검사
+ * - 예약 추가, 항공편/사용자를 바꾸는 수정(새 객체로 교체, 저장된 객체를 setter로 고친 뒤 update),
+ *   삭제, 삭제한 ID의 재추가를 섞어 반복하면서 조회 결과를 확인합니다.
+ * - 결과는 findAll 전체 스캔과 같은 행이어야 하고, 순서는 처음 추가된 순서여야 합니다. (수정해도 순서 유지)
+ */
+class ReservationIndexTest {
+
+    private static final String PREFIX = "SIDX-";
+    private static final int FLIGHTS = 6;
+    private static final int USERS = 8;
+
+    private final ReservationDAO reservationDAO = new ReservationDAOImpl();
+
+    @Test
+    void flightAndUserQueriesFollowKeyChanges() {
+        Random random = new Random(23);
+        Map<String, Reservation> expected = new LinkedHashMap<>(); // 추가 순서 = 인덱스 순서
+        int next = 0;
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 40; i++) {
+                String id = PREFIX + next++;
+                add(expected, new Reservation(id, user(random), flight(random), (i % 40 + 1) + "A", 1000.0, ReservationStatus.CONFIRMED));
+            }
+            List<String> ids = new ArrayList<>(expected.keySet());
+            for (int i = 0; i < 60; i++) {
+                String id = ids.get(random.nextInt(ids.size()));
+                Reservation current = reservationDAO.findByReservationId(id);
+                if (current == null) continue;
+                switch (random.nextInt(6)) {
+                    case 0:
+                        reservationDAO.deleteReservation(id);
+                        expected.remove(id);
+                        break;
+                    case 1:
+                        // 삭제 후 같은 ID로 다시 추가하면 맨 뒤로 감
+                        reservationDAO.deleteReservation(id);
+                        expected.remove(id);
+                        add(expected, new Reservation(id, user(random), flight(random), current.getSeatNumber(), 1000.0, ReservationStatus.CONFIRMED));
+                        break;
+                    case 2:
+                        // 저장된 객체를 직접 고친 뒤 update (인덱스는 이전 버킷을 기억하고 있어야 함)
+                        current.setFlightId(flight(random));
+                        current.setUserId(user(random));
+                        reservationDAO.updateReservation(current);
+                        expected.put(id, current);
+                        break;
+                    case 3:
+                        update(expected, new Reservation(id, current.getUserId(), flight(random), current.getSeatNumber(),
+                                current.getFinalPrice(), ReservationStatus.PAID));
+                        break;
+                    default:
+                        update(expected, new Reservation(id, user(random), current.getFlightId(), current.getSeatNumber(),
+                                current.getFinalPrice(), ReservationStatus.CANCELLED));
+                        break;
+                }
+            }
+            assertMatchesScan(expected, round);
+        }
+    }
+
+    private void assertMatchesScan(Map<String, Reservation> expected, int round) {
+        Map<String, Reservation> scanned = reservationDAO.findAll().stream()
+                .filter(r -> r.getReservationId().startsWith(PREFIX))
+                .collect(Collectors.toMap(Reservation::getReservationId, r -> r));
+        assertEquals(expected, scanned, "round " + round);
+
+        for (int f = 0; f < FLIGHTS; f++) {
+            String flightId = PREFIX + "F" + f;
+            assertEquals(ids(expected, r -> r.getFlightId().equals(flightId)),
+                    ids(reservationDAO.findReservationsByFlightId(flightId)), flightId + " round " + round);
+        }
+        for (int u = 0; u < USERS; u++) {
+            String userId = PREFIX + "user" + u;
+            assertEquals(ids(expected, r -> r.getUserId().equals(userId)),
+                    ids(reservationDAO.findReservationsByUserId(userId)), userId + " round " + round);
+        }
+    }
+
+    private void add(Map<String, Reservation> expected, Reservation reservation) {
+        reservationDAO.addReservation(reservation);
+        expected.put(reservation.getReservationId(), reservation);
+    }
+
+    private void update(Map<String, Reservation> expected, Reservation reservation) {
+        reservationDAO.updateReservation(reservation);
+        expected.put(reservation.getReservationId(), reservation); // 기존 키이므로 순서는 그대로
+    }
+
+    private static List<String> ids(Map<String, Reservation> expected, Predicate<Reservation> filter) {
+        return expected.values().stream().filter(filter).map(Reservation::getReservationId).collect(Collectors.toList());
+    }
+
+    private static List<String> ids(List<Reservation> reservations) {
+        return reservations.stream().map(Reservation::getReservationId).collect(Collectors.toList());
+    }
+
+    private static String flight(Random random) {
+        return PREFIX + "F" + random.nextInt(FLIGHTS);
+    }
+
+    private static String user(Random random) {
+        return PREFIX + "user" + random.nextInt(USERS);
+    }
+}
@@ -0,0 +1,134 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.dao.RouteDAO;
+import com.team1.airline.entity.Route;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 공항 코드 인덱스(출발-도착 쌍 / 출발 / 도착, 대소문자와 앞뒤 공백을 정규화) 검사
+ * - 저장된 코드와 조회 코드의 대소문자/공백이 서로 달라도 같은 공항으로 찾아야 합니다.
+ * - 노선 추가, 공항을 바꾸는 수정(새 객체로 교체, 저장된 객체를 setter로 고친 뒤 update), 삭제를 섞어 반복하면서
+ *   findRoutesByAirports / findRoutesFrom / findRoutesTo가 findAll 전체 스캔(trim + equalsIgnoreCase)과 같은지 확인합니다.
+ * - 기본 로캘이 터키어여도 소문자 i가 든 코드를 찾아야 합니다. (toUpperCase(Locale.ROOT))
+ */
+class RouteAirportIndexTest {
+
+    private static final String PREFIX = "RIDX-";
+    // 같은 공항의 여러 표기 (테이블을 공유하는 다른 테스트의 공항과 겹치지 않게 Q로 시작)
+    private static final String[][] SPELLINGS = {
+            {"QAA", "qaa", "Qaa", " QAA", "qAa\t"},
+            {"QIC", "qic", "QiC", "qic ", " Qic "},
+            {"QNR", "qnr", "qNR", "  QNR"},
+            {"QGM", "qgm", "Qgm"},
+    };
+
+    private final RouteDAO routeDAO = new RouteDAOImpl();
+
+    @Test
+    void queriesMatchCaseInsensitiveScanAfterMixedChanges() {
+        Random random = new Random(29);
+        int next = 0;
+        for (int round = 0; round < 15; round++) {
+            for (int i = 0; i < 20; i++) {
+                routeDAO.saveRoute(new Route(PREFIX + next++, spelling(random), spelling(random), 1000.0, 60));
+            }
+            for (int i = 0; i < 25; i++) {
+                Route current = routeDAO.findByRouteId(PREFIX + random.nextInt(next));
+                if (current == null) continue;
+                switch (random.nextInt(4)) {
+                    case 0:
+                        routeDAO.deleteRoute(current.getRouteId());
+                        break;
+                    case 1:
+                        // 저장된 객체를 직접 고친 뒤 update
+                        current.setDepartureAirportCode(spelling(random));
+                        routeDAO.updateRoute(current);
+                        break;
+                    case 2:
+                        routeDAO.updateRoute(new Route(current.getRouteId(), current.getDepartureAirportCode(),
+                                spelling(random), current.getPrice(), current.getDuration()));
+                        break;
+                    default:
+                        // 같은 공항, 다른 표기로만 바꿈 (인덱스 위치는 그대로)
+                        routeDAO.updateRoute(new Route(current.getRouteId(), respell(random, current.getDepartureAirportCode()),
+                                respell(random, current.getArrivalAirportCode()), current.getPrice(), current.getDuration()));
+                        break;
+                }
+            }
+            assertMatchesScan(random, round);
+        }
+    }
+
+    @Test
+    void lowerCaseIMatchesUnderTurkishLocale() {
+        Locale original = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            routeDAO.saveRoute(new Route(PREFIX + "TR1", "qic", "QNR", 1000.0, 60));
+            routeDAO.saveRoute(new Route(PREFIX + "TR2", "QIC", "qnr", 1000.0, 60));
+            assertEquals(List.of(PREFIX + "TR1", PREFIX + "TR2"), ids(routeDAO.findRoutesByAirports("qic", "qnr")));
+            assertEquals(List.of(PREFIX + "TR1", PREFIX + "TR2"), ids(routeDAO.findRoutesByAirports("QIC ", " QNR")));
+            assertEquals(List.of(PREFIX + "TR1", PREFIX + "TR2"), ids(routeDAO.findRoutesFrom("Qic")));
+            assertEquals(List.of(PREFIX + "TR1", PREFIX + "TR2"), ids(routeDAO.findRoutesTo("qNr")));
+        } finally {
+            Locale.setDefault(original);
+            routeDAO.deleteRoute(PREFIX + "TR1");
+            routeDAO.deleteRoute(PREFIX + "TR2");
+        }
+    }
+
+    // 조회 표기는 저장된 표기와 무관하게 고름
+    private void assertMatchesScan(Random random, int round) {
+        List<Route> all = routeDAO.findAll().stream()
+                .filter(r -> r.getRouteId().startsWith(PREFIX))
+                .collect(Collectors.toList());
+        for (String[] departure : SPELLINGS) {
+            String from = departure[random.nextInt(departure.length)];
+            assertEquals(scan(all, r -> same(r.getDepartureAirportCode(), from)), ids(routeDAO.findRoutesFrom(from)),
+                    "from '" + from + "' round " + round);
+            String to = departure[random.nextInt(departure.length)];
+            assertEquals(scan(all, r -> same(r.getArrivalAirportCode(), to)), ids(routeDAO.findRoutesTo(to)),
+                    "to '" + to + "' round " + round);
+            for (String[] arrival : SPELLINGS) {
+                String pairTo = arrival[random.nextInt(arrival.length)];
+                assertEquals(scan(all, r -> same(r.getDepartureAirportCode(), from) && same(r.getArrivalAirportCode(), pairTo)),
+                        ids(routeDAO.findRoutesByAirports(from, pairTo)),
+                        "'" + from + "' -> '" + pairTo + "' round " + round);
+            }
+        }
+    }
+
+    private static boolean same(String a, String b) {
+        return a.trim().equalsIgnoreCase(b.trim());
+    }
+
+    private static List<String> scan(List<Route> all, Predicate<Route> filter) {
+        return ids(all.stream().filter(filter).collect(Collectors.toList()));
+    }
+
+    private static List<String> ids(List<Route> routes) {
+        return routes.stream().map(Route::getRouteId).filter(id -> id.startsWith(PREFIX)).sorted().collect(Collectors.toList());
+    }
+
+    private static String spelling(Random random) {
+        String[] airport = SPELLINGS[random.nextInt(SPELLINGS.length)];
+        return airport[random.nextInt(airport.length)];
+    }
+
+    private static String respell(Random random, String code) {
+        for (String[] airport : SPELLINGS) {
+            if (same(airport[0], code)) {
+                return airport[random.nextInt(airport.length)];
+            }
+        }
+        throw new IllegalArgumentException(code);
+    }
+}
@@ -0,0 +1,160 @@
+package com.team1.airline.dao.impl;
+
+import com.team1.airline.dao.ReservationDAO;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 스냅샷 + 저널 비우기(DataManager.writeSnapshot, Snapshotter) 검사
+ * - 예약을 쓰는 도중에 스냅샷을 여러 번 찍고 이어서 더 쓴 뒤 다시 읽으면(스냅샷 + 저널 재생),
+ *   스냅샷 도중과 이후의 변경까지 모두 남아 있어야 합니다.
+ * - Snapshotter는 저널 크기 기준과 주기 기준 각각으로 스냅샷을 찍고 저널을 비워야 합니다.
+ * (DataManager는 airline.data.dir로 임시 디렉터리를 쓰며, 테이블은 테스트 메서드끼리 공유하므로 접두사를 다르게 씀)
+ */
+class SnapshotterTest {
+
+    private static final long WAIT_MILLIS = 10_000;
+
+    @TempDir
+    static Path directory;
+
+    private static int run;
+
+    private final ReservationDAO reservationDAO = new ReservationDAOImpl();
+
+    @BeforeAll
+    static void useTemporaryDataDirectory() {
+        System.setProperty("airline.data.dir", directory.toString());
+        DataManager.getInstance().loadAllData();
+    }
+
+    @Test
+    void writesDuringAndAfterSnapshotsSurviveReload() throws InterruptedException {
+        DataManager dataManager = DataManager.getInstance();
+        String prefix = "SNAP" + (++run) + "-";
+        AtomicBoolean running = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        int[] written = {0};
+        Thread writer = new Thread(() -> {
+            Random random = new Random(5);
+            try {
+                while (running.get() || written[0] < 2_000) {
+                    write(random, prefix, written[0]++);
+                }
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+        });
+        writer.start();
+        int snapshots = 0;
+        try {
+            while (snapshots < 3) {
+                Thread.sleep(20);
+                assertTrue(dataManager.writeSnapshot() >= 0, "snapshot failed");
+                snapshots++;
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+        assertTrue(errors.isEmpty(), () -> "exceptions: " + errors);
+
+        // 마지막 스냅샷 이후의 변경 (저널에만 있음)
+        Random random = new Random(6);
+        for (int i = 0; i < 500; i++) {
+            write(random, prefix, written[0]++);
+        }
+        assertTrue(dataManager.getJournalSize() > 0);
+        assertTrue(Files.notExists(directory.resolve("Reservation.journal.1")), "archive left after a successful snapshot");
+
+        Map<String, Reservation> expected = rows(prefix);
+        dataManager.loadAllData(); // 저장하지 않고 다시 읽음 (스냅샷 파일 + 저널 재생)
+        assertEquals(expected, rows(prefix));
+    }
+
+    @Test
+    void journalSizeThresholdTriggersSnapshot() throws InterruptedException {
+        DataManager dataManager = DataManager.getInstance();
+        String prefix = "SNAP" + (++run) + "-";
+        long threshold = 16 * 1024;
+        Snapshotter snapshotter = new Snapshotter(dataManager, TimeUnit.HOURS.toMillis(1), threshold);
+        snapshotter.start();
+        try {
+            Random random = new Random(7);
+            for (int i = 0; dataManager.getJournalSize() < threshold; i++) {
+                write(random, prefix, i);
+            }
+            assertTrue(awaitSnapshot(snapshotter), "no snapshot after the journal passed " + threshold + " bytes");
+        } finally {
+            snapshotter.stop();
+        }
+        assertTrue(dataManager.getJournalSize() < threshold, "journal not emptied: " + dataManager.getJournalSize());
+        assertEquals(0, snapshotter.getFailureCount());
+    }
+
+    @Test
+    void intervalTriggersSnapshotOfPendingChanges() throws InterruptedException {
+        DataManager dataManager = DataManager.getInstance();
+        String prefix = "SNAP" + (++run) + "-";
+        Snapshotter snapshotter = new Snapshotter(dataManager, 200, Long.MAX_VALUE);
+        snapshotter.start();
+        try {
+            write(new Random(8), prefix, 0);
+            assertTrue(awaitSnapshot(snapshotter), "no snapshot after the interval elapsed");
+        } finally {
+            snapshotter.stop();
+        }
+        assertEquals(0, dataManager.getJournalSize());
+        assertTrue(snapshotter.getLastBytesWritten() > 0);
+    }
+
+    // 추가 / 상태 변경(복사본으로) / 삭제를 섞어 씀
+    private void write(Random random, String prefix, int i) {
+        String id = prefix + i;
+        reservationDAO.addReservation(new Reservation(id, prefix + "user" + (i % 50), prefix + "F" + (i % 20),
+                (2 + i % 40) + "A", 10_000 + i, ReservationStatus.CONFIRMED));
+        if (i == 0) return;
+        Reservation earlier = reservationDAO.findByReservationId(prefix + random.nextInt(i));
+        if (earlier == null) return;
+        if (random.nextInt(4) == 0) {
+            reservationDAO.deleteReservation(earlier.getReservationId());
+        } else {
+            reservationDAO.updateReservation(new Reservation(earlier.getReservationId(), earlier.getUserId(),
+                    earlier.getFlightId(), earlier.getSeatNumber(), earlier.getFinalPrice() + 1, ReservationStatus.PAID));
+        }
+    }
+
+    private Map<String, Reservation> rows(String prefix) {
+        Map<String, Reservation> rows = new HashMap<>();
+        for (Reservation r : reservationDAO.findAll()) {
+            if (r.getReservationId().startsWith(prefix)) {
+                rows.put(r.getReservationId(), r);
+            }
+        }
+        return rows;
+    }
+
+    private static boolean awaitSnapshot(Snapshotter snapshotter) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (snapshotter.getSnapshotCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        return snapshotter.getSnapshotCount() > 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.team1.airline.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 예약 코드 변환(ReservationIdCodec) 검사
+ * - 임의 값과 경계 값이 encode → decode로 그대로 돌아오고, 코드의 문자열 순서가 값의 (부호 없는) 순서와 같아야 합니다.
+ * - 13자리 대문자 코드만 예약 코드로 인정해야 합니다.
+ */
+class ReservationIdCodecTest {
+
+    @Test
+    void roundTripPreservesValueAndOrder() {
+        Random random = new Random(5);
+        long[] edges = {0, 1, 31, 32, Long.MAX_VALUE, Long.MIN_VALUE, -1};
+        for (int i = 0; i < 200_000; i++) {
+            long a = i < edges.length ? edges[i] : random.nextLong();
+            long b = random.nextLong() >>> random.nextInt(64);
+            String codeA = ReservationIdCodec.encode(a);
+            String codeB = ReservationIdCodec.encode(b);
+            assertEquals(ReservationIdCodec.LENGTH, codeA.length(), codeA);
+            assertTrue(ReservationIdCodec.isCompact(codeA), codeA);
+            assertEquals(a, ReservationIdCodec.decode(codeA), codeA);
+            assertEquals(Integer.signum(Long.compareUnsigned(a, b)), Integer.signum(codeA.compareTo(codeB)),
+                    () -> "order of " + a + ", " + b);
+        }
+    }
+
+    @Test
+    void onlyWellFormedCodesAreCompact() {
+        assertTrue(ReservationIdCodec.isCompact("0000000000000"));
+        for (String candidate : new String[]{"", "G000000000000", "000000000000I", "00000000000a0", "00000000000000"}) {
+            assertFalse(ReservationIdCodec.isCompact(candidate), candidate);
+        }
+        assertThrows(IllegalArgumentException.class, () -> ReservationIdCodec.decode("not-a-code"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.team1.airline.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 좌석 번호(SeatCode) 검사
+ * - 문자열 왕복(parse → toString), 위치 번호/압축 값 왕복, 순서(행 → 열, "2A" < "10A"), 목록 형식("2A, 2C")을 확인합니다.
+ * - 형식이 아닌 좌석 번호는 거절하고, 공백/소문자/앞자리 0은 받아들여야 합니다.
+ */
+class SeatCodeTest {
+
+    @Test
+    void textAndPositionRoundTrip() {
+        for (int row = 1; row < 2_000; row++) {
+            for (char c = 'A'; c <= 'Z'; c++) {
+                String text = row + String.valueOf(c);
+                SeatCode seat = SeatCode.parse(text);
+                assertEquals(text, seat.toString());
+                assertEquals(row, seat.row());
+                assertEquals(c, seat.column());
+                assertEquals(seat, SeatCode.fromPosition(seat.position()), text);
+                assertEquals(seat.packed(), SeatCode.fromPacked(seat.packed()).packed(), text);
+            }
+        }
+    }
+
+    @Test
+    void seatsOrderByRowThenColumn() {
+        assertTrue(SeatCode.parse("2A").compareTo(SeatCode.parse("10A")) < 0);
+        assertTrue(SeatCode.parse("10A").compareTo(SeatCode.parse("10B")) < 0);
+    }
+
+    @Test
+    void parsingIsLenientButRejectsMalformedSeats() {
+        assertEquals(SeatCode.parse("12C"), SeatCode.parse(" 12c "));
+        assertEquals("12C", SeatCode.parse("012C").toString());
+        for (String invalid : new String[]{null, "", "A", "12", "0A", "12-", "1A2", "-1A", "99999999A", "1 A"}) {
+            assertEquals(-1, SeatCode.packed(invalid), "\"" + invalid + "\"");
+        }
+    }
+
+    @Test
+    void cabinDoesNotAffectIdentity() {
+        SeatCode business = SeatCode.of(3, 'D', SeatCode.Cabin.BUSINESS);
+        assertEquals(SeatCode.parse("3D"), business);
+        assertEquals(SeatCode.Cabin.BUSINESS, business.cabin());
+        assertEquals(SeatCode.Cabin.ECONOMY, business.withCabin(SeatCode.Cabin.ECONOMY).cabin());
+    }
+
+    @Test
+    void seatListsRoundTrip() {
+        assertTrue(SeatCode.parseList("").isEmpty());
+        List<SeatCode> seats = SeatCode.parseList("2A,3C , 4D");
+        assertEquals(3, seats.size());
+        assertEquals("2A, 3C, 4D", SeatCode.formatList(seats));
+        assertEquals(seats, SeatCode.parseList(SeatCode.formatList(seats)));
+    }
+}
@@ -0,0 +1,150 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.entity.Reservation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 파티션별 예약 엔진(BookingEngine) 검사
+ * - 여러 생산자가 서로 다른 좌석을 동시에 예약하면 (결과를 기다리든, 모두 넣고 한꺼번에 기다리든) 전부 성공하고
+ *   좌석 재고와 일치해야 합니다.
+ * - 같은 좌석을 두 번 넣으면 하나만 성공하고, 취소한 좌석은 다시 예약할 수 있어야 합니다.
+ */
+class BookingEngineTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int BOOKINGS = 188 * 4;
+
+    private AirlineFixture fixture;
+    private BookingEngine engine;
+    private List<String> layout; // 항공편 공통 배치도 (모든 좌석)
+    private static int run; // DataManager 테이블은 테스트 메서드끼리 공유되므로 항공편 ID가 겹치지 않게
+
+    @BeforeEach
+    void setUp() {
+        fixture = new AirlineFixture();
+        fixture.aircraft("ENGINE-AC", 8, 180);
+        fixture.route("ENGINE-R", "AAA", "BBB", 100000.0);
+        for (int p = 0; p < PRODUCERS; p++) {
+            fixture.user("engine" + p);
+        }
+        engine = new BookingEngine(fixture.reservationManager, fixture.reservationDAO, 4, 256);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void synchronousBookingsAllSucceed() throws InterruptedException {
+        String prefix = newFlights();
+        AtomicInteger booked = new AtomicInteger();
+        runProducers(producer -> {
+            for (int i = producer; i < BOOKINGS; i += PRODUCERS) {
+                if (engine.makeReservation("engine" + producer, flightOf(prefix, i), seatOf(i)) != null) {
+                    booked.incrementAndGet();
+                }
+            }
+        });
+        assertEquals(BOOKINGS, booked.get());
+        assertEquals(BOOKINGS, reservedSeats(prefix));
+    }
+
+    @Test
+    void asynchronousBookingsAllSucceed() throws InterruptedException {
+        String prefix = newFlights();
+        AtomicInteger booked = new AtomicInteger();
+        runProducers(producer -> {
+            List<CompletableFuture<Reservation>> futures = new ArrayList<>();
+            for (int i = producer; i < BOOKINGS; i += PRODUCERS) {
+                futures.add(engine.submitReservation("engine" + producer, flightOf(prefix, i), seatOf(i)));
+            }
+            for (CompletableFuture<Reservation> future : futures) {
+                if (future.join() != null) booked.incrementAndGet();
+            }
+        });
+        assertEquals(BOOKINGS, booked.get());
+        assertEquals(BOOKINGS, reservedSeats(prefix));
+    }
+
+    @Test
+    void sameSeatIsBookedOnceAndFreedByCancellation() {
+        String prefix = newFlights();
+        String flightId = prefix + 0;
+        CompletableFuture<Reservation> first = engine.submitReservation("engine0", flightId, "2A");
+        CompletableFuture<Reservation> second = engine.submitReservation("engine1", flightId, "2A");
+        Reservation winner = first.join();
+        assertNotNull(winner, "commands on one flight run in submission order");
+        assertNull(second.join());
+
+        assertTrue(engine.submitCancellation(winner.getReservationId(), "engine0").join());
+        assertNotNull(engine.makeReservation("engine1", flightId, "2A"));
+        assertEquals(1, fixture.seatInventory.getReservedSeats(flightId));
+    }
+
+    private interface Producer {
+        void run(int producer) throws Exception;
+    }
+
+    private static void runProducers(Producer body) throws InterruptedException {
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    body.run(producer);
+                } catch (Throwable t) {
+                    errors.add(t);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread t : threads) t.join();
+        assertTrue(errors.isEmpty(), () -> "exceptions: " + errors);
+    }
+
+    private String newFlights() {
+        String prefix = "ENGINE-" + (++run) + "-F";
+        for (int f = 0; f * 188 < BOOKINGS; f++) {
+            fixture.flight(prefix + f, "ENGINE-R", "ENGINE-AC");
+        }
+        layout = fixture.allSeats(prefix + 0);
+        return prefix;
+    }
+
+    private int reservedSeats(String prefix) {
+        int held = 0;
+        for (int f = 0; f * 188 < BOOKINGS; f++) {
+            held += fixture.seatInventory.getReservedSeats(prefix + f);
+        }
+        return held;
+    }
+
+    private static String flightOf(String prefix, int i) {
+        return prefix + (i / 188);
+    }
+
+    // 예약 i → 배치도 순서의 i % 188번째 좌석
+    private String seatOf(int i) {
+        return layout.get(i % 188);
+    }
+}
@@ -0,0 +1,236 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
+import com.team1.airline.entity.Itinerary;
+import com.team1.airline.entity.Route;
+import com.team1.airline.service.ConnectionSearchOptions;
+import com.team1.airline.service.ConnectionSearchOptions.SortBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 연결 항공편 검색(FlightManager.searchConnections) 검사
+ * - 작은 시각표에서 가능한 여정을 모두 나열(DFS)한 결과의 상위 N개와 검색 결과가 같아야 합니다.
+ * - 더 큰 시각표에서 각 결과가 최소 환승 시간, 최대 대기 시간, 최대 구간 수, 정렬 순서를 지켜야 합니다.
+ */
+class ConnectionSearchTest {
+
+    private static final int HUBS = 4;
+    private static final int DAYS = 30;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2031, 3, 1);
+
+    private static int run; // DataManager 테이블은 테스트 메서드끼리 공유되므로 공항 코드가 겹치지 않게
+
+    private AirlineFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new AirlineFixture();
+        fixture.aircraft("A321", 8, 180);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    void topResultsMatchExhaustiveEnumeration() {
+        Schedule small = new Schedule(12, 1_500, 7);
+        ConnectionSearchOptions options = ConnectionSearchOptions.defaults().withMaxLayoverMinutes(18 * 60).withLimit(8);
+        Random random = new Random(7);
+        int compared = 0;
+        for (int q = 0; q < 300; q++) {
+            String[] pair = small.randomPair(random);
+            LocalDate date = FIRST_DAY.plusDays(random.nextInt(5));
+            for (SortBy sortBy : SortBy.values()) {
+                ConnectionSearchOptions o = options.withSortBy(sortBy);
+                List<Itinerary> expected = small.enumerate(pair[0], pair[1], date, o);
+                assertEquals(keys(expected, sortBy), keys(fixture.flightManager.searchConnections(pair[0], pair[1], date, o), sortBy),
+                        () -> pair[0] + "->" + pair[1] + " " + date + " by " + sortBy);
+                compared += expected.size();
+            }
+        }
+        assertTrue(compared > 0, "schedule produced no itineraries");
+    }
+
+    @Test
+    void resultsRespectConnectionRulesAndOrder() {
+        Schedule schedule = new Schedule(HUBS + 56, 20_000, 11);
+        Random random = new Random(13);
+        int multiLeg = 0;
+        for (SortBy sortBy : SortBy.values()) {
+            ConnectionSearchOptions o = ConnectionSearchOptions.defaults().withSortBy(sortBy);
+            for (int q = 0; q < 300; q++) {
+                String[] pair = schedule.randomPair(random);
+                LocalDate date = FIRST_DAY.plusDays(random.nextInt(DAYS - 2));
+                List<Itinerary> result = fixture.flightManager.searchConnections(pair[0], pair[1], date, o);
+                schedule.validate(pair[0], pair[1], date, o, result);
+                if (result.stream().anyMatch(i -> i.getLegCount() > 1)) multiLeg++;
+            }
+        }
+        assertTrue(multiLeg > 0, "no connecting itineraries were exercised");
+    }
+
+    private static int compare(Itinerary a, Itinerary b, SortBy sortBy) {
+        int byArrival = a.getArrivalTime().compareTo(b.getArrivalTime());
+        int byPrice = Double.compare(a.getTotalPrice(), b.getTotalPrice());
+        if (sortBy == SortBy.PRICE) return byPrice != 0 ? byPrice : byArrival;
+        return byArrival != 0 ? byArrival : byPrice;
+    }
+
+    // 동점 여정은 순서가 바뀔 수 있으므로 정렬 기준 값만 비교
+    private static List<String> keys(List<Itinerary> itineraries, SortBy sortBy) {
+        List<String> keys = new ArrayList<>();
+        for (Itinerary i : itineraries) {
+            keys.add(sortBy == SortBy.PRICE ? i.getTotalPrice() + "/" + i.getArrivalTime() : i.getArrivalTime() + "/" + i.getTotalPrice());
+        }
+        return keys;
+    }
+
+    // 허브 간은 모두 연결, 지방 공항은 허브 두 곳과 연결, 일부 지방 공항끼리 직항 (일부 항공편은 매진)
+    private final class Schedule {
+        private final String prefix = "CS" + (++run) + "-";
+        private final List<String> codes = new ArrayList<>();
+        private final Map<String, Route> routes = new HashMap<>();
+        private final List<Flight> flightList = new ArrayList<>();
+
+        Schedule(int airports, int flights, long seed) {
+            Random random = new Random(seed);
+            int hubs = Math.min(HUBS, airports);
+            for (int h = 0; h < hubs; h++) codes.add(prefix + "H" + h);
+            for (int s = 0; s < airports - hubs; s++) codes.add(prefix + "S" + s);
+
+            List<Route> routeList = new ArrayList<>();
+            for (int a = 0; a < hubs; a++) {
+                for (int b = 0; b < hubs; b++) {
+                    if (a != b) routeList.add(route(codes.get(a), codes.get(b), random));
+                }
+            }
+            for (int s = hubs; s < airports; s++) {
+                for (int h : new int[]{s % hubs, (s + 1) % hubs}) {
+                    routeList.add(route(codes.get(s), codes.get(h), random));
+                    routeList.add(route(codes.get(h), codes.get(s), random));
+                }
+                if (s + 3 < airports && random.nextInt(3) == 0) {
+                    routeList.add(route(codes.get(s), codes.get(s + 3), random));
+                }
+            }
+            for (Route route : routeList) {
+                fixture.routeDAO.saveRoute(route);
+                routes.put(route.getRouteId(), route);
+            }
+            for (int i = 0; i < flights; i++) {
+                Route route = routeList.get(random.nextInt(routeList.size()));
+                LocalDateTime departure = FIRST_DAY.atStartOfDay().plusDays(random.nextInt(DAYS)).plusMinutes(5L * random.nextInt(288));
+                Flight flight = new Flight(prefix + "F" + i, route.getRouteId(), "A321", departure,
+                        departure.plusMinutes(route.getDuration()), random.nextInt(20) == 0 ? FlightStatus.SOLD_OUT : FlightStatus.BOOKABLE);
+                fixture.flightDAO.saveFlight(flight);
+                flightList.add(flight);
+            }
+        }
+
+        private Route route(String from, String to, Random random) {
+            return new Route(from + ">" + to, from, to, 50_000 + 10_000 * random.nextInt(40), 45 + 15 * random.nextInt(40));
+        }
+
+        String[] randomPair(Random random) {
+            String from = codes.get(random.nextInt(codes.size()));
+            String to;
+            do {
+                to = codes.get(random.nextInt(codes.size()));
+            } while (to.equals(from));
+            return new String[]{from, to};
+        }
+
+        // 가능한 여정을 모두 나열해 정렬 (작은 시각표에서만)
+        List<Itinerary> enumerate(String from, String to, LocalDate date, ConnectionSearchOptions o) {
+            List<Itinerary> all = new ArrayList<>();
+            for (Flight flight : flightList) {
+                Route route = routes.get(flight.getRouteId());
+                if (bookable(flight) && route.getDepartureAirportCode().equals(from)
+                        && flight.getDepartureTime().toLocalDate().equals(date)) {
+                    List<Flight> path = new ArrayList<>();
+                    path.add(flight);
+                    Set<String> seen = new HashSet<>(List.of(from, route.getArrivalAirportCode()));
+                    extend(path, seen, to, o, all);
+                }
+            }
+            all.sort((a, b) -> compare(a, b, o.getSortBy()));
+            return all.subList(0, Math.min(o.getLimit(), all.size()));
+        }
+
+        private void extend(List<Flight> path, Set<String> seen, String to, ConnectionSearchOptions o, List<Itinerary> out) {
+            Flight last = path.get(path.size() - 1);
+            String at = routes.get(last.getRouteId()).getArrivalAirportCode();
+            if (at.equals(to)) {
+                out.add(new Itinerary(List.copyOf(path), path.stream().mapToDouble(f -> routes.get(f.getRouteId()).getPrice()).sum()));
+                return;
+            }
+            if (path.size() >= o.getMaxLegs()) return;
+            for (Flight next : flightList) {
+                Route route = routes.get(next.getRouteId());
+                long layover = Duration.between(last.getArrivalTime(), next.getDepartureTime()).toMinutes();
+                if (!bookable(next) || !route.getDepartureAirportCode().equals(at) || seen.contains(route.getArrivalAirportCode())
+                        || layover < o.getMinConnectionMinutes() || layover > o.getMaxLayoverMinutes()) {
+                    continue;
+                }
+                path.add(next);
+                seen.add(route.getArrivalAirportCode());
+                extend(path, seen, to, o, out);
+                seen.remove(route.getArrivalAirportCode());
+                path.remove(path.size() - 1);
+            }
+        }
+
+        void validate(String from, String to, LocalDate date, ConnectionSearchOptions o, List<Itinerary> result) {
+            Itinerary previous = null;
+            for (Itinerary itinerary : result) {
+                String where = from + "->" + to + " " + date + ": ";
+                List<Flight> legs = itinerary.getLegs();
+                assertTrue(legs.size() <= o.getMaxLegs(), where + "too many legs");
+                assertEquals(date, legs.get(0).getDepartureTime().toLocalDate(), where + "departs on another day");
+                assertEquals(from, routes.get(legs.get(0).getRouteId()).getDepartureAirportCode(), where + "wrong origin");
+                assertEquals(to, routes.get(legs.get(legs.size() - 1).getRouteId()).getArrivalAirportCode(), where + "wrong destination");
+                Set<String> airports = new HashSet<>();
+                airports.add(from);
+                for (int i = 0; i < legs.size(); i++) {
+                    Route route = routes.get(legs.get(i).getRouteId());
+                    assertTrue(airports.add(route.getArrivalAirportCode()), where + "revisits " + route.getArrivalAirportCode());
+                    if (i > 0) {
+                        Route before = routes.get(legs.get(i - 1).getRouteId());
+                        long layover = Duration.between(legs.get(i - 1).getArrivalTime(), legs.get(i).getDepartureTime()).toMinutes();
+                        assertEquals(before.getArrivalAirportCode(), route.getDepartureAirportCode(), where + "legs not connected");
+                        assertTrue(layover >= o.getMinConnectionMinutes() && layover <= o.getMaxLayoverMinutes(), where + "layover " + layover);
+                    }
+                }
+                if (previous != null) {
+                    assertFalse(compare(previous, itinerary, o.getSortBy()) > 0, where + "out of order");
+                }
+                previous = itinerary;
+            }
+        }
+
+        private boolean bookable(Flight flight) {
+            return flight.getStatus() == FlightStatus.BOOKABLE;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.entity.DailyFare;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 날짜별 최저 운임(FlightManager.getFareCalendar) 검사
+ * - 한 공항 쌍에 운임이 다른 노선 두 개와 1년치 항공편을 만들고, 일부를 매진/만석으로 둡니다.
+ * - ±3일 / 한 달 / 1년 기간에서 날짜마다 searchFlights로 구한 최저 운임, 항공편 수, 잔여 좌석과 같아야 합니다.
+ */
+class FareCalendarTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2032, 1, 1);
+    private static final int DAYS = 366;
+    private static final int PER_DAY = 8;
+
+    private AirlineFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new AirlineFixture();
+        fixture.aircraft("FARE-AC", 4, 8);
+        fixture.route("FARE-R1", "FAA", "FBB", 80_000.0);
+        fixture.route("FARE-R2", "FAA", "FBB", 65_000.0); // 저가 노선
+        fixture.route("FARE-R3", "FAA", "FCC", 50_000.0); // 다른 도착지 (섞여 있어도 무시되어야 함)
+        Random random = new Random(5);
+        String[] routeIds = {"FARE-R1", "FARE-R2", "FARE-R3"};
+        int count = 0;
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < PER_DAY; i++) {
+                LocalDateTime departure = FIRST_DAY.plusDays(day).atTime(5, 0).plusMinutes(10L * random.nextInt(100));
+                String flightId = "FARE-F" + (count++);
+                Flight flight = fixture.flight(flightId, routeIds[random.nextInt(3)], "FARE-AC", departure);
+                if (random.nextInt(10) == 0) {
+                    fixture.flightDAO.saveFlight(new Flight(flightId, flight.getRouteId(), "FARE-AC", departure,
+                            flight.getArrivalTime(), FlightStatus.SOLD_OUT));
+                } else if (random.nextInt(8) == 0) { // 만석
+                    for (String seat : fixture.allSeats(flightId)) fixture.seatInventory.claim(flightId, seat);
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    void calendarMatchesPerDaySearch() {
+        LocalDate[][] windows = {
+                {FIRST_DAY.plusDays(100), FIRST_DAY.plusDays(106)},
+                {FIRST_DAY.plusMonths(5), FIRST_DAY.plusMonths(6).minusDays(1)},
+                {FIRST_DAY, FIRST_DAY.plusDays(DAYS - 1)}};
+        for (LocalDate[] window : windows) {
+            List<DailyFare> calendar = fixture.flightManager.getFareCalendar("FAA", "FBB", window[0], window[1]);
+            List<DailyFare> expected = searchEachDay(window[0], window[1]);
+            assertEquals(expected.size(), calendar.size());
+            for (int d = 0; d < expected.size(); d++) {
+                DailyFare a = calendar.get(d);
+                DailyFare b = expected.get(d);
+                assertEquals(b.getDate(), a.getDate());
+                assertEquals(b.getLowestPrice(), a.getLowestPrice(), "lowest price on " + b.getDate());
+                assertEquals(b.getFlightCount(), a.getFlightCount(), "flights on " + b.getDate());
+                assertEquals(b.getAvailableSeats(), a.getAvailableSeats(), "seats on " + b.getDate());
+            }
+        }
+    }
+
+    @Test
+    void daysWithoutBookableFlightsHaveNoPrice() {
+        LocalDate after = FIRST_DAY.plusDays(DAYS + 10);
+        List<DailyFare> calendar = fixture.flightManager.getFareCalendar("FAA", "FBB", after, after.plusDays(2));
+        assertEquals(3, calendar.size());
+        for (DailyFare fare : calendar) {
+            assertNull(fare.getLowestPrice());
+            assertEquals(0, fare.getFlightCount());
+        }
+        assertTrue(fixture.flightManager.getFareCalendar("FAA", "FBB", after, after.minusDays(1)).isEmpty());
+    }
+
+    // 비교 기준: 날짜마다 검색 + 잔여 좌석 확인
+    private List<DailyFare> searchEachDay(LocalDate from, LocalDate to) {
+        List<DailyFare> calendar = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Double lowest = null;
+            String cheapest = null;
+            int flights = 0;
+            int seats = 0;
+            for (Flight flight : fixture.flightManager.searchFlights("FAA", "FBB", date)) {
+                int available = fixture.seatInventory.getAvailableSeats(flight.getFlightId());
+                if (available <= 0) continue;
+                double price = fixture.routeDAO.findByRouteId(flight.getRouteId()).getPrice();
+                flights++;
+                seats += available;
+                if (lowest == null || price < lowest) {
+                    lowest = price;
+                    cheapest = flight.getFlightId();
+                }
+            }
+            calendar.add(new DailyFare(date, lowest, cheapest, flights, seats));
+        }
+        return calendar;
+    }
+}
@@ -0,0 +1,132 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.dao.impl.ReservationDAOImpl;
+import com.team1.airline.entity.Reservation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 좌석 일괄 예약(ReservationManager.makeReservations)의 전부 아니면 전무 검사
+ * - N번째 좌석이 이미 예약되어 있으면 앞서 잡은 1..N-1번째 좌석을 모두 반납하고 아무것도 저장하지 않아야 합니다.
+ * - 저장(addReservations)이 실패하면 잡은 좌석을 모두 반납하고, 예약도 마일리지도 남지 않아야 합니다.
+ * - 실패 사유는 반납 전의 잔여 좌석으로 판단해야 합니다. (요청 수보다 잔여 좌석이 적으면 "잔여 좌석이 부족합니다")
+ */
+class MultiSeatReservationTest {
+
+    /** addReservations만 실패하도록 바꿀 수 있는 예약 DAO */
+    private static final class FailingReservationDAO extends ReservationDAOImpl {
+        private volatile boolean failing;
+
+        @Override
+        public void addReservations(List<Reservation> reservations) {
+            if (failing) {
+                throw new IllegalStateException("addReservations failed");
+            }
+            super.addReservations(reservations);
+        }
+    }
+
+    private static int run; // DataManager 테이블은 테스트 메서드끼리 공유되므로 ID가 겹치지 않게
+
+    private final FailingReservationDAO reservationDAO = new FailingReservationDAO();
+    private AirlineFixture fixture;
+    private String flightId;
+    private String userId;
+    private String otherId; // 먼저 좌석을 잡아 두는 사용자
+    private List<String> seats;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "MULTI" + (++run) + "-";
+        fixture = new AirlineFixture(reservationDAO);
+        fixture.aircraft(prefix + "AC", 4, 12);
+        fixture.route(prefix + "R", "AAA", "BBB", 100000.0);
+        flightId = prefix + "F";
+        fixture.flight(flightId, prefix + "R", prefix + "AC");
+        userId = prefix + "user";
+        fixture.user(userId);
+        otherId = prefix + "other";
+        fixture.user(otherId);
+        seats = fixture.allSeats(flightId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    void conflictOnALaterSeatReleasesTheEarlierOnes() {
+        String taken = seats.get(3);
+        assertEquals(1, fixture.reservationManager.makeReservations(otherId, flightId, List.of(taken)).size());
+        int available = fixture.seatInventory.getAvailableSeats(flightId);
+
+        List<String> request = List.of(seats.get(0), seats.get(1), seats.get(2), taken);
+        String message = stdout(() -> fixture.reservationManager.makeReservations(userId, flightId, request));
+        assertTrue(message.contains("이미 예약되었습니다. (" + taken + ")"), message);
+
+        assertEquals(available, fixture.seatInventory.getAvailableSeats(flightId));
+        assertEquals(List.of(taken), fixture.seatInventory.getOccupiedSeats(flightId));
+        assertTrue(fixture.reservationDAO.findReservationsByUserId(userId).isEmpty());
+        assertEquals(1, fixture.reservationDAO.findReservationsByFlightId(flightId).size());
+
+        // 반납한 좌석은 다시 예약할 수 있음
+        assertEquals(3, fixture.reservationManager.makeReservations(userId, flightId, request.subList(0, 3)).size());
+        assertEquals(available - 3, fixture.seatInventory.getAvailableSeats(flightId));
+    }
+
+    @Test
+    void failedSaveReleasesEverySeatAndPersistsNothing() {
+        int available = fixture.seatInventory.getAvailableSeats(flightId);
+        List<String> request = seats.subList(0, 5);
+
+        reservationDAO.failing = true;
+        assertThrows(IllegalStateException.class, () -> fixture.reservationManager.makeReservations(userId, flightId, request));
+
+        assertEquals(available, fixture.seatInventory.getAvailableSeats(flightId));
+        assertTrue(fixture.seatInventory.getOccupiedSeats(flightId).isEmpty());
+        assertTrue(fixture.reservationDAO.findReservationsByFlightId(flightId).isEmpty());
+        assertEquals(0, fixture.userDAO.findByUserId(userId).getMileage());
+
+        reservationDAO.failing = false;
+        assertEquals(5, fixture.reservationManager.makeReservations(userId, flightId, request).size());
+        assertEquals(available - 5, fixture.seatInventory.getAvailableSeats(flightId));
+    }
+
+    @Test
+    void notEnoughSeatsIsJudgedBeforeTheRollback() {
+        // 남은 좌석 2개에 3석을 요청 (세 번째 좌석은 이미 예약됨)
+        assertEquals(seats.size() - 2, fixture.reservationManager.makeReservations(otherId, flightId, seats.subList(2, seats.size())).size());
+        List<String> request = List.of(seats.get(0), seats.get(1), seats.get(2));
+
+        String message = stdout(() -> fixture.reservationManager.makeReservations(userId, flightId, request));
+        assertTrue(message.contains("잔여 좌석이 부족합니다"), message);
+        assertFalse(message.contains("이미 예약되었습니다"), message);
+        assertEquals(2, fixture.seatInventory.getAvailableSeats(flightId));
+    }
+
+    private static String stdout(Supplier<List<Reservation>> call) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            assertTrue(call.get().isEmpty());
+        } finally {
+            System.setOut(original);
+        }
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+}
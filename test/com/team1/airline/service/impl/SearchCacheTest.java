@@ -0,0 +1,189 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 검색 결과 캐시(SearchResultCache) 검사
+ * - 공항 쌍 8개(노선 2개씩) × 30일 항공편에 몰리는 검색을 캐시 크기보다 많은 키로 실행해도
+ *   (교체가 일어나도) 캐시 결과가 캐시 없는 검색과 같아야 합니다.
+ * - 정밀 무효화: 한 항공편을 바꾸면 그 공항 쌍/날짜 항목만 지워지고 다른 항목은 계속 적중해야 합니다.
+ * - 일관성: 검색 스레드들이 도는 동안 상태 변경 / 날짜 이동 / 삭제 / 추가를 반복한 뒤에도 결과가 같아야 합니다.
+ */
+class SearchCacheTest {
+
+    private static final int PAIRS = 8;
+    private static final int DAYS = 30;
+    private static final int FLIGHTS_PER_DAY = 10;
+    private static final int CACHE_SIZE = 64;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2033, 3, 1);
+
+    private AirlineFixture fixture;
+    private FlightManager uncached;
+    private Random random;
+    private int count;
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty("airline.search.cacheSize", String.valueOf(CACHE_SIZE));
+        fixture = new AirlineFixture();
+        System.setProperty("airline.search.cacheSize", "0");
+        uncached = new FlightManager(fixture.flightDAO, fixture.routeDAO, fixture.aircraftDAO, fixture.reservationDAO,
+                fixture.seatInventory);
+        System.clearProperty("airline.search.cacheSize");
+
+        fixture.aircraft("CACHE-AC", 8, 180);
+        random = new Random(11);
+        count = 0;
+        for (int p = 0; p < PAIRS; p++) {
+            for (int r = 0; r < 2; r++) {
+                String routeId = "CACHE-R" + p + "-" + r;
+                fixture.route(routeId, departureOf(p), arrivalOf(p), 50_000.0 + 10_000 * r);
+                for (int day = 0; day < DAYS; day++) {
+                    for (int i = 0; i < FLIGHTS_PER_DAY / 2; i++) {
+                        LocalDateTime departure = FIRST_DAY.plusDays(day).atTime(6, 0).plusMinutes(10L * random.nextInt(90));
+                        fixture.flightDAO.saveFlight(new Flight("CACHE-F" + (count++), routeId, "CACHE-AC",
+                                departure, departure.plusMinutes(60), random.nextInt(10) == 0 ? FlightStatus.SOLD_OUT : FlightStatus.BOOKABLE));
+                    }
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        uncached.close();
+        fixture.close();
+    }
+
+    @Test
+    void skewedLoadWithEvictionsMatchesUncachedSearch() {
+        FlightManager cached = fixture.flightManager;
+        for (int i = 0; i < 20_000; i++) {
+            double u = random.nextDouble();
+            int p = (int) (PAIRS * u * u * u);
+            cached.searchFlights(departureOf(p), arrivalOf(p), FIRST_DAY.plusDays(random.nextInt(DAYS)));
+        }
+        Map<String, Long> stats = cached.getSearchCacheStats();
+        assertTrue(stats.get("hits") > 0, "hits " + stats);
+        assertTrue(stats.get("evictions") > 0, "evictions " + stats);
+        compareAll(cached, "after load");
+    }
+
+    @Test
+    void updatingOneFlightInvalidatesOnlyItsKey() {
+        FlightManager cached = fixture.flightManager;
+        for (int p = 0; p < 4; p++) {
+            cached.searchFlights(departureOf(p), arrivalOf(p), FIRST_DAY.plusDays(1));
+        }
+        Map<String, Long> before = cached.getSearchCacheStats();
+        Flight target = fixture.flightDAO.findFlightsByRouteAndDate("CACHE-R0-0", FIRST_DAY.plusDays(1)).get(0);
+        target.setStatus(target.getStatus() == FlightStatus.BOOKABLE ? FlightStatus.SOLD_OUT : FlightStatus.BOOKABLE);
+        fixture.flightDAO.updateFlight(target);
+        for (int p = 0; p < 4; p++) {
+            cached.searchFlights(departureOf(p), arrivalOf(p), FIRST_DAY.plusDays(1));
+        }
+        Map<String, Long> after = cached.getSearchCacheStats();
+        assertEquals(1, after.get("invalidations") - before.get("invalidations"), "invalidated entries");
+        assertEquals(1, after.get("misses") - before.get("misses"), "new misses");
+        compareAll(cached, "after single update");
+    }
+
+    @Test
+    void concurrentWritesLeaveCacheConsistent() throws InterruptedException {
+        FlightManager cached = fixture.flightManager;
+        AtomicBoolean running = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            long seed = t;
+            readers.add(new Thread(() -> {
+                Random r = new Random(seed);
+                try {
+                    while (running.get()) {
+                        int p = r.nextInt(4);
+                        cached.searchFlights(departureOf(p), arrivalOf(p), r.nextInt(8) == 0 ? null : FIRST_DAY.plusDays(r.nextInt(DAYS)));
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            }));
+        }
+        readers.forEach(Thread::start);
+        try {
+            for (int w = 0; w < 3_000; w++) {
+                write();
+                if (w % 10 == 0) Thread.sleep(1);
+            }
+        } finally {
+            running.set(false);
+            for (Thread reader : readers) reader.join();
+        }
+        assertTrue(errors.isEmpty(), () -> "exceptions: " + errors);
+        compareAll(cached, "after concurrent writes");
+    }
+
+    // 앞쪽 네 쌍 중 하나에 상태 변경 / 날짜 이동 / 삭제 / 추가
+    private void write() {
+        String routeId = "CACHE-R" + random.nextInt(4) + "-" + random.nextInt(2);
+        List<Flight> day = fixture.flightDAO.findFlightsByRouteAndDate(routeId, FIRST_DAY.plusDays(random.nextInt(DAYS)));
+        int action = random.nextInt(4);
+        if (action == 3 || day.isEmpty()) {
+            LocalDateTime departure = FIRST_DAY.plusDays(random.nextInt(DAYS)).atTime(9, 0);
+            fixture.flightDAO.saveFlight(new Flight("CACHE-F" + (count++), routeId, "CACHE-AC", departure, departure.plusMinutes(60), FlightStatus.BOOKABLE));
+            return;
+        }
+        Flight flight = day.get(random.nextInt(day.size()));
+        if (action == 0) {
+            flight.setStatus(flight.getStatus() == FlightStatus.BOOKABLE ? FlightStatus.SOLD_OUT : FlightStatus.BOOKABLE);
+            fixture.flightDAO.updateFlight(flight);
+        } else if (action == 1) {
+            // 같은 객체의 출발 날짜를 옮긴 뒤 update (이전 날짜 항목도 지워져야 함)
+            long shift = random.nextBoolean() ? 1 : -1;
+            flight.setDepartureTime(flight.getDepartureTime().plusDays(shift));
+            flight.setArrivalTime(flight.getArrivalTime().plusDays(shift));
+            fixture.flightDAO.updateFlight(flight);
+        } else {
+            fixture.flightDAO.deleteFlight(flight.getFlightId());
+        }
+    }
+
+    private void compareAll(FlightManager cached, String label) {
+        for (int p = 0; p < PAIRS; p++) {
+            for (int day = -1; day <= DAYS; day++) {
+                LocalDate date = day == -1 ? null : FIRST_DAY.plusDays(day);
+                assertEquals(ids(uncached.searchFlights(departureOf(p), arrivalOf(p), date)),
+                        ids(cached.searchFlights(departureOf(p), arrivalOf(p), date)), label + ": pair " + p + " " + date);
+            }
+        }
+    }
+
+    private static List<String> ids(List<Flight> flights) {
+        return flights.stream().map(Flight::getFlightId).collect(Collectors.toList());
+    }
+
+    private static String departureOf(int pair) {
+        return String.format("C%02d", pair);
+    }
+
+    private static String arrivalOf(int pair) {
+        return String.format("D%02d", pair);
+    }
+}
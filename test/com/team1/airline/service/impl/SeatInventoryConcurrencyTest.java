@@ -0,0 +1,122 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.entity.Reservation;
+import com.team1.airline.entity.ReservationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 좌석 재고(SeatInventory) 동시성 검사
+ * - 여러 스레드가 같은 항공편의 모든 좌석을 서로 다른 순서로 동시에 예약/취소한 뒤
+ *   좌석마다 유효 예약이 하나 이하인지, 잔여 좌석 수(전체/클래스별)가 실제 예약과 같은지 확인합니다.
+ * - 저장소를 직접 고쳐 어긋나게 하면 정합성 점검이 두 번째 점검에서 바로잡아야 합니다.
+ */
+class SeatInventoryConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 2;
+
+    @Test
+    void concurrentBookingNeverDoubleBooksASeat() throws InterruptedException {
+        AirlineFixture fixture = setUp();
+        for (int round = 1; round <= ROUNDS; round++) {
+            String flightId = "STRESS-F" + round;
+            fixture.flight(flightId, "STRESS-R", "STRESS-AC");
+            List<String> seats = fixture.allSeats(flightId);
+            bookConcurrently(fixture, flightId, seats, round);
+
+            Map<String, Integer> activeBySeat = new HashMap<>();
+            for (Reservation r : fixture.reservationDAO.findReservationsByFlightId(flightId)) {
+                if (r.getStatus() == ReservationStatus.CONFIRMED) {
+                    activeBySeat.merge(r.getSeatNumber(), 1, Integer::sum);
+                }
+            }
+            activeBySeat.forEach((seat, count) -> assertEquals(1, count, "bookings of seat " + seat));
+            assertEquals(seats.size() - activeBySeat.size(), fixture.seatInventory.getAvailableSeats(flightId));
+            assertTrue(fixture.seatInventory.getOccupiedSeats(flightId).containsAll(activeBySeat.keySet()));
+
+            Map<String, Integer> seatInfo = fixture.flightManager.getSeatAvailability(flightId);
+            long business = activeBySeat.keySet().stream().filter(seat -> seat.length() == 2 && seat.charAt(0) <= '3').count();
+            assertEquals(business, seatInfo.get("businessReserved").longValue());
+            assertEquals(activeBySeat.size() - business, seatInfo.get("economyReserved").longValue());
+            assertEquals(0, fixture.seatInventory.reconcile(), "mismatches after a quiet period");
+        }
+    }
+
+    @Test
+    void reconcileRepairsDriftOnTheSecondPass() throws InterruptedException {
+        AirlineFixture fixture = setUp();
+        String flightId = "STRESS-F1";
+        fixture.flight(flightId, "STRESS-R", "STRESS-AC");
+        bookConcurrently(fixture, flightId, fixture.allSeats(flightId), 1);
+        SeatInventory inventory = fixture.seatInventory;
+
+        // 재고를 거치지 않고 예약 저장소만 바꿈
+        Reservation held = fixture.reservationDAO.findReservationsByFlightId(flightId).stream()
+                .filter(r -> r.getStatus() == ReservationStatus.CONFIRMED).findFirst().orElse(null);
+        assertNotNull(held);
+        int before = inventory.getAvailableSeats(flightId);
+        fixture.reservationDAO.updateReservation(new Reservation(held.getReservationId(), held.getUserId(), flightId,
+                held.getSeatNumber(), held.getFinalPrice(), ReservationStatus.CANCELLED));
+
+        assertEquals(1, inventory.reconcile());
+        assertEquals(before, inventory.getAvailableSeats(flightId), "first pass only records the mismatch");
+        inventory.reconcile();
+        assertEquals(before + 1, inventory.getAvailableSeats(flightId), "second pass corrects it");
+        assertEquals(0, inventory.reconcile());
+    }
+
+    private static AirlineFixture setUp() {
+        AirlineFixture fixture = new AirlineFixture();
+        fixture.aircraft("STRESS-AC", 8, 180);
+        fixture.route("STRESS-R", "AAA", "BBB", 100000.0);
+        for (int t = 0; t < THREADS; t++) {
+            fixture.user("stress" + t);
+        }
+        return fixture;
+    }
+
+    private static void bookConcurrently(AirlineFixture fixture, String flightId, List<String> seats, int round)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            String userId = "stress" + t;
+            List<String> order = new ArrayList<>(seats);
+            Collections.shuffle(order, new Random(round * 31L + t));
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                    int i = 0;
+                    for (String seat : order) {
+                        Reservation r = fixture.reservationManager.makeReservation(userId, flightId, seat);
+                        // 일부는 바로 취소해 다른 스레드가 다시 잡을 수 있게 함
+                        if (r != null && i++ % 4 == 0) {
+                            fixture.reservationManager.cancelReservation(r.getReservationId(), userId);
+                        }
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        start.countDown();
+        for (Thread w : workers) w.join();
+        assertTrue(errors.isEmpty(), () -> "exceptions: " + errors);
+    }
+}
@@ -0,0 +1,83 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.entity.SeatCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 좌석 배치 검사
+ * - 항공기 크기별로 좌석 선택 화면과 같은 방식(SeatCode.of)으로 만든 좌석이 좌석 재고의 유효 좌석(isValidSeat)과 정확히 같아야 합니다.
+ * - 정렬하면 배치 순서가 되고, 좌석 목록 문자열로 왕복해도 같아야 합니다.
+ */
+class SeatLayoutTest {
+
+    private static final int[][] LAYOUTS = {{8, 180}, {0, 50}, {7, 13}, {30, 300}, {12, 0}};
+
+    @Test
+    void layoutMatchesSeatInventory() {
+        AirlineFixture fixture = new AirlineFixture();
+        for (int[] layout : LAYOUTS) {
+            String aircraftId = "SEAT-AC-" + layout[0] + "-" + layout[1];
+            String flightId = "SEAT-F-" + layout[0] + "-" + layout[1];
+            fixture.aircraft(aircraftId, layout[0], layout[1]);
+            fixture.flight(flightId, "SEAT-R", aircraftId);
+            checkLayout(fixture.seatInventory, flightId, layout[0], layout[1]);
+        }
+        assertFalse(fixture.seatInventory.isValidSeat("SEAT-F-8-180", "x"));
+        assertFalse(fixture.seatInventory.isValidSeat("SEAT-F-8-180", "99Z"));
+        fixture.close();
+    }
+
+    // SeatSelectionDialog.generateSeats와 같은 배치
+    private static void checkLayout(SeatInventory inventory, String flightId, int business, int economy) {
+        List<SeatCode> seats = new ArrayList<>();
+        int row = 1;
+        char[] bizCols = {'A', 'C', 'D', 'F'};
+        for (int r = 0; r < (business + 3) / 4; r++) {
+            row++;
+            for (int c = 0; c < 4 && r * 4 + c < business; c++) {
+                seats.add(SeatCode.of(row, bizCols[c], SeatCode.Cabin.BUSINESS));
+            }
+        }
+        row += 2;
+        char[] ecoCols = {'A', 'B', 'C', 'D', 'E', 'F'};
+        for (int r = 0; r < (economy + 5) / 6; r++) {
+            row++;
+            for (int c = 0; c < 6 && r * 6 + c < economy; c++) {
+                seats.add(SeatCode.of(row, ecoCols[c], SeatCode.Cabin.ECONOMY));
+            }
+        }
+
+        BitSet generated = new BitSet();
+        for (SeatCode seat : seats) {
+            assertFalse(generated.get(seat.position()), flightId + ": duplicate seat " + seat);
+            generated.set(seat.position());
+            assertTrue(inventory.isValidSeat(flightId, seat.toString()), flightId + ": seat " + seat + " (" + seat.cabin() + ")");
+        }
+        BitSet valid = new BitSet();
+        for (int r = 1; r < 200; r++) {
+            for (char c = 'A'; c <= 'Z'; c++) {
+                String seat = r + String.valueOf(c);
+                if (inventory.isValidSeat(flightId, seat)) valid.set(SeatCode.positionOf(seat));
+            }
+        }
+        assertEquals(business + economy, valid.cardinality(), flightId);
+        assertEquals(generated, valid, flightId);
+
+        List<SeatCode> shuffled = new ArrayList<>(seats);
+        Collections.shuffle(shuffled, new Random(business * 31L + economy));
+        Collections.sort(shuffled);
+        assertEquals(seats, shuffled, flightId + ": sorted seats are not in layout order");
+        assertEquals(seats, SeatCode.parseList(SeatCode.formatList(seats)), flightId + ": seat list round trip");
+    }
+}
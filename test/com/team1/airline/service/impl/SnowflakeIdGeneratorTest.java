@@ -0,0 +1,70 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.entity.ReservationIdCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 예약 번호 생성기(SnowflakeIdGenerator) 검사
+ * - 여러 스레드가 동시에 만든 번호가 모두 다르고, 스레드마다 증가하며, 노드 번호와 생성 시각이 들어 있어야 합니다.
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final int NODE_ID = 37;
+    private static final int THREADS = 4;
+    private static final int PER_THREAD = 200_000;
+
+    @Test
+    void concurrentValuesAreUniqueIncreasingAndTagged() throws InterruptedException {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID);
+        long[][] values = new long[THREADS][PER_THREAD];
+        long began = System.currentTimeMillis();
+        Thread[] workers = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            long[] mine = values[t];
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] = generator.nextValue();
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long ended = System.currentTimeMillis();
+
+        long[] all = new long[PER_THREAD * THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 1; i < PER_THREAD; i++) {
+                assertTrue(values[t][i] > values[t][i - 1], "thread " + t + ": value " + i + " did not increase");
+            }
+            System.arraycopy(values[t], 0, all, t * PER_THREAD, PER_THREAD);
+        }
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i], "duplicate value");
+        }
+        assertEquals(NODE_ID, SnowflakeIdGenerator.nodeOf(all[0]));
+        assertEquals(NODE_ID, SnowflakeIdGenerator.nodeOf(all[all.length - 1]));
+        // 순번이 다 차면 다음 밀리초를 미리 쓰므로 끝 시각은 조금 앞설 수 있음
+        long first = SnowflakeIdGenerator.timestampOf(all[0]);
+        long last = SnowflakeIdGenerator.timestampOf(all[all.length - 1]);
+        assertTrue(first >= began && last <= ended + all.length / 4096 + 1,
+                "timestamps " + first + ".." + last + " outside " + began + ".." + ended);
+    }
+
+    @Test
+    void idsAreReservationCodes() {
+        String id = new SnowflakeIdGenerator(NODE_ID).nextId();
+        assertTrue(ReservationIdCodec.isCompact(id), id);
+        assertEquals(NODE_ID, SnowflakeIdGenerator.nodeOf(ReservationIdCodec.decode(id)));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+}
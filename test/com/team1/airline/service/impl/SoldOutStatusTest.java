@@ -0,0 +1,130 @@
+package com.team1.airline.service.impl;
+
+import com.team1.airline.AirlineFixture;
+import com.team1.airline.entity.Flight;
+import com.team1.airline.entity.FlightStatus;
+import com.team1.airline.entity.Reservation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 자동 매진 상태 검사
+ * - 파일에 "매진"으로 고정된 빈 항공편은 refreshFlightStatuses로 예약 가능이 되어야 합니다.
+ *   이때 저장되어 있던 항공편 객체는 고치지 않고 사본을 저장해야 합니다.
+ * - 6석짜리 항공편 여러 편에 여러 스레드가 예약/취소를 섞어 넣어 만석과 해제가 계속 반복되게 한 뒤,
+ *   항공편마다 상태가 잔여석과 맞는지(0석 = 매진, 그 외 = 예약 가능), 검색 결과가 잔여석 있는 항공편과
+ *   정확히 같은지, 상태만 바뀐 수정이 운항 일정 버전을 올리지 않았는지 확인합니다.
+ */
+class SoldOutStatusTest {
+
+    private static final int FLIGHTS = 20;
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 5_000;
+    private static final String[] SEATS = {"2A", "2C", "5A", "5B", "5C", "5D"}; // 비즈니스 2석 + 이코노미 4석
+
+    private static int run; // DataManager 테이블은 테스트 메서드끼리 공유되므로 공항 코드가 겹치지 않게
+
+    private AirlineFixture fixture;
+    private String prefix;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new AirlineFixture();
+        prefix = "SOLD" + (++run) + "-";
+        date = LocalDate.of(2031, 5, run);
+        fixture.aircraft("SOLD-AC", 2, 4);
+        fixture.route(prefix + "R", prefix + "A", prefix + "B", 90000.0);
+        for (int t = 0; t < THREADS; t++) {
+            fixture.user(prefix + "user" + t);
+        }
+        for (int f = 0; f < FLIGHTS; f++) {
+            // 절반은 파일에 "매진"으로 고정되어 있던 빈 항공편
+            fixture.flightDAO.saveFlight(new Flight(prefix + "F" + f, prefix + "R", "SOLD-AC", date.atTime(8, f),
+                    date.atTime(9, f), f % 2 == 0 ? FlightStatus.BOOKABLE : FlightStatus.SOLD_OUT));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    void refreshReopensEmptyFlightsPinnedAsSoldOut() {
+        Flight pinned = fixture.flightDAO.findByFlightId(prefix + "F1");
+        assertTrue(fixture.seatInventory.refreshFlightStatuses() >= FLIGHTS / 2);
+        assertEquals(FlightStatus.SOLD_OUT, pinned.getStatus(), "stored flight was mutated in place");
+        for (int f = 0; f < FLIGHTS; f++) {
+            assertEquals(FlightStatus.BOOKABLE, fixture.flightDAO.findByFlightId(prefix + "F" + f).getStatus(), prefix + "F" + f);
+        }
+        assertEquals(FLIGHTS, search().size());
+    }
+
+    @Test
+    void statusFollowsSeatsUnderConcurrentBookingAndCancellation() throws InterruptedException {
+        fixture.seatInventory.refreshFlightStatuses();
+        long scheduleVersion = fixture.flightDAO.getScheduleVersion();
+        long version = fixture.flightDAO.getVersion();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            String userId = prefix + "user" + t;
+            long seed = t;
+            workers.add(new Thread(() -> {
+                Random random = new Random(seed);
+                List<Reservation> held = new ArrayList<>();
+                try {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS; i++) {
+                        if (!held.isEmpty() && random.nextInt(5) < 2) {
+                            Reservation r = held.remove(random.nextInt(held.size()));
+                            fixture.reservationManager.cancelReservation(r.getReservationId(), userId);
+                        } else {
+                            Reservation r = fixture.reservationManager.makeReservation(userId,
+                                    prefix + "F" + random.nextInt(FLIGHTS), SEATS[random.nextInt(SEATS.length)]);
+                            if (r != null) held.add(r);
+                        }
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+        assertTrue(errors.isEmpty(), () -> "exceptions: " + errors);
+
+        Set<String> found = search();
+        for (int f = 0; f < FLIGHTS; f++) {
+            String flightId = prefix + "F" + f;
+            int available = fixture.seatInventory.getAvailableSeats(flightId);
+            FlightStatus expected = available == 0 ? FlightStatus.SOLD_OUT : FlightStatus.BOOKABLE;
+            assertEquals(expected, fixture.flightDAO.findByFlightId(flightId).getStatus(), flightId + " with " + available + " seats left");
+            assertEquals(available > 0, found.contains(flightId), flightId + " in search results");
+        }
+        assertTrue(fixture.flightDAO.getVersion() > version, "no flight ever sold out (seat numbers or load too low)");
+        assertEquals(scheduleVersion, fixture.flightDAO.getScheduleVersion(), "schedule version moved on status-only updates");
+    }
+
+    private Set<String> search() {
+        return fixture.flightManager.searchFlights(prefix + "A", prefix + "B", date).stream()
+                .map(Flight::getFlightId).collect(Collectors.toSet());
+    }
+}